@@ -9,6 +9,7 @@ import com.moa.api.chart.dto.response.PivotChartResponseDTO;
 import com.moa.api.chart.dto.request.PivotHeatmapTableRequestDTO;
 import com.moa.api.chart.dto.response.PivotHeatmapTableResponseDTO;
 import com.moa.api.chart.repository.ChartRepository;
+import com.moa.api.data.util.RestoredLayer;
 import com.moa.api.pivot.dto.request.PivotQueryRequestDTO;
 import com.moa.api.pivot.model.PivotLayer;
 import com.moa.api.pivot.model.PivotQueryContext;
@@ -29,14 +30,15 @@ public class ChartService {
 
     public PivotChartResponseDTO getChart(PivotChartRequestDTO req) {
         TimeWindow tw = resolveTimeWindow(req.getTime());
-        PivotLayer layer = PivotLayer.from(req.getLayer());
+        PivotLayer layer = PivotLayer.from(RestoredLayer.baseLayer(req.getLayer()));
 
         PivotQueryContext ctx = new PivotQueryContext(
                 layer,
                 req.getTime() != null ? req.getTime().getField() : null,
                 tw,
                 req.getFilters(),
-                sqlSupport
+                sqlSupport,
+                RestoredLayer.isRestored(req.getLayer())
         );
 
         return chartRepository.getChart(ctx, req);
@@ -59,14 +61,15 @@ public class ChartService {
 
     public PivotHeatmapTableResponseDTO getHeatmapTable(PivotHeatmapTableRequestDTO req) {
         TimeWindow tw = resolveTimeWindow(req.getTime());
-        PivotLayer layer = PivotLayer.from(req.getLayer());
+        PivotLayer layer = PivotLayer.from(RestoredLayer.baseLayer(req.getLayer()));
 
         PivotQueryContext ctx = new PivotQueryContext(
                 layer,
                 req.getTime() != null ? req.getTime().getField() : null,
                 tw,
                 req.getFilters(),
-                sqlSupport
+                sqlSupport,
+                RestoredLayer.isRestored(req.getLayer())
         );
 
         return chartRepository.getHeatmapTable(ctx, req);
@@ -81,7 +84,7 @@ public class ChartService {
     }
 
     public DrilldownTimeSeriesResponseDTO getDrilldownTimeSeries(DrilldownTimeSeriesRequestDTO req) {
-        PivotLayer layer = PivotLayer.from(req.getLayer());
+        PivotLayer layer = PivotLayer.from(RestoredLayer.baseLayer(req.getLayer()));
         TimeWindow tw = resolveTimeWindow(req.getTime());
         String timeField = null;
         if (req.getTime() != null && req.getTime().getField() != null && !req.getTime().getField().isBlank()) {
@@ -95,7 +98,8 @@ public class ChartService {
                 timeField,
                 tw,
                 req.getFilters(),
-                sqlSupport
+                sqlSupport,
+                RestoredLayer.isRestored(req.getLayer())
         );
         return chartRepository.getDrilldownTimeSeries(ctx, req);
     }
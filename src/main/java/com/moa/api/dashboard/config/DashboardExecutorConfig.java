@@ -0,0 +1,53 @@
+/**
+ * 작성자: 정소영
+ * 설명: 대시보드 위젯 쿼리 병렬 실행용 전용 스레드 풀 설정
+ *      (스레드 수 = 대시보드가 점유할 수 있는 DB 커넥션 예산)
+ */
+package com.moa.api.dashboard.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class DashboardExecutorConfig {
+
+    private final DashboardProperties properties;
+
+    /**
+     * 위젯 쿼리 실행기
+     * - core = max = connectionBudget: 동시에 실행되는 위젯 쿼리 수(= 커넥션 수)를 고정
+     * - 여러 사용자가 동시에 대시보드를 열어도 전체 합이 예산을 넘지 않음
+     * - 큐 초과분은 요청 스레드에서 실행하지 않고 거부 (위젯은 SKIPPED 로 응답)
+     */
+    @Bean(name = "dashboardWidgetExecutor")
+    public Executor dashboardWidgetExecutor() {
+        DashboardProperties.Fanout fanout = properties.getFanout();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fanout.getConnectionBudget());
+        executor.setMaxPoolSize(fanout.getConnectionBudget());
+        executor.setQueueCapacity(fanout.getQueueCapacity());
+        executor.setThreadNamePrefix("dashboard-widget-");
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        // 거부 정책: 큐가 가득 차면 거부 (호출 스레드에서 실행하면 커넥션 예산과 위젯 타임아웃을 벗어남)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.initialize();
+
+        log.info("Dashboard widget executor initialized - budget: {}, queue: {}",
+                fanout.getConnectionBudget(), fanout.getQueueCapacity());
+
+        return executor;
+    }
+}
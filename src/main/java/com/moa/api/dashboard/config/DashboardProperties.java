@@ -0,0 +1,120 @@
+/**
+ * 작성자: 정소영
+ * 설명: 대시보드 조회 관련 설정 값(moa.dashboard.*)을 바인딩하는 프로퍼티 클래스
+ */
+package com.moa.api.dashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "moa.dashboard")
+public class DashboardProperties {
+
+    /**
+     * 롤업(사전 집계) 테이블 설정
+     */
+    private Rollup rollup = new Rollup();
+
+    /**
+     * 위젯 쿼리 병렬 실행(fan-out) 설정
+     */
+    private Fanout fanout = new Fanout();
+
+    /**
+     * 마감 버킷 캐시 설정
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * 실시간(SSE) 대시보드 스트리밍 설정
+     */
+    private Live live = new Live();
+
+    @Getter
+    @Setter
+    public static class Rollup {
+        /**
+         * 대시보드 조회 시 롤업 테이블 사용 여부
+         * - false 이면 항상 원본(http_page_sample) 테이블을 조회
+         * - 적재 시 롤업 갱신은 이 값과 관계없이 항상 수행
+         */
+        private boolean readEnabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Fanout {
+        /**
+         * 위젯 쿼리 병렬 실행 여부 (false 이면 호출 스레드에서 순차 실행)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 위젯 쿼리 전용 스레드 수 = 대시보드가 동시에 점유할 수 있는 DB 커넥션 수
+         * (Hikari 기본 풀 10개 중 다른 API 몫을 남겨두도록 설정)
+         */
+        private int connectionBudget = 6;
+
+        /**
+         * 대기 가능한 위젯 쿼리 수 (초과 시 실행하지 않고 SKIPPED 상태로 응답)
+         */
+        private int queueCapacity = 200;
+
+        /**
+         * 위젯별 타임아웃 (ms, 제출 시점 기준)
+         * - 초과한 위젯은 빈 결과 + TIMEOUT 상태로 응답
+         * - 실행 중인 SQL 도 남은 시간을 statement 타임아웃으로 걸어 DB 에서 중단
+         */
+        private long widgetTimeoutMs = 10_000;
+
+        /**
+         * 느린 위젯 경고 로그 기준 (ms)
+         */
+        private long slowWidgetLogMs = 2_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        /**
+         * 버킷 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 저장 행 수 (버킷당 행 수 + 1 의 합계, 초과 시 LRU 제거)
+         */
+        private long maxRows = 500_000;
+
+        /**
+         * 버킷 종료 후 마감으로 간주하기까지의 유예 시간 (초)
+         * - 종료 직전에 시작된 적재 트랜잭션이 커밋될 시간을 확보
+         */
+        private long sealGraceSeconds = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Live {
+        /**
+         * 새로 마감된 버킷 확인 주기 (ms)
+         * - DashboardLiveService 의 @Scheduled 가 같은 키(moa.dashboard.live.tick-ms)를 읽음
+         */
+        private long tickMs = 5_000;
+
+        /**
+         * SSE 연결 유지 시간 (ms, 만료 시 클라이언트가 재연결)
+         */
+        private long emitterTimeoutMs = 3_600_000;
+
+        /**
+         * 동시에 연결 가능한 최대 구독자 수 (전체 필터 그룹 합계)
+         */
+        private int maxSubscribers = 500;
+    }
+}
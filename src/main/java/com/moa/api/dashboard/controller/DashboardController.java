@@ -6,12 +6,17 @@ package com.moa.api.dashboard.controller;
 
 import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
 import com.moa.api.dashboard.dto.response.DashboardResponseDTO;
+import com.moa.api.dashboard.service.DashboardLiveService;
 import com.moa.api.dashboard.service.DashboardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
 
 @Tag(name = "Dashboard", description = "EUM 대시보드 API")
 @RestController
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardLiveService dashboardLiveService;
 
     /**
      * EUM 대시보드 데이터 조회 (POST)
@@ -38,4 +44,37 @@ public class DashboardController {
         DashboardResponseDTO response = dashboardService.getDashboardData(request);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 실시간 대시보드 스트리밍 (SSE)
+     * - 최초 1회 snapshot 이벤트로 전체 위젯 전송 (범위 길이 = 실시간 윈도우)
+     * - 이후 새로 마감된 버킷만 delta 이벤트로 전송 (같은 timestamp 행은 교체)
+     * - 같은 필터를 보는 구독자는 서버에서 한 번 계산한 결과를 공유
+     */
+    @Operation(
+            summary = "실시간 대시보드 스트리밍",
+            description = "SSE 로 최초 스냅샷과 이후 새로 마감된 1분/5분 버킷의 위젯 데이터를 전송합니다."
+    )
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard(@RequestBody DashboardRequestDTO request) {
+        return dashboardLiveService.subscribe(request);
+    }
+
+    /**
+     * 버킷 캐시 상태 조회 (모니터링용)
+     */
+    @Operation(summary = "대시보드 캐시 상태 조회", description = "마감 버킷 캐시의 크기와 히트/미스 통계를 조회합니다.")
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getCacheStats() {
+        var stats = dashboardService.getCacheStats();
+        return ResponseEntity.ok(Map.of(
+                "buckets", stats.buckets(),
+                "rows", stats.rows(),
+                "hits", stats.hits(),
+                "misses", stats.misses(),
+                "loads", stats.loads(),
+                "evictions", stats.evictions(),
+                "hit_rate", String.format("%.2f%%", stats.hitRate() * 100)
+        ));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+/**
+ * 작성자: 정소영
+ * 설명: 대시보드 롤업 테이블 백필을 수동으로 실행하는 내부 API 컨트롤러
+ */
+package com.moa.api.dashboard.controller;
+
+import com.moa.api.dashboard.service.DashboardRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/internal/dashboard-rollup")
+@RequiredArgsConstructor
+public class InternalDashboardRollupController {
+
+    private final DashboardRollupService rollupService;
+
+    /**
+     * 원본 데이터로 롤업 재계산
+     * - 커버리지 시작 이전 구간만 처리되며, 맞닿은 구간이면 커버리지가 확장됨
+     * - 큰 구간은 하루 단위 등으로 나눠서 호출 권장 (단일 트랜잭션)
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<Map<String, Object>> backfill(@RequestParam long fromEpoch,
+                                                        @RequestParam long toEpoch) {
+        log.info("🔵 내부 API: 롤업 백필 요청 from={}, to={}", fromEpoch, toEpoch);
+
+        int rows = rollupService.backfill(fromEpoch, toEpoch);
+        return ResponseEntity.ok(Map.of("rows", rows));
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * 작성자: 정소영
+ * 설명: 실시간 대시보드(SSE)에서 새로 마감된 버킷의 위젯 데이터만 담아 보내는 응답 DTO
+ *      (1분 위젯과 5분 위젯의 마감 구간을 각각 포함)
+ */
+package com.moa.api.dashboard.dto.response;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// ============================================
+// 실시간 대시보드 증분
+// - 클라이언트는 같은 timestamp 행을 교체(upsert)하고, 화면 범위를 벗어난 행을 제거
+// ============================================
+
+public record DashboardDeltaDTO(
+
+        // === 마감 구간 [from, to) ===
+        Timestamp minuteFrom,                                         // 1분 위젯
+        Timestamp minuteTo,
+        Timestamp fiveMinuteFrom,                                     // 5분 위젯
+        Timestamp fiveMinuteTo,
+
+        // === 1분 위젯 ===
+        List<ResponseTimeResponseDTO> responseTimeStats,
+        List<TrafficTrendResponseDTO> trafficTrend,
+        List<PageLoadTimeResponseDTO> pageLoadTimeTrend,
+        List<ErrorRateResponseDTO> errorRateTrend,
+
+        // === 5분 위젯 ===
+        List<StatusCodeResponseDTO> httpStatusCodeDistribution,
+        List<TopDomainResponseDTO> topDomains,
+        List<CountryTrafficResponseDTO> trafficByCountry,
+        List<ErrorPageResponseDTO> errorPages,
+        List<BrowserPerfResponseDTO> browserPerformance,
+        List<DevicePerfResponseDTO> devicePerformanceDistribution,
+
+        // === 위젯별 조회 상태 ===
+        List<WidgetStatusDTO> widgetStatuses
+) {}
@@ -1,7 +1,7 @@
 /**
  * 작성자: 정소영
  * 설명: 대시보드 전체 데이터를 담는 응답 DTO
- *      (10개 위젯 데이터, 필터 옵션, 조회 시간 범위를 포함)
+ *      (10개 위젯 데이터, 필터 옵션, 조회 시간 범위, 위젯별 조회 상태를 포함)
  */
 package com.moa.api.dashboard.dto.response;
 
@@ -33,5 +33,8 @@ public record DashboardResponseDTO(
 
         // === 메타 정보 ===
         Timestamp startTime,
-        Timestamp endTime
+        Timestamp endTime,
+
+        // === 위젯별 조회 상태 (실패/타임아웃 위젯은 빈 목록으로 응답) ===
+        List<WidgetStatusDTO> widgetStatuses
 ) {}
\ No newline at end of file
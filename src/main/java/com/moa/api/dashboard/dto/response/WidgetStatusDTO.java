@@ -0,0 +1,19 @@
+/**
+ * 작성자: 정소영
+ * 설명: 위젯별 조회 결과 상태와 소요 시간을 담는 응답 DTO
+ *      (병렬 조회 시 실패/타임아웃 위젯 표시 및 느린 위젯 파악용)
+ */
+package com.moa.api.dashboard.dto.response;
+
+public record WidgetStatusDTO(
+        String widget,          // 위젯 이름 (예: "trafficTrend")
+        String status,          // "OK" | "FAILED" | "TIMEOUT" | "SKIPPED"
+        Long queueWaitMs,       // 실행 대기 시간 (ms), 시작 전 타임아웃이면 null
+        Long elapsedMs,         // 쿼리 실행 시간 (ms), 완료 전 타임아웃이면 null
+        String message          // 실패 사유 (OK 이면 null)
+) {
+    public static final String OK = "OK";
+    public static final String FAILED = "FAILED";
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String SKIPPED = "SKIPPED";   // 실행 큐가 가득 차 실행하지 않음
+}
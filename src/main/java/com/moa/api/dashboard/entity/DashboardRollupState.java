@@ -0,0 +1,36 @@
+/**
+ * 작성자: 정소영
+ * 설명: 롤업 테이블이 완전하게 채워져 있는 구간의 시작 시각(covered_from)을 관리하는 엔티티
+ */
+package com.moa.api.dashboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * covered_from 이후의 버킷은 적재 시 증분 갱신으로 원본과 항상 일치함을 보장
+ * - 최초 기동 시: 다음 5분 경계로 초기화 (기동 이전 데이터는 백필 필요)
+ * - 백필 수행 시: 백필 시작 시각으로 앞당김
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "dashboard_rollup_state")
+public class DashboardRollupState {
+
+    @Id
+    @Column(name = "rollup_name", length = 50)
+    private String rollupName;
+
+    @Column(name = "covered_from", nullable = false)
+    private Long coveredFrom;                 // 유닉스 초
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
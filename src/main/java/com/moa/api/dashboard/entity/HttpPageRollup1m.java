@@ -0,0 +1,28 @@
+/**
+ * 작성자: 정소영
+ * 설명: http_page_sample 1분 단위 롤업 테이블 (버킷 크기 60초)
+ *      페이지 로드/응답 시간 분위수 스케치(LatencySketch 직렬화 값)를 추가로 저장
+ */
+package com.moa.api.dashboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "http_page_rollup_1m")
+@IdClass(HttpPageRollupId.class)
+@NoArgsConstructor
+public class HttpPageRollup1m extends HttpPageRollupBase {
+
+    // ===== 분위수 스케치 (병합은 DashboardRollupRepository 에서 Java 로 수행) =====
+    @Column(name = "page_load_sketch", columnDefinition = "bytea")
+    private byte[] pageLoadSketch;           // ts_page > 0
+
+    @Column(name = "res_time_sketch", columnDefinition = "bytea")
+    private byte[] resTimeSketch;            // ts_page_res > 0
+}
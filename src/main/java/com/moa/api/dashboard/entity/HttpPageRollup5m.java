@@ -0,0 +1,17 @@
+/**
+ * 작성자: 정소영
+ * 설명: http_page_sample 5분 단위 롤업 테이블 (버킷 크기 300초)
+ */
+package com.moa.api.dashboard.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "http_page_rollup_5m")
+@IdClass(HttpPageRollupId.class)
+@NoArgsConstructor
+public class HttpPageRollup5m extends HttpPageRollupBase {
+}
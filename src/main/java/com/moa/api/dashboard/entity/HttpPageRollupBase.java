@@ -0,0 +1,133 @@
+/**
+ * 작성자: 정소영
+ * 설명: http_page_sample 사전 집계(롤업) 테이블의 공통 컬럼 정의
+ *      (1분/5분 롤업 테이블이 동일한 구조를 공유)
+ */
+package com.moa.api.dashboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 롤업 행 = (버킷, 국가, 브라우저, 디바이스, 호스트, 메서드) 조합별 합계
+ *
+ * - 평균은 sum / cnt 로, 최소/최대는 LEAST / GREATEST 로 병합 가능한 값만 저장
+ * - 차원 컬럼은 PK 구성을 위해 NULL 대신 '' 로 저장
+ * - 차원 컬럼명은 원본 테이블과 동일하게 유지하여 필터 WHERE 절을 그대로 재사용
+ *
+ * 스키마는 JPA ddl-auto 로 생성하고, 실제 읽기/쓰기는 DashboardRollupRepository(JdbcTemplate)에서 수행
+ */
+@Getter
+@NoArgsConstructor
+@MappedSuperclass
+public abstract class HttpPageRollupBase {
+
+    // ===== 키 =====
+    @Id
+    @Column(name = "bucket_ts", nullable = false)
+    private Long bucketTs;                    // 버킷 시작 (유닉스 초)
+
+    @Id
+    @Column(name = "country_name_req", nullable = false, length = 64)
+    private String countryNameReq;
+
+    @Id
+    @Column(name = "user_agent_software_name", nullable = false, length = 64)
+    private String userAgentSoftwareName;
+
+    @Id
+    @Column(name = "user_agent_hardware_type", nullable = false, length = 64)
+    private String userAgentHardwareType;
+
+    @Id
+    @Column(name = "http_host", nullable = false, columnDefinition = "TEXT")
+    private String httpHost;
+
+    @Id
+    @Column(name = "http_method", nullable = false)
+    private String httpMethod;
+
+    // ===== 전체 =====
+    @Column(name = "sample_cnt", nullable = false)
+    private Long sampleCnt;
+
+    // ===== 트래픽 (mbps, 요청/응답 건수) =====
+    @Column(name = "mbps_req_sum", nullable = false)
+    private Double mbpsReqSum;
+
+    @Column(name = "mbps_req_cnt", nullable = false)
+    private Long mbpsReqCnt;
+
+    @Column(name = "mbps_res_sum", nullable = false)
+    private Double mbpsResSum;
+
+    @Column(name = "mbps_res_cnt", nullable = false)
+    private Long mbpsResCnt;
+
+    @Column(name = "http_cnt_req_sum", nullable = false)
+    private Long httpCntReqSum;
+
+    @Column(name = "http_cnt_res_sum", nullable = false)
+    private Long httpCntResSum;
+
+    // ===== 에러율 (http_res_code 기준) =====
+    @Column(name = "res_code_cnt", nullable = false)
+    private Long resCodeCnt;
+
+    @Column(name = "res_code_err_cnt", nullable = false)
+    private Long resCodeErrCnt;
+
+    @Column(name = "res_code_4xx_cnt", nullable = false)
+    private Long resCode4xxCnt;
+
+    @Column(name = "res_code_5xx_cnt", nullable = false)
+    private Long resCode5xxCnt;
+
+    // ===== 상태 코드 분포 (res_code_Nxx_cnt 합계) =====
+    @Column(name = "res_2xx_sum", nullable = false)
+    private Long res2xxSum;
+
+    @Column(name = "res_3xx_sum", nullable = false)
+    private Long res3xxSum;
+
+    @Column(name = "res_4xx_sum", nullable = false)
+    private Long res4xxSum;
+
+    @Column(name = "res_5xx_sum", nullable = false)
+    private Long res5xxSum;
+
+    // ===== 페이지 로드 시간 (ts_page > 0 인 샘플) =====
+    @Column(name = "page_load_cnt", nullable = false)
+    private Long pageLoadCnt;
+
+    @Column(name = "page_load_sum", nullable = false)
+    private Double pageLoadSum;
+
+    @Column(name = "page_load_min")
+    private Double pageLoadMin;
+
+    @Column(name = "page_load_max")
+    private Double pageLoadMax;
+
+    @Column(name = "page_load_res_sum", nullable = false)
+    private Double pageLoadResSum;            // ts_page > 0 샘플의 ts_page_res 합계
+
+    @Column(name = "page_load_res_cnt", nullable = false)
+    private Long pageLoadResCnt;
+
+    @Column(name = "page_load_len_sum", nullable = false)
+    private Long pageLoadLenSum;              // ts_page > 0 샘플의 page_http_len 합계
+
+    @Column(name = "page_load_len_cnt", nullable = false)
+    private Long pageLoadLenCnt;
+
+    // ===== 응답 시간 (ts_page_res > 0 인 샘플) =====
+    @Column(name = "res_time_cnt", nullable = false)
+    private Long resTimeCnt;
+
+    @Column(name = "res_time_sum", nullable = false)
+    private Double resTimeSum;
+}
@@ -0,0 +1,26 @@
+/**
+ * 작성자: 정소영
+ * 설명: http_page 롤업 테이블의 복합 키 (버킷 시작 시각 + 필터 차원)
+ */
+package com.moa.api.dashboard.entity;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode
+public class HttpPageRollupId implements Serializable {
+
+    private Long bucketTs;
+    private String countryNameReq;
+    private String userAgentSoftwareName;
+    private String userAgentHardwareType;
+    private String httpHost;
+    private String httpMethod;
+}
@@ -9,11 +9,15 @@ package com.moa.api.dashboard.repository;
 import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
 import com.moa.api.dashboard.dto.response.*;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * DashboardRepository - ts_server_nsec 직접 사용 + 필터 적용
@@ -155,27 +159,32 @@ public class DashboardRepository {
             ORDER BY timestamp
             """;
 
-        return jdbcTemplate.query(sql, (rs, rowNum) -> {
-            long totalCount = rs.getLong("total_count");
-            long errorCount = rs.getLong("error_count");
-            long clientErrorCount = rs.getLong("client_error_count");
-            long serverErrorCount = rs.getLong("server_error_count");
-
-            double errorRate = totalCount > 0 ? (errorCount * 100.0 / totalCount) : 0;
-            double clientErrorRate = totalCount > 0 ? (clientErrorCount * 100.0 / totalCount) : 0;
-            double serverErrorRate = totalCount > 0 ? (serverErrorCount * 100.0 / totalCount) : 0;
+        return jdbcTemplate.query(sql, DashboardRepository::mapErrorRate, startTimeUnix, endTimeUnix);
+    }
 
-            return new ErrorRateResponseDTO(
-                    rs.getTimestamp("timestamp"),
-                    Long.valueOf(totalCount),
-                    Long.valueOf(errorCount),
-                    Long.valueOf(clientErrorCount),
-                    Long.valueOf(serverErrorCount),
-                    Double.valueOf(errorRate),
-                    Double.valueOf(clientErrorRate),
-                    Double.valueOf(serverErrorRate)
-            );
-        }, startTimeUnix, endTimeUnix);
+    /**
+     * 에러율 행 매핑 (원본/롤업 조회 공용)
+     */
+    static ErrorRateResponseDTO mapErrorRate(ResultSet rs, int rowNum) throws SQLException {
+        long totalCount = rs.getLong("total_count");
+        long errorCount = rs.getLong("error_count");
+        long clientErrorCount = rs.getLong("client_error_count");
+        long serverErrorCount = rs.getLong("server_error_count");
+
+        double errorRate = totalCount > 0 ? (errorCount * 100.0 / totalCount) : 0;
+        double clientErrorRate = totalCount > 0 ? (clientErrorCount * 100.0 / totalCount) : 0;
+        double serverErrorRate = totalCount > 0 ? (serverErrorCount * 100.0 / totalCount) : 0;
+
+        return new ErrorRateResponseDTO(
+                rs.getTimestamp("timestamp"),
+                Long.valueOf(totalCount),
+                Long.valueOf(errorCount),
+                Long.valueOf(clientErrorCount),
+                Long.valueOf(serverErrorCount),
+                Double.valueOf(errorRate),
+                Double.valueOf(clientErrorRate),
+                Double.valueOf(serverErrorRate)
+        );
     }
 
 
@@ -204,15 +213,20 @@ public class DashboardRepository {
             ORDER BY timestamp
             """;
 
-        return jdbcTemplate.query(sql, (rs, rowNum) ->
-                        new TrafficTrendResponseDTO(
-                                rs.getTimestamp("timestamp"),
-                                Double.valueOf(rs.getDouble("mbps_req")),
-                                Double.valueOf(rs.getDouble("mbps_res")),
-                                Long.valueOf(rs.getLong("request_count")),
-                                Long.valueOf(rs.getLong("response_count"))
-                        )
-                , startTimeUnix, endTimeUnix);
+        return jdbcTemplate.query(sql, DashboardRepository::mapTrafficTrend, startTimeUnix, endTimeUnix);
+    }
+
+    /**
+     * 트래픽 추이 행 매핑 (원본/롤업 조회 공용)
+     */
+    static TrafficTrendResponseDTO mapTrafficTrend(ResultSet rs, int rowNum) throws SQLException {
+        return new TrafficTrendResponseDTO(
+                rs.getTimestamp("timestamp"),
+                Double.valueOf(rs.getDouble("mbps_req")),
+                Double.valueOf(rs.getDouble("mbps_res")),
+                Long.valueOf(rs.getLong("request_count")),
+                Long.valueOf(rs.getLong("response_count"))
+        );
     }
 
     // ============================================
@@ -241,28 +255,231 @@ public class DashboardRepository {
 
         List<StatusCodeResponseDTO> result = new ArrayList<>();
 
-        jdbcTemplate.query(sql, (rs) -> {
-            java.sql.Timestamp timestamp = rs.getTimestamp("timestamp");
-            long successCount = rs.getLong("success_count");
-            long redirectCount = rs.getLong("redirect_count");
-            long clientErrorCount = rs.getLong("client_error_count");
-            long serverErrorCount = rs.getLong("server_error_count");
-            long total = successCount + redirectCount + clientErrorCount + serverErrorCount;
-
-            // 각 상태 그룹별로 4개 행 추가 (기존 DTO 구조 유지)
-            result.add(new StatusCodeResponseDTO(timestamp, "2xx", successCount,
-                    total > 0 ? Math.round(successCount * 1000.0 / total) / 10.0 : 0.0));
-            result.add(new StatusCodeResponseDTO(timestamp, "3xx", redirectCount,
-                    total > 0 ? Math.round(redirectCount * 1000.0 / total) / 10.0 : 0.0));
-            result.add(new StatusCodeResponseDTO(timestamp, "4xx", clientErrorCount,
-                    total > 0 ? Math.round(clientErrorCount * 1000.0 / total) / 10.0 : 0.0));
-            result.add(new StatusCodeResponseDTO(timestamp, "5xx", serverErrorCount,
-                    total > 0 ? Math.round(serverErrorCount * 1000.0 / total) / 10.0 : 0.0));
-        }, startTimeUnix, endTimeUnix);
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> addStatusCodeRows(rs, result), startTimeUnix, endTimeUnix);
+
+        return result;
+    }
+
+    /**
+     * 상태 코드 분포 행 매핑 (원본/롤업 조회 공용)
+     * - 집계 1행을 상태 그룹별 4개 DTO 로 펼침
+     */
+    static void addStatusCodeRows(ResultSet rs, List<StatusCodeResponseDTO> result) throws SQLException {
+        addStatusCodeRows(rs.getTimestamp("timestamp"), new long[]{
+                rs.getLong("success_count"),
+                rs.getLong("redirect_count"),
+                rs.getLong("client_error_count"),
+                rs.getLong("server_error_count")
+        }, result);
+    }
+
+    /**
+     * @param counts 2xx, 3xx, 4xx, 5xx 건수
+     */
+    private static void addStatusCodeRows(java.sql.Timestamp timestamp, long[] counts, List<StatusCodeResponseDTO> result) {
+        long successCount = counts[0];
+        long redirectCount = counts[1];
+        long clientErrorCount = counts[2];
+        long serverErrorCount = counts[3];
+        long total = successCount + redirectCount + clientErrorCount + serverErrorCount;
+
+        // 각 상태 그룹별로 4개 행 추가 (기존 DTO 구조 유지)
+        result.add(new StatusCodeResponseDTO(timestamp, "2xx", successCount,
+                total > 0 ? Math.round(successCount * 1000.0 / total) / 10.0 : 0.0));
+        result.add(new StatusCodeResponseDTO(timestamp, "3xx", redirectCount,
+                total > 0 ? Math.round(redirectCount * 1000.0 / total) / 10.0 : 0.0));
+        result.add(new StatusCodeResponseDTO(timestamp, "4xx", clientErrorCount,
+                total > 0 ? Math.round(clientErrorCount * 1000.0 / total) / 10.0 : 0.0));
+        result.add(new StatusCodeResponseDTO(timestamp, "5xx", serverErrorCount,
+                total > 0 ? Math.round(serverErrorCount * 1000.0 / total) / 10.0 : 0.0));
+    }
+
+    // ============================================
+    // 분 단위 시계열 위젯 통합 조회 (1회 스캔)
+    // - 트래픽 추이 / 페이지 로드 시간 / 응답 시간 / 에러율 / 상태 코드 분포는
+    //   WHERE 조건과 시간 버킷이 같으므로 한 번의 스캔으로 분 단위 집계 후 위젯별로 분리
+    // - 위젯별 추가 조건(ts_page > 0, ts_page_res > 0, http_res_code IS NOT NULL)은
+    //   WHERE 대신 집계 함수의 FILTER 절로 적용
+    // - 상태 코드 분포(5분)는 분 단위 합계를 다시 5분으로 합산 (합계이므로 결과 동일)
+    // ============================================
+
+    public List<MinuteSeriesRow> getMinuteSeries(Long startTimeUnix, Long endTimeUnix, DashboardRequestDTO.DashboardFilters filters) {
+        String whereClause = buildWhereClause(filters);
+
+        String sql = """
+            SELECT 
+                TO_TIMESTAMP(FLOOR(ts_server_nsec / 60) * 60) as timestamp,
+                ROUND(AVG(mbps_req)::numeric, 2) as mbps_req,
+                ROUND(AVG(mbps_res)::numeric, 2) as mbps_res,
+                COALESCE(SUM(page_http_cnt_req), 0) as request_count,
+                COALESCE(SUM(page_http_cnt_res), 0) as response_count,
+                COUNT(*) FILTER (WHERE ts_page > 0) as page_load_count,
+                ROUND((AVG(ts_page) FILTER (WHERE ts_page > 0))::numeric, 2) as avg_page_load_time,
+                ROUND((MIN(ts_page) FILTER (WHERE ts_page > 0))::numeric, 2) as min_page_load_time,
+                ROUND((MAX(ts_page) FILTER (WHERE ts_page > 0))::numeric, 2) as max_page_load_time,
+                ROUND((PERCENTILE_CONT(0.95) WITHIN GROUP (ORDER BY ts_page) FILTER (WHERE ts_page > 0))::numeric, 2) as p95_page_load_time,
+                ROUND((PERCENTILE_CONT(0.99) WITHIN GROUP (ORDER BY ts_page) FILTER (WHERE ts_page > 0))::numeric, 2) as p99_page_load_time,
+                COUNT(*) FILTER (WHERE ts_page_res > 0) as response_time_count,
+                ROUND((AVG(ts_page_res) FILTER (WHERE ts_page_res > 0))::numeric, 2) as avg_response_time,
+                ROUND((PERCENTILE_CONT(0.95) WITHIN GROUP (ORDER BY ts_page_res) FILTER (WHERE ts_page_res > 0))::numeric, 2) as p95_response_time,
+                ROUND((PERCENTILE_CONT(0.99) WITHIN GROUP (ORDER BY ts_page_res) FILTER (WHERE ts_page_res > 0))::numeric, 2) as p99_response_time,
+                COUNT(http_res_code) as res_code_count,
+                COUNT(*) FILTER (WHERE http_res_code::integer >= 400) as error_count,
+                COUNT(*) FILTER (WHERE http_res_code::integer BETWEEN 400 AND 499) as client_error_count,
+                COUNT(*) FILTER (WHERE http_res_code::integer BETWEEN 500 AND 599) as server_error_count,
+                COALESCE(SUM(res_code_2xx_cnt), 0) as res_2xx_sum,
+                COALESCE(SUM(res_code_3xx_cnt), 0) as res_3xx_sum,
+                COALESCE(SUM(res_code_4xx_cnt), 0) as res_4xx_sum,
+                COALESCE(SUM(res_code_5xx_cnt), 0) as res_5xx_sum
+            FROM http_page_sample
+            WHERE ts_server_nsec BETWEEN ? AND ?
+            """ + whereClause + """
+            GROUP BY FLOOR(ts_server_nsec / 60)
+            ORDER BY timestamp
+            """;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) ->
+                        new MinuteSeriesRow(
+                                rs.getTimestamp("timestamp"),
+                                rs.getDouble("mbps_req"),
+                                rs.getDouble("mbps_res"),
+                                rs.getLong("request_count"),
+                                rs.getLong("response_count"),
+                                rs.getLong("page_load_count"),
+                                rs.getDouble("avg_page_load_time"),
+                                rs.getDouble("min_page_load_time"),
+                                rs.getDouble("max_page_load_time"),
+                                rs.getDouble("p95_page_load_time"),
+                                rs.getDouble("p99_page_load_time"),
+                                rs.getLong("response_time_count"),
+                                rs.getDouble("avg_response_time"),
+                                rs.getDouble("p95_response_time"),
+                                rs.getDouble("p99_response_time"),
+                                rs.getLong("res_code_count"),
+                                rs.getLong("error_count"),
+                                rs.getLong("client_error_count"),
+                                rs.getLong("server_error_count"),
+                                rs.getLong("res_2xx_sum"),
+                                rs.getLong("res_3xx_sum"),
+                                rs.getLong("res_4xx_sum"),
+                                rs.getLong("res_5xx_sum")
+                        )
+                , startTimeUnix, endTimeUnix);
+    }
+
+    /**
+     * 통합 조회 결과 → 트래픽 추이 (모든 분)
+     */
+    public static List<TrafficTrendResponseDTO> toTrafficTrend(List<MinuteSeriesRow> rows) {
+        List<TrafficTrendResponseDTO> result = new ArrayList<>(rows.size());
+        for (MinuteSeriesRow r : rows) {
+            result.add(new TrafficTrendResponseDTO(r.timestamp(), r.mbpsReq(), r.mbpsRes(), r.requestCount(), r.responseCount()));
+        }
+        return result;
+    }
+
+    /**
+     * 통합 조회 결과 → 페이지 로드 시간 (ts_page > 0 샘플이 있는 분만)
+     */
+    public static List<PageLoadTimeResponseDTO> toPageLoadTimeTrend(List<MinuteSeriesRow> rows) {
+        List<PageLoadTimeResponseDTO> result = new ArrayList<>();
+        for (MinuteSeriesRow r : rows) {
+            if (r.pageLoadCount() > 0) {
+                result.add(new PageLoadTimeResponseDTO(r.timestamp(), r.avgPageLoadTime(), r.minPageLoadTime(),
+                        r.maxPageLoadTime(), r.p95PageLoadTime(), r.p99PageLoadTime()));
+            }
+        }
+        return result;
+    }
 
+    /**
+     * 통합 조회 결과 → 응답 시간 (ts_page_res > 0 샘플이 있는 분만)
+     */
+    public static List<ResponseTimeResponseDTO> toResponseTimeStats(List<MinuteSeriesRow> rows) {
+        List<ResponseTimeResponseDTO> result = new ArrayList<>();
+        for (MinuteSeriesRow r : rows) {
+            if (r.responseTimeCount() > 0) {
+                result.add(new ResponseTimeResponseDTO(r.timestamp(), r.avgResponseTime(), r.p95ResponseTime(), r.p99ResponseTime()));
+            }
+        }
         return result;
     }
 
+    /**
+     * 통합 조회 결과 → 에러율 (http_res_code 가 있는 샘플이 있는 분만)
+     */
+    public static List<ErrorRateResponseDTO> toErrorRateTrend(List<MinuteSeriesRow> rows) {
+        List<ErrorRateResponseDTO> result = new ArrayList<>();
+        for (MinuteSeriesRow r : rows) {
+            long totalCount = r.resCodeCount();
+            if (totalCount == 0) {
+                continue;
+            }
+            result.add(new ErrorRateResponseDTO(
+                    r.timestamp(),
+                    Long.valueOf(totalCount),
+                    Long.valueOf(r.errorCount()),
+                    Long.valueOf(r.clientErrorCount()),
+                    Long.valueOf(r.serverErrorCount()),
+                    Double.valueOf(r.errorCount() * 100.0 / totalCount),
+                    Double.valueOf(r.clientErrorCount() * 100.0 / totalCount),
+                    Double.valueOf(r.serverErrorCount() * 100.0 / totalCount)
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * 통합 조회 결과 → 상태 코드 분포 (분 단위 합계를 5분 버킷으로 합산)
+     */
+    public static List<StatusCodeResponseDTO> toStatusCodeDistribution(List<MinuteSeriesRow> rows) {
+        Map<Long, long[]> buckets = new TreeMap<>();
+        for (MinuteSeriesRow r : rows) {
+            long bucket = Math.floorDiv(r.timestamp().getTime(), 300_000L) * 300_000L;
+            long[] sums = buckets.computeIfAbsent(bucket, k -> new long[4]);
+            sums[0] += r.res2xxSum();
+            sums[1] += r.res3xxSum();
+            sums[2] += r.res4xxSum();
+            sums[3] += r.res5xxSum();
+        }
+
+        List<StatusCodeResponseDTO> result = new ArrayList<>(buckets.size() * 4);
+        for (Map.Entry<Long, long[]> e : buckets.entrySet()) {
+            addStatusCodeRows(new java.sql.Timestamp(e.getKey()), e.getValue(), result);
+        }
+        return result;
+    }
+
+    /**
+     * 분 단위 통합 집계 1행
+     * - *Count 값이 0 인 위젯 값은 해당 분에 대상 샘플이 없다는 뜻 (위젯 분리 시 제외)
+     */
+    public record MinuteSeriesRow(
+            java.sql.Timestamp timestamp,
+            double mbpsReq,
+            double mbpsRes,
+            long requestCount,
+            long responseCount,
+            long pageLoadCount,
+            double avgPageLoadTime,
+            double minPageLoadTime,
+            double maxPageLoadTime,
+            double p95PageLoadTime,
+            double p99PageLoadTime,
+            long responseTimeCount,
+            double avgResponseTime,
+            double p95ResponseTime,
+            double p99ResponseTime,
+            long resCodeCount,
+            long errorCount,
+            long clientErrorCount,
+            long serverErrorCount,
+            long res2xxSum,
+            long res3xxSum,
+            long res4xxSum,
+            long res5xxSum
+    ) {}
+
     // ============================================
     // 위젯 6: 느린 페이지 Top 10
     // - 와이어프레임 위젯 6: "느린 페이지 Top 10"
@@ -327,14 +544,19 @@ public class DashboardRepository {
             ORDER BY timestamp, request_count DESC
             """;
 
-        return jdbcTemplate.query(sql, (rs, rowNum) ->
-                        new CountryTrafficResponseDTO(
-                                rs.getTimestamp("timestamp"),
-                                rs.getString("country"),
-                                Double.valueOf(rs.getDouble("avg_response_time")),
-                                Long.valueOf(rs.getLong("request_count"))
-                        )
-                , startTimeUnix, endTimeUnix);
+        return jdbcTemplate.query(sql, DashboardRepository::mapCountryTraffic, startTimeUnix, endTimeUnix);
+    }
+
+    /**
+     * 국가별 트래픽 행 매핑 (원본/롤업 조회 공용)
+     */
+    static CountryTrafficResponseDTO mapCountryTraffic(ResultSet rs, int rowNum) throws SQLException {
+        return new CountryTrafficResponseDTO(
+                rs.getTimestamp("timestamp"),
+                rs.getString("country"),
+                Double.valueOf(rs.getDouble("avg_response_time")),
+                Long.valueOf(rs.getLong("request_count"))
+        );
     }
 
     // ============================================
@@ -411,15 +633,20 @@ public class DashboardRepository {
             ORDER BY timestamp, request_count DESC
             """;
 
-        return jdbcTemplate.query(sql, (rs, rowNum) ->
-                        new BrowserPerfResponseDTO(
-                                rs.getTimestamp("timestamp"),
-                                rs.getString("browser"),
-                                Double.valueOf(rs.getDouble("avg_page_load_time")),
-                                Double.valueOf(rs.getDouble("avg_response_time")),
-                                Long.valueOf(rs.getLong("request_count"))
-                        )
-                , startTimeUnix, endTimeUnix);
+        return jdbcTemplate.query(sql, DashboardRepository::mapBrowserPerf, startTimeUnix, endTimeUnix);
+    }
+
+    /**
+     * 브라우저별 성능 행 매핑 (원본/롤업 조회 공용)
+     */
+    static BrowserPerfResponseDTO mapBrowserPerf(ResultSet rs, int rowNum) throws SQLException {
+        return new BrowserPerfResponseDTO(
+                rs.getTimestamp("timestamp"),
+                rs.getString("browser"),
+                Double.valueOf(rs.getDouble("avg_page_load_time")),
+                Double.valueOf(rs.getDouble("avg_response_time")),
+                Long.valueOf(rs.getLong("request_count"))
+        );
     }
 
     // ============================================
@@ -451,17 +678,22 @@ public class DashboardRepository {
             ORDER BY timestamp, request_count DESC
             """;
 
-        return jdbcTemplate.query(sql, (rs, rowNum) ->
-                        new DevicePerfResponseDTO(
-                                rs.getTimestamp("timestamp"),
-                                rs.getString("device_type"),
-                                Long.valueOf(rs.getLong("request_count")),
-                                null,  // traffic_percentage는 프론트에서 계산
-                                Double.valueOf(rs.getDouble("avg_page_load_time")),
-                                Double.valueOf(rs.getDouble("avg_response_time")),
-                                Long.valueOf(rs.getLong("avg_page_size"))
-                        )
-                , startTimeUnix, endTimeUnix);
+        return jdbcTemplate.query(sql, DashboardRepository::mapDevicePerf, startTimeUnix, endTimeUnix);
+    }
+
+    /**
+     * 디바이스별 성능 행 매핑 (원본/롤업 조회 공용)
+     */
+    static DevicePerfResponseDTO mapDevicePerf(ResultSet rs, int rowNum) throws SQLException {
+        return new DevicePerfResponseDTO(
+                rs.getTimestamp("timestamp"),
+                rs.getString("device_type"),
+                Long.valueOf(rs.getLong("request_count")),
+                null,  // traffic_percentage는 프론트에서 계산
+                Double.valueOf(rs.getDouble("avg_page_load_time")),
+                Double.valueOf(rs.getDouble("avg_response_time")),
+                Long.valueOf(rs.getLong("avg_page_size"))
+        );
     }
 
     // ============================================
@@ -635,8 +867,9 @@ public class DashboardRepository {
 
     /**
      * WHERE 절 필터 조건 빌더
+     * - 롤업 테이블도 필터 차원 컬럼명이 동일하므로 DashboardRollupRepository 에서 재사용
      */
-    private String buildWhereClause(DashboardRequestDTO.DashboardFilters filters) {
+    static String buildWhereClause(DashboardRequestDTO.DashboardFilters filters) {
         if (filters == null) {
             return "";
         }
@@ -0,0 +1,666 @@
+/**
+ * 작성자: 정소영
+ * 설명: http_page_sample 사전 집계(롤업) 테이블의 증분 갱신, 재계산(백필),
+ *      커버리지 상태 관리 및 롤업 기반 위젯 조회를 담당하는 Repository
+ */
+package com.moa.api.dashboard.repository;
+
+import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
+import com.moa.api.dashboard.dto.response.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DashboardRollupRepository
+ *
+ * 롤업 테이블: http_page_rollup_1m (60초), http_page_rollup_5m (300초)
+ * - bucket_ts: 버킷 시작 시각 (유닉스 초, FLOOR(ts_server_nsec / 버킷) * 버킷)
+ * - 위젯 조회 범위는 [from, to) 의 버킷 경계 정렬 구간만 받음
+ *   (경계에 걸친 부분 버킷은 DashboardQueryRouter 가 원본 테이블로 보정)
+ * - 조회 결과 컬럼 alias 는 DashboardRepository 원본 쿼리와 동일하게 맞춰 RowMapper 공유
+ *
+ * 분위수 스케치 (http_page_rollup_1m.page_load_sketch / res_time_sketch)
+ * - SQL 로 병합할 수 없으므로 합계 UPSERT 로 행 잠금을 잡은 뒤 Java 에서 병합해 다시 저장
+ * - 조회 시 버킷별 스케치를 Java 에서 병합해 p95/p99 계산 (원본 정렬 없음)
+ * - 스케치가 채워진 구간은 별도 커버리지(LATENCY_SKETCH_STATE)로 관리
+ */
+@Repository
+public class DashboardRollupRepository {
+
+    /** 롤업 합계 커버리지 상태 키 */
+    public static final String ROLLUP_STATE = "http_page";
+
+    /** 분위수 스케치 커버리지 상태 키 */
+    public static final String LATENCY_SKETCH_STATE = "http_page_latency";
+
+    /** 스케치 재계산 시 한 번에 메모리로 읽는 원본 구간 (초) */
+    private static final long SKETCH_REBUILD_CHUNK_SECONDS = 3600;
+
+    /** 동시 적재 간 데드락 방지를 위한 행 잠금 순서 */
+    private static final Comparator<HttpPageRollupRow> ROW_ORDER =
+            Comparator.comparingLong(HttpPageRollupRow::getBucketTs)
+                    .thenComparing(HttpPageRollupRow::getCountryNameReq)
+                    .thenComparing(HttpPageRollupRow::getUserAgentSoftwareName)
+                    .thenComparing(HttpPageRollupRow::getUserAgentHardwareType)
+                    .thenComparing(HttpPageRollupRow::getHttpHost)
+                    .thenComparing(HttpPageRollupRow::getHttpMethod);
+
+    private static final String KEY_COLUMNS =
+            "bucket_ts, country_name_req, user_agent_software_name, user_agent_hardware_type, http_host, http_method";
+
+    private static final String METRIC_COLUMNS = """
+            sample_cnt,
+            mbps_req_sum, mbps_req_cnt, mbps_res_sum, mbps_res_cnt, http_cnt_req_sum, http_cnt_res_sum,
+            res_code_cnt, res_code_err_cnt, res_code_4xx_cnt, res_code_5xx_cnt,
+            res_2xx_sum, res_3xx_sum, res_4xx_sum, res_5xx_sum,
+            page_load_cnt, page_load_sum, page_load_min, page_load_max,
+            page_load_res_sum, page_load_res_cnt, page_load_len_sum, page_load_len_cnt,
+            res_time_cnt, res_time_sum""";
+
+    /**
+     * 롤업 단위
+     */
+    public enum Granularity {
+        MINUTE_1(60, "http_page_rollup_1m"),
+        MINUTE_5(300, "http_page_rollup_5m");
+
+        private final int seconds;
+        private final String tableName;
+
+        Granularity(int seconds, String tableName) {
+            this.seconds = seconds;
+            this.tableName = tableName;
+        }
+
+        public int getSeconds() {
+            return seconds;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        /** 유닉스 초 → 버킷 시작 */
+        public long floor(double epochSecond) {
+            return (long) Math.floor(epochSecond / seconds) * seconds;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DashboardRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // ============================================
+    // 증분 갱신 / 재계산
+    // ============================================
+
+    /**
+     * 적재 배치의 델타를 롤업 테이블에 더함 (UPSERT)
+     * - 합계/건수는 더하고, 최소/최대는 LEAST/GREATEST 로 병합
+     * - 동시 적재 간 데드락 방지를 위해 키 순서로 정렬 후 반영
+     * - 1분 롤업은 이어서 분위수 스케치를 병합
+     */
+    public void upsert(Granularity granularity, Collection<HttpPageRollupRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<HttpPageRollupRow> sorted = new ArrayList<>(rows);
+        sorted.sort(ROW_ORDER);
+
+        String sql = """
+            INSERT INTO %s AS t (%s, %s)
+            VALUES (?, ?, ?, ?, ?, ?,
+                    ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (%s) DO UPDATE SET
+                sample_cnt        = t.sample_cnt        + EXCLUDED.sample_cnt,
+                mbps_req_sum      = t.mbps_req_sum      + EXCLUDED.mbps_req_sum,
+                mbps_req_cnt      = t.mbps_req_cnt      + EXCLUDED.mbps_req_cnt,
+                mbps_res_sum      = t.mbps_res_sum      + EXCLUDED.mbps_res_sum,
+                mbps_res_cnt      = t.mbps_res_cnt      + EXCLUDED.mbps_res_cnt,
+                http_cnt_req_sum  = t.http_cnt_req_sum  + EXCLUDED.http_cnt_req_sum,
+                http_cnt_res_sum  = t.http_cnt_res_sum  + EXCLUDED.http_cnt_res_sum,
+                res_code_cnt      = t.res_code_cnt      + EXCLUDED.res_code_cnt,
+                res_code_err_cnt  = t.res_code_err_cnt  + EXCLUDED.res_code_err_cnt,
+                res_code_4xx_cnt  = t.res_code_4xx_cnt  + EXCLUDED.res_code_4xx_cnt,
+                res_code_5xx_cnt  = t.res_code_5xx_cnt  + EXCLUDED.res_code_5xx_cnt,
+                res_2xx_sum       = t.res_2xx_sum       + EXCLUDED.res_2xx_sum,
+                res_3xx_sum       = t.res_3xx_sum       + EXCLUDED.res_3xx_sum,
+                res_4xx_sum       = t.res_4xx_sum       + EXCLUDED.res_4xx_sum,
+                res_5xx_sum       = t.res_5xx_sum       + EXCLUDED.res_5xx_sum,
+                page_load_cnt     = t.page_load_cnt     + EXCLUDED.page_load_cnt,
+                page_load_sum     = t.page_load_sum     + EXCLUDED.page_load_sum,
+                page_load_min     = LEAST(t.page_load_min, EXCLUDED.page_load_min),
+                page_load_max     = GREATEST(t.page_load_max, EXCLUDED.page_load_max),
+                page_load_res_sum = t.page_load_res_sum + EXCLUDED.page_load_res_sum,
+                page_load_res_cnt = t.page_load_res_cnt + EXCLUDED.page_load_res_cnt,
+                page_load_len_sum = t.page_load_len_sum + EXCLUDED.page_load_len_sum,
+                page_load_len_cnt = t.page_load_len_cnt + EXCLUDED.page_load_len_cnt,
+                res_time_cnt      = t.res_time_cnt      + EXCLUDED.res_time_cnt,
+                res_time_sum      = t.res_time_sum      + EXCLUDED.res_time_sum
+            """.formatted(granularity.getTableName(), KEY_COLUMNS, METRIC_COLUMNS, KEY_COLUMNS);
+
+        jdbcTemplate.batchUpdate(sql, sorted, sorted.size(), this::bindRow);
+
+        if (granularity == Granularity.MINUTE_1) {
+            mergeSketches(sorted);
+        }
+    }
+
+    /**
+     * 배치의 스케치를 저장된 스케치와 병합
+     * - 직전 UPSERT 로 같은 트랜잭션이 대상 행을 잠그고 있으므로 읽기-병합-쓰기 사이에 유실 없음
+     */
+    private void mergeSketches(List<HttpPageRollupRow> sorted) {
+        List<HttpPageRollupRow> targets = sorted.stream()
+                .filter(r -> !r.getPageLoadSketch().isEmpty() || !r.getResTimeSketch().isEmpty())
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Map<String, byte[][]> stored = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT " + KEY_COLUMNS + ", page_load_sketch, res_time_sketch FROM http_page_rollup_1m"
+                        + " WHERE bucket_ts >= ? AND bucket_ts <= ?",
+                (RowCallbackHandler) rs -> stored.put(
+                        rowKey(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5), rs.getString(6)),
+                        new byte[][]{rs.getBytes(7), rs.getBytes(8)}),
+                targets.get(0).getBucketTs(), targets.get(targets.size() - 1).getBucketTs());
+
+        List<LatencySketch[]> merged = new ArrayList<>(targets.size());
+        for (HttpPageRollupRow row : targets) {
+            byte[][] current = stored.getOrDefault(rowKey(row), new byte[2][]);
+
+            LatencySketch pageLoad = LatencySketch.fromBytes(current[0]);
+            pageLoad.merge(row.getPageLoadSketch());
+            LatencySketch resTime = LatencySketch.fromBytes(current[1]);
+            resTime.merge(row.getResTimeSketch());
+
+            merged.add(new LatencySketch[]{pageLoad, resTime});
+        }
+
+        updateSketches(targets, merged);
+    }
+
+    /**
+     * 행별 스케치 덮어쓰기 (빈 스케치는 NULL)
+     */
+    private void updateSketches(List<HttpPageRollupRow> rows, List<LatencySketch[]> sketches) {
+        String sql = """
+            UPDATE http_page_rollup_1m
+            SET page_load_sketch = ?, res_time_sketch = ?
+            WHERE bucket_ts = ? AND country_name_req = ? AND user_agent_software_name = ?
+                AND user_agent_hardware_type = ? AND http_host = ? AND http_method = ?
+            """;
+
+        List<Integer> indexes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            indexes.add(i);
+        }
+
+        jdbcTemplate.batchUpdate(sql, indexes, indexes.size(), (ps, i) -> {
+            HttpPageRollupRow row = rows.get(i);
+            LatencySketch[] pair = sketches.get(i);
+            ps.setBytes(1, pair[0].isEmpty() ? null : pair[0].toBytes());
+            ps.setBytes(2, pair[1].isEmpty() ? null : pair[1].toBytes());
+            ps.setLong(3, row.getBucketTs());
+            ps.setString(4, row.getCountryNameReq());
+            ps.setString(5, row.getUserAgentSoftwareName());
+            ps.setString(6, row.getUserAgentHardwareType());
+            ps.setString(7, row.getHttpHost());
+            ps.setString(8, row.getHttpMethod());
+        });
+    }
+
+    private static String rowKey(HttpPageRollupRow row) {
+        return rowKey(row.getBucketTs(), row.getCountryNameReq(), row.getUserAgentSoftwareName(),
+                row.getUserAgentHardwareType(), row.getHttpHost(), row.getHttpMethod());
+    }
+
+    private static String rowKey(long bucketTs, String country, String browser, String device, String host, String method) {
+        return bucketTs + "\u0001" + country + "\u0001" + browser + "\u0001" + device + "\u0001" + host + "\u0001" + method;
+    }
+
+    private void bindRow(PreparedStatement ps, HttpPageRollupRow row) throws SQLException {
+        int i = 1;
+        ps.setLong(i++, row.getBucketTs());
+        ps.setString(i++, row.getCountryNameReq());
+        ps.setString(i++, row.getUserAgentSoftwareName());
+        ps.setString(i++, row.getUserAgentHardwareType());
+        ps.setString(i++, row.getHttpHost());
+        ps.setString(i++, row.getHttpMethod());
+
+        ps.setLong(i++, row.getSampleCnt());
+        ps.setDouble(i++, row.getMbpsReqSum());
+        ps.setLong(i++, row.getMbpsReqCnt());
+        ps.setDouble(i++, row.getMbpsResSum());
+        ps.setLong(i++, row.getMbpsResCnt());
+        ps.setLong(i++, row.getHttpCntReqSum());
+        ps.setLong(i++, row.getHttpCntResSum());
+        ps.setLong(i++, row.getResCodeCnt());
+        ps.setLong(i++, row.getResCodeErrCnt());
+        ps.setLong(i++, row.getResCode4xxCnt());
+        ps.setLong(i++, row.getResCode5xxCnt());
+        ps.setLong(i++, row.getRes2xxSum());
+        ps.setLong(i++, row.getRes3xxSum());
+        ps.setLong(i++, row.getRes4xxSum());
+        ps.setLong(i++, row.getRes5xxSum());
+        ps.setLong(i++, row.getPageLoadCnt());
+        ps.setDouble(i++, row.getPageLoadSum());
+        setNullableDouble(ps, i++, row.getPageLoadMin());
+        setNullableDouble(ps, i++, row.getPageLoadMax());
+        ps.setDouble(i++, row.getPageLoadResSum());
+        ps.setLong(i++, row.getPageLoadResCnt());
+        ps.setLong(i++, row.getPageLoadLenSum());
+        ps.setLong(i++, row.getPageLoadLenCnt());
+        ps.setLong(i++, row.getResTimeCnt());
+        ps.setDouble(i, row.getResTimeSum());
+    }
+
+    private static void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+
+    /**
+     * 원본 테이블로부터 [fromBucket, toBucket) 구간의 롤업을 다시 계산 (백필)
+     * - 기존 버킷은 삭제 후 재삽입 (호출 측 트랜잭션에서 실행)
+     * - 증분 갱신과의 경합을 피하려면 커버리지 시작(covered_from) 이전 구간에만 사용
+     *
+     * @return 재계산된 롤업 행 수
+     */
+    public int rebuild(Granularity granularity, long fromBucket, long toBucket) {
+        String table = granularity.getTableName();
+        int bucket = granularity.getSeconds();
+
+        jdbcTemplate.update(
+                "DELETE FROM " + table + " WHERE bucket_ts >= ? AND bucket_ts < ?",
+                fromBucket, toBucket);
+
+        String sql = """
+            INSERT INTO %s (%s, %s)
+            SELECT
+                (FLOOR(ts_server_nsec / %d) * %d)::bigint,
+                COALESCE(country_name_req, ''),
+                COALESCE(user_agent_software_name, ''),
+                COALESCE(user_agent_hardware_type, ''),
+                COALESCE(http_host, ''),
+                COALESCE(http_method, ''),
+                COUNT(*),
+                COALESCE(SUM(mbps_req), 0), COUNT(mbps_req),
+                COALESCE(SUM(mbps_res), 0), COUNT(mbps_res),
+                COALESCE(SUM(page_http_cnt_req), 0), COALESCE(SUM(page_http_cnt_res), 0),
+                COUNT(http_res_code),
+                COUNT(*) FILTER (WHERE http_res_code::integer >= 400),
+                COUNT(*) FILTER (WHERE http_res_code::integer BETWEEN 400 AND 499),
+                COUNT(*) FILTER (WHERE http_res_code::integer BETWEEN 500 AND 599),
+                COALESCE(SUM(res_code_2xx_cnt), 0), COALESCE(SUM(res_code_3xx_cnt), 0),
+                COALESCE(SUM(res_code_4xx_cnt), 0), COALESCE(SUM(res_code_5xx_cnt), 0),
+                COUNT(*) FILTER (WHERE ts_page > 0),
+                COALESCE(SUM(ts_page) FILTER (WHERE ts_page > 0), 0),
+                MIN(ts_page) FILTER (WHERE ts_page > 0),
+                MAX(ts_page) FILTER (WHERE ts_page > 0),
+                COALESCE(SUM(ts_page_res) FILTER (WHERE ts_page > 0), 0),
+                COUNT(ts_page_res) FILTER (WHERE ts_page > 0),
+                COALESCE(SUM(page_http_len) FILTER (WHERE ts_page > 0), 0),
+                COUNT(page_http_len) FILTER (WHERE ts_page > 0),
+                COUNT(*) FILTER (WHERE ts_page_res > 0),
+                COALESCE(SUM(ts_page_res) FILTER (WHERE ts_page_res > 0), 0)
+            FROM http_page_sample
+            WHERE ts_server_nsec >= ? AND ts_server_nsec < ?
+            GROUP BY 1, 2, 3, 4, 5, 6
+            """.formatted(table, KEY_COLUMNS, METRIC_COLUMNS, bucket, bucket);
+
+        return jdbcTemplate.update(sql, fromBucket, toBucket);
+    }
+
+    /**
+     * 원본 테이블로부터 [fromBucket, toBucket) 구간의 1분 롤업 분위수 스케치를 다시 계산
+     * - 합계 행은 이미 있어야 함 (rebuild 이후 또는 증분 갱신으로 생성된 행)
+     * - 메모리 사용을 제한하기 위해 1시간 단위로 나눠 처리
+     */
+    public void rebuildSketches(long fromBucket, long toBucket) {
+        for (long chunkFrom = fromBucket; chunkFrom < toBucket; chunkFrom += SKETCH_REBUILD_CHUNK_SECONDS) {
+            long chunkTo = Math.min(chunkFrom + SKETCH_REBUILD_CHUNK_SECONDS, toBucket);
+
+            Map<String, HttpPageRollupRow> rows = new HashMap<>();
+            jdbcTemplate.query("""
+                SELECT
+                    (FLOOR(ts_server_nsec / 60) * 60)::bigint,
+                    COALESCE(country_name_req, ''),
+                    COALESCE(user_agent_software_name, ''),
+                    COALESCE(user_agent_hardware_type, ''),
+                    COALESCE(http_host, ''),
+                    COALESCE(http_method, ''),
+                    ts_page,
+                    ts_page_res
+                FROM http_page_sample
+                WHERE ts_server_nsec >= ? AND ts_server_nsec < ?
+                    AND (ts_page > 0 OR ts_page_res > 0)
+                """, (RowCallbackHandler) rs -> {
+                long bucketTs = rs.getLong(1);
+                String country = rs.getString(2);
+                String browser = rs.getString(3);
+                String device = rs.getString(4);
+                String host = rs.getString(5);
+                String method = rs.getString(6);
+
+                HttpPageRollupRow row = rows.computeIfAbsent(
+                        rowKey(bucketTs, country, browser, device, host, method),
+                        k -> new HttpPageRollupRow(bucketTs, country, browser, device, host, method));
+                row.getPageLoadSketch().add(rs.getObject(7, Double.class));
+                row.getResTimeSketch().add(rs.getObject(8, Double.class));
+            }, chunkFrom, chunkTo);
+
+            jdbcTemplate.update("""
+                UPDATE http_page_rollup_1m
+                SET page_load_sketch = NULL, res_time_sketch = NULL
+                WHERE bucket_ts >= ? AND bucket_ts < ?
+                """, chunkFrom, chunkTo);
+
+            List<HttpPageRollupRow> sorted = new ArrayList<>(rows.values());
+            sorted.sort(ROW_ORDER);
+
+            List<LatencySketch[]> sketches = new ArrayList<>(sorted.size());
+            for (HttpPageRollupRow row : sorted) {
+                sketches.add(new LatencySketch[]{row.getPageLoadSketch(), row.getResTimeSketch()});
+            }
+            updateSketches(sorted, sketches);
+        }
+    }
+
+    // ============================================
+    // 커버리지 상태
+    // ============================================
+
+    /**
+     * 롤업이 완전한 구간의 시작 시각 조회 (없으면 null)
+     *
+     * @param stateName ROLLUP_STATE 또는 LATENCY_SKETCH_STATE
+     */
+    public Long findCoveredFrom(String stateName) {
+        List<Long> result = jdbcTemplate.queryForList(
+                "SELECT covered_from FROM dashboard_rollup_state WHERE rollup_name = ?",
+                Long.class, stateName);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 커버리지 시작 시각 최초 등록 (이미 있으면 무시)
+     */
+    public void initCoveredFrom(String stateName, long coveredFrom) {
+        jdbcTemplate.update("""
+            INSERT INTO dashboard_rollup_state (rollup_name, covered_from, updated_at)
+            VALUES (?, ?, NOW())
+            ON CONFLICT (rollup_name) DO NOTHING
+            """, stateName, coveredFrom);
+    }
+
+    /**
+     * 백필 완료 후 커버리지 시작 시각을 앞당김 (뒤로 밀리지 않도록 LEAST 사용)
+     */
+    public void extendCoveredFrom(String stateName, long coveredFrom) {
+        jdbcTemplate.update("""
+            UPDATE dashboard_rollup_state
+            SET covered_from = LEAST(covered_from, ?), updated_at = NOW()
+            WHERE rollup_name = ?
+            """, coveredFrom, stateName);
+    }
+
+    // ============================================
+    // 롤업 기반 위젯 조회 (조회 구간: [fromBucket, toBucket))
+    // ============================================
+
+    public List<TrafficTrendResponseDTO> getTrafficTrend(long fromBucket, long toBucket, DashboardRequestDTO.DashboardFilters filters) {
+        String sql = """
+            SELECT
+                TO_TIMESTAMP(bucket_ts) as timestamp,
+                ROUND((SUM(mbps_req_sum) / NULLIF(SUM(mbps_req_cnt), 0))::numeric, 2) as mbps_req,
+                ROUND((SUM(mbps_res_sum) / NULLIF(SUM(mbps_res_cnt), 0))::numeric, 2) as mbps_res,
+                SUM(http_cnt_req_sum) as request_count,
+                SUM(http_cnt_res_sum) as response_count
+            FROM http_page_rollup_1m
+            WHERE bucket_ts >= ? AND bucket_ts < ?
+            """ + DashboardRepository.buildWhereClause(filters) + """
+            GROUP BY bucket_ts
+            ORDER BY timestamp
+            """;
+
+        return jdbcTemplate.query(sql, DashboardRepository::mapTrafficTrend, fromBucket, toBucket);
+    }
+
+    public List<ErrorRateResponseDTO> getErrorRateTrend(long fromBucket, long toBucket, DashboardRequestDTO.DashboardFilters filters) {
+        String sql = """
+            SELECT
+                TO_TIMESTAMP(bucket_ts) as timestamp,
+                SUM(res_code_cnt) as total_count,
+                SUM(res_code_err_cnt) as error_count,
+                SUM(res_code_4xx_cnt) as client_error_count,
+                SUM(res_code_5xx_cnt) as server_error_count
+            FROM http_page_rollup_1m
+            WHERE bucket_ts >= ? AND bucket_ts < ?
+            """ + DashboardRepository.buildWhereClause(filters) + """
+            GROUP BY bucket_ts
+            HAVING SUM(res_code_cnt) > 0
+            ORDER BY timestamp
+            """;
+
+        return jdbcTemplate.query(sql, DashboardRepository::mapErrorRate, fromBucket, toBucket);
+    }
+
+    public List<StatusCodeResponseDTO> getStatusCodeDistribution(long fromBucket, long toBucket, DashboardRequestDTO.DashboardFilters filters) {
+        String sql = """
+            SELECT
+                TO_TIMESTAMP(bucket_ts) as timestamp,
+                SUM(res_2xx_sum) as success_count,
+                SUM(res_3xx_sum) as redirect_count,
+                SUM(res_4xx_sum) as client_error_count,
+                SUM(res_5xx_sum) as server_error_count
+            FROM http_page_rollup_5m
+            WHERE bucket_ts >= ? AND bucket_ts < ?
+            """ + DashboardRepository.buildWhereClause(filters) + """
+            GROUP BY bucket_ts
+            ORDER BY timestamp
+            """;
+
+        List<StatusCodeResponseDTO> result = new ArrayList<>();
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> DashboardRepository.addStatusCodeRows(rs, result), fromBucket, toBucket);
+
+        return result;
+    }
+
+    public List<CountryTrafficResponseDTO> getTrafficByCountry(long fromBucket, long toBucket, DashboardRequestDTO.DashboardFilters filters) {
+        String sql = """
+            SELECT
+                TO_TIMESTAMP(bucket_ts) as timestamp,
+                COALESCE(NULLIF(TRIM(country_name_req), ''), 'Unknown') as country,
+                ROUND((SUM(res_time_sum) / SUM(res_time_cnt))::numeric, 2) as avg_response_time,
+                SUM(res_time_cnt) as request_count
+            FROM http_page_rollup_5m
+            WHERE bucket_ts >= ? AND bucket_ts < ?
+            """ + DashboardRepository.buildWhereClause(filters) + """
+            GROUP BY bucket_ts, COALESCE(NULLIF(TRIM(country_name_req), ''), 'Unknown')
+            HAVING SUM(res_time_cnt) > 0
+            ORDER BY timestamp, request_count DESC
+            """;
+
+        return jdbcTemplate.query(sql, DashboardRepository::mapCountryTraffic, fromBucket, toBucket);
+    }
+
+    public List<BrowserPerfResponseDTO> getBrowserPerformance(long fromBucket, long toBucket, DashboardRequestDTO.DashboardFilters filters) {
+        String sql = """
+            SELECT
+                TO_TIMESTAMP(bucket_ts) as timestamp,
+                user_agent_software_name as browser,
+                ROUND((SUM(page_load_sum) / SUM(page_load_cnt))::numeric, 2) as avg_page_load_time,
+                ROUND((SUM(page_load_res_sum) / NULLIF(SUM(page_load_res_cnt), 0))::numeric, 2) as avg_response_time,
+                SUM(page_load_cnt) as request_count
+            FROM http_page_rollup_5m
+            WHERE bucket_ts >= ? AND bucket_ts < ?
+                AND user_agent_software_name != ''
+            """ + DashboardRepository.buildWhereClause(filters) + """
+            GROUP BY bucket_ts, user_agent_software_name
+            HAVING SUM(page_load_cnt) > 0
+            ORDER BY timestamp, request_count DESC
+            """;
+
+        return jdbcTemplate.query(sql, DashboardRepository::mapBrowserPerf, fromBucket, toBucket);
+    }
+
+    /**
+     * 디바이스별 성능
+     * - 롤업 차원은 NULL 을 '' 로 저장하므로 원본의 NULL 과 '' 가 모두 'Unknown' 으로 묶임
+     */
+    public List<DevicePerfResponseDTO> getDevicePerformanceDistribution(long fromBucket, long toBucket, DashboardRequestDTO.DashboardFilters filters) {
+        String sql = """
+            SELECT
+                TO_TIMESTAMP(bucket_ts) as timestamp,
+                COALESCE(NULLIF(user_agent_hardware_type, ''), 'Unknown') as device_type,
+                SUM(page_load_cnt) as request_count,
+                ROUND((SUM(page_load_sum) / SUM(page_load_cnt))::numeric, 2) as avg_page_load_time,
+                ROUND((SUM(page_load_res_sum) / NULLIF(SUM(page_load_res_cnt), 0))::numeric, 2) as avg_response_time,
+                ROUND((SUM(page_load_len_sum)::numeric / NULLIF(SUM(page_load_len_cnt), 0)), 0) as avg_page_size
+            FROM http_page_rollup_5m
+            WHERE bucket_ts >= ? AND bucket_ts < ?
+            """ + DashboardRepository.buildWhereClause(filters) + """
+            GROUP BY bucket_ts, COALESCE(NULLIF(user_agent_hardware_type, ''), 'Unknown')
+            HAVING SUM(page_load_cnt) > 0
+            ORDER BY timestamp, request_count DESC
+            """;
+
+        return jdbcTemplate.query(sql, DashboardRepository::mapDevicePerf, fromBucket, toBucket);
+    }
+
+    /**
+     * 페이지 로드 시간 (1분)
+     * - avg/min/max 는 합계 컬럼, p95/p99 는 차원 행 스케치를 버킷별로 병합해 계산
+     */
+    public List<PageLoadTimeResponseDTO> getPageLoadTimeTrend(long fromBucket, long toBucket, DashboardRequestDTO.DashboardFilters filters) {
+        String sql = """
+            SELECT bucket_ts, page_load_cnt, page_load_sum, page_load_min, page_load_max, page_load_sketch
+            FROM http_page_rollup_1m
+            WHERE bucket_ts >= ? AND bucket_ts < ?
+                AND page_load_cnt > 0
+            """ + DashboardRepository.buildWhereClause(filters) + """
+            ORDER BY bucket_ts
+            """;
+
+        List<PageLoadTimeResponseDTO> result = new ArrayList<>();
+        LatencyBucket[] current = {null};
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            long bucketTs = rs.getLong("bucket_ts");
+            if (current[0] == null || current[0].bucketTs != bucketTs) {
+                if (current[0] != null) {
+                    result.add(current[0].toPageLoadTime());
+                }
+                current[0] = new LatencyBucket(bucketTs);
+            }
+            current[0].add(rs.getLong("page_load_cnt"), rs.getDouble("page_load_sum"),
+                    rs.getObject("page_load_min", Double.class), rs.getObject("page_load_max", Double.class),
+                    rs.getBytes("page_load_sketch"));
+        }, fromBucket, toBucket);
+
+        if (current[0] != null) {
+            result.add(current[0].toPageLoadTime());
+        }
+        return result;
+    }
+
+    /**
+     * 서버 응답 시간 (1분)
+     */
+    public List<ResponseTimeResponseDTO> getResponseTimeStats(long fromBucket, long toBucket, DashboardRequestDTO.DashboardFilters filters) {
+        String sql = """
+            SELECT bucket_ts, res_time_cnt, res_time_sum, res_time_sketch
+            FROM http_page_rollup_1m
+            WHERE bucket_ts >= ? AND bucket_ts < ?
+                AND res_time_cnt > 0
+            """ + DashboardRepository.buildWhereClause(filters) + """
+            ORDER BY bucket_ts
+            """;
+
+        List<ResponseTimeResponseDTO> result = new ArrayList<>();
+        LatencyBucket[] current = {null};
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            long bucketTs = rs.getLong("bucket_ts");
+            if (current[0] == null || current[0].bucketTs != bucketTs) {
+                if (current[0] != null) {
+                    result.add(current[0].toResponseTime());
+                }
+                current[0] = new LatencyBucket(bucketTs);
+            }
+            current[0].add(rs.getLong("res_time_cnt"), rs.getDouble("res_time_sum"), null, null,
+                    rs.getBytes("res_time_sketch"));
+        }, fromBucket, toBucket);
+
+        if (current[0] != null) {
+            result.add(current[0].toResponseTime());
+        }
+        return result;
+    }
+
+    /**
+     * 버킷 1개의 지연 시간 집계 (차원 행 병합용)
+     */
+    private static final class LatencyBucket {
+
+        private final long bucketTs;
+        private final LatencySketch sketch = new LatencySketch();
+        private long count;
+        private double sum;
+        private Double min;
+        private Double max;
+
+        private LatencyBucket(long bucketTs) {
+            this.bucketTs = bucketTs;
+        }
+
+        private void add(long rowCount, double rowSum, Double rowMin, Double rowMax, byte[] rowSketch) {
+            count += rowCount;
+            sum += rowSum;
+            if (rowMin != null) min = min == null ? rowMin : Math.min(min, rowMin);
+            if (rowMax != null) max = max == null ? rowMax : Math.max(max, rowMax);
+            sketch.merge(LatencySketch.fromBytes(rowSketch));
+        }
+
+        private PageLoadTimeResponseDTO toPageLoadTime() {
+            return new PageLoadTimeResponseDTO(timestamp(), round2(sum / count), round2(min), round2(max),
+                    round2(sketch.quantile(0.95)), round2(sketch.quantile(0.99)));
+        }
+
+        private ResponseTimeResponseDTO toResponseTime() {
+            return new ResponseTimeResponseDTO(timestamp(), round2(sum / count),
+                    round2(sketch.quantile(0.95)), round2(sketch.quantile(0.99)));
+        }
+
+        private Timestamp timestamp() {
+            return new Timestamp(bucketTs * 1000L);
+        }
+
+        /** 원본 쿼리의 ROUND(x::numeric, 2) 대응 */
+        private static Double round2(Double value) {
+            return value == null ? null : Math.round(value * 100.0) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * 작성자: 정소영
+ * 설명: 롤업 테이블 한 행에 더해질 증분 값(델타)을 메모리에서 누적하는 클래스
+ *      (적재 배치 하나를 버킷·차원별로 묶어 UPSERT 한 번으로 반영)
+ */
+package com.moa.api.dashboard.repository;
+
+import lombok.Getter;
+
+@Getter
+public class HttpPageRollupRow {
+
+    // ===== 키 =====
+    private final long bucketTs;
+    private final String countryNameReq;
+    private final String userAgentSoftwareName;
+    private final String userAgentHardwareType;
+    private final String httpHost;
+    private final String httpMethod;
+
+    // ===== 누적 값 =====
+    private long sampleCnt;
+
+    private double mbpsReqSum;
+    private long mbpsReqCnt;
+    private double mbpsResSum;
+    private long mbpsResCnt;
+    private long httpCntReqSum;
+    private long httpCntResSum;
+
+    private long resCodeCnt;
+    private long resCodeErrCnt;
+    private long resCode4xxCnt;
+    private long resCode5xxCnt;
+
+    private long res2xxSum;
+    private long res3xxSum;
+    private long res4xxSum;
+    private long res5xxSum;
+
+    private long pageLoadCnt;
+    private double pageLoadSum;
+    private Double pageLoadMin;
+    private Double pageLoadMax;
+    private double pageLoadResSum;
+    private long pageLoadResCnt;
+    private long pageLoadLenSum;
+    private long pageLoadLenCnt;
+
+    private long resTimeCnt;
+    private double resTimeSum;
+
+    // ===== 분위수 스케치 (1분 롤업에만 저장) =====
+    private final LatencySketch pageLoadSketch = new LatencySketch();
+    private final LatencySketch resTimeSketch = new LatencySketch();
+
+    public HttpPageRollupRow(long bucketTs,
+                             String countryNameReq,
+                             String userAgentSoftwareName,
+                             String userAgentHardwareType,
+                             String httpHost,
+                             String httpMethod) {
+        this.bucketTs = bucketTs;
+        this.countryNameReq = nullToEmpty(countryNameReq);
+        this.userAgentSoftwareName = nullToEmpty(userAgentSoftwareName);
+        this.userAgentHardwareType = nullToEmpty(userAgentHardwareType);
+        this.httpHost = nullToEmpty(httpHost);
+        this.httpMethod = nullToEmpty(httpMethod);
+    }
+
+    /**
+     * 샘플 1건 누적
+     * - 원본 위젯 SQL 의 WHERE / AVG / SUM 조건과 동일한 규칙으로 집계
+     */
+    public void add(Double mbpsReq,
+                    Double mbpsRes,
+                    Integer httpCntReq,
+                    Integer httpCntRes,
+                    Integer httpResCode,
+                    Integer res2xx,
+                    Integer res3xx,
+                    Integer res4xx,
+                    Integer res5xx,
+                    Double tsPage,
+                    Double tsPageRes,
+                    Long pageHttpLen) {
+
+        sampleCnt++;
+
+        if (mbpsReq != null) {
+            mbpsReqSum += mbpsReq;
+            mbpsReqCnt++;
+        }
+        if (mbpsRes != null) {
+            mbpsResSum += mbpsRes;
+            mbpsResCnt++;
+        }
+        if (httpCntReq != null) httpCntReqSum += httpCntReq;
+        if (httpCntRes != null) httpCntResSum += httpCntRes;
+
+        // 에러율: http_res_code IS NOT NULL 대상
+        if (httpResCode != null) {
+            resCodeCnt++;
+            if (httpResCode >= 400) resCodeErrCnt++;
+            if (httpResCode >= 400 && httpResCode <= 499) resCode4xxCnt++;
+            if (httpResCode >= 500 && httpResCode <= 599) resCode5xxCnt++;
+        }
+
+        if (res2xx != null) res2xxSum += res2xx;
+        if (res3xx != null) res3xxSum += res3xx;
+        if (res4xx != null) res4xxSum += res4xx;
+        if (res5xx != null) res5xxSum += res5xx;
+
+        // 페이지 로드 시간: ts_page > 0 대상
+        if (tsPage != null && tsPage > 0) {
+            pageLoadCnt++;
+            pageLoadSum += tsPage;
+            pageLoadMin = pageLoadMin == null ? tsPage : Math.min(pageLoadMin, tsPage);
+            pageLoadMax = pageLoadMax == null ? tsPage : Math.max(pageLoadMax, tsPage);
+            pageLoadSketch.add(tsPage);
+
+            if (tsPageRes != null) {
+                pageLoadResSum += tsPageRes;
+                pageLoadResCnt++;
+            }
+            if (pageHttpLen != null) {
+                pageLoadLenSum += pageHttpLen;
+                pageLoadLenCnt++;
+            }
+        }
+
+        // 응답 시간: ts_page_res > 0 대상
+        if (tsPageRes != null && tsPageRes > 0) {
+            resTimeCnt++;
+            resTimeSum += tsPageRes;
+            resTimeSketch.add(tsPageRes);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
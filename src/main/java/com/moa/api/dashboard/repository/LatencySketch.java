@@ -0,0 +1,170 @@
+/**
+ * 작성자: 정소영
+ * 설명: 지연 시간 분위수(p95/p99)를 근사 계산하는 병합 가능한 로그 버킷 스케치
+ *      (DDSketch 방식: 상대 오차 보장, 버킷별로 저장 후 Java 에서 병합)
+ */
+package com.moa.api.dashboard.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * LatencySketch
+ *
+ * - 양수 값 v 를 인덱스 ceil(log(v) / log(gamma)) 의 구간에 세기만 함
+ *   (gamma = (1 + a) / (1 - a), a = RELATIVE_ACCURACY)
+ * - 같은 구간 안의 값은 대표값 2 * gamma^i / (gamma + 1) 로 응답하므로
+ *   분위수 결과는 실제 표본 값 대비 상대 오차 a 이내
+ * - 두 스케치의 병합은 구간별 건수 합이므로 순서/분할과 무관하게 정확히 결합됨
+ *   → 1분 버킷 스케치를 합쳐 임의 구간/줌 레벨의 분위수 계산 가능
+ *
+ * PERCENTILE_CONT 와의 차이
+ * - PERCENTILE_CONT 는 인접 표본 사이를 선형 보간하고, 스케치는 순위에 해당하는 표본의 근사값을 반환
+ *
+ * 직렬화 형식 (bytea)
+ * - [버전 1바이트][구간 수 varint] + 구간마다 [인덱스 증분 zigzag varint][건수 varint]
+ */
+public class LatencySketch {
+
+    /** 상대 오차 (1%) */
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    public static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+
+    /** SQL 에서 같은 인덱스를 계산할 때 사용 (CEIL(LN(v) / LOG_GAMMA)) */
+    public static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private static final byte FORMAT_VERSION = 1;
+
+    /** 구간 인덱스 → 건수 (인덱스 오름차순) */
+    private final TreeMap<Integer, Long> bins = new TreeMap<>();
+    private long count;
+
+    /**
+     * 값 1건 추가 (0 이하/NULL 은 원본 위젯 조건과 같이 제외)
+     */
+    public void add(Double value) {
+        if (value == null || !(value > 0) || value.isInfinite()) {
+            return;
+        }
+        addToBin(indexOf(value), 1);
+    }
+
+    public void merge(LatencySketch other) {
+        if (other == null) {
+            return;
+        }
+        for (Map.Entry<Integer, Long> e : other.bins.entrySet()) {
+            addToBin(e.getKey(), e.getValue());
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 분위수 (0 ~ 1), 비어 있으면 null
+     */
+    public Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+
+        double rank = Math.min(Math.max(q, 0.0), 1.0) * (count - 1);
+        long cumulative = 0;
+
+        for (Map.Entry<Integer, Long> e : bins.entrySet()) {
+            cumulative += e.getValue();
+            if (cumulative > rank) {
+                return valueOf(e.getKey());
+            }
+        }
+        return valueOf(bins.lastKey());
+    }
+
+    private void addToBin(int index, long n) {
+        bins.merge(index, n, Long::sum);
+        count += n;
+    }
+
+    static int indexOf(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    static double valueOf(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    // ============================================
+    // 직렬화
+    // ============================================
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + bins.size() * 3);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, bins.size());
+
+        int previous = 0;
+        for (Map.Entry<Integer, Long> e : bins.entrySet()) {
+            int delta = e.getKey() - previous;
+            writeVarLong(out, ((delta << 1) ^ (delta >> 31)) & 0xFFFFFFFFL);
+            writeVarLong(out, e.getValue());
+            previous = e.getKey();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * bytea → 스케치 (NULL/빈 값은 빈 스케치)
+     */
+    public static LatencySketch fromBytes(byte[] bytes) {
+        LatencySketch sketch = new LatencySketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        if (bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported latency sketch format: " + bytes[0]);
+        }
+
+        int[] pos = {1};
+        long size = readVarLong(bytes, pos);
+
+        int index = 0;
+        for (long i = 0; i < size; i++) {
+            int zigzag = (int) readVarLong(bytes, pos);
+            index += (zigzag >>> 1) ^ -(zigzag & 1);
+            sketch.addToBin(index, readVarLong(bytes, pos));
+        }
+        return sketch;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] pos) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= bytes.length) {
+                throw new IllegalArgumentException("Truncated latency sketch");
+            }
+            byte b = bytes[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/**
+ * 작성자: 정소영
+ * 설명: 대시보드 위젯 결과를 "마감된(sealed) 시간 버킷" 단위로 저장하는 메모리 캐시
+ *      (슬라이딩 윈도우 조회에서도 겹치는 버킷은 한 번만 조회되도록 함)
+ */
+package com.moa.api.dashboard.service;
+
+import com.moa.api.dashboard.config.DashboardProperties;
+import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * DashboardBucketCache
+ *
+ * 캐시 키 = 위젯 + 필터 + 버킷 크기 + 버킷 시작 시각
+ * - 버킷 종료 시각이 (현재 - sealGrace) 이전이면 더 이상 데이터가 추가되지 않으므로 캐시 가능
+ * - 버킷에 데이터가 없는 경우도 빈 목록으로 저장 (같은 빈 구간을 반복 조회하지 않도록)
+ * - 요청 범위 중 캐시에 없는 버킷은 연속 구간으로 묶어 한 번에 조회 후 버킷별로 나눠 저장
+ *
+ * 용량 제한
+ * - 저장된 행 수(버킷당 행 수 + 1) 합계가 maxRows 를 넘으면 가장 오래 사용되지 않은 버킷부터 제거 (LRU)
+ *
+ * 무효화
+ * - 마감된 버킷도 롤업 백필처럼 과거 구간을 다시 계산하면 값이 바뀔 수 있으므로 evict 로 구간을 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardBucketCache {
+
+    private final DashboardProperties properties;
+
+    /** access-order LinkedHashMap (LRU), 접근은 this 락으로 보호 */
+    private final LinkedHashMap<BucketKey, List<?>> buckets = new LinkedHashMap<>(1024, 0.75f, true);
+    private long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * 마감된 버킷 구간 [fromBucket, toBucket) 조회
+     *
+     * @param loader [from, to) 구간의 완전 버킷 행을 조회하는 함수 (캐시 미스 구간에만 호출)
+     */
+    public <T> List<T> getOrLoad(String widget,
+                                 String filterKey,
+                                 int bucketSeconds,
+                                 long fromBucket,
+                                 long toBucket,
+                                 Function<T, Timestamp> timestampOf,
+                                 RangeLoader<T> loader) {
+
+        if (fromBucket >= toBucket) {
+            return List.of();
+        }
+
+        if (!properties.getCache().isEnabled()) {
+            return loader.load(fromBucket, toBucket);
+        }
+
+        List<T> result = new ArrayList<>();
+        long missStart = -1;
+
+        for (long bucket = fromBucket; bucket < toBucket; bucket += bucketSeconds) {
+            List<T> cached = get(new BucketKey(widget, filterKey, bucketSeconds, bucket));
+
+            if (cached != null) {
+                hits.incrementAndGet();
+                if (missStart >= 0) {
+                    result.addAll(loadAndStore(widget, filterKey, bucketSeconds, missStart, bucket, timestampOf, loader));
+                    missStart = -1;
+                }
+                result.addAll(cached);
+            } else {
+                misses.incrementAndGet();
+                if (missStart < 0) {
+                    missStart = bucket;
+                }
+            }
+        }
+
+        if (missStart >= 0) {
+            result.addAll(loadAndStore(widget, filterKey, bucketSeconds, missStart, toBucket, timestampOf, loader));
+        }
+
+        return result;
+    }
+
+    /**
+     * 미스 구간 조회 후 버킷별로 나눠 저장
+     */
+    private <T> List<T> loadAndStore(String widget,
+                                     String filterKey,
+                                     int bucketSeconds,
+                                     long fromBucket,
+                                     long toBucket,
+                                     Function<T, Timestamp> timestampOf,
+                                     RangeLoader<T> loader) {
+
+        loads.incrementAndGet();
+        List<T> rows = loader.load(fromBucket, toBucket);
+
+        Map<Long, List<T>> byBucket = new HashMap<>();
+        for (T row : rows) {
+            long epochSecond = Math.floorDiv(timestampOf.apply(row).getTime(), 1000L);
+            long bucket = Math.floorDiv(epochSecond, bucketSeconds) * bucketSeconds;
+            byBucket.computeIfAbsent(bucket, k -> new ArrayList<>()).add(row);
+        }
+
+        for (long bucket = fromBucket; bucket < toBucket; bucket += bucketSeconds) {
+            List<T> bucketRows = byBucket.getOrDefault(bucket, List.of());
+            put(new BucketKey(widget, filterKey, bucketSeconds, bucket), List.copyOf(bucketRows));
+        }
+
+        return rows;
+    }
+
+    /**
+     * 버킷이 마감되었다고 볼 수 있는 시각 (이 시각 이전에 끝나는 버킷만 캐시)
+     */
+    public long sealedBefore(long nowEpochSecond) {
+        return nowEpochSecond - properties.getCache().getSealGraceSeconds();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> List<T> get(BucketKey key) {
+        return (List<T>) buckets.get(key);
+    }
+
+    private synchronized void put(BucketKey key, List<?> rows) {
+        List<?> previous = buckets.put(key, rows);
+        if (previous != null) {
+            weight -= weightOf(previous);
+        }
+        weight += weightOf(rows);
+
+        long maxRows = properties.getCache().getMaxRows();
+        Iterator<Map.Entry<BucketKey, List<?>>> it = buckets.entrySet().iterator();
+        while (weight > maxRows && it.hasNext()) {
+            Map.Entry<BucketKey, List<?>> eldest = it.next();
+            weight -= weightOf(eldest.getValue());
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * [fromEpoch, toEpoch) 와 겹치는 버킷 제거 (모든 위젯 / 필터)
+     *
+     * @return 제거된 버킷 수
+     */
+    public synchronized int evict(long fromEpoch, long toEpoch) {
+        int removed = 0;
+        Iterator<Map.Entry<BucketKey, List<?>>> it = buckets.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<BucketKey, List<?>> entry = it.next();
+            BucketKey key = entry.getKey();
+            if (key.bucketTs() < toEpoch && key.bucketTs() + key.bucketSeconds() > fromEpoch) {
+                weight -= weightOf(entry.getValue());
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static long weightOf(List<?> rows) {
+        return rows.size() + 1L;
+    }
+
+    /**
+     * 캐시 상태 조회 (모니터링용)
+     */
+    public synchronized CacheStats getCacheStats() {
+        long hit = hits.get();
+        long miss = misses.get();
+        long total = hit + miss;
+
+        return new CacheStats(
+                buckets.size(),
+                weight,
+                hit,
+                miss,
+                loads.get(),
+                evictions.get(),
+                total == 0 ? 0.0 : (double) hit / total
+        );
+    }
+
+    /**
+     * 필터 조건 → 캐시 키 문자열
+     * - 목록 값은 정렬하여 선택 순서와 무관하게 같은 키가 되도록 함
+     */
+    public static String filterKey(DashboardRequestDTO.DashboardFilters filters) {
+        if (filters == null) {
+            return "";
+        }
+
+        StringJoiner key = new StringJoiner("|");
+        key.add("c=" + sorted(filters.getCountries()));
+        key.add("b=" + sorted(filters.getBrowsers()));
+        key.add("d=" + sorted(filters.getDevices()));
+        key.add("h=" + Objects.toString(filters.getHttpHost(), ""));
+        key.add("u=" + Objects.toString(filters.getHttpUri(), ""));
+        key.add("m=" + sorted(filters.getHttpMethods()));
+        key.add("rc=" + numeric(filters.getHttpResCode()));
+        key.add("rt=" + numeric(filters.getResponseTime()));
+        key.add("pl=" + numeric(filters.getPageLoadTime()));
+        return key.toString();
+    }
+
+    private static String sorted(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return String.join(",", copy);
+    }
+
+    private static String numeric(DashboardRequestDTO.NumericFilter filter) {
+        return filter == null ? "" : filter.getOperator() + filter.getValue();
+    }
+
+    @FunctionalInterface
+    public interface RangeLoader<T> {
+        List<T> load(long fromBucket, long toBucket);
+    }
+
+    private record BucketKey(String widget, String filterKey, int bucketSeconds, long bucketTs) {}
+
+    /**
+     * 캐시 통계
+     *
+     * - buckets  : 저장된 버킷 수
+     * - rows     : 저장된 행 수 합계 (용량 제한 기준)
+     * - hits     : 캐시에서 바로 응답한 버킷 수
+     * - misses   : DB 조회가 필요했던 버킷 수
+     * - loads    : 미스 구간 DB 조회 횟수
+     * - evictions: 용량 초과로 제거된 버킷 수
+     */
+    public record CacheStats(
+            int buckets,
+            long rows,
+            long hits,
+            long misses,
+            long loads,
+            long evictions,
+            double hitRate
+    ) {}
+}
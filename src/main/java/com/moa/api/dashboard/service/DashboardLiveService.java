@@ -0,0 +1,281 @@
+/**
+ * 작성자: 정소영
+ * 설명: 실시간 대시보드 SSE 구독을 관리하는 서비스
+ *      (최초 스냅샷 1회 전송 후 새로 마감된 버킷만 증분으로 전송, 같은 필터 구독자는 계산 결과를 공유)
+ */
+package com.moa.api.dashboard.service;
+
+import com.moa.api.dashboard.config.DashboardProperties;
+import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
+import com.moa.api.dashboard.dto.response.DashboardDeltaDTO;
+import com.moa.api.dashboard.dto.response.DashboardResponseDTO;
+import com.moa.api.dashboard.repository.DashboardRollupRepository.Granularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DashboardLiveService
+ *
+ * 이벤트
+ * - snapshot : 구독 시작 시 1회, [마감 시각 - 윈도우, 마감 시각] 전체 위젯 (DashboardResponseDTO)
+ * - delta    : 새로 마감된 1분/5분 버킷의 위젯 행 (DashboardDeltaDTO)
+ * - 새 버킷이 없으면 연결 확인용 주석(keepalive)만 전송
+ *
+ * 공유 구조
+ * - 구독자는 필터 키(DashboardBucketCache.filterKey)별 LiveGroup 에 묶임
+ * - 주기마다 그룹당 증분을 한 번만 계산해 그룹의 모든 구독자에게 같은 결과를 전송
+ *   (윈도우 길이는 클라이언트가 오래된 행을 버리는 기준일 뿐 증분 계산과 무관)
+ *
+ * 구독 시점과 증분의 경계
+ * - 스냅샷은 그룹의 현재 마감 시각까지 계산하고, 그 사이 그룹이 앞서 나갔으면
+ *   따라잡기 증분을 보낸 뒤 그룹에 등록 → 구독자별로 누락/중복 없이 이어짐
+ * - 5분 위젯 스냅샷에는 아직 마감되지 않은 5분 버킷이 일부 포함될 수 있으며,
+ *   해당 버킷이 마감되면 같은 timestamp 로 다시 전송됨 (클라이언트에서 교체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardLiveService {
+
+    private final DashboardService dashboardService;
+    private final DashboardBucketCache bucketCache;
+    private final DashboardProperties properties;
+
+    private final Map<String, LiveGroup> groups = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    /**
+     * 구독 시작
+     * - 요청 범위의 길이를 실시간 윈도우로 사용 (끝 시각은 마감 시각으로 대체)
+     */
+    public SseEmitter subscribe(DashboardRequestDTO request) {
+        DashboardRequestDTO.EpochRange range = request.getRange();
+        if (range == null || range.getFromEpoch() == null || range.getToEpoch() == null
+                || range.getToEpoch() <= range.getFromEpoch()) {
+            throw new IllegalArgumentException("실시간 대시보드는 유효한 시간 범위(fromEpoch < toEpoch)가 필요합니다");
+        }
+
+        DashboardProperties.Live live = properties.getLive();
+        if (subscriberCount.incrementAndGet() > live.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("실시간 대시보드 구독자 수 한도를 초과했습니다: " + live.getMaxSubscribers());
+        }
+
+        long windowSeconds = range.getToEpoch() - range.getFromEpoch();
+        DashboardRequestDTO.DashboardFilters filters = request.getFilters();
+        String key = DashboardBucketCache.filterKey(filters);
+
+        SseEmitter emitter = new SseEmitter(live.getEmitterTimeoutMs());
+        Subscriber subscriber = new Subscriber(emitter);
+
+        try {
+            LiveGroup group = groups.computeIfAbsent(key, k -> new LiveGroup(k, filters, currentSealed()));
+            SealedState sent = group.state();
+
+            DashboardResponseDTO snapshot = dashboardService.getDashboardData(
+                    snapshotRequest(request, sent.minute() - windowSeconds, sent.minute()));
+            subscriber.send("snapshot", snapshot);
+
+            // 스냅샷 계산 중 그룹이 앞서 나갔으면 따라잡은 뒤 등록
+            // (그 사이 마지막 구독자가 떠나 그룹이 제거되었으면 새 그룹 기준으로 다시 맞춤)
+            while (true) {
+                SealedState target;
+                synchronized (group) {
+                    if (groups.get(key) != group) {
+                        target = null;
+                    } else {
+                        target = group.state;
+                        if (target.equals(sent)) {
+                            group.subscribers.add(subscriber);
+                            break;
+                        }
+                    }
+                }
+                if (target == null) {
+                    group = groups.computeIfAbsent(key, k -> new LiveGroup(k, filters, currentSealed()));
+                    continue;
+                }
+                subscriber.send("delta", delta(filters, sent, target));
+                sent = target;
+            }
+
+            LiveGroup joined = group;
+            emitter.onCompletion(() -> unsubscribe(joined, subscriber));
+            emitter.onTimeout(() -> unsubscribe(joined, subscriber));
+            emitter.onError(e -> unsubscribe(joined, subscriber));
+
+            log.info("Dashboard live subscribe: filterKey={}, window={}s, groups={}, subscribers={}",
+                    key, windowSeconds, groups.size(), subscriberCount.get());
+
+        } catch (IOException | RuntimeException e) {
+            subscriberCount.decrementAndGet();
+            groups.computeIfPresent(key, (k, g) -> g.subscribers.isEmpty() ? null : g);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 주기적으로 그룹별 새 마감 버킷 계산 후 전송
+     */
+    @Scheduled(fixedDelayString = "${moa.dashboard.live.tick-ms:5000}")
+    public void tick() {
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        SealedState target = currentSealed();
+
+        for (LiveGroup group : groups.values()) {
+            try {
+                refresh(group, target);
+            } catch (Exception e) {
+                log.warn("Dashboard live refresh failed: filterKey={}, message={}", group.key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 그룹 1개 갱신 - 증분은 그룹당 한 번만 계산
+     */
+    private void refresh(LiveGroup group, SealedState target) {
+        SealedState from = group.state();
+
+        if (!target.isAfter(from)) {
+            broadcastKeepalive(group);
+            return;
+        }
+
+        DashboardDeltaDTO delta = delta(group.filters, from, target);
+
+        List<Subscriber> receivers;
+        synchronized (group) {
+            group.state = target;
+            receivers = List.copyOf(group.subscribers);
+        }
+
+        for (Subscriber subscriber : receivers) {
+            try {
+                subscriber.send("delta", delta);
+            } catch (IOException | RuntimeException e) {
+                subscriber.emitter.completeWithError(e);
+                unsubscribe(group, subscriber);
+            }
+        }
+    }
+
+    private void broadcastKeepalive(LiveGroup group) {
+        for (Subscriber subscriber : group.subscribers) {
+            try {
+                subscriber.keepalive();
+            } catch (IOException | RuntimeException e) {
+                subscriber.emitter.completeWithError(e);
+                unsubscribe(group, subscriber);
+            }
+        }
+    }
+
+    private DashboardDeltaDTO delta(DashboardRequestDTO.DashboardFilters filters, SealedState from, SealedState to) {
+        return dashboardService.getSealedDelta(filters,
+                from.minute(), Math.max(from.minute(), to.minute()),
+                from.fiveMinute(), Math.max(from.fiveMinute(), to.fiveMinute()));
+    }
+
+    private void unsubscribe(LiveGroup group, Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+
+        synchronized (group) {
+            group.subscribers.remove(subscriber);
+            if (group.subscribers.isEmpty()) {
+                groups.remove(group.key, group);
+            }
+        }
+    }
+
+    /**
+     * 현재 기준 마감 시각 (1분/5분 버킷 경계)
+     */
+    private SealedState currentSealed() {
+        long sealedBefore = bucketCache.sealedBefore(Instant.now().getEpochSecond());
+        return new SealedState(Granularity.MINUTE_1.floor(sealedBefore), Granularity.MINUTE_5.floor(sealedBefore));
+    }
+
+    private static DashboardRequestDTO snapshotRequest(DashboardRequestDTO request, long from, long to) {
+        DashboardRequestDTO.EpochRange range = new DashboardRequestDTO.EpochRange();
+        range.setFromEpoch(from);
+        range.setToEpoch(to);
+
+        DashboardRequestDTO snapshot = new DashboardRequestDTO();
+        snapshot.setTimePreset(request.getTimePreset());
+        snapshot.setStep(request.getStep());
+        snapshot.setFilters(request.getFilters());
+        snapshot.setRange(range);
+        return snapshot;
+    }
+
+    /**
+     * 마감 시각 (1분 위젯 / 5분 위젯)
+     */
+    private record SealedState(long minute, long fiveMinute) {
+        boolean isAfter(SealedState other) {
+            return minute > other.minute || fiveMinute > other.fiveMinute;
+        }
+    }
+
+    /**
+     * 같은 필터를 보는 구독자 묶음
+     * - state / subscribers 변경은 this 락으로 보호 (전송 대상 목록은 복사 후 락 밖에서 전송)
+     */
+    private static final class LiveGroup {
+
+        private final String key;
+        private final DashboardRequestDTO.DashboardFilters filters;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private SealedState state;
+
+        private LiveGroup(String key, DashboardRequestDTO.DashboardFilters filters, SealedState state) {
+            this.key = key;
+            this.filters = filters;
+            this.state = state;
+        }
+
+        private synchronized SealedState state() {
+            return state;
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /** 같은 구독자에 대한 전송은 순서대로 (스냅샷/따라잡기와 주기 전송이 겹치지 않도록) */
+        private synchronized void send(String name, Object data) throws IOException {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        }
+
+        private synchronized void keepalive() throws IOException {
+            emitter.send(SseEmitter.event().comment("keepalive"));
+        }
+    }
+}
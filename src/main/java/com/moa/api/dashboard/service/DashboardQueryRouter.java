@@ -0,0 +1,281 @@
+/**
+ * 작성자: 정소영
+ * 설명: 조회 범위를 버킷 경계로 나눠 위젯 쿼리를 버킷 캐시 / 롤업 테이블 / 원본 테이블로 분기하는 라우터
+ */
+package com.moa.api.dashboard.service;
+
+import com.moa.api.dashboard.config.DashboardProperties;
+import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
+import com.moa.api.dashboard.dto.response.*;
+import com.moa.api.dashboard.repository.DashboardRepository;
+import com.moa.api.dashboard.repository.DashboardRollupRepository;
+import com.moa.api.dashboard.repository.DashboardRollupRepository.Granularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DashboardQueryRouter
+ *
+ * 조회 범위 [from, to] 를 네 구간으로 나눔
+ *
+ *   from ─ head ─┬──── sealed ────┬──── open ────┬─ tail ─ to
+ *                alignedStart     sealedEnd      alignedEnd
+ *
+ * - head   : from ~ 첫 버킷 경계 (부분 버킷 → 원본 조회, 경계 버킷 행은 제외)
+ * - sealed : 마감된 완전 버킷 → DashboardBucketCache (미스 구간만 롤업/원본 조회)
+ * - open   : 아직 데이터가 들어올 수 있는 완전 버킷 → 롤업/원본 조회
+ * - tail   : 마지막 버킷 경계 ~ to (부분 버킷 → 원본 조회)
+ *
+ * 완전 버킷을 롤업으로 조회할 수 없는 경우 (원본 조회)
+ * - 롤업 테이블이 없는 위젯 (Top 페이지, 에러 페이지)
+ * - 분위수 위젯(페이지 로드/응답 시간)은 스케치 커버리지 이전 구간도 원본 조회
+ * - 롤업 조회 비활성화 / 커버리지 미초기화 / 커버리지 시작 이전 구간
+ * - 롤업 차원에 없는 필터 사용 (httpUri, 응답코드/응답시간/로드시간 수치 필터)
+ *
+ * 분 단위 시계열 위젯 (트래픽/페이지 로드/응답 시간/에러율/상태 코드)
+ * - 원본 조회는 DashboardSeriesScan 의 통합 쿼리 1회 결과를 위젯별로 분리해 사용
+ * - 구간 경계를 모두 5분(SERIES_SEGMENT)에 맞춰 위젯 간 원본 조회 구간이 같아지도록 함
+ *   (head/tail 과 캐시 미스 구간이 일치하면 요청당 스캔이 위젯 수만큼이 아니라 구간 수만큼만 발생)
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardQueryRouter {
+
+    private final DashboardRepository dashboardRepository;
+    private final DashboardRollupRepository rollupRepository;
+    private final DashboardBucketCache bucketCache;
+    private final DashboardProperties properties;
+
+    /** 분 단위 시계열 위젯의 공통 구간 경계 단위 */
+    private static final Granularity SERIES_SEGMENT = Granularity.MINUTE_5;
+
+    /**
+     * 요청 1건 동안 시계열 위젯들이 공유할 통합 스캔 생성
+     */
+    public DashboardSeriesScan newSeriesScan(DashboardRequestDTO.DashboardFilters filters) {
+        return new DashboardSeriesScan(dashboardRepository, filters);
+    }
+
+    public List<TrafficTrendResponseDTO> getTrafficTrend(long from, long to, DashboardRequestDTO.DashboardFilters filters,
+                                                         DashboardSeriesScan scan) {
+        return route(new WidgetSpec<>("trafficTrend", Granularity.MINUTE_1, SERIES_SEGMENT,
+                (f, t) -> DashboardRepository.toTrafficTrend(scan.rows(f, t)),
+                (f, t) -> rollupRepository.getTrafficTrend(f, t, filters),
+                TrafficTrendResponseDTO::timestamp, false), from, to, filters);
+    }
+
+    public List<PageLoadTimeResponseDTO> getPageLoadTimeTrend(long from, long to, DashboardRequestDTO.DashboardFilters filters,
+                                                              DashboardSeriesScan scan) {
+        return route(new WidgetSpec<>("pageLoadTimeTrend", Granularity.MINUTE_1, SERIES_SEGMENT,
+                (f, t) -> DashboardRepository.toPageLoadTimeTrend(scan.rows(f, t)),
+                (f, t) -> rollupRepository.getPageLoadTimeTrend(f, t, filters),
+                PageLoadTimeResponseDTO::timestamp, true), from, to, filters);
+    }
+
+    public List<ResponseTimeResponseDTO> getResponseTimeStats(long from, long to, DashboardRequestDTO.DashboardFilters filters,
+                                                              DashboardSeriesScan scan) {
+        return route(new WidgetSpec<>("responseTimeStats", Granularity.MINUTE_1, SERIES_SEGMENT,
+                (f, t) -> DashboardRepository.toResponseTimeStats(scan.rows(f, t)),
+                (f, t) -> rollupRepository.getResponseTimeStats(f, t, filters),
+                ResponseTimeResponseDTO::timestamp, true), from, to, filters);
+    }
+
+    public List<ErrorRateResponseDTO> getErrorRateTrend(long from, long to, DashboardRequestDTO.DashboardFilters filters,
+                                                        DashboardSeriesScan scan) {
+        return route(new WidgetSpec<>("errorRateTrend", Granularity.MINUTE_1, SERIES_SEGMENT,
+                (f, t) -> DashboardRepository.toErrorRateTrend(scan.rows(f, t)),
+                (f, t) -> rollupRepository.getErrorRateTrend(f, t, filters),
+                ErrorRateResponseDTO::timestamp, false), from, to, filters);
+    }
+
+    public List<StatusCodeResponseDTO> getStatusCodeDistribution(long from, long to, DashboardRequestDTO.DashboardFilters filters,
+                                                                 DashboardSeriesScan scan) {
+        return route(new WidgetSpec<>("httpStatusCodeDistribution", Granularity.MINUTE_5, SERIES_SEGMENT,
+                (f, t) -> DashboardRepository.toStatusCodeDistribution(scan.rows(f, t)),
+                (f, t) -> rollupRepository.getStatusCodeDistribution(f, t, filters),
+                StatusCodeResponseDTO::timestamp, false), from, to, filters);
+    }
+
+    public List<TopDomainResponseDTO> getTopDomains(long from, long to, DashboardRequestDTO.DashboardFilters filters) {
+        return route(new WidgetSpec<>("topDomains", Granularity.MINUTE_5, Granularity.MINUTE_5,
+                (f, t) -> dashboardRepository.getTopDomains(f, t, filters),
+                null,
+                TopDomainResponseDTO::timestamp, false), from, to, filters);
+    }
+
+    public List<CountryTrafficResponseDTO> getTrafficByCountry(long from, long to, DashboardRequestDTO.DashboardFilters filters) {
+        return route(new WidgetSpec<>("trafficByCountry", Granularity.MINUTE_5, Granularity.MINUTE_5,
+                (f, t) -> dashboardRepository.getTrafficByCountry(f, t, filters),
+                (f, t) -> rollupRepository.getTrafficByCountry(f, t, filters),
+                CountryTrafficResponseDTO::timestamp, false), from, to, filters);
+    }
+
+    public List<ErrorPageResponseDTO> getErrorPages(long from, long to, DashboardRequestDTO.DashboardFilters filters) {
+        return route(new WidgetSpec<>("errorPages", Granularity.MINUTE_5, Granularity.MINUTE_5,
+                (f, t) -> dashboardRepository.getErrorPages(f, t, filters),
+                null,
+                ErrorPageResponseDTO::timestamp, false), from, to, filters);
+    }
+
+    public List<BrowserPerfResponseDTO> getBrowserPerformance(long from, long to, DashboardRequestDTO.DashboardFilters filters) {
+        return route(new WidgetSpec<>("browserPerformance", Granularity.MINUTE_5, Granularity.MINUTE_5,
+                (f, t) -> dashboardRepository.getBrowserPerformance(f, t, filters),
+                (f, t) -> rollupRepository.getBrowserPerformance(f, t, filters),
+                BrowserPerfResponseDTO::timestamp, false), from, to, filters);
+    }
+
+    public List<DevicePerfResponseDTO> getDevicePerformanceDistribution(long from, long to, DashboardRequestDTO.DashboardFilters filters) {
+        return route(new WidgetSpec<>("devicePerformanceDistribution", Granularity.MINUTE_5, Granularity.MINUTE_5,
+                (f, t) -> dashboardRepository.getDevicePerformanceDistribution(f, t, filters),
+                (f, t) -> rollupRepository.getDevicePerformanceDistribution(f, t, filters),
+                DevicePerfResponseDTO::timestamp, false), from, to, filters);
+    }
+
+    /**
+     * 구간 분할 후 결과를 시간 순서대로 이어 붙임
+     */
+    private <T> List<T> route(WidgetSpec<T> spec, long from, long to, DashboardRequestDTO.DashboardFilters filters) {
+        int bucket = spec.granularity().getSeconds();
+        long alignedStart = ceil(from, spec.segment().getSeconds());
+        long alignedEnd = spec.segment().floor(to);
+
+        // 완전 버킷이 하나도 없는 짧은 범위
+        if (alignedStart >= alignedEnd) {
+            return spec.raw().query(from, to);
+        }
+
+        Long rollupFrom = spec.rollup() != null
+                && properties.getRollup().isReadEnabled()
+                && isRollupCompatible(filters)
+                ? rollupCoveredFrom(spec)
+                : null;
+
+        long sealedEnd = Math.max(alignedStart,
+                Math.min(alignedEnd, spec.segment().floor(bucketCache.sealedBefore(Instant.now().getEpochSecond()))));
+
+        List<T> result = new ArrayList<>();
+
+        // head: [from, alignedStart)
+        if (from < alignedStart) {
+            result.addAll(rawBefore(spec, from, alignedStart));
+        }
+
+        // sealed: [alignedStart, sealedEnd)
+        result.addAll(bucketCache.getOrLoad(
+                spec.name(),
+                DashboardBucketCache.filterKey(filters),
+                bucket,
+                alignedStart,
+                sealedEnd,
+                spec.timestampOf(),
+                (f, t) -> fullBuckets(spec, rollupFrom, f, t)));
+
+        // open: [sealedEnd, alignedEnd)
+        result.addAll(fullBuckets(spec, rollupFrom, sealedEnd, alignedEnd));
+
+        // tail: [alignedEnd, to]
+        result.addAll(spec.raw().query(alignedEnd, to));
+
+        return result;
+    }
+
+    /**
+     * 버킷 경계로 정렬된 [fromBucket, toBucket) 조회
+     * - 롤업 커버리지 이후는 롤업, 이전은 원본
+     */
+    private <T> List<T> fullBuckets(WidgetSpec<T> spec, Long rollupFrom, long fromBucket, long toBucket) {
+        if (fromBucket >= toBucket) {
+            return List.of();
+        }
+        if (rollupFrom == null) {
+            return rawBefore(spec, fromBucket, toBucket);
+        }
+
+        long coverage = Math.min(Math.max(ceil(rollupFrom, spec.granularity().getSeconds()), fromBucket), toBucket);
+
+        List<T> result = new ArrayList<>();
+        if (fromBucket < coverage) {
+            result.addAll(rawBefore(spec, fromBucket, coverage));
+        }
+        if (coverage < toBucket) {
+            result.addAll(spec.rollup().query(coverage, toBucket));
+        }
+        return result;
+    }
+
+    /**
+     * 원본 [from, boundary) 조회
+     * - 원본 쿼리는 BETWEEN(양끝 포함)이므로 boundary 버킷으로 묶인 행은 제외
+     */
+    private <T> List<T> rawBefore(WidgetSpec<T> spec, long from, long boundary) {
+        long boundaryMillis = boundary * 1000L;
+
+        List<T> result = new ArrayList<>();
+        for (T row : spec.raw().query(from, boundary)) {
+            if (spec.timestampOf().apply(row).getTime() < boundaryMillis) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 위젯이 롤업으로 조회할 수 있는 구간의 시작 시각 (없으면 null)
+     * - 분위수 위젯은 스케치 커버리지까지 만족해야 함
+     */
+    private Long rollupCoveredFrom(WidgetSpec<?> spec) {
+        Long coveredFrom = rollupRepository.findCoveredFrom(DashboardRollupRepository.ROLLUP_STATE);
+        if (coveredFrom == null || !spec.latencySketch()) {
+            return coveredFrom;
+        }
+
+        Long latencyCoveredFrom = rollupRepository.findCoveredFrom(DashboardRollupRepository.LATENCY_SKETCH_STATE);
+        return latencyCoveredFrom == null ? null : Math.max(coveredFrom, latencyCoveredFrom);
+    }
+
+    /**
+     * 롤업 차원(국가/브라우저/디바이스/호스트/메서드)만으로 표현 가능한 필터인지 확인
+     */
+    private boolean isRollupCompatible(DashboardRequestDTO.DashboardFilters filters) {
+        if (filters == null) {
+            return true;
+        }
+
+        return (filters.getHttpUri() == null || filters.getHttpUri().isBlank())
+                && filters.getHttpResCode() == null
+                && filters.getResponseTime() == null
+                && filters.getPageLoadTime() == null;
+    }
+
+    private static long ceil(long epochSecond, int bucket) {
+        return Math.floorDiv(epochSecond + bucket - 1, bucket) * bucket;
+    }
+
+    @FunctionalInterface
+    private interface RangeQuery<T> {
+        List<T> query(long from, long to);
+    }
+
+    /**
+     * 위젯별 조회 정의
+     *
+     * @param segment 구간 경계 단위 (granularity 의 배수)
+     * @param rollup  롤업 조회 ([from, to) 버킷 정렬 구간), 롤업 미지원 위젯은 null
+     * @param latencySketch 롤업 조회에 분위수 스케치가 필요한지 (스케치 커버리지 적용)
+     */
+    private record WidgetSpec<T>(
+            String name,
+            Granularity granularity,
+            Granularity segment,
+            RangeQuery<T> raw,
+            RangeQuery<T> rollup,
+            Function<T, Timestamp> timestampOf,
+            boolean latencySketch
+    ) {}
+}
@@ -0,0 +1,192 @@
+/**
+ * 작성자: 정소영
+ * 설명: http_page_sample 적재 시 1분/5분 롤업 버킷(1분은 분위수 스케치 포함)을 증분 갱신하고,
+ *      기존 원본 데이터에 대한 롤업 백필 및 커버리지 상태를 관리하는 서비스
+ */
+package com.moa.api.dashboard.service;
+
+import com.moa.api.dashboard.repository.DashboardRollupRepository;
+import com.moa.api.dashboard.repository.DashboardRollupRepository.Granularity;
+import com.moa.api.dashboard.repository.HttpPageRollupRow;
+import com.moa.api.data.entity.HttpPageSampleFull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardRollupService {
+
+    private final DashboardRollupRepository rollupRepository;
+    private final DashboardBucketCache bucketCache;
+
+    /**
+     * 기동 시 커버리지 상태 초기화
+     * - 최초 기동이면 다음 5분 경계부터 롤업이 완전하다고 기록
+     *   (그 이전 구간은 원본 테이블로 조회하거나 backfill 로 채움)
+     * - 분위수 스케치는 합계보다 늦게 도입되었으므로 커버리지를 따로 기록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initCoverage() {
+        long nextBucket = Granularity.MINUTE_5.floor(Instant.now().getEpochSecond())
+                + Granularity.MINUTE_5.getSeconds();
+
+        rollupRepository.initCoveredFrom(DashboardRollupRepository.ROLLUP_STATE, nextBucket);
+        rollupRepository.initCoveredFrom(DashboardRollupRepository.LATENCY_SKETCH_STATE, nextBucket);
+
+        log.info("Dashboard rollup coverage: coveredFrom={}, latencyCoveredFrom={}",
+                rollupRepository.findCoveredFrom(DashboardRollupRepository.ROLLUP_STATE),
+                rollupRepository.findCoveredFrom(DashboardRollupRepository.LATENCY_SKETCH_STATE));
+    }
+
+    /**
+     * 적재된 샘플을 롤업 버킷에 반영
+     * - 원본 INSERT 와 같은 트랜잭션에서 호출되어야 원본과 롤업이 항상 일치
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void accumulate(List<HttpPageSampleFull> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        for (Granularity granularity : Granularity.values()) {
+            rollupRepository.upsert(granularity, aggregate(samples, granularity).values());
+        }
+    }
+
+    /**
+     * 배치를 (버킷, 차원) 단위로 묶어 델타 계산
+     */
+    private Map<String, HttpPageRollupRow> aggregate(List<HttpPageSampleFull> samples, Granularity granularity) {
+        Map<String, HttpPageRollupRow> rows = new LinkedHashMap<>();
+
+        for (HttpPageSampleFull s : samples) {
+            if (s.getTsServerNsec() == null) {
+                continue;
+            }
+
+            long bucketTs = granularity.floor(s.getTsServerNsec());
+            String key = bucketTs
+                    + "\u0001" + s.getCountryNameReq()
+                    + "\u0001" + s.getUserAgentSoftwareName()
+                    + "\u0001" + s.getUserAgentHardwareType()
+                    + "\u0001" + s.getHttpHost()
+                    + "\u0001" + s.getHttpMethod();
+
+            rows.computeIfAbsent(key, k -> new HttpPageRollupRow(
+                    bucketTs,
+                    s.getCountryNameReq(),
+                    s.getUserAgentSoftwareName(),
+                    s.getUserAgentHardwareType(),
+                    s.getHttpHost(),
+                    s.getHttpMethod()
+            )).add(
+                    s.getMbpsReq(),
+                    s.getMbpsRes(),
+                    s.getPageHttpCntReq(),
+                    s.getPageHttpCntRes(),
+                    parseResCode(s.getHttpResCode()),
+                    s.getResCode2xxCnt(),
+                    s.getResCode3xxCnt(),
+                    s.getResCode4xxCnt(),
+                    s.getResCode5xxCnt(),
+                    s.getTsPage(),
+                    s.getTsPageRes(),
+                    s.getPageHttpLen()
+            );
+        }
+
+        return rows;
+    }
+
+    /**
+     * 기존 원본 데이터로 롤업 백필
+     * - 증분 갱신과 겹치지 않도록 커버리지 시작 이전 구간만 재계산
+     * - 백필 구간이 커버리지 시작과 맞닿으면 커버리지를 fromEpoch 까지 확장
+     * - 분위수 스케치는 스케치 커버리지 시작 이전 구간 전체를 다시 계산
+     *   (합계 롤업은 있지만 스케치 도입 전에 적재되어 스케치가 비어 있는 구간 포함)
+     * - 커밋 후 재계산한 구간을 대시보드 버킷 캐시에서 제거 (이전 값으로 캐시된 마감 버킷이 남지 않도록)
+     *
+     * @return 재계산된 5분 롤업 행 수
+     */
+    @Transactional
+    public int backfill(long fromEpoch, long toEpoch) {
+        Long coveredFrom = rollupRepository.findCoveredFrom(DashboardRollupRepository.ROLLUP_STATE);
+        Long latencyCoveredFrom = rollupRepository.findCoveredFrom(DashboardRollupRepository.LATENCY_SKETCH_STATE);
+        if (coveredFrom == null || latencyCoveredFrom == null) {
+            throw new IllegalStateException("롤업 커버리지 상태가 초기화되지 않았습니다");
+        }
+
+        long from = Granularity.MINUTE_5.floor(fromEpoch);
+        long to = Math.min(Granularity.MINUTE_5.floor(toEpoch), coveredFrom);
+        int rows = 0;
+
+        if (from < to) {
+            rollupRepository.rebuild(Granularity.MINUTE_1, from, to);
+            rows = rollupRepository.rebuild(Granularity.MINUTE_5, from, to);
+
+            if (to == coveredFrom) {
+                rollupRepository.extendCoveredFrom(DashboardRollupRepository.ROLLUP_STATE, from);
+            }
+        }
+
+        long sketchTo = Math.min(Granularity.MINUTE_5.floor(toEpoch), latencyCoveredFrom);
+        if (from < sketchTo) {
+            rollupRepository.rebuildSketches(from, sketchTo);
+
+            if (sketchTo == latencyCoveredFrom) {
+                rollupRepository.extendCoveredFrom(DashboardRollupRepository.LATENCY_SKETCH_STATE, from);
+            }
+        }
+
+        log.info("Dashboard rollup backfill: from={}, to={}, sketchTo={}, rows(5m)={}", from, to, sketchTo, rows);
+
+        long rebuiltTo = Math.max(to, sketchTo);
+        if (from < rebuiltTo) {
+            evictAfterCommit(from, rebuiltTo);
+        }
+
+        return rows;
+    }
+
+    /**
+     * 커밋 후 캐시 제거
+     * - 커밋 전에 제거하면 그 사이 조회가 이전 롤업 값으로 버킷을 다시 채울 수 있음
+     */
+    private void evictAfterCommit(long fromEpoch, long toEpoch) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                int evicted = bucketCache.evict(fromEpoch, toEpoch);
+                log.info("Dashboard bucket cache evicted after backfill: from={}, to={}, buckets={}",
+                        fromEpoch, toEpoch, evicted);
+            }
+        });
+    }
+
+    /**
+     * http_res_code 문자열 → 정수 (원본 SQL 의 http_res_code::integer 대응)
+     */
+    private static Integer parseResCode(String httpResCode) {
+        if (httpResCode == null || httpResCode.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(httpResCode.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
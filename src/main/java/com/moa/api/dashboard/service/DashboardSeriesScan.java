@@ -0,0 +1,66 @@
+/**
+ * 작성자: 정소영
+ * 설명: 한 번의 대시보드 요청 안에서 분 단위 시계열 위젯들이 같은 원본 구간을 조회할 때
+ *      통합 쿼리(DashboardRepository.getMinuteSeries)를 한 번만 실행하도록 공유하는 요청 범위 객체
+ */
+package com.moa.api.dashboard.service;
+
+import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
+import com.moa.api.dashboard.repository.DashboardRepository;
+import com.moa.api.dashboard.repository.DashboardRepository.MinuteSeriesRow;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DashboardSeriesScan
+ *
+ * - 위젯들은 서로 다른 스레드에서 실행되므로 구간별 결과를 CompletableFuture 로 공유
+ * - 같은 구간을 처음 요청한 위젯이 조회하고, 나머지 위젯은 그 결과를 기다림
+ *   (이미 실행 중인 조회만 기다리므로 스레드 풀 고갈로 인한 교착은 없음)
+ * - 요청이 끝나면 함께 버려지므로 별도 만료 처리 없음
+ */
+public class DashboardSeriesScan {
+
+    private final DashboardRepository dashboardRepository;
+    private final DashboardRequestDTO.DashboardFilters filters;
+
+    private final Map<Range, CompletableFuture<List<MinuteSeriesRow>>> scans = new ConcurrentHashMap<>();
+
+    public DashboardSeriesScan(DashboardRepository dashboardRepository, DashboardRequestDTO.DashboardFilters filters) {
+        this.dashboardRepository = dashboardRepository;
+        this.filters = filters;
+    }
+
+    /**
+     * 원본 [from, to] 분 단위 통합 집계 (요청 내 같은 구간은 1회만 조회)
+     */
+    public List<MinuteSeriesRow> rows(long from, long to) {
+        Range range = new Range(from, to);
+
+        CompletableFuture<List<MinuteSeriesRow>> created = new CompletableFuture<>();
+        CompletableFuture<List<MinuteSeriesRow>> existing = scans.putIfAbsent(range, created);
+
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            List<MinuteSeriesRow> rows = dashboardRepository.getMinuteSeries(from, to, filters);
+            created.complete(rows);
+            return rows;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private record Range(long from, long to) {}
+}
@@ -8,78 +8,210 @@ package com.moa.api.dashboard.service;
 import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
 import com.moa.api.dashboard.dto.response.*;
 import com.moa.api.dashboard.repository.DashboardRepository;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 public class DashboardService {
 
     private final DashboardRepository dashboardRepository;
+    private final DashboardQueryRouter queryRouter;
+    private final DashboardWidgetExecutor widgetExecutor;
+    private final DashboardBucketCache bucketCache;
 
-    public DashboardService(DashboardRepository dashboardRepository) {
+    public DashboardService(DashboardRepository dashboardRepository,
+                            DashboardQueryRouter queryRouter,
+                            DashboardWidgetExecutor widgetExecutor,
+                            DashboardBucketCache bucketCache) {
         this.dashboardRepository = dashboardRepository;
+        this.queryRouter = queryRouter;
+        this.widgetExecutor = widgetExecutor;
+        this.bucketCache = bucketCache;
+    }
+
+    /**
+     * 버킷 캐시 상태 조회 (모니터링용)
+     */
+    public DashboardBucketCache.CacheStats getCacheStats() {
+        return bucketCache.getCacheStats();
     }
 
     /**
      * 전체 대시보드 데이터 조회 (필터 지원)
+     * - 위젯 쿼리 + 필터 옵션 쿼리를 DashboardWidgetExecutor 로 동시에 실행
+     * - 실패/타임아웃 위젯은 빈 목록으로 응답하고 widgetStatuses 에 상태 표시
+     * - 위젯 쿼리는 DashboardQueryRouter 가 마감 버킷 캐시 + 롤업/원본으로 나눠 조회
+     * - 시계열 위젯(트래픽/로드/응답/에러율/상태 코드)의 원본 조회는 DashboardSeriesScan 으로 통합
      *
      * @param request 대시보드 요청 (시간 범위 + 필터)
-     * @return 전체 위젯 데이터 + 사용 가능한 필터 옵션
+     * @return 전체 위젯 데이터 + 사용 가능한 필터 옵션 + 위젯별 조회 상태
      */
-    @Cacheable(value = "dashboard",
-            key = "#request.range.fromEpoch + '-' + #request.range.toEpoch + '-' + (#request.filters != null ? #request.filters.hashCode() : 0)")
     public DashboardResponseDTO getDashboardData(DashboardRequestDTO request) {
 
         Long startTimeUnix = request.getRange().getFromEpoch();
         Long endTimeUnix = request.getRange().getToEpoch();
         DashboardRequestDTO.DashboardFilters filters = request.getFilters();
 
-        // 1. 위젯 데이터 조회 (필터 적용)
+        long startedAt = System.currentTimeMillis();
+
+        // 1. 위젯 데이터 조회 (필터 적용) - 모두 제출 후 한꺼번에 대기
+        // 분 단위 시계열 위젯은 같은 원본 구간을 한 번의 통합 스캔으로 공유
+        DashboardSeriesScan seriesScan = queryRouter.newSeriesScan(filters);
 
         // 실시간 트래픽 추이
-        var trafficTrend = dashboardRepository.getTrafficTrend(startTimeUnix, endTimeUnix, filters);
+        var trafficTrend = widgetExecutor.submit("trafficTrend",
+                () -> queryRouter.getTrafficTrend(startTimeUnix, endTimeUnix, filters, seriesScan));
 
         // 페이지 로드 시간
-        var pageLoadTimeTrend = dashboardRepository.getPageLoadTimeTrend(startTimeUnix, endTimeUnix, filters);
-
+        var pageLoadTimeTrend = widgetExecutor.submit("pageLoadTimeTrend",
+                () -> queryRouter.getPageLoadTimeTrend(startTimeUnix, endTimeUnix, filters, seriesScan));
 
-        var responseTimeStats = dashboardRepository.getResponseTimeStats(startTimeUnix, endTimeUnix, filters);
-        var statusCodeDistribution = dashboardRepository.getStatusCodeDistribution(startTimeUnix, endTimeUnix, filters);
-        var topDomains = dashboardRepository.getTopDomains(startTimeUnix, endTimeUnix, filters);
-        var trafficByCountry = dashboardRepository.getTrafficByCountry(startTimeUnix, endTimeUnix, filters);
-        var errorPages = dashboardRepository.getErrorPages(startTimeUnix, endTimeUnix, filters);
+        var responseTimeStats = widgetExecutor.submit("responseTimeStats",
+                () -> queryRouter.getResponseTimeStats(startTimeUnix, endTimeUnix, filters, seriesScan));
+        var statusCodeDistribution = widgetExecutor.submit("httpStatusCodeDistribution",
+                () -> queryRouter.getStatusCodeDistribution(startTimeUnix, endTimeUnix, filters, seriesScan));
+        var topDomains = widgetExecutor.submit("topDomains",
+                () -> queryRouter.getTopDomains(startTimeUnix, endTimeUnix, filters));
+        var trafficByCountry = widgetExecutor.submit("trafficByCountry",
+                () -> queryRouter.getTrafficByCountry(startTimeUnix, endTimeUnix, filters));
+        var errorPages = widgetExecutor.submit("errorPages",
+                () -> queryRouter.getErrorPages(startTimeUnix, endTimeUnix, filters));
 
-        var errorRateTrend = dashboardRepository.getErrorRateTrend(startTimeUnix, endTimeUnix, filters);
-        var browserPerformance = dashboardRepository.getBrowserPerformance(startTimeUnix, endTimeUnix, filters);
-        var devicePerformanceDistribution = dashboardRepository.getDevicePerformanceDistribution(startTimeUnix, endTimeUnix, filters);
+        var errorRateTrend = widgetExecutor.submit("errorRateTrend",
+                () -> queryRouter.getErrorRateTrend(startTimeUnix, endTimeUnix, filters, seriesScan));
+        var browserPerformance = widgetExecutor.submit("browserPerformance",
+                () -> queryRouter.getBrowserPerformance(startTimeUnix, endTimeUnix, filters));
+        var devicePerformanceDistribution = widgetExecutor.submit("devicePerformanceDistribution",
+                () -> queryRouter.getDevicePerformanceDistribution(startTimeUnix, endTimeUnix, filters));
 
         // 2. 사용 가능한 필터 옵션 조회
+        var countries = widgetExecutor.submit("availableCountries",
+                () -> dashboardRepository.getAvailableCountries(startTimeUnix, endTimeUnix));
+        var browsers = widgetExecutor.submit("availableBrowsers",
+                () -> dashboardRepository.getAvailableBrowsers(startTimeUnix, endTimeUnix));
+        var devices = widgetExecutor.submit("availableDevices",
+                () -> dashboardRepository.getAvailableDevices(startTimeUnix, endTimeUnix));
+        var httpHosts = widgetExecutor.submit("availableHttpHosts",
+                () -> dashboardRepository.getAvailableHttpHosts(startTimeUnix, endTimeUnix));
+        var httpMethods = widgetExecutor.submit("availableHttpMethods",
+                () -> dashboardRepository.getAvailableHttpMethods(startTimeUnix, endTimeUnix));
+
+        // 3. 결과 수집 (실패/타임아웃 위젯은 빈 목록)
+        List<WidgetStatusDTO> statuses = new ArrayList<>();
+
         var availableFilters = new DashboardFiltersDTO(
-                dashboardRepository.getAvailableCountries(startTimeUnix, endTimeUnix),
-                dashboardRepository.getAvailableBrowsers(startTimeUnix, endTimeUnix),
-                dashboardRepository.getAvailableDevices(startTimeUnix, endTimeUnix),
-                dashboardRepository.getAvailableHttpHosts(startTimeUnix, endTimeUnix),
-                dashboardRepository.getAvailableHttpMethods(startTimeUnix, endTimeUnix)
+                countries.join(List.of(), statuses),
+                browsers.join(List.of(), statuses),
+                devices.join(List.of(), statuses),
+                httpHosts.join(List.of(), statuses),
+                httpMethods.join(List.of(), statuses)
         );
 
-        // 3. 응답 조합
-        return new DashboardResponseDTO(
-                responseTimeStats,
-                trafficTrend,
-                statusCodeDistribution,
-                topDomains,
-                trafficByCountry,
-                errorPages,
-                pageLoadTimeTrend,
-                errorRateTrend,
-                browserPerformance,
-                devicePerformanceDistribution,
+        DashboardResponseDTO response = new DashboardResponseDTO(
+                responseTimeStats.join(List.of(), statuses),
+                trafficTrend.join(List.of(), statuses),
+                statusCodeDistribution.join(List.of(), statuses),
+                topDomains.join(List.of(), statuses),
+                trafficByCountry.join(List.of(), statuses),
+                errorPages.join(List.of(), statuses),
+                pageLoadTimeTrend.join(List.of(), statuses),
+                errorRateTrend.join(List.of(), statuses),
+                browserPerformance.join(List.of(), statuses),
+                devicePerformanceDistribution.join(List.of(), statuses),
                 availableFilters,
                 Timestamp.from(Instant.ofEpochSecond(startTimeUnix)),
-                Timestamp.from(Instant.ofEpochSecond(endTimeUnix))
+                Timestamp.from(Instant.ofEpochSecond(endTimeUnix)),
+                statuses
         );
+
+        widgetExecutor.logTimings(startTimeUnix, endTimeUnix, System.currentTimeMillis() - startedAt, statuses);
+
+        return response;
+    }
+
+    /**
+     * 새로 마감된 버킷 구간의 위젯 데이터 조회 (실시간 스트리밍 증분용)
+     * - 1분 위젯은 [minuteFrom, minuteTo), 5분 위젯은 [fiveMinuteFrom, fiveMinuteTo) 만 조회
+     * - 구간이 비어 있는 위젯은 조회하지 않음
+     * - 마감 구간은 DashboardBucketCache 에 저장되므로 같은 필터의 스냅샷/증분 조회와 결과를 공유
+     */
+    public DashboardDeltaDTO getSealedDelta(DashboardRequestDTO.DashboardFilters filters,
+                                            long minuteFrom, long minuteTo,
+                                            long fiveMinuteFrom, long fiveMinuteTo) {
+
+        DashboardSeriesScan seriesScan = queryRouter.newSeriesScan(filters);
+
+        // 1분 위젯
+        var trafficTrend = submitSealed("trafficTrend", minuteFrom, minuteTo, TrafficTrendResponseDTO::timestamp,
+                () -> queryRouter.getTrafficTrend(minuteFrom, minuteTo, filters, seriesScan));
+        var pageLoadTimeTrend = submitSealed("pageLoadTimeTrend", minuteFrom, minuteTo, PageLoadTimeResponseDTO::timestamp,
+                () -> queryRouter.getPageLoadTimeTrend(minuteFrom, minuteTo, filters, seriesScan));
+        var responseTimeStats = submitSealed("responseTimeStats", minuteFrom, minuteTo, ResponseTimeResponseDTO::timestamp,
+                () -> queryRouter.getResponseTimeStats(minuteFrom, minuteTo, filters, seriesScan));
+        var errorRateTrend = submitSealed("errorRateTrend", minuteFrom, minuteTo, ErrorRateResponseDTO::timestamp,
+                () -> queryRouter.getErrorRateTrend(minuteFrom, minuteTo, filters, seriesScan));
+
+        // 5분 위젯
+        var statusCodeDistribution = submitSealed("httpStatusCodeDistribution", fiveMinuteFrom, fiveMinuteTo, StatusCodeResponseDTO::timestamp,
+                () -> queryRouter.getStatusCodeDistribution(fiveMinuteFrom, fiveMinuteTo, filters, seriesScan));
+        var topDomains = submitSealed("topDomains", fiveMinuteFrom, fiveMinuteTo, TopDomainResponseDTO::timestamp,
+                () -> queryRouter.getTopDomains(fiveMinuteFrom, fiveMinuteTo, filters));
+        var trafficByCountry = submitSealed("trafficByCountry", fiveMinuteFrom, fiveMinuteTo, CountryTrafficResponseDTO::timestamp,
+                () -> queryRouter.getTrafficByCountry(fiveMinuteFrom, fiveMinuteTo, filters));
+        var errorPages = submitSealed("errorPages", fiveMinuteFrom, fiveMinuteTo, ErrorPageResponseDTO::timestamp,
+                () -> queryRouter.getErrorPages(fiveMinuteFrom, fiveMinuteTo, filters));
+        var browserPerformance = submitSealed("browserPerformance", fiveMinuteFrom, fiveMinuteTo, BrowserPerfResponseDTO::timestamp,
+                () -> queryRouter.getBrowserPerformance(fiveMinuteFrom, fiveMinuteTo, filters));
+        var devicePerformanceDistribution = submitSealed("devicePerformanceDistribution", fiveMinuteFrom, fiveMinuteTo, DevicePerfResponseDTO::timestamp,
+                () -> queryRouter.getDevicePerformanceDistribution(fiveMinuteFrom, fiveMinuteTo, filters));
+
+        List<WidgetStatusDTO> statuses = new ArrayList<>();
+
+        return new DashboardDeltaDTO(
+                Timestamp.from(Instant.ofEpochSecond(minuteFrom)),
+                Timestamp.from(Instant.ofEpochSecond(minuteTo)),
+                Timestamp.from(Instant.ofEpochSecond(fiveMinuteFrom)),
+                Timestamp.from(Instant.ofEpochSecond(fiveMinuteTo)),
+                join(responseTimeStats, statuses),
+                join(trafficTrend, statuses),
+                join(pageLoadTimeTrend, statuses),
+                join(errorRateTrend, statuses),
+                join(statusCodeDistribution, statuses),
+                join(topDomains, statuses),
+                join(trafficByCountry, statuses),
+                join(errorPages, statuses),
+                join(browserPerformance, statuses),
+                join(devicePerformanceDistribution, statuses),
+                statuses
+        );
+    }
+
+    /**
+     * 마감 구간 [from, to) 위젯 제출
+     * - 라우터의 원본 조회는 to 를 포함하므로 다음 버킷(timestamp >= to) 행은 제외
+     */
+    private <T> DashboardWidgetExecutor.WidgetCall<List<T>> submitSealed(String widget,
+                                                                        long from,
+                                                                        long to,
+                                                                        Function<T, Timestamp> timestampOf,
+                                                                        Supplier<List<T>> query) {
+        if (from >= to) {
+            return null;
+        }
+
+        long toMillis = to * 1000L;
+        return widgetExecutor.submit(widget, () -> query.get().stream()
+                .filter(row -> timestampOf.apply(row).getTime() < toMillis)
+                .toList());
+    }
+
+    private static <T> List<T> join(DashboardWidgetExecutor.WidgetCall<List<T>> call, List<WidgetStatusDTO> statuses) {
+        return call == null ? List.of() : call.join(List.of(), statuses);
     }
-}
\ No newline at end of file
+}
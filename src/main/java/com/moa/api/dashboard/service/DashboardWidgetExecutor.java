@@ -0,0 +1,174 @@
+/**
+ * 작성자: 정소영
+ * 설명: 대시보드 위젯 쿼리를 전용 스레드 풀에서 동시에 실행하고,
+ *      위젯별 타임아웃/실패를 부분 결과로 처리하며 소요 시간을 기록하는 실행기
+ */
+package com.moa.api.dashboard.service;
+
+import com.moa.api.dashboard.config.DashboardProperties;
+import com.moa.api.dashboard.dto.response.WidgetStatusDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class DashboardWidgetExecutor {
+
+    private final Executor executor;
+    private final DashboardProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    public DashboardWidgetExecutor(@Qualifier("dashboardWidgetExecutor") Executor executor,
+                                   DashboardProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.executor = executor;
+        this.properties = properties;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * 위젯 쿼리 제출
+     * - fan-out 비활성화 시 호출 스레드에서 즉시 실행 (기존 순차 실행과 동일)
+     * - 실행 큐가 가득 차면 실행하지 않음 (join 에서 SKIPPED)
+     * - 쿼리는 남은 위젯 타임아웃을 트랜잭션 타임아웃으로 걸어 실행
+     *   → JdbcTemplate statement 에 query timeout 이 적용되어 버려진 SQL 도 DB 에서 중단
+     */
+    public <T> WidgetCall<T> submit(String widget, Supplier<T> query) {
+        DashboardProperties.Fanout fanout = properties.getFanout();
+        Executor target = fanout.isEnabled() ? executor : Runnable::run;
+
+        WidgetCall<T> call = new WidgetCall<>(widget, System.nanoTime(), fanout.getWidgetTimeoutMs());
+        try {
+            call.future = CompletableFuture.supplyAsync(() -> {
+                // 대기 중 타임아웃된 위젯은 커넥션을 잡지 않고 건너뜀
+                if (call.abandoned) {
+                    throw new CancellationException("widget abandoned before start: " + widget);
+                }
+                call.startedAt = System.nanoTime();
+                try {
+                    return withStatementTimeout(call.remainingMs(), query);
+                } finally {
+                    call.finishedAt = System.nanoTime();
+                }
+            }, target);
+        } catch (RejectedExecutionException e) {
+            call.future = CompletableFuture.failedFuture(e);
+        }
+
+        return call;
+    }
+
+    /**
+     * 남은 시간(초 단위 올림, 최소 1초)을 타임아웃으로 한 읽기 전용 트랜잭션에서 쿼리 실행
+     */
+    private <T> T withStatementTimeout(long remainingMs, Supplier<T> query) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.setTimeout((int) Math.max(1, (remainingMs + 999) / 1000));
+        return tx.execute(status -> query.get());
+    }
+
+    /**
+     * 위젯별 소요 시간 요약 로그
+     */
+    public void logTimings(long fromEpoch, long toEpoch, long totalElapsedMs, List<WidgetStatusDTO> statuses) {
+        String summary = statuses.stream()
+                .map(s -> s.widget() + "=" + s.status() + "(" + s.elapsedMs() + "ms)")
+                .collect(Collectors.joining(", "));
+
+        log.info("Dashboard widgets: range={}~{}, total={}ms, [{}]", fromEpoch, toEpoch, totalElapsedMs, summary);
+
+        long slowMs = properties.getFanout().getSlowWidgetLogMs();
+        for (WidgetStatusDTO s : statuses) {
+            if (!WidgetStatusDTO.OK.equals(s.status())) {
+                log.warn("Dashboard widget {}: widget={}, message={}", s.status(), s.widget(), s.message());
+            } else if (s.elapsedMs() != null && s.elapsedMs() >= slowMs) {
+                log.warn("Dashboard slow widget: widget={}, elapsed={}ms, queueWait={}ms",
+                        s.widget(), s.elapsedMs(), s.queueWaitMs());
+            }
+        }
+    }
+
+    /**
+     * 제출된 위젯 쿼리 1건
+     */
+    public static class WidgetCall<T> {
+
+        private final String widget;
+        private final long submittedAt;
+        private final long timeoutMs;
+
+        private CompletableFuture<T> future;
+        private volatile Long startedAt;      // 실행 시작 전이면 null
+        private volatile Long finishedAt;     // 실행 완료 전이면 null
+        private volatile boolean abandoned;   // 타임아웃으로 결과를 버린 경우
+
+        private WidgetCall(String widget, long submittedAt, long timeoutMs) {
+            this.widget = widget;
+            this.submittedAt = submittedAt;
+            this.timeoutMs = timeoutMs;
+        }
+
+        private long remainingMs() {
+            return timeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt);
+        }
+
+        /**
+         * 결과 대기 (제출 시점 기준 타임아웃)
+         * - 실패/타임아웃 시 fallback 을 반환하고 상태 목록에 기록
+         */
+        public T join(T fallback, List<WidgetStatusDTO> statuses) {
+            long remainingNanos = submittedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMs) - System.nanoTime();
+
+            try {
+                T value = future.get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+                statuses.add(status(WidgetStatusDTO.OK, null));
+                return value;
+
+            } catch (TimeoutException e) {
+                abandoned = true;
+                future.cancel(false);
+                statuses.add(status(WidgetStatusDTO.TIMEOUT, "timeout after " + timeoutMs + "ms"));
+                return fallback;
+
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RejectedExecutionException) {
+                    statuses.add(status(WidgetStatusDTO.SKIPPED, "widget queue full"));
+                    return fallback;
+                }
+                statuses.add(status(WidgetStatusDTO.FAILED, cause.getClass().getSimpleName() + ": " + cause.getMessage()));
+                return fallback;
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                statuses.add(status(WidgetStatusDTO.FAILED, "interrupted"));
+                return fallback;
+            }
+        }
+
+        private WidgetStatusDTO status(String status, String message) {
+            Long started = startedAt;
+            Long finished = finishedAt;
+
+            Long queueWaitMs = started != null ? TimeUnit.NANOSECONDS.toMillis(started - submittedAt) : null;
+            Long elapsedMs = started != null && finished != null ? TimeUnit.NANOSECONDS.toMillis(finished - started) : null;
+
+            return new WidgetStatusDTO(widget, status, queueWaitMs, elapsedMs, message);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.moa.api.data.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveExecutorConfig
+ DESCRIPTION   : 아카이브 복원 작업용 ThreadPool 설정
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ArchiveExecutorConfig {
+
+    private final ArchiveProperties properties;
+
+    /**
+     * 복원 적재 실행기
+     * - core = max = restore.parallelism: 복원이 동시에 점유하는 DB 커넥션 수를 고정 (작업 수와 무관)
+     * - 큐가 가득 차면 거부 (AbortPolicy) → 해당 복원 작업은 FAILED
+     */
+    @Bean(name = "archiveRestoreExecutor")
+    public Executor archiveRestoreExecutor() {
+        ArchiveProperties.Restore restore = properties.getRestore();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(restore.getParallelism());
+        executor.setMaxPoolSize(restore.getParallelism());
+        executor.setQueueCapacity(restore.getQueueCapacity());
+        executor.setThreadNamePrefix("archive-restore-");
+
+        // 복원은 다시 실행할 수 있으므로 종료 시 남은 적재를 기다리지 않음
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.initialize();
+
+        log.info("Archive restore executor initialized - threads: {}, queue: {}",
+                restore.getParallelism(), restore.getQueueCapacity());
+
+        return executor;
+    }
+}
@@ -0,0 +1,233 @@
+package com.moa.api.data.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveProperties
+ DESCRIPTION   : 샘플 데이터 아카이브 설정 값(moa.archive.*)을 바인딩하는 프로퍼티 클래스
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "moa.archive")
+public class ArchiveProperties {
+
+    /**
+     * 원본 테이블 보관 기간 (일) - 이보다 오래된 데이터를 아카이브 후 삭제
+     */
+    private int retentionDays = 7;
+
+    /**
+     * 아카이브 청크 크기 (분)
+     * - 청크마다 Export → Upload → Delete 를 독립적으로 수행
+     * - 하루(1440)의 약수로 지정 (청크 경계가 날짜 경계와 맞도록)
+     */
+    private int chunkMinutes = 60;
+
+    /**
+     * 1회 실행에서 처리할 최대 청크 수 (0 이면 제한 없음)
+     */
+    private int maxChunksPerRun = 0;
+
+    /**
+     * 동시에 아카이브할 레이어(테이블) 수
+     */
+    private int parallelism = 4;
+
+    /**
+     * 아카이브 작업 전체가 동시에 사용할 수 있는 DB 커넥션 수
+     * - 청크 Export 조회 / 삭제 트랜잭션 / 구간 조회가 이 수만큼만 동시에 실행됨
+     *   (parallelism 을 늘려도 서비스 트래픽용 커넥션 풀을 잠식하지 않도록)
+     */
+    private int dbConnectionBudget = 2;
+
+    /**
+     * 실행 이력(archive_run_history) 보관 기간 (일)
+     */
+    private int historyRetentionDays = 90;
+
+    /**
+     * 원본 행 삭제 전 업로드 객체 검증 여부
+     * - HEAD 로 크기 / SHA-256 체크섬, 컬럼 포맷은 footer Range GET 으로 행 수 비교
+     */
+    private boolean verifyUploads = true;
+
+    /**
+     * 아카이브 객체 목록 메모리 인덱스(ArchiveManifestIndex) 갱신 주기 (초)
+     * - 다른 노드에서 기록한 객체가 이 시간 안에 조회 대상에 반영됨
+     */
+    private int manifestRefreshSeconds = 30;
+
+    /**
+     * 아카이브 파일 포맷 설정
+     */
+    private Format format = new Format();
+
+    /**
+     * 일 단위 파티션 설정
+     */
+    private Partition partition = new Partition();
+
+    /**
+     * 아카이브 조회 설정
+     */
+    private Query query = new Query();
+
+    /**
+     * 아카이브 복원 설정
+     */
+    private Restore restore = new Restore();
+
+    /**
+     * 연속 아카이브 설정
+     */
+    private Continuous continuous = new Continuous();
+
+    @Getter
+    @Setter
+    public static class Continuous {
+        /**
+         * 연속 아카이브 사용 여부
+         * - true: intervalSeconds 마다 보관 기간이 지난 구간을 작은 슬라이스로 나누어 아카이브
+         *   (매일 실행하는 일괄 아카이브는 실행하지 않음)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 실행 주기 (초) - 한 번의 실행은 이 시간의 80% 안에서 끝냄
+         */
+        private int intervalSeconds = 300;
+
+        /**
+         * 테이블별 목표 처리량 (초당 아카이브 행 수)
+         * - 슬라이스마다 처리한 행 수만큼 쉬어 평균 처리량을 이 값 이하로 유지
+         */
+        private int targetRowsPerSecond = 2_000;
+
+        /**
+         * 슬라이스 1개 목표 처리 시간 (초)
+         * - 슬라이스 크기(분) = targetRowsPerSecond × sliceSeconds / 최근 분당 행 수
+         *   (하루의 약수인 분 단위로 내림, 최대 chunkMinutes)
+         */
+        private int sliceSeconds = 10;
+
+        /**
+         * 최소 슬라이스 크기 (분)
+         */
+        private int minSliceMinutes = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Restore {
+        /**
+         * 복원 적재 스레드 수 (archiveRestoreExecutor, 모든 복원 작업이 공유 - 객체마다 DB 커넥션 1개 사용)
+         */
+        private int parallelism = 4;
+
+        /**
+         * 적재를 기다릴 수 있는 객체 수 (넘으면 해당 복원 작업은 실패)
+         * - maxRunningJobs × maxObjects 이상이면 거부되지 않음
+         */
+        private int queueCapacity = 4_000;
+
+        /**
+         * 동시에 실행할 수 있는 복원 작업 수 (넘으면 RESTORE_BUSY)
+         */
+        private int maxRunningJobs = 2;
+
+        /**
+         * 복원 작업 1개가 읽을 수 있는 최대 아카이브 객체 수
+         */
+        private int maxObjects = 2_000;
+
+        /**
+         * 메모리에 보관할 완료된 복원 작업 수 (진행 상황 조회용)
+         */
+        private int keepFinishedJobs = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Query {
+        /**
+         * 조회 기간이 보관 기간을 넘으면 아카이브(S3)까지 함께 조회할지 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 조회 1회에 읽을 수 있는 최대 아카이브 객체 수 (넘으면 기간을 줄이도록 거부)
+         */
+        private int maxObjects = 168;
+
+        /**
+         * 조회 1회에 아카이브에서 적재할 수 있는 최대 행 수 (넘으면 기간을 줄이도록 거부)
+         * - 조회 기간 밖의 행은 적재 전에 버리므로 기간 안의 행 수 기준
+         * - 페이지 / COUNT / 집계 호출마다 다시 적재하므로 한 번에 화면에서 볼 범위 정도로 유지
+         */
+        private long maxRows = 200_000;
+
+        /**
+         * 동시에 실행할 수 있는 아카이브 적재 수 (적재마다 DB 커넥션 1개를 S3 읽기 동안 점유)
+         */
+        private int maxConcurrentScans = 2;
+
+        /**
+         * 적재 자리를 기다리는 최대 시간 (ms, 넘으면 ARCHIVE_QUERY_BUSY)
+         */
+        private long scanWaitMs = 3_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Partition {
+        /**
+         * 샘플 테이블(ts_server 기준 일 단위 RANGE 파티션) 관리 여부
+         * - 미래 파티션 사전 생성, 보관 기간이 지난 파티션은 분리(detach) → Export → DROP
+         * - 운영 테이블 구조를 바꾸므로 명시적으로 켠 경우에만 동작
+         */
+        private boolean enabled = false;
+
+        /**
+         * 파티션되지 않은 기존 테이블을 파티션 테이블로 전환할지 여부
+         * - 기존 테이블은 {table}_legacy 로 이름을 바꿔 (MINVALUE ~ 전환 시점) 파티션으로 붙임
+         * - 기존 테이블 이름 / PK 가 바뀌므로 명시적으로 켠 경우에만 동작
+         */
+        private boolean convertExisting = false;
+
+        /**
+         * 오늘 이후 미리 만들어 둘 파티션 수 (일)
+         */
+        private int premakeDays = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Format {
+        /**
+         * 아카이브 파일 형식
+         * - COLUMNAR: 압축 컬럼 포맷(.mca, 행 그룹별 컬럼 min/max 통계 포함)
+         * - CSV: 기존 비압축 CSV
+         */
+        private Type type = Type.COLUMNAR;
+
+        /**
+         * 행 그룹 크기 (행) - 클수록 압축률이 좋고, 작을수록 범위 조회 시 건너뛰는 단위가 세밀해짐
+         */
+        private int rowGroupRows = 65_536;
+
+        /**
+         * deflate 압축 레벨 (1 ~ 9)
+         */
+        private int compressionLevel = 6;
+
+        public enum Type {
+            CSV,
+            COLUMNAR
+        }
+    }
+}
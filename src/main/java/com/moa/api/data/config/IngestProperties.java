@@ -0,0 +1,133 @@
+/**
+ * 작성자: 정소영
+ * 설명: 수집 데이터 적재 관련 설정 값(moa.ingest.*)을 바인딩하는 프로퍼티 클래스
+ */
+package com.moa.api.data.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "moa.ingest")
+public class IngestProperties {
+
+    /**
+     * COPY 적재 설정
+     */
+    private Copy copy = new Copy();
+
+    /**
+     * row_key 발급 설정
+     */
+    private RowKey rowKey = new RowKey();
+
+    /**
+     * 비동기 적재 큐 설정
+     */
+    private Queue queue = new Queue();
+
+    /**
+     * 적재 경로 벤치마크 설정
+     */
+    private Benchmark benchmark = new Benchmark();
+
+    @Getter
+    @Setter
+    public static class Copy {
+        /**
+         * 배치 적재 시 COPY ... FROM STDIN (FORMAT binary) 사용 여부
+         * - false 이면 기존 JPA saveAll 경로 사용
+         * - 테이블 컬럼 타입을 COPY 로 인코딩할 수 없으면 자동으로 JPA 경로 사용
+         */
+        private boolean enabled = true;
+
+        /**
+         * COPY 스트림으로 한 번에 보내는 버퍼 크기 (bytes)
+         */
+        private int bufferBytes = 64 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class RowKey {
+        /**
+         * 고정 노드 ID (0 ~ 65535)
+         * - 지정하지 않으면(-1) ingest_node_lease 테이블에서 인스턴스별로 임대
+         * - 지정 시 인스턴스 간 중복이 없도록 운영 측에서 보장해야 함
+         */
+        private int nodeId = -1;
+
+        /**
+         * 노드 ID 임대 유효 시간 (ms)
+         */
+        private long leaseTtlMs = 60_000;
+
+        /**
+         * 노드 ID 임대 갱신 주기 (ms, leaseTtlMs 보다 충분히 짧게)
+         */
+        private long renewIntervalMs = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Queue {
+        /**
+         * 배치 수신 시 큐에 넣고 바로 응답할지 여부 (false 이면 커밋 후 응답)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 큐에 대기할 수 있는 최대 배치 수
+         */
+        private int capacityBatches = 1024;
+
+        /**
+         * 큐에 대기할 수 있는 최대 행 수 (초과 시 429)
+         */
+        private int capacityRows = 100_000;
+
+        /**
+         * 적재 스레드 수 (= 적재가 동시에 점유하는 DB 커넥션 수)
+         */
+        private int writerThreads = 2;
+
+        /**
+         * 한 트랜잭션으로 묶어 커밋하는 최대 행 수
+         */
+        private int maxGroupRows = 10_000;
+
+        /**
+         * 429 응답 Retry-After 최대값 (초)
+         */
+        private int maxRetryAfterSeconds = 30;
+
+        /**
+         * 종료 시 남은 배치를 적재하며 기다리는 최대 시간 (ms)
+         */
+        private long shutdownTimeoutMs = 30_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Benchmark {
+        /**
+         * /internal/page-samples/benchmark 사용 여부 (운영 테이블에 INSERT 후 롤백하므로 기본 비활성)
+         * - false 이면 벤치마크 빈과 엔드포인트가 등록되지 않음
+         */
+        private boolean enabled = false;
+
+        /**
+         * 회차당 최대 행 수 (경로별로 이만큼 엔티티를 메모리에 만들고 INSERT)
+         */
+        private int maxRows = 10_000;
+
+        /**
+         * 최대 회차 수
+         */
+        private int maxRounds = 5;
+    }
+}
@@ -0,0 +1,67 @@
+package com.moa.api.data.controller;
+
+import com.moa.api.data.service.ArchiveRestoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveRestoreController
+ DESCRIPTION   : 아카이브 복원 작업 시작 / 진행 상황 조회 내부 API
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Slf4j
+@RestController
+@RequestMapping("/internal/archive/restore")
+@RequiredArgsConstructor
+public class ArchiveRestoreController {
+
+    private final ArchiveRestoreService restoreService;
+
+    /**
+     * 복원 작업 시작 (202 + 작업 진행 상황)
+     * - layer: PivotLayer 코드 (HTTP_PAGE, HTTP_URI, TCP, Ethernet - 대소문자 무시)
+     * - from / to: epoch 초 (포함)
+     * - 복원된 데이터는 응답의 alias 레이어로 그리드·피벗에서 조회
+     */
+    @PostMapping
+    public ResponseEntity<?> start(@RequestParam String layer,
+                                   @RequestParam long from,
+                                   @RequestParam long to) {
+        try {
+            return ResponseEntity.accepted().body(restoreService.start(layer, from, to));
+        } catch (IllegalArgumentException e) {
+            log.warn("Archive restore rejected: layer={}, message={}", layer, e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 작업 진행 상황
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ArchiveRestoreService.Progress> getProgress(@PathVariable String jobId) {
+        ArchiveRestoreService.Progress progress = restoreService.getProgress(jobId);
+        return progress != null ? ResponseEntity.ok(progress) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 보관 중인 작업 목록 (최신순)
+     */
+    @GetMapping
+    public ResponseEntity<List<ArchiveRestoreService.Progress>> getJobs() {
+        return ResponseEntity.ok(restoreService.getJobs());
+    }
+}
@@ -0,0 +1,64 @@
+package com.moa.api.data.controller;
+
+import com.moa.api.data.repository.ArchiveManifestRepository;
+import com.moa.api.data.repository.ArchiveRunHistoryRepository;
+import com.moa.api.data.service.ArchiveManifestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveRunController
+ DESCRIPTION   : 레이어별 아카이브 실행 이력 / 아카이브 객체 목록 조회 내부 API
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@RestController
+@RequestMapping("/internal/archive")
+@RequiredArgsConstructor
+public class ArchiveRunController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final ArchiveRunHistoryRepository historyRepository;
+    private final ArchiveManifestIndex manifestIndex;
+
+    /**
+     * 최근 실행 이력 (최신순)
+     * - table: 테이블명 (생략 시 전체)
+     */
+    @GetMapping("/runs")
+    public ResponseEntity<List<ArchiveRunHistoryRepository.Run>> getRuns(
+            @RequestParam(required = false) String table,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(historyRepository.findRecent(table, Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+
+    /**
+     * 최근 days 일 테이블별 요약 (평균 실행 시간 내림차순 - 가장 오래 걸리는 레이어가 먼저)
+     */
+    @GetMapping("/runs/summary")
+    public ResponseEntity<List<ArchiveRunHistoryRepository.TableSummary>> getSummary(
+            @RequestParam(defaultValue = "14") int days) {
+        LocalDateTime since = LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusDays(Math.max(1, days));
+        return ResponseEntity.ok(historyRepository.summarize(since));
+    }
+
+    /**
+     * 시간 범위(epoch 초)와 겹치는 아카이브 객체 (시작 시각 순)
+     * - from / to 생략 시 해당 방향 제한 없음
+     */
+    @GetMapping("/manifest")
+    public ResponseEntity<List<ArchiveManifestRepository.Entry>> getManifest(
+            @RequestParam String table,
+            @RequestParam(required = false) Double from,
+            @RequestParam(required = false) Double to) {
+        return ResponseEntity.ok(manifestIndex.find(table, from, to));
+    }
+}
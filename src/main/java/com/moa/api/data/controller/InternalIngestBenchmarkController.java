@@ -0,0 +1,38 @@
+/**
+ * 작성자: 정소영
+ */
+package com.moa.api.data.controller;
+
+import com.moa.api.data.service.PageSampleIngestBenchmark;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 적재 경로 벤치마크 API (moa.ingest.benchmark.enabled=true 일 때만 등록)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/internal/page-samples")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "moa.ingest.benchmark", name = "enabled", havingValue = "true")
+public class InternalIngestBenchmarkController {
+
+    private final PageSampleIngestBenchmark ingestBenchmark;
+
+    /**
+     * 적재 경로 벤치마크 (JPA saveAll vs COPY binary, 롤백되어 데이터가 남지 않음)
+     * - rows / rounds 는 moa.ingest.benchmark.maxRows / maxRounds 이하
+     */
+    @PostMapping("/benchmark")
+    public ResponseEntity<PageSampleIngestBenchmark.Result> benchmark(
+            @RequestParam(defaultValue = "5000") int rows,
+            @RequestParam(defaultValue = "3") int rounds) {
+        log.info("🔵 내부 API: 적재 벤치마크 rows={}, rounds={}", rows, rounds);
+        PageSampleIngestBenchmark.Result result = ingestBenchmark.run(rows, rounds);
+        log.info("적재 벤치마크: {}", result);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -4,14 +4,16 @@
 package com.moa.api.data.controller;
 
 import com.moa.api.data.entity.HttpPageSampleFull;
-import com.moa.api.data.repository.HttpPageSampleInsertRepository;
+import com.moa.api.data.service.PageSampleIngestService;
+import com.moa.api.data.service.SampleIngestBatch;
+import com.moa.api.data.service.SampleIngestQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.List;
 
 @Slf4j
@@ -20,32 +22,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class InternalPageSampleController {
 
-    private final HttpPageSampleInsertRepository repository;
+    private final PageSampleIngestService ingestService;
+    private final SampleIngestQueue ingestQueue;
 
     @PostMapping("/batch")
     public ResponseEntity<Void> receiveBatch(@RequestBody List<HttpPageSampleFull> samples) {
         log.info("🔵 내부 API: 배치 {}개 수신", samples.size());
 
-        try {
-            for (HttpPageSampleFull sample : samples) {
-                LocalDateTime now = LocalDateTime.now();
-
-                double unixTimestamp = now.atZone(ZoneId.systemDefault())
-                        .toEpochSecond()
-                        + (now.getNano() / 1_000_000_000.0);
-
-                String rowKey = String.format("%.9f", unixTimestamp);
-
-                sample.setRowKey(rowKey);
-                sample.setTsServer(now);
-                sample.setTsServerNsec(unixTimestamp);
-                // ts_page 0~4 초
-                //
-
-                log.debug("  → row_key: {}", rowKey);  // ← 각 데이터마다
+        // 비동기 적재: 큐에 넣고 바로 응답 (가득 차면 429 + Retry-After)
+        if (ingestQueue.isEnabled()) {
+            if (ingestQueue.offer(SampleIngestBatch.ofPage(samples))) {
+                return ResponseEntity.accepted().build();
             }
 
-            repository.saveAll(samples);
+            int retryAfter = ingestQueue.retryAfterSeconds();
+            log.warn("⚠️ 적재 큐 포화: 배치 {}개 거부, Retry-After {}s", samples.size(), retryAfter);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .build();
+        }
+
+        try {
+            // 원본 저장 + 대시보드 롤업 갱신 (단일 트랜잭션)
+            ingestService.saveBatch(samples);
             log.info("✅ DB 저장 완료: {}개", samples.size());
             log.info("   첫 번째: {}, 마지막: {}",
                     samples.get(0).getRowKey(),
@@ -54,17 +53,24 @@ public class InternalPageSampleController {
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             log.error("❌ 배치 저장 실패", e);
-            e.printStackTrace();
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * 적재 큐 상태 (대기 깊이, 커밋 지연, 초당 적재 행 수)
+     */
+    @GetMapping("/queue-stats")
+    public ResponseEntity<SampleIngestQueue.QueueStats> getQueueStats() {
+        return ResponseEntity.ok(ingestQueue.getStats());
+    }
+
     @PostMapping
     public ResponseEntity<Void> receive(@RequestBody HttpPageSampleFull sample) {
         log.info("🔵 내부 API: 단건 데이터 수신");
 
         try {
-            repository.save(sample);
+            ingestService.save(sample);
             log.info("✅ DB 저장 완료");
             return ResponseEntity.ok().build();
         } catch (Exception e) {
@@ -72,4 +78,4 @@ public class InternalPageSampleController {
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+}
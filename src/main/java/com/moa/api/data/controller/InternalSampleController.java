@@ -0,0 +1,81 @@
+/**
+ * 작성자: 정소영
+ * 설명: 수집기로부터 레이어별(HTTP_PAGE / HTTP_URI / TCP / Ethernet) 샘플 배치를 받는 공통 내부 API
+ */
+package com.moa.api.data.controller;
+
+import com.moa.api.data.service.LayerSampleIngestService;
+import com.moa.api.data.service.SampleIngestBatch;
+import com.moa.api.data.service.SampleIngestQueue;
+import com.moa.api.pivot.model.PivotLayer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/internal/samples")
+@RequiredArgsConstructor
+public class InternalSampleController {
+
+    private final LayerSampleIngestService layerIngestService;
+    private final SampleIngestQueue ingestQueue;
+
+    /**
+     * 레이어별 배치 수신
+     * - layer: PivotLayer 코드 (HTTP_PAGE, HTTP_URI, TCP, Ethernet - 대소문자 무시)
+     * - 행 키는 테이블 컬럼명(snake_case) 또는 camelCase
+     */
+    @PostMapping("/{layer}/batch")
+    public ResponseEntity<Void> receiveBatch(@PathVariable String layer,
+                                             @RequestBody List<Map<String, Object>> rows) {
+        log.info("🔵 내부 API: {} 배치 {}개 수신", layer, rows.size());
+
+        SampleIngestBatch batch;
+        try {
+            batch = layerIngestService.toBatch(PivotLayer.from(layer), rows);
+        } catch (IllegalArgumentException e) {
+            log.warn("❌ 잘못된 배치: layer={}, message={}", layer, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("❌ 배치 매핑 실패: layer={}", layer, e);
+            return ResponseEntity.internalServerError().build();
+        }
+
+        // 비동기 적재: 큐에 넣고 바로 응답 (가득 차면 429 + Retry-After)
+        if (ingestQueue.isEnabled()) {
+            if (ingestQueue.offer(batch)) {
+                return ResponseEntity.accepted().build();
+            }
+
+            int retryAfter = ingestQueue.retryAfterSeconds();
+            log.warn("⚠️ 적재 큐 포화: {} 배치 {}개 거부, Retry-After {}s", layer, rows.size(), retryAfter);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .build();
+        }
+
+        try {
+            layerIngestService.saveBatch(batch);
+            log.info("✅ DB 저장 완료: {} {}개", layer, rows.size());
+            return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            log.error("❌ 배치 저장 실패: layer={}", layer, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 적재 큐 상태 (전체 레이어 공통)
+     */
+    @GetMapping("/queue-stats")
+    public ResponseEntity<SampleIngestQueue.QueueStats> getQueueStats() {
+        return ResponseEntity.ok(ingestQueue.getStats());
+    }
+}
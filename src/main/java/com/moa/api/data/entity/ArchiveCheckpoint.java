@@ -0,0 +1,65 @@
+package com.moa.api.data.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveCheckpoint
+ DESCRIPTION   : 테이블별 청크 아카이브 진행 위치를 기록하는 체크포인트 엔티티
+ - archived_until 이전 데이터는 업로드 및 삭제 완료
+ - pending_* : 업로드는 끝났지만 삭제 전인 청크 (재시작 시 삭제부터 이어서 수행)
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "archive_checkpoint")
+public class ArchiveCheckpoint {
+
+    @Id
+    @Column(name = "table_name", length = 100)
+    private String tableName;
+
+    @Column(name = "archived_until")
+    private LocalDateTime archivedUntil;
+
+    @Column(name = "pending_chunk_start")
+    private LocalDateTime pendingChunkStart;
+
+    @Column(name = "pending_chunk_end")
+    private LocalDateTime pendingChunkEnd;
+
+    @Column(name = "pending_s3_key", length = 500)
+    private String pendingS3Key;
+
+    @Column(name = "pending_rows")
+    private Long pendingRows;
+
+    /** 업로드한 객체의 SHA-256 체크섬 (S3 형식, 삭제 전 검증용) */
+    @Column(name = "pending_checksum", length = 100)
+    private String pendingChecksum;
+
+    /** 업로드한 객체 크기 (bytes) */
+    @Column(name = "pending_bytes")
+    private Long pendingBytes;
+
+    /** 업로드한 객체의 컬럼 목록 (쉼표 구분, 재시작 시 아카이브 목록 기록용) */
+    @Column(name = "pending_column_names", columnDefinition = "text")
+    private String pendingColumnNames;
+
+    /** 업로드한 객체의 ts_server_nsec 최소값 (알 수 없으면 null) */
+    @Column(name = "pending_min_ts_server_nsec")
+    private Double pendingMinTsServerNsec;
+
+    @Column(name = "pending_max_ts_server_nsec")
+    private Double pendingMaxTsServerNsec;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
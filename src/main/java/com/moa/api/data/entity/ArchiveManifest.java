@@ -0,0 +1,81 @@
+package com.moa.api.data.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveManifest
+ DESCRIPTION   : 아카이브된 S3 객체 목록 (객체 1개 = 청크 1개)
+ - 청크 구간 [chunk_start, chunk_end) / ts_server_nsec 범위로 조회 대상 객체를 고름 (버킷 목록 조회 없이)
+ - 행 수 / 객체 크기 / 컬럼 구성을 함께 기록 (복원 / 조회 계획용)
+ - 청크 행 삭제와 같은 트랜잭션에서 기록 → 원본 / 아카이브 어느 한쪽에만 존재
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "archive_manifest",
+        uniqueConstraints = @UniqueConstraint(name = "uk_archive_manifest_s3_key", columnNames = {"s3_bucket", "s3_key"}),
+        indexes = @Index(name = "idx_archive_manifest_table_chunk", columnList = "table_name, chunk_start")
+)
+public class ArchiveManifest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "manifest_id")
+    private Long manifestId;
+
+    @Column(name = "table_name", length = 100, nullable = false)
+    private String tableName;
+
+    @Column(name = "s3_bucket", length = 100, nullable = false)
+    private String s3Bucket;
+
+    @Column(name = "s3_key", length = 500, nullable = false)
+    private String s3Key;
+
+    /** COLUMNAR / CSV */
+    @Column(name = "format", length = 20, nullable = false)
+    private String format;
+
+    @Column(name = "chunk_start", nullable = false)
+    private LocalDateTime chunkStart;
+
+    @Column(name = "chunk_end", nullable = false)
+    private LocalDateTime chunkEnd;
+
+    /** 객체에 담긴 행의 ts_server_nsec 최소값 (재시작으로 마무리된 청크 등 알 수 없으면 null) */
+    @Column(name = "min_ts_server_nsec")
+    private Double minTsServerNsec;
+
+    @Column(name = "max_ts_server_nsec")
+    private Double maxTsServerNsec;
+
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount;
+
+    @Column(name = "byte_size")
+    private Long byteSize;
+
+    /** 객체의 SHA-256 체크섬 (S3 HeadObject 형식, 멀티파트는 "-파트 수" 포함) */
+    @Column(name = "checksum_sha256", length = 100)
+    private String checksumSha256;
+
+    /** 객체의 컬럼 목록 (쉼표 구분, 기록 순서) */
+    @Column(name = "column_names", columnDefinition = "text")
+    private String columnNames;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,65 @@
+package com.moa.api.data.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveRunHistory
+ DESCRIPTION   : 레이어(테이블)별 아카이브 실행 이력 엔티티
+ - 실행 시간 / 처리 행 수 / 초당 처리 행 수를 기록해 레이어별 추이를 비교
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "archive_run_history",
+        indexes = @Index(name = "idx_archive_run_history_table_started", columnList = "table_name, started_at")
+)
+public class ArchiveRunHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "run_id")
+    private Long runId;
+
+    @Column(name = "table_name", length = 100, nullable = false)
+    private String tableName;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false)
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs;
+
+    /** SUCCESS / PARTIAL (maxChunksPerRun 으로 일부 이월) / FAILED */
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "chunks")
+    private Integer chunks;
+
+    @Column(name = "rows_exported")
+    private Long rowsExported;
+
+    @Column(name = "rows_deleted")
+    private Long rowsDeleted;
+
+    @Column(name = "rows_per_sec")
+    private Double rowsPerSec;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+}
@@ -14,13 +14,15 @@ import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity(name = "HttpPageSampleFull")
-@Table(name = "http_page_sample")
+@Table(name = HttpPageSampleFull.TABLE_NAME)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class HttpPageSampleFull {
 
+    public static final String TABLE_NAME = "http_page_sample";
+
     @Id
     @Column(name = "row_key", nullable = false)
     private String rowKey;
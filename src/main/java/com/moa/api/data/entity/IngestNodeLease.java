@@ -0,0 +1,39 @@
+/**
+ * 작성자: 정소영
+ * 설명: row_key 노드 ID 임대 정보를 관리하는 엔티티
+ */
+package com.moa.api.data.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백엔드 인스턴스마다 서로 다른 노드 ID 를 사용하도록 보장
+ * - 인스턴스는 만료된 노드 ID 를 재사용하거나 새 ID 를 추가해 임대
+ * - 주기적으로 expires_at_ms 를 연장, 종료 시 즉시 만료 처리
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "ingest_node_lease")
+public class IngestNodeLease {
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    @Column(name = "owner", nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "expires_at_ms", nullable = false)
+    private Long expiresAtMs;                 // 유닉스 밀리초
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -37,13 +37,24 @@ public class ArchiveException extends RuntimeException {
         CSV_EXPORT_FAILED("CSV 내보내기에 실패했습니다"),
         CSV_WRITE_FAILED("CSV 쓰기에 실패했습니다"),
 
+        // Columnar Export
+        COLUMNAR_EXPORT_FAILED("컬럼 포맷 아카이브 내보내기에 실패했습니다"),
+
         // S3 Upload
         S3_UPLOAD_FAILED("S3 업로드에 실패했습니다"),
 
+        // 업로드 검증
+        ARCHIVE_VERIFY_FAILED("아카이브 객체 검증에 실패했습니다"),
+
         // Database
         DELETE_FAILED("데이터 삭제에 실패했습니다"),
         QUERY_FAILED("쿼리 실행에 실패했습니다"),
 
+        // 아카이브 조회
+        ARCHIVE_QUERY_FAILED("아카이브 조회에 실패했습니다"),
+        ARCHIVE_QUERY_BUSY("아카이브 조회가 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요"),
+        ARCHIVE_RESTORE_FAILED("아카이브 복원에 실패했습니다"),
+
         // 파일
         TEMP_FILE_CREATION_FAILED("임시 파일 생성에 실패했습니다"),
         TEMP_FILE_DELETE_FAILED("임시 파일 삭제에 실패했습니다"),
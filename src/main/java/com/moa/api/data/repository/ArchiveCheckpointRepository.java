@@ -0,0 +1,159 @@
+package com.moa.api.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveCheckpointRepository
+ DESCRIPTION   : 아카이브 체크포인트(archive_checkpoint) 조회/갱신 Repository
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Repository
+@RequiredArgsConstructor
+public class ArchiveCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 체크포인트
+     *
+     * @param archivedUntil     이 시각 이전은 아카이브 완료 (없으면 null)
+     * @param pendingChunkStart 업로드 후 삭제 전인 청크 시작 (없으면 null)
+     * @param pendingChecksum   업로드한 객체의 SHA-256 체크섬 (기록 전 버전이면 null)
+     * @param pendingBytes      업로드한 객체 크기 (기록 전 버전이면 0)
+     * @param pendingColumns    업로드한 객체의 컬럼 목록 (기록 전 버전이면 빈 목록)
+     * @param pendingMinTsServerNsec 업로드한 객체의 ts_server_nsec 최소값 (알 수 없으면 null, 최대값도 같음)
+     */
+    public record Checkpoint(
+            LocalDateTime archivedUntil,
+            LocalDateTime pendingChunkStart,
+            LocalDateTime pendingChunkEnd,
+            String pendingS3Key,
+            long pendingRows,
+            String pendingChecksum,
+            long pendingBytes,
+            List<String> pendingColumns,
+            Double pendingMinTsServerNsec,
+            Double pendingMaxTsServerNsec
+    ) {
+        public boolean hasPending() {
+            return pendingChunkStart != null && pendingChunkEnd != null;
+        }
+    }
+
+    public Checkpoint find(String tableName) {
+        List<Checkpoint> result = jdbcTemplate.query("""
+            SELECT archived_until, pending_chunk_start, pending_chunk_end, pending_s3_key, pending_rows, pending_checksum,
+                   pending_bytes, pending_column_names, pending_min_ts_server_nsec, pending_max_ts_server_nsec
+            FROM archive_checkpoint
+            WHERE table_name = ?
+            """, (rs, i) -> new Checkpoint(
+                toLocalDateTime(rs.getTimestamp(1)),
+                toLocalDateTime(rs.getTimestamp(2)),
+                toLocalDateTime(rs.getTimestamp(3)),
+                rs.getString(4),
+                rs.getLong(5),
+                rs.getString(6),
+                rs.getLong(7),
+                toColumns(rs.getString(8)),
+                rs.getObject(9, Double.class),
+                rs.getObject(10, Double.class)
+        ), tableName);
+        return result.isEmpty()
+                ? new Checkpoint(null, null, null, null, 0, null, 0, List.of(), null, null)
+                : result.get(0);
+    }
+
+    /**
+     * 업로드 완료된 청크 기록 (삭제 전)
+     * - 재시작 후 삭제를 이어서 할 때 아카이브 목록에 같은 객체 정보(크기 / 컬럼 / nsec 범위)를 기록하도록 함께 보관
+     */
+    public void markPending(String tableName, LocalDateTime chunkStart, LocalDateTime chunkEnd,
+                            String s3Key, long rows, String checksum, long bytes, List<String> columns,
+                            Double minTsServerNsec, Double maxTsServerNsec) {
+        jdbcTemplate.update("""
+            INSERT INTO archive_checkpoint
+                (table_name, pending_chunk_start, pending_chunk_end, pending_s3_key, pending_rows, pending_checksum,
+                 pending_bytes, pending_column_names, pending_min_ts_server_nsec, pending_max_ts_server_nsec, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW())
+            ON CONFLICT (table_name) DO UPDATE SET
+                pending_chunk_start = EXCLUDED.pending_chunk_start,
+                pending_chunk_end = EXCLUDED.pending_chunk_end,
+                pending_s3_key = EXCLUDED.pending_s3_key,
+                pending_rows = EXCLUDED.pending_rows,
+                pending_checksum = EXCLUDED.pending_checksum,
+                pending_bytes = EXCLUDED.pending_bytes,
+                pending_column_names = EXCLUDED.pending_column_names,
+                pending_min_ts_server_nsec = EXCLUDED.pending_min_ts_server_nsec,
+                pending_max_ts_server_nsec = EXCLUDED.pending_max_ts_server_nsec,
+                updated_at = NOW()
+            """, tableName, Timestamp.valueOf(chunkStart), Timestamp.valueOf(chunkEnd), s3Key, rows, checksum,
+                bytes, columns == null || columns.isEmpty() ? null : String.join(",", columns),
+                minTsServerNsec, maxTsServerNsec);
+    }
+
+    /**
+     * pending 해제 (진행 위치는 그대로) - 업로드 객체 검증에 실패해 청크를 다시 Export 할 때
+     */
+    public void clearPending(String tableName) {
+        jdbcTemplate.update("""
+            UPDATE archive_checkpoint SET
+                pending_chunk_start = NULL,
+                pending_chunk_end = NULL,
+                pending_s3_key = NULL,
+                pending_rows = NULL,
+                pending_checksum = NULL,
+                pending_bytes = NULL,
+                pending_column_names = NULL,
+                pending_min_ts_server_nsec = NULL,
+                pending_max_ts_server_nsec = NULL,
+                updated_at = NOW()
+            WHERE table_name = ?
+            """, tableName);
+    }
+
+    /**
+     * 청크 완료 - 진행 위치를 chunkEnd 로 옮기고 pending 해제
+     * (청크 삭제와 같은 트랜잭션에서 호출)
+     */
+    public void complete(String tableName, LocalDateTime chunkEnd) {
+        jdbcTemplate.update("""
+            INSERT INTO archive_checkpoint (table_name, archived_until, updated_at)
+            VALUES (?, ?, NOW())
+            ON CONFLICT (table_name) DO UPDATE SET
+                archived_until = GREATEST(COALESCE(archive_checkpoint.archived_until, EXCLUDED.archived_until),
+                                          EXCLUDED.archived_until),
+                pending_chunk_start = NULL,
+                pending_chunk_end = NULL,
+                pending_s3_key = NULL,
+                pending_rows = NULL,
+                pending_checksum = NULL,
+                pending_bytes = NULL,
+                pending_column_names = NULL,
+                pending_min_ts_server_nsec = NULL,
+                pending_max_ts_server_nsec = NULL,
+                updated_at = NOW()
+            """, tableName, Timestamp.valueOf(chunkEnd));
+    }
+
+    /**
+     * 체크포인트 삭제 (분리된 파티션을 DROP 한 뒤 호출)
+     */
+    public void delete(String tableName) {
+        jdbcTemplate.update("DELETE FROM archive_checkpoint WHERE table_name = ?", tableName);
+    }
+
+    private static List<String> toColumns(String columnNames) {
+        return columnNames == null ? List.of() : Arrays.asList(columnNames.split(","));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+}
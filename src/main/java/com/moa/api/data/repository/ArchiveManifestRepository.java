@@ -0,0 +1,125 @@
+package com.moa.api.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveManifestRepository
+ DESCRIPTION   : 아카이브 객체 목록(archive_manifest) 기록/조회 Repository
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Repository
+@RequiredArgsConstructor
+public class ArchiveManifestRepository {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT table_name, s3_bucket, s3_key, format, chunk_start, chunk_end,
+                   min_ts_server_nsec, max_ts_server_nsec, row_count, byte_size, column_names, archived_at,
+                   checksum_sha256
+            FROM archive_manifest
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아카이브 객체 1개
+     *
+     * @param chunkStart      청크 시작 (ts_server, 포함)
+     * @param chunkEnd        청크 끝 (ts_server, 미포함)
+     * @param minTsServerNsec 객체 행의 ts_server_nsec 최소값 (알 수 없으면 null)
+     * @param checksumSha256  객체의 SHA-256 체크섬 (S3 형식, 알 수 없으면 null)
+     * @param columns         객체의 컬럼 목록 (알 수 없으면 빈 목록)
+     * @param archivedAt      기록 시각 (기록 시에는 무시, DB 시각 사용)
+     */
+    public record Entry(
+            String tableName,
+            String s3Bucket,
+            String s3Key,
+            String format,
+            LocalDateTime chunkStart,
+            LocalDateTime chunkEnd,
+            Double minTsServerNsec,
+            Double maxTsServerNsec,
+            long rowCount,
+            long byteSize,
+            String checksumSha256,
+            List<String> columns,
+            LocalDateTime archivedAt
+    ) {
+        public boolean hasNsecRange() {
+            return minTsServerNsec != null && maxTsServerNsec != null;
+        }
+    }
+
+    /**
+     * 객체 기록 (같은 청크를 다시 올려 같은 키를 덮어쓴 경우 갱신)
+     */
+    public void upsert(Entry entry) {
+        jdbcTemplate.update("""
+            INSERT INTO archive_manifest
+                (table_name, s3_bucket, s3_key, format, chunk_start, chunk_end,
+                 min_ts_server_nsec, max_ts_server_nsec, row_count, byte_size, checksum_sha256, column_names, archived_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW())
+            ON CONFLICT (s3_bucket, s3_key) DO UPDATE SET
+                table_name = EXCLUDED.table_name,
+                format = EXCLUDED.format,
+                chunk_start = EXCLUDED.chunk_start,
+                chunk_end = EXCLUDED.chunk_end,
+                min_ts_server_nsec = COALESCE(EXCLUDED.min_ts_server_nsec, archive_manifest.min_ts_server_nsec),
+                max_ts_server_nsec = COALESCE(EXCLUDED.max_ts_server_nsec, archive_manifest.max_ts_server_nsec),
+                row_count = EXCLUDED.row_count,
+                byte_size = GREATEST(EXCLUDED.byte_size, archive_manifest.byte_size),
+                checksum_sha256 = COALESCE(EXCLUDED.checksum_sha256, archive_manifest.checksum_sha256),
+                column_names = COALESCE(EXCLUDED.column_names, archive_manifest.column_names),
+                archived_at = NOW()
+            """,
+                entry.tableName(),
+                entry.s3Bucket(),
+                entry.s3Key(),
+                entry.format(),
+                Timestamp.valueOf(entry.chunkStart()),
+                Timestamp.valueOf(entry.chunkEnd()),
+                entry.minTsServerNsec(),
+                entry.maxTsServerNsec(),
+                entry.rowCount(),
+                entry.byteSize(),
+                entry.checksumSha256(),
+                entry.columns() == null || entry.columns().isEmpty() ? null : String.join(",", entry.columns()));
+    }
+
+    /**
+     * since 이후 기록/갱신된 객체 (since 가 null 이면 전체) - 메모리 인덱스 적재용
+     */
+    public List<Entry> findArchivedSince(LocalDateTime since) {
+        return since == null
+                ? jdbcTemplate.query(SELECT_COLUMNS, this::mapEntry)
+                : jdbcTemplate.query(SELECT_COLUMNS + " WHERE archived_at >= ?", this::mapEntry, Timestamp.valueOf(since));
+    }
+
+    private Entry mapEntry(ResultSet rs, int rowNum) throws SQLException {
+        String columnNames = rs.getString(11);
+        return new Entry(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getTimestamp(5).toLocalDateTime(),
+                rs.getTimestamp(6).toLocalDateTime(),
+                rs.getObject(7, Double.class),
+                rs.getObject(8, Double.class),
+                rs.getLong(9),
+                rs.getLong(10),
+                rs.getString(13),
+                columnNames == null ? List.of() : Arrays.asList(columnNames.split(",")),
+                rs.getTimestamp(12).toLocalDateTime()
+        );
+    }
+}
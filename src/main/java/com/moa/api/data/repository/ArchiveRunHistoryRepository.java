@@ -0,0 +1,143 @@
+package com.moa.api.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveRunHistoryRepository
+ DESCRIPTION   : 아카이브 실행 이력(archive_run_history) 기록/조회 Repository
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Repository
+@RequiredArgsConstructor
+public class ArchiveRunHistoryRepository {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final double DAY_MS = 24 * 60 * 60 * 1000.0;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 실행 1건
+     */
+    public record Run(
+            String tableName,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            long durationMs,
+            String status,
+            int chunks,
+            long rowsExported,
+            long rowsDeleted,
+            double rowsPerSec,
+            String errorMessage
+    ) {}
+
+    /**
+     * 테이블별 최근 실행 요약
+     *
+     * @param shareOfDay 실행이 있었던 날의 하루(24시간) 중 이 레이어 실행 시간 합이 차지하는 비중의 평균 (0 ~ 1)
+     */
+    public record TableSummary(
+            String tableName,
+            long runs,
+            long failures,
+            double avgDurationMs,
+            long maxDurationMs,
+            double avgRowsPerSec,
+            long lastDurationMs,
+            double lastRowsPerSec,
+            double shareOfDay
+    ) {}
+
+    public void insert(Run run) {
+        String error = run.errorMessage();
+        if (error != null && error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        jdbcTemplate.update("""
+            INSERT INTO archive_run_history
+                (table_name, started_at, finished_at, duration_ms, status,
+                 chunks, rows_exported, rows_deleted, rows_per_sec, error_message)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """,
+                run.tableName(), Timestamp.valueOf(run.startedAt()), Timestamp.valueOf(run.finishedAt()),
+                run.durationMs(), run.status(), run.chunks(), run.rowsExported(), run.rowsDeleted(),
+                run.rowsPerSec(), error);
+    }
+
+    /**
+     * 최근 실행 목록 (최신순, tableName 이 null 이면 전체)
+     */
+    public List<Run> findRecent(String tableName, int limit) {
+        return jdbcTemplate.query("""
+            SELECT table_name, started_at, finished_at, duration_ms, status,
+                   chunks, rows_exported, rows_deleted, rows_per_sec, error_message
+            FROM archive_run_history
+            WHERE (CAST(? AS varchar) IS NULL OR table_name = ?)
+            ORDER BY started_at DESC, run_id DESC
+            LIMIT ?
+            """, (rs, i) -> new Run(
+                rs.getString(1),
+                rs.getTimestamp(2).toLocalDateTime(),
+                rs.getTimestamp(3).toLocalDateTime(),
+                rs.getLong(4),
+                rs.getString(5),
+                rs.getInt(6),
+                rs.getLong(7),
+                rs.getLong(8),
+                rs.getDouble(9),
+                rs.getString(10)
+        ), tableName, tableName, limit);
+    }
+
+    /**
+     * since 이후 실행 기준 테이블별 요약
+     * - 하루 비중: 날짜(started_at 기준)별 실행 시간 합 / 24시간 을 실행이 있었던 날에 대해 평균
+     */
+    public List<TableSummary> summarize(LocalDateTime since) {
+        return jdbcTemplate.query("""
+            WITH runs AS (
+                SELECT *,
+                       ROW_NUMBER() OVER (PARTITION BY table_name ORDER BY started_at DESC, run_id DESC) AS rn
+                FROM archive_run_history
+                WHERE started_at >= ?
+            )
+            SELECT table_name,
+                   COUNT(*),
+                   COUNT(*) FILTER (WHERE status = 'FAILED'),
+                   AVG(duration_ms),
+                   MAX(duration_ms),
+                   AVG(rows_per_sec) FILTER (WHERE status <> 'FAILED'),
+                   MAX(duration_ms) FILTER (WHERE rn = 1),
+                   MAX(rows_per_sec) FILTER (WHERE rn = 1),
+                   SUM(duration_ms)::float8 / (COUNT(DISTINCT started_at::date) * ?)
+            FROM runs
+            GROUP BY table_name
+            ORDER BY AVG(duration_ms) DESC
+            """, (rs, i) -> new TableSummary(
+                rs.getString(1),
+                rs.getLong(2),
+                rs.getLong(3),
+                rs.getDouble(4),
+                rs.getLong(5),
+                rs.getDouble(6),
+                rs.getLong(7),
+                rs.getDouble(8),
+                rs.getDouble(9)
+        ), Timestamp.valueOf(since), DAY_MS);
+    }
+
+    /**
+     * 보관 기간이 지난 이력 삭제
+     */
+    public int deleteOlderThan(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM archive_run_history WHERE started_at < ?", Timestamp.valueOf(before));
+    }
+}
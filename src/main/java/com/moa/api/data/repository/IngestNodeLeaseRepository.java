@@ -0,0 +1,83 @@
+/**
+ * 작성자: 정소영
+ * 설명: row_key 노드 ID 임대(ingest_node_lease) 조회/갱신 Repository
+ */
+package com.moa.api.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class IngestNodeLeaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 임대 결과
+     *
+     * @param previousExpiresAtMs 이전 임대의 만료 시각 (새로 추가된 ID 이면 0)
+     */
+    public record Claimed(int nodeId, long previousExpiresAtMs) {}
+
+    /**
+     * 만료된 노드 ID 중 가장 작은 것을 임대 (동시 기동 시 SKIP LOCKED 로 서로 다른 행 선택)
+     */
+    public Claimed claimExpired(String owner, long nowMs, long expiresAtMs) {
+        List<Claimed> result = jdbcTemplate.query("""
+            UPDATE ingest_node_lease l
+            SET owner = ?, expires_at_ms = ?, updated_at = NOW()
+            FROM (
+                SELECT node_id, expires_at_ms AS previous_expires_at_ms
+                FROM ingest_node_lease
+                WHERE expires_at_ms < ?
+                ORDER BY node_id
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            ) e
+            WHERE l.node_id = e.node_id
+            RETURNING l.node_id, e.previous_expires_at_ms
+            """, (rs, i) -> new Claimed(rs.getInt(1), rs.getLong(2)), owner, expiresAtMs, nowMs);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 새 노드 ID (현재 최대값 + 1) 추가 (동시 추가로 충돌하면 null → 재시도)
+     */
+    public Claimed claimNew(String owner, long expiresAtMs, int maxNodeId) {
+        List<Claimed> result = jdbcTemplate.query("""
+            INSERT INTO ingest_node_lease (node_id, owner, expires_at_ms, updated_at)
+            SELECT COALESCE(MAX(node_id) + 1, 0), ?, ?, NOW()
+            FROM ingest_node_lease
+            HAVING COALESCE(MAX(node_id) + 1, 0) <= ?
+            ON CONFLICT (node_id) DO NOTHING
+            RETURNING node_id
+            """, (rs, i) -> new Claimed(rs.getInt(1), 0L), owner, expiresAtMs, maxNodeId);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 임대 연장 (다른 인스턴스가 이어받았으면 false)
+     */
+    public boolean renew(int nodeId, String owner, long expiresAtMs) {
+        return jdbcTemplate.update("""
+            UPDATE ingest_node_lease
+            SET expires_at_ms = ?, updated_at = NOW()
+            WHERE node_id = ? AND owner = ?
+            """, expiresAtMs, nodeId, owner) > 0;
+    }
+
+    /**
+     * 임대 반납 (만료 시각을 현재로 당겨 즉시 재사용 가능하게 함)
+     */
+    public void release(int nodeId, String owner, long nowMs) {
+        jdbcTemplate.update("""
+            UPDATE ingest_node_lease
+            SET expires_at_ms = LEAST(expires_at_ms, ?), updated_at = NOW()
+            WHERE node_id = ? AND owner = ?
+            """, nowMs, nodeId, owner);
+    }
+}
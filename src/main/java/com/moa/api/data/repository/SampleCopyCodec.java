@@ -0,0 +1,380 @@
+/**
+ * 작성자: 정소영
+ * 설명: 샘플 행을 PostgreSQL COPY 바이너리 형식(FORMAT binary)으로 인코딩하는 코덱
+ *      (엔티티 @Column 필드 또는 컬럼명 키의 Map 행을 실제 테이블 컬럼 타입에 맞춰 한 번만 구성)
+ */
+package com.moa.api.data.repository;
+
+import jakarta.persistence.Column;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SampleCopyCodec
+ *
+ * COPY 바이너리 형식
+ * - 헤더: "PGCOPY\n\377\r\n\0" + flags(int32) + 확장 길이(int32)
+ * - 행: 컬럼 수(int16) + 컬럼마다 [길이(int32, NULL 은 -1)][값]
+ * - 끝: -1(int16)
+ *
+ * 컬럼 값은 테이블의 실제 타입(pg_type.typname)에 맞는 바이너리 형식으로 기록
+ * - 지원: int2/int4/int8/float4/float8/numeric/bool/text/varchar/bpchar/macaddr/inet/cidr/timestamp/timestamptz
+ * - 지원하지 않는 타입이 있으면 생성 시 IllegalStateException
+ *
+ * 행 형식
+ * - of      : 엔티티 (엔티티에만 있는 필드 / 테이블에만 있는 컬럼은 COPY 대상에서 제외 → 테이블 기본값 적용)
+ * - forRows : 컬럼명 → 값 Map (JSON 수신 행, 테이블의 모든 컬럼 대상, 값 타입은 컬럼 타입으로 변환)
+ */
+public class SampleCopyCodec<T> {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    /** PostgreSQL timestamp 기준 시각 (2000-01-01 00:00:00) */
+    private static final long PG_EPOCH_SECONDS = 946_684_800L;
+
+    private final String tableName;
+    private final List<ColumnCodec<T>> columns;
+
+    private SampleCopyCodec(String tableName, List<ColumnCodec<T>> columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    /**
+     * @param columnTypes 테이블 컬럼명 → pg_type.typname
+     */
+    public static <T> SampleCopyCodec<T> of(Class<T> entityType, String tableName, Map<String, String> columnTypes) {
+        List<ColumnCodec<T>> columns = new ArrayList<>();
+
+        for (Field field : entityType.getDeclaredFields()) {
+            Column column = field.getAnnotation(Column.class);
+            if (column == null) {
+                continue;
+            }
+
+            String typeName = columnTypes.get(column.name());
+            if (typeName == null) {
+                continue;
+            }
+
+            if (!isCompatible(field.getType(), typeName)) {
+                throw new IllegalStateException("COPY 인코딩 불가 (필드 타입 불일치): "
+                        + column.name() + " " + typeName + " <- " + field.getType().getSimpleName());
+            }
+
+            field.setAccessible(true);
+            columns.add(new ColumnCodec<>(column.name(), entity -> read(field, entity), writerFor(typeName, column.name())));
+        }
+
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("COPY 대상 컬럼이 없습니다: " + tableName);
+        }
+        return new SampleCopyCodec<>(tableName, List.copyOf(columns));
+    }
+
+    /**
+     * 컬럼명 → 값 Map 행용 코덱 (테이블의 모든 컬럼, 컬럼명 순)
+     * - 행에 없는 컬럼은 NULL 로 기록
+     *
+     * @param columnTypes 테이블 컬럼명 → pg_type.typname
+     */
+    public static SampleCopyCodec<Map<String, Object>> forRows(String tableName, Map<String, String> columnTypes) {
+        if (columnTypes.isEmpty()) {
+            throw new IllegalStateException("COPY 대상 컬럼이 없습니다: " + tableName);
+        }
+
+        List<ColumnCodec<Map<String, Object>>> columns = new ArrayList<>();
+        for (Map.Entry<String, String> e : new TreeMap<>(columnTypes).entrySet()) {
+            String name = e.getKey();
+            columns.add(new ColumnCodec<>(name, row -> row.get(name), writerFor(e.getValue(), name)));
+        }
+        return new SampleCopyCodec<>(tableName, List.copyOf(columns));
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumnNames() {
+        return columns.stream().map(ColumnCodec::name).toList();
+    }
+
+    public String copySql() {
+        return "COPY " + tableName + " ("
+                + columns.stream().map(ColumnCodec::name).collect(Collectors.joining(", "))
+                + ") FROM STDIN (FORMAT binary)";
+    }
+
+    public void writeHeader(DataOutputStream out) throws IOException {
+        out.write(SIGNATURE);
+        out.writeInt(0);
+        out.writeInt(0);
+    }
+
+    public void writeRow(DataOutputStream out, T row) throws IOException {
+        out.writeShort(columns.size());
+
+        for (ColumnCodec<T> column : columns) {
+            Object value = column.accessor().apply(row);
+
+            if (value == null) {
+                out.writeInt(-1);
+            } else {
+                try {
+                    column.writer().write(out, value);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("컬럼 값 변환 실패: " + column.name() + "=" + value, e);
+                }
+            }
+        }
+    }
+
+    private static Object read(Field field, Object entity) {
+        try {
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void writeTrailer(DataOutputStream out) throws IOException {
+        out.writeShort(-1);
+    }
+
+    // ============================================
+    // 타입별 인코딩
+    // ============================================
+
+    private static ValueWriter writerFor(String typeName, String columnName) {
+        return switch (typeName) {
+            case "int2" -> (out, v) -> { out.writeInt(2); out.writeShort(toNumber(v).shortValue()); };
+            case "int4" -> (out, v) -> { out.writeInt(4); out.writeInt(toNumber(v).intValue()); };
+            case "int8" -> (out, v) -> { out.writeInt(8); out.writeLong(toNumber(v).longValue()); };
+            case "float4" -> (out, v) -> { out.writeInt(4); out.writeFloat(toNumber(v).floatValue()); };
+            case "float8" -> (out, v) -> { out.writeInt(8); out.writeDouble(toNumber(v).doubleValue()); };
+            case "numeric" -> (out, v) -> writeNumeric(out, toBigDecimal(v));
+            case "bool" -> (out, v) -> { out.writeInt(1); out.writeByte(toBoolean(v) ? 1 : 0); };
+            case "text", "varchar", "bpchar", "name" -> (out, v) -> {
+                byte[] bytes = v.toString().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            };
+            case "macaddr" -> (out, v) -> { out.writeInt(6); out.write(parseMac(v.toString())); };
+            case "inet", "cidr" -> (out, v) -> writeInet(out, v.toString(), typeName.equals("cidr"));
+            case "timestamp" -> (out, v) -> {
+                out.writeInt(8);
+                out.writeLong(toPgMicros(toLocalDateTime(v), ZoneOffset.UTC));
+            };
+            case "timestamptz" -> (out, v) -> {
+                out.writeInt(8);
+                out.writeLong(toPgMicros(toLocalDateTime(v), ZoneId.systemDefault()));
+            };
+            default -> throw new IllegalStateException(
+                    "COPY 바이너리 인코딩을 지원하지 않는 컬럼 타입: " + columnName + " " + typeName);
+        };
+    }
+
+    // ============================================
+    // 값 변환 (엔티티 필드는 그대로, JSON 행은 문자열/숫자를 컬럼 타입으로 변환)
+    // ============================================
+
+    private static Number toNumber(Object value) {
+        if (value instanceof Number n) {
+            return n;
+        }
+        if (value instanceof Boolean b) {
+            return b ? 1 : 0;
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal d) {
+            return d;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        }
+        if (value instanceof Number n) {
+            return BigDecimal.valueOf(n.longValue());
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean b) {
+            return b;
+        }
+        if (value instanceof Number n) {
+            return n.intValue() != 0;
+        }
+        String s = value.toString().trim();
+        return s.equalsIgnoreCase("true") || s.equals("1") || s.equalsIgnoreCase("t") || s.equalsIgnoreCase("y");
+    }
+
+    /**
+     * LocalDateTime / ISO 문자열 / 유닉스 초(숫자) → LocalDateTime (시스템 시간대 기준)
+     */
+    static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime t) {
+            return t;
+        }
+        if (value instanceof Number n) {
+            double seconds = n.doubleValue();
+            long whole = (long) Math.floor(seconds);
+            return LocalDateTime.ofInstant(
+                    Instant.ofEpochSecond(whole, Math.round((seconds - whole) * 1_000_000_000L)),
+                    ZoneId.systemDefault());
+        }
+
+        String text = value.toString().trim();
+        try {
+            return LocalDateTime.parse(text.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            return OffsetDateTime.parse(text.replace(' ', 'T'))
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+        }
+    }
+
+    private static boolean isCompatible(Class<?> javaType, String typeName) {
+        return switch (typeName) {
+            case "int2", "int4", "int8", "float4", "float8", "numeric" -> Number.class.isAssignableFrom(javaType);
+            case "bool" -> javaType == Boolean.class;
+            case "macaddr", "inet", "cidr" -> javaType == String.class;
+            case "timestamp", "timestamptz" -> javaType == LocalDateTime.class;
+            default -> true;
+        };
+    }
+
+    /**
+     * LocalDateTime → 2000-01-01 기준 마이크로초
+     * - timestamp 는 벽시계 값 그대로(UTC 로 간주), timestamptz 는 JDBC 와 같이 시스템 시간대로 해석
+     */
+    static long toPgMicros(LocalDateTime value, ZoneId zone) {
+        long epochSecond = value.atZone(zone).toEpochSecond();
+        return (epochSecond - PG_EPOCH_SECONDS) * 1_000_000L + value.getNano() / 1_000;
+    }
+
+    /**
+     * "aa:bb:cc:dd:ee:ff" / "aa-bb-cc-dd-ee-ff" / "aabbccddeeff" → 6 bytes
+     */
+    static byte[] parseMac(String value) {
+        String hex = value.replace(":", "").replace("-", "").replace(".", "").trim();
+        if (hex.length() != 12) {
+            throw new IllegalArgumentException("잘못된 MAC 주소: " + value);
+        }
+
+        byte[] bytes = new byte[6];
+        for (int i = 0; i < 6; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+
+    /**
+     * numeric 바이너리: ndigits(2) + weight(2) + sign(2) + dscale(2) + 10000 진법 자릿수(각 2)
+     * - weight: 첫 자릿수의 10000 지수, 자릿수는 소수점 기준으로 4자리씩 정렬
+     */
+    static void writeNumeric(DataOutputStream out, BigDecimal value) throws IOException {
+        int dscale = Math.max(value.scale(), 0);
+        BigDecimal abs = value.abs().setScale(dscale);
+
+        // 소수부 자릿수를 4의 배수로 맞춘 정수 문자열 (scale 정렬)
+        int alignedScale = (dscale + 3) / 4 * 4;
+        String digits = abs.setScale(alignedScale).unscaledValue().toString();
+
+        int intLength = digits.length() - alignedScale;
+        int pad = (4 - Math.floorMod(intLength, 4)) % 4;
+        digits = "0".repeat(pad) + digits;
+        int groups = digits.length() / 4;
+        int weight = (intLength + pad) / 4 - 1;
+
+        short[] base = new short[groups];
+        for (int i = 0; i < groups; i++) {
+            base[i] = Short.parseShort(digits.substring(i * 4, i * 4 + 4));
+        }
+
+        // 앞/뒤 0 자릿수 제거
+        int first = 0;
+        while (first < groups && base[first] == 0) {
+            first++;
+        }
+        int last = groups - 1;
+        while (last >= first && base[last] == 0) {
+            last--;
+        }
+        int ndigits = last - first + 1;
+        weight = ndigits == 0 ? 0 : weight - first;
+
+        out.writeInt(8 + ndigits * 2);
+        out.writeShort(ndigits);
+        out.writeShort(weight);
+        out.writeShort(value.signum() < 0 && ndigits > 0 ? 0x4000 : 0);
+        out.writeShort(dscale);
+        for (int i = first; i <= last; i++) {
+            out.writeShort(base[i]);
+        }
+    }
+
+    /**
+     * inet/cidr 바이너리: family(1) + bits(1) + is_cidr(1) + 주소 길이(1) + 주소
+     * - 호스트명 조회(DNS)를 피하기 위해 IP 리터럴만 허용
+     */
+    private static void writeInet(DataOutputStream out, String value, boolean cidr) throws IOException {
+        String address = value.trim();
+        int slash = address.indexOf('/');
+        Integer bits = null;
+        if (slash >= 0) {
+            bits = Integer.valueOf(address.substring(slash + 1));
+            address = address.substring(0, slash);
+        }
+
+        boolean literal = address.indexOf(':') >= 0
+                ? address.chars().allMatch(c -> Character.digit(c, 16) >= 0 || c == '.' || c == ':')
+                : address.chars().allMatch(c -> Character.isDigit(c) || c == '.');
+        if (address.isEmpty() || !literal) {
+            throw new IllegalArgumentException("잘못된 IP 주소: " + value);
+        }
+
+        byte[] bytes;
+        try {
+            bytes = InetAddress.getByName(address).getAddress();
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("잘못된 IP 주소: " + value, e);
+        }
+
+        boolean ipv4 = bytes.length == 4;
+        out.writeInt(4 + bytes.length);
+        out.writeByte(ipv4 ? 2 : 3);                          // PGSQL_AF_INET / PGSQL_AF_INET6
+        out.writeByte(bits != null ? bits : bytes.length * 8);
+        out.writeByte(cidr ? 1 : 0);
+        out.writeByte(bytes.length);
+        out.write(bytes);
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+        void write(DataOutputStream out, Object value) throws IOException;
+    }
+
+    private record ColumnCodec<T>(String name, Function<T, Object> accessor, ValueWriter writer) {}
+}
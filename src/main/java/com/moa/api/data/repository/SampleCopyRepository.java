@@ -0,0 +1,154 @@
+/**
+ * 작성자: 정소영
+ * 설명: 샘플 엔티티 목록을 JPA 를 거치지 않고 PostgreSQL COPY (FORMAT binary) 로 적재하는 Repository
+ */
+package com.moa.api.data.repository;
+
+import com.moa.api.data.config.IngestProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SampleCopyRepository
+ *
+ * - 호출 측 트랜잭션의 커넥션을 그대로 사용 (DataSourceUtils) → 롤업 갱신 등과 함께 커밋/롤백
+ * - 행은 버퍼(bufferBytes)가 찰 때마다 COPY 스트림으로 전송 (배치 전체를 메모리에 직렬화하지 않음)
+ * - 코덱은 테이블(+ 행 형식)별로 최초 1회 실제 컬럼 타입을 조회해 구성 후 재사용
+ */
+@Slf4j
+@Repository
+public class SampleCopyRepository {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final IngestProperties properties;
+
+    private final Map<String, SampleCopyCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    public SampleCopyRepository(DataSource dataSource, JdbcTemplate jdbcTemplate, IngestProperties properties) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 테이블별 COPY 코덱 (최초 호출 시 구성)
+     *
+     * @throws IllegalStateException 컬럼 타입을 COPY 로 인코딩할 수 없는 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> SampleCopyCodec<T> codecFor(Class<T> entityType, String tableName) {
+        return (SampleCopyCodec<T>) codecs.computeIfAbsent(tableName + "#" + entityType.getName(), k -> {
+            SampleCopyCodec<T> codec = SampleCopyCodec.of(entityType, tableName, getColumnTypes(tableName));
+            log.info("COPY codec ready: table={}, entity={}, columns={}",
+                    tableName, entityType.getSimpleName(), codec.getColumnNames().size());
+            return codec;
+        });
+    }
+
+    /**
+     * 테이블별 Map 행 COPY 코덱 (테이블의 모든 컬럼)
+     *
+     * @throws IllegalStateException 테이블이 없거나 컬럼 타입을 COPY 로 인코딩할 수 없는 경우
+     */
+    @SuppressWarnings("unchecked")
+    public SampleCopyCodec<Map<String, Object>> codecForRows(String tableName) {
+        return (SampleCopyCodec<Map<String, Object>>) codecs.computeIfAbsent(tableName + "#rows", k -> {
+            SampleCopyCodec<Map<String, Object>> codec = SampleCopyCodec.forRows(tableName, getColumnTypes(tableName));
+            log.info("COPY codec ready: table={}, rows, columns={}", tableName, codec.getColumnNames().size());
+            return codec;
+        });
+    }
+
+    /**
+     * 테이블 컬럼명 → pg_type.typname
+     * - to_regclass 사용: 테이블이 없어도 오류 대신 빈 결과 (호출 측 트랜잭션을 중단시키지 않음)
+     */
+    public Map<String, String> getColumnTypes(String tableName) {
+        Map<String, String> types = new HashMap<>();
+        jdbcTemplate.query("""
+            SELECT a.attname, t.typname
+            FROM pg_attribute a
+            JOIN pg_type t ON t.oid = a.atttypid
+            WHERE a.attrelid = to_regclass(?)
+                AND a.attnum > 0
+                AND NOT a.attisdropped
+            """, rs -> {
+            types.put(rs.getString(1), rs.getString(2));
+        }, tableName);
+        return types;
+    }
+
+    /**
+     * COPY 적재
+     *
+     * @return 적재된 행 수
+     */
+    public <T> long copy(SampleCopyCodec<T> codec, List<T> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copyIn = null;
+
+        try {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            copyIn = pgConnection.getCopyAPI().copyIn(codec.copySql());
+
+            int flushBytes = properties.getCopy().getBufferBytes();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(flushBytes + 8 * 1024);
+            DataOutputStream out = new DataOutputStream(buffer);
+
+            codec.writeHeader(out);
+            for (T row : rows) {
+                codec.writeRow(out, row);
+                if (buffer.size() >= flushBytes) {
+                    flush(copyIn, buffer);
+                }
+            }
+            codec.writeTrailer(out);
+            flush(copyIn, buffer);
+
+            long copied = copyIn.endCopy();
+            copyIn = null;
+            return copied;
+
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("COPY 적재 실패: " + codec.getTableName() + " - " + e.getMessage(), e);
+        } finally {
+            if (copyIn != null) {
+                try {
+                    copyIn.cancelCopy();
+                } catch (SQLException ignore) {
+                    // 이미 실패한 COPY - 원래 예외를 전달
+                }
+            }
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static void flush(CopyIn copyIn, ByteArrayOutputStream buffer) throws SQLException {
+        if (buffer.size() == 0) {
+            return;
+        }
+        byte[] bytes = buffer.toByteArray();
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.reset();
+    }
+}
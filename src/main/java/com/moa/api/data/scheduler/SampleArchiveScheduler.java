@@ -1,5 +1,10 @@
 package com.moa.api.data.scheduler;
 
+import com.moa.api.data.config.ArchiveProperties;
+import com.moa.api.data.repository.ArchiveRunHistoryRepository;
+import com.moa.api.data.service.AbstractSampleArchiveService;
+import com.moa.api.data.service.AbstractSampleArchiveService.RunResult;
+import com.moa.api.data.service.ContinuousArchivePlanner;
 import com.moa.api.data.service.EthernetSampleArchiveService;
 import com.moa.api.data.service.HttpPageSampleArchiveService;
 import com.moa.api.data.service.HttpUriSampleArchiveService;
@@ -10,6 +15,18 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 /*****************************************************************************
  CLASS NAME    : SampleArchiveScheduler
  DESCRIPTION   : 상세 트래픽 샘플(http_page / http_uri / tcp / ethernet)을
@@ -20,6 +37,19 @@ import org.springframework.stereotype.Component;
  * Sample Archive Scheduler
  *
  * 매일 오전 9시 9분에 7일 이전 데이터를 S3에 아카이브하고 삭제
+ *
+ * 병렬 실행
+ * - 레이어별 아카이브를 최대 parallelism 개까지 동시에 실행
+ *   (전체 소요 시간 = 레이어 합계 → 가장 오래 걸리는 레이어 수준)
+ * - DB 작업은 레이어 간 공유하는 dbConnectionBudget 안에서만 동시에 실행
+ * - 레이어별 실행 시간 / 초당 처리 행 수를 archive_run_history 에 기록
+ *
+ * 연속 아카이브 (continuous.enabled)
+ * - 매일 일괄 실행 대신 intervalSeconds 마다 보관 기간이 지난 구간을 작은 슬라이스로 아카이브
+ *   (하루치 만료 행을 한 번에 처리하는 대신 DB 부하를 하루 전체에 고르게 분산)
+ * - 슬라이스 크기 / 슬라이스 사이 대기는 ContinuousArchivePlanner 가 목표 처리량에 맞춰 계산
+ * - 실행 1회는 주기의 80% 안에서 끝내고, 남은 구간은 다음 실행에서 이어서 처리
+ * - 처리한 슬라이스가 있는 실행만 archive_run_history 에 기록
  */
 @Slf4j
 @Component
@@ -27,10 +57,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SampleArchiveScheduler {
 
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
     private final HttpPageSampleArchiveService httpPageSampleArchiveService;
     private final TcpSampleArchiveService tcpSampleArchiveService;
     private final HttpUriSampleArchiveService httpUriSampleArchiveService;
     private final EthernetSampleArchiveService ethernetSampleArchiveService;
+    private final ArchiveProperties properties;
+    private final ArchiveRunHistoryRepository historyRepository;
+    private final ContinuousArchivePlanner planner;
 
     /**
      * 아카이브 스케줄러
@@ -44,39 +79,122 @@ public class SampleArchiveScheduler {
      */
     @Scheduled(cron = "0 9 9 * * *", zone = "Asia/Seoul")
     public void archiveJob() {
+        if (properties.getContinuous().isEnabled()) {
+            log.info("Archive Scheduler skipped: continuous archiving is enabled");
+            purgeHistory();
+            return;
+        }
+
         log.info("========================================");
-        log.info("Archive Scheduler Started");
+        log.info("Archive Scheduler Started (parallelism={}, dbConnectionBudget={})",
+                properties.getParallelism(), properties.getDbConnectionBudget());
         log.info("========================================");
 
         long startTime = System.currentTimeMillis();
 
+        Map<String, Supplier<RunResult>> tasks = new LinkedHashMap<>();
+        tasks.put("http_page_sample", httpPageSampleArchiveService::archiveOlderThan7Days);
+        tasks.put("tcp_sample", tcpSampleArchiveService::archiveOlderThan7Days);
+        tasks.put("http_uri_sample", httpUriSampleArchiveService::archiveOlderThan7Days);
+        tasks.put("ethernet_sample", ethernetSampleArchiveService::archiveOlderThan7Days);
+
+        int parallelism = Math.max(1, Math.min(properties.getParallelism(), tasks.size()));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory())) {
+            tasks.forEach((name, task) -> executor.execute(() -> runSafe(name, task)));
+            // try-with-resources 종료 시 모든 레이어 완료까지 대기
+        }
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        log.info("========================================");
+        log.info("Archive Scheduler Completed");
+        log.info("Total Elapsed Time: {} ms", elapsedTime);
+        log.info("========================================");
+
+        purgeHistory();
+    }
+
+    /**
+     * 연속 아카이브
+     *
+     * intervalSeconds 주기 (이전 실행 종료 기준)
+     * - 레이어별로 보관 기간이 지난 구간을 슬라이스 1개씩, 주기의 80% 가 지나거나 따라잡을 때까지 처리
+     */
+    @Scheduled(fixedDelayString = "${moa.archive.continuous.interval-seconds:300}",
+            initialDelayString = "${moa.archive.continuous.interval-seconds:300}",
+            timeUnit = TimeUnit.SECONDS)
+    public void continuousArchiveJob() {
+        if (!properties.getContinuous().isEnabled()) {
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + properties.getContinuous().getIntervalSeconds() * 800L;
+
+        Map<String, AbstractSampleArchiveService> services = new LinkedHashMap<>();
+        services.put("http_page_sample", httpPageSampleArchiveService);
+        services.put("tcp_sample", tcpSampleArchiveService);
+        services.put("http_uri_sample", httpUriSampleArchiveService);
+        services.put("ethernet_sample", ethernetSampleArchiveService);
+
+        int parallelism = Math.max(1, Math.min(properties.getParallelism(), services.size()));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory())) {
+            services.forEach((name, service) -> executor.execute(() -> runContinuous(name, service, deadline)));
+        }
+    }
+
+    /**
+     * 레이어 1개 연속 아카이브 (실패해도 다른 레이어는 계속 실행)
+     */
+    private void runContinuous(String name, AbstractSampleArchiveService service, long deadline) {
+        LocalDateTime startedAt = LocalDateTime.now(ZONE_ID);
+        LocalDateTime cutoff = startedAt.minusDays(properties.getRetentionDays());
+        long startTime = System.currentTimeMillis();
+
+        RunResult total = new RunResult(0, 0, 0, false);
+
         try {
-            // 1) HTTP Page Sample
-            runSafe("http_page_sample", httpPageSampleArchiveService::archiveOlderThan7Days);
+            while (System.currentTimeMillis() < deadline) {
+                Duration slice = planner.nextSlice(name);
+                long sliceStart = System.currentTimeMillis();
 
-            // 2) TCP Sample
-            runSafe("tcp_sample", tcpSampleArchiveService::archiveOlderThan7Days);
+                RunResult result = service.archiveBefore(cutoff, slice, 1);
+                total = new RunResult(total.chunks() + result.chunks(), total.exported() + result.exported(),
+                        total.deleted() + result.deleted(), result.complete());
 
-            // 3) HTTP URI Sample
-            runSafe("http_uri_sample", httpUriSampleArchiveService::archiveOlderThan7Days);
+                if (result.chunks() > 0) {
+                    planner.record(name, slice, result.exported());
+                }
+                if (result.complete()) {
+                    break;                                  // cutoff 까지 따라잡음
+                }
 
-            // 4) Ethernet Sample
-            runSafe("ethernet_sample", ethernetSampleArchiveService::archiveOlderThan7Days);
+                long pause = Math.min(planner.pauseMillis(result.exported(), System.currentTimeMillis() - sliceStart),
+                        deadline - System.currentTimeMillis());
+                if (pause > 0) {
+                    Thread.sleep(pause);
+                }
+            }
 
-            long elapsedTime = System.currentTimeMillis() - startTime;
+            if (total.chunks() > 0) {
+                long elapsedTime = System.currentTimeMillis() - startTime;
 
-            log.info("========================================");
-            log.info("Archive Scheduler Completed Successfully");
-            log.info("Total Elapsed Time: {} ms", elapsedTime);
-            log.info("========================================");
+                log.info("[{}] Continuous archive: slices={}, exported={}, {} rows/s, rowsPerMinute={}{}",
+                        name, total.chunks(), total.exported(), rowsPerSec(total.exported(), elapsedTime),
+                        planner.getRowsPerMinute(name), total.complete() ? "" : " (behind cutoff)");
 
+                recordHistory(name, startedAt, elapsedTime, total.complete() ? "SUCCESS" : "PARTIAL", total, null);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             long elapsedTime = System.currentTimeMillis() - startTime;
 
-            log.error("========================================");
-            log.error("Archive Scheduler Failed");
-            log.error("Total Elapsed Time: {} ms", elapsedTime);
-            log.error("========================================", e);
+            log.error("[{}] Continuous archive failed ({}ms)", name, elapsedTime, e);
+
+            recordHistory(name, startedAt, elapsedTime, "FAILED", total, e.getMessage());
         }
     }
 
@@ -85,23 +203,75 @@ public class SampleArchiveScheduler {
      *
      * 개별 테이블 아카이브 실패 시에도 다른 테이블은 계속 실행
      */
-    private void runSafe(String name, Runnable task) {
+    private void runSafe(String name, Supplier<RunResult> task) {
         log.info("----------------------------------------");
         log.info("[{}] Archive Starting", name);
 
+        LocalDateTime startedAt = LocalDateTime.now(ZONE_ID);
         long startTime = System.currentTimeMillis();
 
         try {
-            task.run();
+            RunResult result = task.get();
 
             long elapsedTime = System.currentTimeMillis() - startTime;
 
-            log.info("[{}] Archive Completed Successfully ({}ms)", name, elapsedTime);
+            log.info("[{}] Archive Completed Successfully ({}ms, exported={}, {} rows/s)",
+                    name, elapsedTime, result.exported(), rowsPerSec(result.exported(), elapsedTime));
+
+            recordHistory(name, startedAt, elapsedTime, result.complete() ? "SUCCESS" : "PARTIAL", result, null);
 
         } catch (Exception e) {
             long elapsedTime = System.currentTimeMillis() - startTime;
 
             log.error("[{}] Archive Failed ({}ms)", name, elapsedTime, e);
+
+            recordHistory(name, startedAt, elapsedTime, "FAILED", null, e.getMessage());
         }
     }
+
+    private void recordHistory(String name, LocalDateTime startedAt, long elapsedTime,
+                               String status, RunResult result, String errorMessage) {
+        try {
+            historyRepository.insert(new ArchiveRunHistoryRepository.Run(
+                    name,
+                    startedAt,
+                    startedAt.plusNanos(elapsedTime * 1_000_000),
+                    elapsedTime,
+                    status,
+                    result != null ? result.chunks() : 0,
+                    result != null ? result.exported() : 0,
+                    result != null ? result.deleted() : 0,
+                    result != null ? rowsPerSec(result.exported(), elapsedTime) : 0,
+                    errorMessage
+            ));
+        } catch (Exception e) {
+            // 이력 기록 실패는 아카이브 결과에 영향을 주지 않음
+            log.warn("[{}] Failed to record archive run history", name, e);
+        }
+    }
+
+    private void purgeHistory() {
+        try {
+            int deleted = historyRepository.deleteOlderThan(
+                    LocalDateTime.now(ZONE_ID).minusDays(properties.getHistoryRetentionDays()));
+            if (deleted > 0) {
+                log.info("Archive run history purged: {}", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge archive run history", e);
+        }
+    }
+
+    private static double rowsPerSec(long rows, long elapsedMs) {
+        return elapsedMs > 0 ? Math.round(rows * 1000.0 / elapsedMs * 10) / 10.0 : 0;
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sample-archive-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
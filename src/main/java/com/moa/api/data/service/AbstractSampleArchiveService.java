@@ -1,34 +1,49 @@
 package com.moa.api.data.service;
 
+import com.moa.api.data.config.ArchiveProperties;
 import com.moa.api.data.exception.ArchiveException;
+import com.moa.api.data.repository.ArchiveCheckpointRepository;
+import com.moa.api.data.repository.ArchiveCheckpointRepository.Checkpoint;
+import com.moa.api.data.repository.ArchiveManifestRepository;
+import com.moa.api.data.util.ColumnarArchiveFormat;
+import com.moa.api.data.util.ColumnarArchiveReader;
+import com.moa.api.data.util.ColumnarArchiveWriter;
+import com.moa.global.aws.S3MultipartOutputStream;
 import com.moa.global.aws.S3Props;
+import com.moa.global.aws.S3RangeReadChannel;
 import com.moa.global.aws.S3Uploader;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /*****************************************************************************
  CLASS NAME    : AbstractSampleArchiveService
  DESCRIPTION   : 샘플 데이터 아카이브 공통 로직을 담당하는 추상 서비스
- - CSV Export → S3 업로드 → 삭제를 템플릿 메서드 패턴으로 공통화
+ - Export(압축 컬럼 포맷 / CSV) → S3 업로드 → 삭제를 템플릿 메서드 패턴으로 공통화
  - 서브 클래스는 테이블명만 구현하여 재사용
  AUTHOR        : 방대혁
  ******************************************************************************/
@@ -36,13 +51,44 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Sample Archive Service 추상 클래스
  *
  * 템플릿 메서드 패턴을 사용하여 중복 코드 제거
+ *
+ * 청크 단위 아카이브
+ * - 보관 기간이 지난 구간을 chunkMinutes 단위 시간 청크로 나누어
+ *   청크마다 Export → Upload → Delete 를 독립적으로 수행
+ *   (임시 파일 / S3 PUT / DELETE 트랜잭션 크기가 청크 1개 분량으로 제한됨)
+ * - 진행 위치는 archive_checkpoint 에 기록 → 중단된 실행은 다음 실행에서 이어서 처리
+ *
+ * 재시작 안전성
+ * - 업로드 후 삭제 전 중단: pending 청크로 기록되어 있으므로 재업로드 없이 삭제부터 수행
+ * - 업로드 전 중단: 같은 청크를 다시 Export 해서 같은 S3 키로 덮어씀
+ * - 청크 삭제와 체크포인트 이동, 아카이브 목록(archive_manifest) 기록은 한 트랜잭션
+ *   (조회 시 같은 행이 원본과 아카이브에 동시에 보이지 않음)
+ * - ts_server 는 수신 시각으로 설정되므로 체크포인트 이전 시각의 행이 새로 들어오지 않음
+ *
+ * 업로드 검증 (verifyUploads)
+ * - 기록하는 동안 파트별 SHA-256 을 계산해 S3 에 함께 전송 (S3 가 파트 수신 시 검증, 객체에 체크섬 기록)
+ * - 삭제 전 HEAD 1회로 객체 크기 / S3 에 기록된 체크섬을 기록한 값과 비교
+ *   컬럼 포맷은 footer 만 Range GET 으로 읽어 행 수까지 비교 (객체 전체를 다시 읽지 않음)
+ * - 검증에 실패하면 행을 삭제하지 않음 (다음 실행에서 같은 청크를 다시 Export)
+ * - 삭제 트랜잭션에서 지운 행 수가 Export 행 수와 다르면 롤백 (Export 이후 들어온 행을 지우지 않음)
+ * - 행 수 / 체크섬은 pending 체크포인트와 아카이브 목록에 함께 기록
+ *
+ * 파티션 테이블 (SamplePartitionManager)
+ * - 상한이 cutoff 이하인 일 파티션은 1개씩 부모에서 분리(detach)한 직후
+ *   분리된 테이블을 같은 청크 단위로 Export → Upload 하고, 행 DELETE 없이 테이블을 DROP
+ * - 분리된 테이블의 아직 아카이브 목록에 없는 행은 ArchiveQueryService 가 조회에 포함
+ * - 분리된 테이블의 진행 위치는 파티션 이름으로 체크포인트에 기록 (DROP 후 삭제)
+ * - cutoff 가 걸친 파티션 / 전환 전 legacy 파티션의 만료 행은 기존 행 단위 경로로 처리
  */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class AbstractSampleArchiveService {
 
     protected static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
     protected static final String TS_COLUMN = "ts_server";
+    protected static final String NSEC_COLUMN = "ts_server_nsec";
+
+    /** 청크 Export 조회 시 한 번에 가져오는 행 수 (GridExportService 기본값과 같음) */
+    private static final int FETCH_SIZE = 5_000;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH-mm-ss");
@@ -50,6 +96,26 @@ public abstract class AbstractSampleArchiveService {
     protected final JdbcTemplate jdbcTemplate;
     protected final S3Uploader s3Uploader;
     protected final S3Props s3Props;
+    protected final ArchiveProperties properties;
+    protected final ArchiveCheckpointRepository checkpointRepository;
+    protected final ArchiveManifestRepository manifestRepository;
+    protected final ArchiveManifestIndex manifestIndex;
+    protected final TransactionTemplate transactionTemplate;
+    protected final SamplePartitionManager partitionManager;
+    protected final Semaphore dbBudget;
+
+    protected AbstractSampleArchiveService(SampleArchiveContext context) {
+        this.jdbcTemplate = context.getJdbcTemplate();
+        this.s3Uploader = context.getS3Uploader();
+        this.s3Props = context.getS3Props();
+        this.properties = context.getProperties();
+        this.checkpointRepository = context.getCheckpointRepository();
+        this.manifestRepository = context.getManifestRepository();
+        this.manifestIndex = context.getManifestIndex();
+        this.transactionTemplate = context.getTransactionTemplate();
+        this.partitionManager = context.getPartitionManager();
+        this.dbBudget = context.getDbBudget();
+    }
 
     /**
      * 테이블 이름 반환 (서브클래스에서 구현)
@@ -57,40 +123,81 @@ public abstract class AbstractSampleArchiveService {
     protected abstract String getTableName();
 
     /**
-     * 7일 이전 데이터 아카이브
+     * 보관 기간(기본 7일) 이전 데이터 아카이브
+     */
+    public RunResult archiveOlderThan7Days() {
+        return archiveBefore(LocalDateTime.now(ZONE_ID).minusDays(properties.getRetentionDays()));
+    }
+
+    /**
+     * cutoff 이전 데이터를 청크 단위로 아카이브 (chunkMinutes / maxChunksPerRun 설정 사용)
+     */
+    public RunResult archiveBefore(LocalDateTime cutoff) {
+        return archiveBefore(cutoff, Duration.ofMinutes(properties.getChunkMinutes()), properties.getMaxChunksPerRun());
+    }
+
+    /**
+     * cutoff 이전 데이터를 chunk 단위로 최대 maxChunks 개 아카이브
+     * - cutoff 는 청크 경계로 내림 (마지막 청크도 항상 전체 구간)
+     * - 연속 아카이브는 작은 chunk(슬라이스) 로 1개씩 호출
+     *
+     * @param maxChunks 처리할 최대 청크 수 (0 이하면 제한 없음)
      */
-    public void archiveOlderThan7Days() {
+    public RunResult archiveBefore(LocalDateTime cutoff, Duration chunk, int maxChunks) {
         String tableName = getTableName();
-        LocalDateTime cutoff = LocalDateTime.now(ZONE_ID).minusDays(7);
+        LocalDateTime end = floorToChunk(cutoff, chunk);
 
-        log.info("[{}] Starting archive: cutoff={}", tableName, cutoff);
+        log.info("[{}] Starting archive: cutoff={}, chunk={}m", tableName, end, chunk.toMinutes());
 
-        try {
-            // 1) CSV Export
-            ExportResult result = exportToCsv(cutoff);
+        RunResult total = new RunResult(0, 0, 0, true);
 
-            if (result.rowCount() == 0) {
-                log.info("[{}] No data to archive (cutoff={})", tableName, cutoff);
-                safeDeleteTempFile(result.file());
-                return;
+        try {
+            // 1) 만료 파티션 Export → DROP
+            //    이전 실행에서 분리만 된 파티션을 먼저 마무리한 뒤, 남은 만료 파티션은 1개씩 분리 직후 Export
+            //    (분리된 채로 남는 파티션은 처리 중인 1개뿐)
+            if (partitionManager.isEnabled()) {
+                for (String partition : partitionManager.findDetached(tableName)) {
+                    total = checkBudget(total, maxChunks);
+                    if (!total.complete()) {
+                        break;
+                    }
+                    total = total.plus(archiveDetachedPartition(partition, chunk, remainingChunks(total, maxChunks)));
+                }
+
+                if (total.complete() && partitionManager.isPartitioned(tableName)) {
+                    for (SamplePartitionManager.PartitionInfo partition
+                            : withDbPermit(() -> partitionManager.findExpired(tableName, end))) {
+                        total = checkBudget(total, maxChunks);
+                        if (!total.complete()) {
+                            break;
+                        }
+                        withDbPermit(() -> {
+                            partitionManager.detach(tableName, partition);
+                            return null;
+                        });
+                        total = total.plus(archiveDetachedPartition(partition.name(), chunk, remainingChunks(total, maxChunks)));
+                    }
+                }
             }
 
-            // 2) S3 Upload
-            String s3Key = uploadToS3(result.file(), cutoff);
-
-            // 3) Delete Old Rows
-            int deleted = deleteOldRows(cutoff);
+            // 2) 남은 만료 행 (파티션되지 않은 테이블 / cutoff 가 걸친 파티션)
+            if (total.complete()) {
+                total = checkBudget(total, maxChunks);
+            }
+            if (total.complete()) {
+                total = total.plus(archiveChunks(ChunkSource.rows(tableName), end, chunk, remainingChunks(total, maxChunks)));
+            }
 
-            // 4) Cleanup
-            safeDeleteTempFile(result.file());
+            log.info("[{}] Archive completed: cutoff={}, chunks={}, exported={}, deleted={}{}",
+                    tableName, end, total.chunks(), total.exported(), total.deleted(),
+                    total.complete() ? "" : " (remaining chunks deferred to next run)");
 
-            log.info("[{}] Archive completed: cutoff={}, exported={}, deleted={}, s3Key={}",
-                    tableName, cutoff, result.rowCount(), deleted, s3Key);
+            return total;
 
         } catch (ArchiveException e) {
             throw e;
         } catch (Exception e) {
-            log.error("[{}] Archive failed: cutoff={}", tableName, cutoff, e);
+            log.error("[{}] Archive failed: cutoff={}, chunks={}", tableName, end, total.chunks(), e);
             throw new ArchiveException(
                     ArchiveException.ErrorCode.ARCHIVE_FAILED,
                     e
@@ -99,184 +206,566 @@ public abstract class AbstractSampleArchiveService {
     }
 
     /**
-     * CSV Export
+     * 분리된 파티션 전체를 Export 한 뒤 DROP
      */
-    private ExportResult exportToCsv(LocalDateTime cutoff) {
-        String tableName = getTableName();
+    private RunResult archiveDetachedPartition(String partition, Duration chunk, int maxChunks) {
+        Timestamp last = withDbPermit(() -> jdbcTemplate.queryForObject(
+                String.format("SELECT MAX(%s) FROM %s", TS_COLUMN, partition), Timestamp.class));
+
+        RunResult result = new RunResult(0, 0, 0, true);
+        if (last != null) {
+            LocalDateTime end = floorToChunk(last.toLocalDateTime(), chunk).plus(chunk);
+            result = archiveChunks(ChunkSource.detached(partition), end, chunk, maxChunks);
+        }
+
+        if (result.complete()) {
+            partitionManager.drop(partition);
+            checkpointRepository.delete(partition);
+            log.info("[{}] Detached partition archived and dropped: {}, exported={}",
+                    getTableName(), partition, result.exported());
+        }
+        return result;
+    }
+
+    /**
+     * source 의 [체크포인트, end) 구간을 청크 단위로 처리
+     *
+     * @param maxChunks 처리할 최대 청크 수 (0 이하면 제한 없음)
+     */
+    private RunResult archiveChunks(ChunkSource source, LocalDateTime end, Duration chunk, int maxChunks) {
+        int chunks = 0;
+        long exported = 0;
+        long deleted = 0;
+
+        Checkpoint checkpoint = checkpointRepository.find(source.checkpointName());
+
+        // 0) 이전 실행에서 업로드 후 삭제하지 못한 청크 마무리
+        if (checkpoint.hasPending()) {
+            log.info("[{}] Resuming pending chunk: [{}, {}), s3Key={}",
+                    source.table(), checkpoint.pendingChunkStart(), checkpoint.pendingChunkEnd(), checkpoint.pendingS3Key());
+            try {
+                verifyUpload(checkpoint.pendingS3Key(), checkpoint.pendingBytes(), checkpoint.pendingChecksum(),
+                        checkpoint.pendingRows());
+
+                deleted += finishChunk(source, checkpoint.pendingChunkStart(), checkpoint.pendingChunkEnd(),
+                        checkpoint.pendingRows(),
+                        manifestEntry(checkpoint.pendingS3Key(), checkpoint.pendingChunkStart(), checkpoint.pendingChunkEnd(),
+                                new WrittenChunk(checkpoint.pendingRows(), checkpoint.pendingColumns(),
+                                        checkpoint.pendingMinTsServerNsec(), checkpoint.pendingMaxTsServerNsec()),
+                                checkpoint.pendingBytes(), checkpoint.pendingChecksum()));
+                exported += checkpoint.pendingRows();
+                chunks++;
+            } catch (ArchiveException e) {
+                if (e.getErrorCode() != ArchiveException.ErrorCode.ARCHIVE_VERIFY_FAILED) {
+                    throw e;
+                }
+                // 객체가 없거나 손상 → 행은 그대로이므로 pending 만 해제하고 같은 청크를 다시 Export
+                log.warn("[{}] Pending chunk failed verification, re-exporting: {}", source.table(), e.getMessage());
+                checkpointRepository.clearPending(source.checkpointName());
+            }
+            checkpoint = checkpointRepository.find(source.checkpointName());
+        }
+
+        LocalDateTime from = checkpoint.archivedUntil();
+        LocalDateTime next = findFirstTimestamp(source, from, end);
+
+        while (next != null && (maxChunks <= 0 || chunks < maxChunks)) {
+            LocalDateTime chunkStart = floorToChunk(next, chunk);
+            if (from != null && chunkStart.isBefore(from)) {
+                chunkStart = from;            // 청크 크기 변경 시 이미 처리한 구간과 겹치지 않도록
+            }
+            LocalDateTime chunkEnd = floorToChunk(next, chunk).plus(chunk);
+            if (chunkEnd.isAfter(end)) {
+                chunkEnd = end;
+            }
+
+            ChunkResult result = archiveChunk(source, chunkStart, chunkEnd);
+            exported += result.exported();
+            deleted += result.deleted();
+            chunks++;
+
+            from = chunkEnd;
+            next = findFirstTimestamp(source, chunkEnd, end);
+        }
+
+        return new RunResult(chunks, exported, deleted, next == null);
+    }
+
+    /**
+     * 청크 1개 처리: Export → Upload → 검증 → (pending 기록) → Delete + 체크포인트 이동
+     */
+    private ChunkResult archiveChunk(ChunkSource source, LocalDateTime chunkStart, LocalDateTime chunkEnd) {
+        // 1) Export → S3 Upload (컬럼 포맷 / CSV, 스트리밍)
+        ExportResult result = exportToS3(source, chunkStart, chunkEnd);
+
+        if (result.rowCount() == 0) {
+            finishChunk(source, chunkStart, chunkEnd, 0, null);
+            return new ChunkResult(0, 0);
+        }
+
+        // 2) 업로드 객체 검증 (HEAD / footer Range GET) - 실패하면 삭제하지 않음
+        verifyUpload(result.s3Url(), result.bytes(), result.checksum(), result.rowCount());
+
+        WrittenChunk written = result.written();
+        checkpointRepository.markPending(source.checkpointName(), chunkStart, chunkEnd,
+                result.s3Url(), result.rowCount(), result.checksum(), result.bytes(),
+                written.columns(), written.minTsServerNsec(), written.maxTsServerNsec());
+
+        // 3) Delete Chunk Rows + 체크포인트 이동 + 아카이브 목록 기록
+        int deleted = finishChunk(source, chunkStart, chunkEnd, result.rowCount(),
+                manifestEntry(result.s3Url(), chunkStart, chunkEnd, result.written(), result.bytes(), result.checksum()));
+
+        log.info("[{}] Chunk archived: [{}, {}), exported={}, bytes={}, deleted={}, s3Key={}",
+                source.table(), chunkStart, chunkEnd, result.rowCount(), result.bytes(), deleted, result.s3Url());
+
+        return new ChunkResult(result.rowCount(), deleted);
+    }
 
+    /**
+     * 청크 삭제 + 체크포인트 이동 + 아카이브 목록 기록 (한 트랜잭션)
+     * - 분리된 파티션은 행을 지우지 않음 (전체 Export 후 DROP)
+     * - 삭제 행 수가 Export 한 행 수와 다르면 (Export 이후 청크 구간에 행이 추가/삭제됨) 롤백하고
+     *   pending 을 해제 → 같은 청크를 다시 Export (아카이브되지 않은 행을 지우지 않음)
+     *
+     * @param exported 업로드한 객체의 행 수 (빈 청크면 0)
+     * @param manifest 업로드한 객체 (빈 청크면 null)
+     * @throws ArchiveException ARCHIVE_VERIFY_FAILED (삭제 행 수 불일치)
+     */
+    private int finishChunk(ChunkSource source, LocalDateTime chunkStart, LocalDateTime chunkEnd,
+                            long exported, ArchiveManifestRepository.Entry manifest) {
+        Integer deleted;
         try {
-            Path tempFile = createTempFile();
-
-            AtomicBoolean headerWritten = new AtomicBoolean(false);
-            AtomicInteger rowCount = new AtomicInteger(0);
-
-            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8);
-                 CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT)) {
-
-                String sql = buildSelectSql();
-
-                jdbcTemplate.query(con -> {
-                    var ps = con.prepareStatement(sql);
-                    ps.setTimestamp(1, Timestamp.valueOf(cutoff));
-                    return ps;
-                }, rs -> {
-                    try {
-                        ResultSetMetaData meta = rs.getMetaData();
-                        int colCount = meta.getColumnCount();
-
-                        // 헤더 작성 (첫 row에서만)
-                        if (!headerWritten.get()) {
-                            List<String> headers = new ArrayList<>(colCount);
-                            for (int i = 1; i <= colCount; i++) {
-                                headers.add(meta.getColumnLabel(i));
-                            }
-                            csvPrinter.printRecord(headers);
-                            headerWritten.set(true);
-                        }
+            deleted = withDbPermit(() -> transactionTemplate.execute(status -> {
+                int count = source.deleteRows() ? deleteRows(source.table(), chunkStart, chunkEnd) : 0;
+                if (source.deleteRows() && count != exported) {
+                    throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_VERIFY_FAILED,
+                            source.table() + " [" + chunkStart + ", " + chunkEnd + ") deleted " + count
+                                    + " != exported " + exported);
+                }
+                checkpointRepository.complete(source.checkpointName(), chunkEnd);
+                if (manifest != null) {
+                    manifestRepository.upsert(manifest);
+                }
+                return count;
+            }));
+        } catch (ArchiveException e) {
+            if (e.getErrorCode() == ArchiveException.ErrorCode.ARCHIVE_VERIFY_FAILED) {
+                checkpointRepository.clearPending(source.checkpointName());
+            }
+            throw e;
+        }
+        if (manifest != null) {
+            manifestIndex.put(manifest);              // 커밋 후 이 노드의 인덱스에 즉시 반영
+        }
+        return deleted != null ? deleted : 0;
+    }
 
-                        // 데이터 작성
-                        List<Object> values = new ArrayList<>(colCount);
-                        for (int i = 1; i <= colCount; i++) {
-                            values.add(rs.getObject(i));
-                        }
-                        csvPrinter.printRecord(values);
-                        rowCount.incrementAndGet();
+    /**
+     * 아카이브 목록 항목 (s3Url = s3://bucket/key, 분리된 파티션도 원본 테이블 이름으로 기록)
+     */
+    private ArchiveManifestRepository.Entry manifestEntry(String s3Url, LocalDateTime chunkStart,
+                                                          LocalDateTime chunkEnd, WrittenChunk written, long bytes,
+                                                          String checksum) {
+        String[] location = splitS3Url(s3Url);
+        if (location == null) {
+            log.warn("[{}] Unrecognized archive location, not recorded in manifest: {}", getTableName(), s3Url);
+            return null;
+        }
+        String key = location[1];
 
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                });
+        return new ArchiveManifestRepository.Entry(
+                getTableName(),
+                location[0],
+                key,
+                key.endsWith("." + ColumnarArchiveFormat.FILE_EXTENSION)
+                        ? ArchiveProperties.Format.Type.COLUMNAR.name()
+                        : ArchiveProperties.Format.Type.CSV.name(),
+                chunkStart,
+                chunkEnd,
+                written.minTsServerNsec(),
+                written.maxTsServerNsec(),
+                written.rowCount(),
+                bytes,
+                checksum,
+                written.columns(),
+                null
+        );
+    }
+
+    /**
+     * 업로드 객체 검증 (삭제 전)
+     * - HEAD: 크기 / SHA-256 체크섬 (S3 가 체크섬을 돌려주지 않는 저장소면 크기만 비교)
+     * - 컬럼 포맷: footer 의 행 수
+     *
+     * @param expectedBytes    기록한 바이트 수 (0 이하면 비교하지 않음)
+     * @param expectedChecksum 기록한 체크섬 (null 이면 비교하지 않음)
+     * @throws ArchiveException ARCHIVE_VERIFY_FAILED
+     */
+    private void verifyUpload(String s3Url, long expectedBytes, String expectedChecksum, long expectedRows) {
+        if (!properties.isVerifyUploads()) {
+            return;
+        }
+
+        String[] location = splitS3Url(s3Url);
+        if (location == null) {
+            throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_VERIFY_FAILED, "unrecognized location " + s3Url);
+        }
+        String bucket = location[0];
+        String key = location[1];
 
-            } catch (UncheckedIOException e) {
-                throw e.getCause();
+        try {
+            HeadObjectResponse head = s3Uploader.head(bucket, key);
+
+            if (expectedBytes > 0 && head.contentLength() != expectedBytes) {
+                throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_VERIFY_FAILED,
+                        s3Url + " size " + head.contentLength() + " != " + expectedBytes);
+            }
+            if (expectedChecksum != null && head.checksumSHA256() != null
+                    && !sameChecksum(expectedChecksum, head.checksumSHA256())) {
+                throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_VERIFY_FAILED,
+                        s3Url + " checksum " + head.checksumSHA256() + " != " + expectedChecksum);
             }
 
-            log.info("[{}] CSV export completed: file={}, rows={}",
-                    tableName, tempFile, rowCount.get());
+            if (key.endsWith("." + ColumnarArchiveFormat.FILE_EXTENSION)) {
+                try (S3RangeReadChannel channel = s3Uploader.openRangeChannel(bucket, key);
+                     ColumnarArchiveReader reader = ColumnarArchiveReader.open(channel)) {
+                    if (reader.getRowCount() != expectedRows) {
+                        throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_VERIFY_FAILED,
+                                s3Url + " rows " + reader.getRowCount() + " != " + expectedRows);
+                    }
+                }
+            }
 
-            return new ExportResult(tempFile, rowCount.get());
+            log.debug("[{}] Upload verified: {}, bytes={}, checksum={}, rows={}",
+                    getTableName(), s3Url, head.contentLength(), head.checksumSHA256(), expectedRows);
 
-        } catch (IOException e) {
-            log.error("[{}] CSV export failed", tableName, e);
-            throw new ArchiveException(
-                    ArchiveException.ErrorCode.CSV_EXPORT_FAILED,
-                    e
-            );
+        } catch (ArchiveException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_VERIFY_FAILED, s3Url + " (" + e + ")");
         }
     }
 
     /**
-     * S3 Upload
+     * S3 체크섬 비교 - 멀티파트 객체의 "-파트 수" 는 양쪽에 모두 있을 때만 비교
      */
-    private String uploadToS3(Path file, LocalDateTime cutoff) {
-        String tableName = getTableName();
+    static boolean sameChecksum(String expected, String actual) {
+        int e = expected.indexOf('-');
+        int a = actual.indexOf('-');
+        if (e >= 0 && a >= 0) {
+            return expected.equals(actual);
+        }
+        return (e >= 0 ? expected.substring(0, e) : expected).equals(a >= 0 ? actual.substring(0, a) : actual);
+    }
+
+    /**
+     * s3://bucket/key → [bucket, key] (형식이 다르면 null)
+     */
+    private static String[] splitS3Url(String s3Url) {
+        if (s3Url == null || !s3Url.startsWith("s3://") || s3Url.indexOf('/', 5) < 0) {
+            return null;
+        }
+        int slash = s3Url.indexOf('/', 5);
+        return new String[]{s3Url.substring(5, slash), s3Url.substring(slash + 1)};
+    }
+
+    /**
+     * [from, end) 구간의 가장 이른 ts_server (없으면 null)
+     */
+    private LocalDateTime findFirstTimestamp(ChunkSource source, LocalDateTime from, LocalDateTime end) {
+        String sql = from != null
+                ? String.format("SELECT MIN(%s) FROM %s WHERE %s >= ? AND %s < ?", TS_COLUMN, source.table(), TS_COLUMN, TS_COLUMN)
+                : String.format("SELECT MIN(%s) FROM %s WHERE %s < ?", TS_COLUMN, source.table(), TS_COLUMN);
+
+        Timestamp first = withDbPermit(() -> from != null
+                ? jdbcTemplate.queryForObject(sql, Timestamp.class, Timestamp.valueOf(from), Timestamp.valueOf(end))
+                : jdbcTemplate.queryForObject(sql, Timestamp.class, Timestamp.valueOf(end)));
+
+        return first != null ? first.toLocalDateTime() : null;
+    }
 
+    /**
+     * 이번 실행에서 더 처리할 수 있는 청크 수 (0 이면 제한 없음)
+     */
+    private static int remainingChunks(RunResult total, int maxChunks) {
+        return maxChunks <= 0 ? 0 : maxChunks - total.chunks();
+    }
+
+    private static boolean isBudgetExhausted(RunResult total, int maxChunks) {
+        return maxChunks > 0 && total.chunks() >= maxChunks;
+    }
+
+    /**
+     * 청크 수 제한에 도달했으면 미완료로 표시 (남은 처리는 다음 실행)
+     */
+    private static RunResult checkBudget(RunResult total, int maxChunks) {
+        return isBudgetExhausted(total, maxChunks) ? total.plus(new RunResult(0, 0, 0, false)) : total;
+    }
+
+    /**
+     * 공유 DB 커넥션 예산 안에서 실행 (레이어 병렬 실행 시 동시 DB 작업 수 제한)
+     */
+    private <T, E extends Exception> T withDbPermit(DbWork<T, E> work) throws E {
+        try {
+            dbBudget.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_FAILED, e);
+        }
         try {
-            String s3Key = buildS3Key(cutoff);
-            String bucket = s3Props.getS3().getBucket();
-            String prefix = s3Props.getS3().getNormalizedPrefix();
+            return work.run();
+        } finally {
+            dbBudget.release();
+        }
+    }
 
-            String fullKey = buildFullS3Key(prefix, s3Key);
+    @FunctionalInterface
+    private interface DbWork<T, E extends Exception> {
+        T run() throws E;
+    }
 
-            s3Uploader.upload(bucket, fullKey, file, "text/csv; charset=utf-8");
+    /**
+     * Export → S3 스트리밍 업로드 (임시 파일 없음)
+     * - 조회 결과를 멀티파트 업로드 스트림에 바로 기록하고, 기록이 끝나면 업로드 완료
+     * - 기록 중 실패하면 업로드를 취소하므로 부분 객체가 남지 않음
+     */
+    private ExportResult exportToS3(ChunkSource source, LocalDateTime chunkStart, LocalDateTime chunkEnd) {
+        String tableName = source.table();
+        String bucket = s3Props.getS3().getBucket();
+        String fullKey = buildFullS3Key(s3Props.getS3().getNormalizedPrefix(), buildS3Key(chunkStart, chunkEnd));
 
-            String s3Url = "s3://" + bucket + "/" + fullKey;
+        S3MultipartOutputStream upload = s3Uploader.openStream(bucket, fullKey, null,
+                isColumnar() ? ColumnarArchiveFormat.CONTENT_TYPE : "text/csv; charset=utf-8");
 
-            log.info("[{}] S3 upload completed: {}", tableName, s3Url);
+        WrittenChunk written;
+        try {
+            written = withDbPermit(() -> isColumnar()
+                    ? writeColumnar(source, chunkStart, chunkEnd, upload)
+                    : writeCsv(source, chunkStart, chunkEnd, upload));
+        } catch (IOException | RuntimeException e) {
+            upload.abort();
+            log.error("[{}] Export failed: [{}, {})", tableName, chunkStart, chunkEnd, e);
+            throw new ArchiveException(
+                    isColumnar() ? ArchiveException.ErrorCode.COLUMNAR_EXPORT_FAILED : ArchiveException.ErrorCode.CSV_EXPORT_FAILED,
+                    e
+            );
+        }
 
-            return s3Url;
+        if (written.rowCount() == 0) {
+            upload.abort();
+            return new ExportResult(null, written, 0, null);
+        }
 
-        } catch (Exception e) {
-            log.error("[{}] S3 upload failed", tableName, e);
+        try {
+            upload.close();
+        } catch (IOException e) {
+            log.error("[{}] S3 upload failed: [{}, {})", tableName, chunkStart, chunkEnd, e);
             throw new ArchiveException(
                     ArchiveException.ErrorCode.S3_UPLOAD_FAILED,
                     e
             );
         }
+
+        String s3Url = "s3://" + bucket + "/" + fullKey;
+
+        log.debug("[{}] Export uploaded: [{}, {}), rows={}, bytes={}, s3Url={}",
+                tableName, chunkStart, chunkEnd, written.rowCount(), upload.getBytesWritten(), s3Url);
+
+        return new ExportResult(s3Url, written, upload.getBytesWritten(), upload.getChecksumSha256());
     }
 
     /**
-     * Delete Old Rows
+     * CSV 기록 (out 은 닫지 않음)
+     *
+     * @return 기록한 행 수 / 컬럼 / ts_server_nsec 범위
      */
-    private int deleteOldRows(LocalDateTime cutoff) {
-        String tableName = getTableName();
+    private WrittenChunk writeCsv(ChunkSource source, LocalDateTime chunkStart, LocalDateTime chunkEnd, OutputStream out)
+            throws IOException {
+        AtomicBoolean headerWritten = new AtomicBoolean(false);
+        AtomicInteger rowCount = new AtomicInteger(0);
+        List<String> columns = new ArrayList<>();
+        NsecRange nsec = new NsecRange();
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
 
         try {
-            String deleteSql = buildDeleteSql();
-            int deleted = jdbcTemplate.update(deleteSql, Timestamp.valueOf(cutoff));
+            queryChunk(source, chunkStart, chunkEnd, rs -> {
+                try {
+                    ResultSetMetaData meta = rs.getMetaData();
+                    int colCount = meta.getColumnCount();
 
-            log.info("[{}] Delete completed: cutoff={}, deleted={}",
-                    tableName, cutoff, deleted);
+                    // 헤더 작성 (첫 row에서만)
+                    if (!headerWritten.get()) {
+                        for (int i = 1; i <= colCount; i++) {
+                            columns.add(meta.getColumnLabel(i));
+                        }
+                        csvPrinter.printRecord(columns);
+                        headerWritten.set(true);
+                        nsec.column = columns.indexOf(NSEC_COLUMN);
+                    }
 
-            return deleted;
+                    // 데이터 작성
+                    List<Object> values = new ArrayList<>(colCount);
+                    for (int i = 1; i <= colCount; i++) {
+                        values.add(rs.getObject(i));
+                    }
+                    csvPrinter.printRecord(values);
+                    rowCount.incrementAndGet();
+                    if (nsec.column >= 0 && values.get(nsec.column) instanceof Number n) {
+                        nsec.add(n.doubleValue());
+                    }
 
-        } catch (Exception e) {
-            log.error("[{}] Delete failed: cutoff={}", tableName, cutoff, e);
-            throw new ArchiveException(
-                    ArchiveException.ErrorCode.DELETE_FAILED,
-                    e
-            );
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+
+        csvPrinter.flush();
+        return new WrittenChunk(rowCount.get(), columns, nsec.min, nsec.max);
     }
 
     /**
-     * 임시 파일 생성
+     * 컬럼 포맷 기록 (out 은 닫지 않음)
+     * - 셀마다 getObject 로 Object 를 만들지 않고 타입별 getter 로 바로 컬럼 버퍼에 인코딩
+     * - 행 그룹(rowGroupRows)마다 압축해서 내보내므로 메모리는 행 그룹 1개 분량만 사용
+     * - ts_server_nsec 범위는 행 그룹 통계를 합쳐서 계산 (행마다 따로 읽지 않음)
+     *
+     * @return 기록한 행 수 / 컬럼 / ts_server_nsec 범위
      */
-    private Path createTempFile() {
-        String tableName = getTableName();
+    private WrittenChunk writeColumnar(ChunkSource source, LocalDateTime chunkStart, LocalDateTime chunkEnd, OutputStream out)
+            throws IOException {
+        ArchiveProperties.Format format = properties.getFormat();
+        ColumnarArchiveWriter[] writer = new ColumnarArchiveWriter[1];
 
         try {
-            return Files.createTempFile(tableName + "_", ".csv");
-        } catch (IOException e) {
-            log.error("[{}] Temp file creation failed", tableName, e);
+            queryChunk(source, chunkStart, chunkEnd, rs -> {
+                try {
+                    if (writer[0] == null) {
+                        writer[0] = new ColumnarArchiveWriter(out,
+                                ColumnarArchiveWriter.columnsOf(rs.getMetaData()),
+                                format.getRowGroupRows(), format.getCompressionLevel());
+                    }
+                    writer[0].writeRow(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (writer[0] == null) {
+            return new WrittenChunk(0, List.of(), null, null);
+        }
+        writer[0].finish();                           // 마지막 행 그룹 + footer
+
+        List<String> columns = writer[0].getColumns().stream().map(ColumnarArchiveFormat.Column::name).toList();
+        ColumnarArchiveFormat.ColumnRange range = columns.contains(NSEC_COLUMN)
+                ? ColumnarArchiveFormat.ColumnRange.of(writer[0].getRowGroups(), columns.indexOf(NSEC_COLUMN))
+                : null;
+
+        return new WrittenChunk(writer[0].getRowCount(), columns,
+                range != null && range.min() instanceof Number min ? min.doubleValue() : null,
+                range != null && range.max() instanceof Number max ? max.doubleValue() : null);
+    }
+
+    /**
+     * 청크 구간 [start, end) 조회
+     * - 읽기 전용 트랜잭션(autocommit off) + fetch size 로 커서 조회
+     *   → pgjdbc 가 청크 전체를 메모리에 올리지 않고 FETCH_SIZE 행씩 가져옴
+     */
+    private void queryChunk(ChunkSource source, LocalDateTime chunkStart, LocalDateTime chunkEnd,
+                            RowCallbackHandler handler) {
+        String sql = buildSelectSql(source.table());
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setTimestamp(1, Timestamp.valueOf(chunkStart));
+            ps.setTimestamp(2, Timestamp.valueOf(chunkEnd));
+            return ps;
+        }, handler));
+    }
+
+    /**
+     * Delete Chunk Rows
+     */
+    private int deleteRows(String tableName, LocalDateTime chunkStart, LocalDateTime chunkEnd) {
+        try {
+            String deleteSql = buildDeleteSql(tableName);
+            int deleted = jdbcTemplate.update(deleteSql, Timestamp.valueOf(chunkStart), Timestamp.valueOf(chunkEnd));
+
+            log.debug("[{}] Delete completed: [{}, {}), deleted={}",
+                    tableName, chunkStart, chunkEnd, deleted);
+
+            return deleted;
+
+        } catch (Exception e) {
+            log.error("[{}] Delete failed: [{}, {})", tableName, chunkStart, chunkEnd, e);
             throw new ArchiveException(
-                    ArchiveException.ErrorCode.TEMP_FILE_CREATION_FAILED,
+                    ArchiveException.ErrorCode.DELETE_FAILED,
                     e
             );
         }
     }
 
     /**
-     * SELECT SQL 생성
+     * SELECT SQL 생성 (청크 구간 [start, end))
      */
-    private String buildSelectSql() {
+    private String buildSelectSql(String tableName) {
         return String.format(
-                "SELECT * FROM %s WHERE %s < ?",
-                getTableName(),
+                "SELECT * FROM %s WHERE %s >= ? AND %s < ?",
+                tableName,
+                TS_COLUMN,
                 TS_COLUMN
         );
     }
 
     /**
-     * DELETE SQL 생성
+     * DELETE SQL 생성 (청크 구간 [start, end))
      */
-    private String buildDeleteSql() {
+    private String buildDeleteSql(String tableName) {
         return String.format(
-                "DELETE FROM %s WHERE %s < ?",
-                getTableName(),
+                "DELETE FROM %s WHERE %s >= ? AND %s < ?",
+                tableName,
+                TS_COLUMN,
                 TS_COLUMN
         );
     }
 
     /**
      * S3 객체 키 생성
+     * - 청크 구간으로 결정되므로 같은 청크를 다시 올리면 같은 객체를 덮어씀
      */
-    private String buildS3Key(LocalDateTime cutoff) {
+    private String buildS3Key(LocalDateTime chunkStart, LocalDateTime chunkEnd) {
         String tableName = getTableName();
-        String datePart = cutoff.format(DATE_FORMATTER);
-        String timePart = cutoff.format(TIME_FORMATTER);
-        int monthValue = cutoff.getMonthValue();
+        String datePart = chunkStart.format(DATE_FORMATTER);
+        String startPart = chunkStart.format(TIME_FORMATTER);
+        String endPart = chunkEnd.format(TIME_FORMATTER);
+        int monthValue = chunkStart.getMonthValue();
 
         return String.format(
-                "%s/%d/%s_before_%s_%s.csv",
+                "%s/%d/%s_%s_%s_to_%s.%s",
                 tableName,
                 monthValue,
                 tableName,
                 datePart,
-                timePart
+                startPart,
+                endPart,
+                isColumnar() ? ColumnarArchiveFormat.FILE_EXTENSION : "csv"
         );
     }
 
+    private boolean isColumnar() {
+        return properties.getFormat().getType() == ArchiveProperties.Format.Type.COLUMNAR;
+    }
+
     /**
      * 전체 S3 키 생성 (prefix 포함)
      */
@@ -290,23 +779,77 @@ public abstract class AbstractSampleArchiveService {
     }
 
     /**
-     * 임시 파일 안전하게 삭제
+     * 청크 경계로 내림 (자정 기준)
      */
-    private void safeDeleteTempFile(Path file) {
-        if (file == null) {
-            return;
+    private static LocalDateTime floorToChunk(LocalDateTime time, Duration chunk) {
+        LocalDateTime midnight = time.truncatedTo(ChronoUnit.DAYS);
+        long minutes = Duration.between(midnight, time).toMinutes();
+        return midnight.plusMinutes(minutes - minutes % chunk.toMinutes());
+    }
+
+    /**
+     * Export 결과
+     *
+     * @param checksum 업로드한 객체의 SHA-256 체크섬 (S3 형식)
+     */
+    protected record ExportResult(String s3Url, WrittenChunk written, long bytes, String checksum) {
+        long rowCount() {
+            return written.rowCount();
         }
+    }
 
-        try {
-            Files.deleteIfExists(file);
-            log.debug("Temp file deleted: {}", file);
-        } catch (IOException e) {
-            log.warn("Failed to delete temp file: {}", file, e);
+    /**
+     * 청크 기록 결과 (아카이브 목록에 함께 기록)
+     *
+     * @param minTsServerNsec 기록한 행의 ts_server_nsec 최소값 (알 수 없으면 null)
+     */
+    protected record WrittenChunk(long rowCount, List<String> columns, Double minTsServerNsec, Double maxTsServerNsec) {}
+
+    /**
+     * CSV 기록 중 ts_server_nsec 범위 누적
+     */
+    private static final class NsecRange {
+        int column = -1;
+        Double min;
+        Double max;
+
+        void add(double value) {
+            if (min == null || value < min) min = value;
+            if (max == null || value > max) max = value;
         }
     }
 
     /**
-     * Export 결과
+     * 청크 처리 결과
      */
-    protected record ExportResult(Path file, int rowCount) {}
+    private record ChunkResult(long exported, long deleted) {}
+
+    /**
+     * 실행 결과 합계
+     *
+     * @param complete 대상 구간을 모두 처리했는지 (maxChunksPerRun 에 걸리면 false)
+     */
+    public record RunResult(int chunks, long exported, long deleted, boolean complete) {
+        RunResult plus(RunResult other) {
+            return new RunResult(chunks + other.chunks, exported + other.exported,
+                    deleted + other.deleted, complete && other.complete);
+        }
+    }
+
+    /**
+     * 청크를 읽을 테이블
+     *
+     * @param table          조회/삭제 대상 (부모 테이블 또는 분리된 파티션)
+     * @param checkpointName 체크포인트 키
+     * @param deleteRows     청크마다 행을 삭제할지 (분리된 파티션은 DROP 으로 한 번에 삭제)
+     */
+    private record ChunkSource(String table, String checkpointName, boolean deleteRows) {
+        static ChunkSource rows(String table) {
+            return new ChunkSource(table, table, true);
+        }
+
+        static ChunkSource detached(String partition) {
+            return new ChunkSource(partition, partition, false);
+        }
+    }
 }
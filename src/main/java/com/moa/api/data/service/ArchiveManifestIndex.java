@@ -0,0 +1,224 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import com.moa.api.data.repository.ArchiveManifestRepository;
+import com.moa.api.data.repository.ArchiveManifestRepository.Entry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveManifestIndex
+ DESCRIPTION   : 아카이브 객체 목록(archive_manifest)의 메모리 인덱스
+ - 테이블별로 객체의 시간 범위(epoch 초) 시작값 기준 정렬 → 범위 조회 O(log n + k)
+ - 조회 / 복원 시 S3 버킷 목록 조회나 DB 조회 없이 대상 객체를 찾음
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Archive Manifest Index
+ *
+ * 객체 시간 범위
+ * - ts_server_nsec min/max 가 기록된 객체는 그 범위
+ * - 없으면(재시작으로 마무리된 청크 등) 청크 구간 [chunk_start, chunk_end) 를 epoch 초로 변환한 범위
+ *
+ * 범위 조회
+ * - 시작값 기준 TreeMap + 객체 범위 폭의 최대값(maxSpan)
+ * - [lo, hi] 와 겹치는 객체는 시작값이 [lo - maxSpan, hi] 안에 있으므로 그 구간만 순회
+ *   (청크 크기가 일정하므로 maxSpan 은 청크 1개 폭 수준)
+ *
+ * 갱신
+ * - 최초 조회 시 전체 적재, 이후 manifestRefreshSeconds 가 지나면 마지막 기록 시각 이후 분만 다시 읽음
+ *   (archived_at 은 트랜잭션 시작 시각이므로 REFRESH_OVERLAP 만큼 겹쳐 읽고 s3 키로 중복 제거)
+ * - 같은 노드에서 기록한 객체는 put() 으로 즉시 반영
+ */
+@Slf4j
+@Component
+public class ArchiveManifestIndex {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(10);
+
+    private final ArchiveManifestRepository repository;
+    private final ArchiveProperties properties;
+
+    private final Map<String, TableIndex> tables = new ConcurrentHashMap<>();
+    private final Object refreshLock = new Object();
+
+    private volatile long refreshedAtMillis;
+    private LocalDateTime watermark;
+
+    public ArchiveManifestIndex(ArchiveManifestRepository repository, ArchiveProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    /**
+     * [fromEpoch, toEpoch] 와 시간 범위가 겹치는 객체 (시작 시각 순)
+     *
+     * @param fromEpoch epoch 초 (null 이면 하한 없음)
+     * @param toEpoch   epoch 초 (null 이면 상한 없음)
+     */
+    public List<Entry> find(String tableName, Double fromEpoch, Double toEpoch) {
+        refreshIfStale();
+        TableIndex index = tables.get(tableName);
+        return index != null ? index.find(fromEpoch, toEpoch) : List.of();
+    }
+
+    /**
+     * 테이블의 전체 객체 수
+     */
+    public int size(String tableName) {
+        refreshIfStale();
+        TableIndex index = tables.get(tableName);
+        return index != null ? index.size() : 0;
+    }
+
+    /**
+     * 이 노드에서 기록한 객체 즉시 반영 (같은 s3 키는 교체)
+     */
+    public void put(Entry entry) {
+        tables.computeIfAbsent(entry.tableName(), k -> new TableIndex()).put(entry);
+    }
+
+    /**
+     * 마지막 갱신 이후 기록된 객체 다시 읽기
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            LocalDateTime since = watermark != null ? watermark.minus(REFRESH_OVERLAP) : null;
+            List<Entry> entries = repository.findArchivedSince(since);
+
+            for (Entry entry : entries) {
+                put(entry);
+                if (watermark == null || entry.archivedAt().isAfter(watermark)) {
+                    watermark = entry.archivedAt();
+                }
+            }
+            refreshedAtMillis = System.currentTimeMillis();
+
+            if (since == null) {
+                log.info("Archive manifest index loaded: tables={}, objects={}", tables.size(), entries.size());
+            } else if (!entries.isEmpty()) {
+                log.debug("Archive manifest index refreshed: since={}, objects={}", since, entries.size());
+            }
+        }
+    }
+
+    private void refreshIfStale() {
+        long refreshMillis = properties.getManifestRefreshSeconds() * 1000L;
+        if (refreshedAtMillis == 0 || System.currentTimeMillis() - refreshedAtMillis >= refreshMillis) {
+            refresh();
+        }
+    }
+
+    /**
+     * 객체 시간 범위 [lo, hi] (epoch 초)
+     */
+    static double lowerBound(Entry entry) {
+        return entry.hasNsecRange() ? entry.minTsServerNsec() : toEpoch(entry.chunkStart());
+    }
+
+    static double upperBound(Entry entry) {
+        return entry.hasNsecRange() ? entry.maxTsServerNsec() : toEpoch(entry.chunkEnd());
+    }
+
+    private static double toEpoch(LocalDateTime time) {
+        return time.atZone(ZONE_ID).toEpochSecond();
+    }
+
+    /**
+     * 테이블 1개 인덱스
+     */
+    private static final class TableIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        /** 시작값 → (s3 키 → 객체) */
+        private final NavigableMap<Double, Map<String, Entry>> byStart = new TreeMap<>();
+
+        /** s3 키 → 객체 (교체 시 이전 시작값 위치를 찾기 위함) */
+        private final Map<String, Entry> byKey = new HashMap<>();
+
+        private double maxSpan;
+
+        void put(Entry entry) {
+            String key = entry.s3Bucket() + "/" + entry.s3Key();
+            double lo = lowerBound(entry);
+
+            lock.writeLock().lock();
+            try {
+                Entry previous = byKey.put(key, entry);
+                if (previous != null) {
+                    double previousLo = lowerBound(previous);
+                    Map<String, Entry> slot = byStart.get(previousLo);
+                    if (slot != null) {
+                        slot.remove(key);
+                        if (slot.isEmpty()) {
+                            byStart.remove(previousLo);
+                        }
+                    }
+                }
+                byStart.computeIfAbsent(lo, k -> new LinkedHashMap<>()).put(key, entry);
+                maxSpan = Math.max(maxSpan, upperBound(entry) - lo);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Entry> find(Double from, Double to) {
+            lock.readLock().lock();
+            try {
+                if (byStart.isEmpty()) {
+                    return List.of();
+                }
+
+                NavigableMap<Double, Map<String, Entry>> candidates;
+                if (from == null && to == null) {
+                    candidates = byStart;
+                } else if (from == null) {
+                    candidates = byStart.headMap(to, true);
+                } else if (to == null) {
+                    candidates = byStart.tailMap(from - maxSpan, true);
+                } else if (to < from) {
+                    return List.of();
+                } else {
+                    candidates = byStart.subMap(from - maxSpan, true, to, true);
+                }
+
+                List<Entry> result = new ArrayList<>();
+                for (Map<String, Entry> slot : candidates.values()) {
+                    for (Entry entry : slot.values()) {
+                        if (from == null || upperBound(entry) >= from) {
+                            result.add(entry);
+                        }
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return byKey.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import com.moa.api.data.repository.ArchiveManifestRepository.Entry;
+import com.moa.api.data.repository.SampleCopyCodec;
+import com.moa.api.data.repository.SampleCopyRepository;
+import com.moa.api.data.util.ColumnarArchiveFormat.RowGroup;
+import com.moa.api.data.util.ColumnarArchiveReader;
+import com.moa.global.aws.S3RangeReadChannel;
+import com.moa.global.aws.S3Uploader;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveObjectLoader
+ DESCRIPTION   : 아카이브(S3) 객체 1개에서 기간 안의 행만 골라 테이블에 COPY 로 적재
+ - 조회(ArchiveQueryService → 세션 임시 테이블)와 복원(ArchiveRestoreService → 복원 테이블)이 함께 사용
+ - 컬럼 포맷: 행 그룹 통계로 기간에 걸치는 행 그룹만 Range GET, 행 단위로도 기간 밖의 행을 버림
+ - CSV: 객체 전체를 읽되 COPY ... WHERE 로 기간 안의 행만 적재
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Archive Object Loader
+ *
+ * 기간
+ * - ts_server_nsec(epoch 초) 기준, 경계 포함 - 호출 측 조회 조건보다 넓거나 같음
+ * - 객체에 ts_server_nsec 가 없으면 행 단위로 거르지 않음 (Result.unfiltered)
+ *
+ * 커넥션
+ * - COPY 는 DataSourceUtils 로 커넥션을 얻음
+ *   → 트랜잭션 안이면 그 커넥션(세션 임시 테이블), 밖이면 COPY 마다 새 커넥션(바로 커밋)
+ */
+@Component
+public class ArchiveObjectLoader {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    static final String TS_COLUMN = "ts_server";
+    static final String NSEC_COLUMN = "ts_server_nsec";
+
+    private final DataSource dataSource;
+    private final S3Uploader s3Uploader;
+    private final SampleCopyRepository copyRepository;
+
+    public ArchiveObjectLoader(DataSource dataSource,
+                               S3Uploader s3Uploader,
+                               SampleCopyRepository copyRepository) {
+        this.dataSource = dataSource;
+        this.s3Uploader = s3Uploader;
+        this.copyRepository = copyRepository;
+    }
+
+    /**
+     * 객체 1개 적재
+     *
+     * @param target     적재 테이블
+     * @param fromEpoch  시작 (epoch 초, null 이면 하한 없음)
+     * @param toEpoch    끝 (epoch 초, null 이면 상한 없음)
+     * @param beforeCopy 컬럼 포맷은 행 그룹 COPY 직전에 적재할 행 수, CSV 는 COPY 후 적재한 행 수를 전달
+     *                   (행 수 상한을 넘으면 예외를 던져 중단)
+     */
+    public Result load(Entry entry, Target target, Long fromEpoch, Long toEpoch, LongConsumer beforeCopy)
+            throws IOException, SQLException {
+        return ArchiveProperties.Format.Type.COLUMNAR.name().equals(entry.format())
+                ? loadColumnar(entry, target, fromEpoch, toEpoch, beforeCopy)
+                : loadCsv(entry, target, fromEpoch, toEpoch, beforeCopy);
+    }
+
+    /**
+     * 컬럼 포맷 객체: 기간에 걸치는 행 그룹만 Range GET 으로 읽고, 기간 안의 행만 COPY
+     * - 적재 테이블에 없는 컬럼은 읽지 않음 / 객체에 없는 컬럼은 NULL
+     * - 행 그룹은 ts_server_nsec 통계로 거르고, 없으면 ts_server 통계로 거름
+     */
+    private Result loadColumnar(Entry entry, Target target, Long fromEpoch, Long toEpoch, LongConsumer beforeCopy)
+            throws IOException {
+        try (S3RangeReadChannel channel = s3Uploader.openRangeChannel(entry.s3Bucket(), entry.s3Key());
+             ColumnarArchiveReader reader = ColumnarArchiveReader.open(channel)) {
+
+            List<String> projection = new ArrayList<>();
+            reader.getColumns().forEach(column -> {
+                if (target.columnTypes().containsKey(column.name())) {
+                    projection.add(column.name());
+                }
+            });
+
+            double lo = fromEpoch != null ? fromEpoch : Double.NEGATIVE_INFINITY;
+            double hi = toEpoch != null ? toEpoch : Double.POSITIVE_INFINITY;
+
+            int nsecGroup = reader.indexOf(NSEC_COLUMN);
+            int tsGroup = reader.indexOf(TS_COLUMN);
+            Long tsLo = ColumnarArchiveReader.toMicros(toLocalDateTime(fromEpoch));
+            Long tsHi = ColumnarArchiveReader.toMicros(toLocalDateTime(toEpoch));
+
+            int nsecRow = projection.indexOf(NSEC_COLUMN);
+
+            int read = 0;
+            long rows = 0;
+            for (RowGroup group : reader.getRowGroups()) {
+                boolean overlaps = nsecGroup >= 0
+                        ? group.mayOverlap(nsecGroup, fromEpoch != null ? lo : null, toEpoch != null ? hi : null)
+                        : tsGroup < 0 || group.mayOverlap(tsGroup, tsLo, tsHi);
+                if (!overlaps) {
+                    continue;
+                }
+
+                List<Object[]> values = reader.readRowGroup(group.index(), projection);
+                List<Map<String, Object>> batch = new ArrayList<>(values.size());
+                for (Object[] value : values) {
+                    if (nsecRow >= 0 && !inRange(value[nsecRow], lo, hi)) {
+                        continue;
+                    }
+                    Map<String, Object> row = new HashMap<>(projection.size() * 2);
+                    for (int i = 0; i < projection.size(); i++) {
+                        row.put(projection.get(i), value[i]);
+                    }
+                    batch.add(row);
+                }
+
+                beforeCopy.accept(batch.size());
+                rows += copyRepository.copy(target.codec(), batch);
+                read++;
+            }
+
+            return new Result(1, read, reader.getRowGroups().size(), rows, channel.getBytesFetched(), nsecRow < 0);
+        }
+    }
+
+    /**
+     * CSV 객체: 헤더의 컬럼 순서대로 COPY (CSV), ts_server_nsec 가 있으면 COPY ... WHERE 로 기간 안의 행만 적재
+     */
+    private Result loadCsv(Entry entry, Target target, Long fromEpoch, Long toEpoch, LongConsumer beforeCopy)
+            throws IOException, SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (InputStream in = s3Uploader.openInputStream(entry.s3Bucket(), entry.s3Key())) {
+            List<String> header = readCsvHeader(in);
+            for (String column : header) {
+                if (!target.columnTypes().containsKey(column)) {
+                    throw new IOException("Archived column no longer exists: " + column);
+                }
+            }
+
+            boolean filtered = header.contains(NSEC_COLUMN);
+            String sql = "COPY " + target.table() + " (" + String.join(", ", header) + ") FROM STDIN (FORMAT csv)"
+                    + (filtered ? nsecFilter(fromEpoch, toEpoch) : "");
+            long rows = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, in);
+            beforeCopy.accept(rows);
+
+            return new Result(1, 0, 0, rows, entry.byteSize(), !filtered);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * COPY WHERE 절 (ts_server_nsec 기준 기간, 경계 포함)
+     */
+    static String nsecFilter(Long fromEpoch, Long toEpoch) {
+        List<String> conditions = new ArrayList<>(2);
+        if (fromEpoch != null) {
+            conditions.add(NSEC_COLUMN + " >= " + fromEpoch);
+        }
+        if (toEpoch != null) {
+            conditions.add(NSEC_COLUMN + " <= " + toEpoch);
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    static boolean inRange(Object value, double lo, double hi) {
+        if (!(value instanceof Number number)) {
+            return false;
+        }
+        double seconds = number.doubleValue();
+        return seconds >= lo && seconds <= hi;
+    }
+
+    private static LocalDateTime toLocalDateTime(Long epochSeconds) {
+        return epochSeconds != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZONE_ID)
+                : null;
+    }
+
+    /**
+     * 첫 줄(헤더)만 읽음 - 스트림은 데이터 첫 행 위치에 남음
+     */
+    static List<String> readCsvHeader(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) >= 0 && b != '\n') {
+            if (b != '\r') {
+                line.write(b);
+            }
+        }
+
+        List<String> columns = new ArrayList<>();
+        for (String name : line.toString(StandardCharsets.UTF_8).split(",")) {
+            String column = name.trim().replace("\"", "");
+            if (!column.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+                throw new IOException("Invalid CSV header column: " + name);
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    /**
+     * 적재 테이블 (컬럼 구성 + COPY binary codec)
+     */
+    public record Target(String table, Map<String, String> columnTypes, SampleCopyCodec<Map<String, Object>> codec) {
+
+        public static Target of(String table, Map<String, String> columnTypes) {
+            return new Target(table, columnTypes, SampleCopyCodec.forRows(table, columnTypes));
+        }
+    }
+
+    /**
+     * 적재 결과
+     *
+     * @param bytesFetched S3 에서 읽은 바이트 수 (컬럼 포맷은 실제 Range GET 바이트, CSV 는 객체 크기)
+     * @param unfiltered   ts_server_nsec 가 없어 기간 밖의 행도 적재했는지 여부
+     */
+    public record Result(int objects, int rowGroupsRead, int rowGroupsTotal, long rows,
+                         long bytesFetched, boolean unfiltered) {
+
+        public static final Result EMPTY = new Result(0, 0, 0, 0, 0, false);
+
+        public Result plus(Result other) {
+            return new Result(objects + other.objects, rowGroupsRead + other.rowGroupsRead,
+                    rowGroupsTotal + other.rowGroupsTotal, rows + other.rows,
+                    bytesFetched + other.bytesFetched, unfiltered || other.unfiltered);
+        }
+    }
+}
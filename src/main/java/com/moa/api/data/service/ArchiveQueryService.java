@@ -0,0 +1,287 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import com.moa.api.data.exception.ArchiveException;
+import com.moa.api.data.repository.ArchiveCheckpointRepository;
+import com.moa.api.data.repository.ArchiveManifestRepository.Entry;
+import com.moa.api.data.repository.SampleCopyRepository;
+import com.moa.api.data.util.RestoredLayer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveQueryService
+ DESCRIPTION   : 보관 기간이 지나 S3 로 옮겨진 샘플 데이터를 원본 테이블과 함께 조회
+ - 아카이브 목록 인덱스(ArchiveManifestIndex)로 조회 기간에 걸치는 객체만 고름
+ - 컬럼 포맷 객체는 Range GET 으로 footer 와 기간에 걸치는 행 그룹만 읽음
+ - 조회 기간 안의 행만 세션 임시 테이블에 COPY 로 적재 → 원본과 UNION ALL 한 관계를 조회에 사용
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Archive Query Service
+ *
+ * 사용 예
+ * <pre>
+ * archiveQueryService.withArchive("http_page_sample", "ts_server_nsec", fromEpoch, toEpoch,
+ *         source -> jdbc.queryForList("SELECT ... FROM " + source + " t WHERE ...", params));
+ * </pre>
+ * - 아카이브를 읽을 필요가 없으면 source 는 원본 테이블 그대로
+ * - 읽어야 하면 source 는 "(SELECT * FROM 원본 UNION ALL SELECT * FROM 임시 테이블)"
+ *   → WHERE / ORDER BY / LIMIT / COUNT / 집계는 호출 측 SQL 그대로 적용되어 결과가 합쳐짐
+ * - 분리(detach) 후 아직 DROP 되지 않은 파티션이 있으면 아카이브 목록에 없는 부분
+ *   (파티션 체크포인트 이후 행)도 UNION ALL 에 포함
+ *
+ * 트랜잭션
+ * - 임시 테이블은 ON COMMIT DROP 이므로 적재와 호출 측 조회를 새 트랜잭션 1개에서 실행
+ *   (호출 측이 읽기 전용 트랜잭션 안이어도 별도 커넥션에서 실행)
+ *
+ * 중복 없음
+ * - 청크 행 삭제와 아카이브 목록 기록이 한 트랜잭션이므로
+ *   같은 행이 원본과 아카이브 목록에 동시에 존재하지 않음
+ * - 분리된 파티션은 체크포인트 이동과 아카이브 목록 기록이 한 트랜잭션이므로
+ *   체크포인트 이후 행만 포함하면 아카이브 목록과 겹치지 않음
+ *   (체크포인트를 아카이브 목록보다 먼저 읽음 - 그 사이 끝난 청크는 잠깐 중복될 수 있으나 누락되지 않음)
+ *
+ * 제한
+ * - 시작 시각이 있고 시간 필드가 ts_server / ts_server_nsec 일 때만 아카이브를 함께 조회 (객체 시간 범위 기준 필드)
+ * - 복원 테이블(RestoredLayer.SCHEMA)은 아카이브를 합치지 않음
+ *   (기간 없는 조회가 아카이브 전체를 읽지 않도록)
+ * - 객체 수가 query.maxObjects, 적재 행 수가 query.maxRows 를 넘으면 IllegalArgumentException
+ * - 적재는 query.maxConcurrentScans 개까지만 동시에 실행 (S3 읽는 동안 커넥션을 점유하므로)
+ *   → query.scanWaitMs 안에 자리가 나지 않으면 ARCHIVE_QUERY_BUSY
+ */
+@Slf4j
+@Service
+public class ArchiveQueryService {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final String TS_COLUMN = "ts_server";
+    private static final Set<String> TIME_FIELDS = Set.of("ts_server", "ts_server_nsec");
+    private static final DateTimeFormatter TS_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveProperties properties;
+    private final ArchiveManifestIndex manifestIndex;
+    private final SampleCopyRepository copyRepository;
+    private final ArchiveObjectLoader objectLoader;
+    private final SamplePartitionManager partitionManager;
+    private final ArchiveCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore scanPermits;
+
+    public ArchiveQueryService(JdbcTemplate jdbcTemplate,
+                               ArchiveProperties properties,
+                               ArchiveManifestIndex manifestIndex,
+                               SampleCopyRepository copyRepository,
+                               ArchiveObjectLoader objectLoader,
+                               SamplePartitionManager partitionManager,
+                               ArchiveCheckpointRepository checkpointRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.manifestIndex = manifestIndex;
+        this.copyRepository = copyRepository;
+        this.objectLoader = objectLoader;
+        this.partitionManager = partitionManager;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.scanPermits = new Semaphore(Math.max(1, properties.getQuery().getMaxConcurrentScans()));
+    }
+
+    /**
+     * 조회 기간이 아카이브에 걸치면 원본 + 아카이브 관계로, 아니면 원본 테이블로 query 실행
+     *
+     * @param table     원본 테이블 (스키마 포함 가능, 예: public.http_page_sample)
+     * @param timeField 조회 기간 필드
+     * @param fromEpoch 시작 (epoch 초, null 이면 원본만 조회)
+     * @param toEpoch   끝 (epoch 초, null 이면 상한 없음)
+     * @param query     FROM 절에 넣을 관계를 받아 조회하는 함수
+     */
+    public <T> T withArchive(String table, String timeField, Long fromEpoch, Long toEpoch,
+                             Function<String, T> query) {
+        List<String> detached = findDetachedSources(table, timeField, fromEpoch);
+        List<Entry> entries = findEntries(table, timeField, fromEpoch, toEpoch);
+        if (entries.isEmpty() && detached.isEmpty()) {
+            return query.apply(table);
+        }
+
+        if (entries.size() > properties.getQuery().getMaxObjects()) {
+            throw new IllegalArgumentException("ARCHIVE_RANGE_TOO_LARGE: " + entries.size()
+                    + " archive objects (max " + properties.getQuery().getMaxObjects() + "), narrow the time range");
+        }
+
+        if (entries.isEmpty()) {
+            return transactionTemplate.execute(status -> query.apply(union(table, detached, null)));
+        }
+
+        acquireScanPermit(table);
+        try {
+            return transactionTemplate.execute(status -> {
+                long startTime = System.currentTimeMillis();
+                String scanTable = createScanTable(table);
+                ArchiveObjectLoader.Result scan = load(table, scanTable, entries, fromEpoch, toEpoch);
+
+                log.info("[{}] Archive scan loaded: objects={}, rowGroups={}/{}, rows={}, fetched={} bytes, {}ms",
+                        baseName(table), scan.objects(), scan.rowGroupsRead(), scan.rowGroupsTotal(),
+                        scan.rows(), scan.bytesFetched(), System.currentTimeMillis() - startTime);
+
+                return query.apply(union(table, detached, scanTable));
+            });
+        } finally {
+            scanPermits.release();
+        }
+    }
+
+    /**
+     * 원본 + 분리된 파티션 + 임시 테이블(없으면 생략) UNION ALL 관계
+     */
+    private static String union(String table, List<String> detached, String scanTable) {
+        List<String> parts = new ArrayList<>();
+        parts.add("SELECT * FROM " + table);
+        parts.addAll(detached);
+        if (scanTable != null) {
+            parts.add("SELECT * FROM " + scanTable);
+        }
+        return "(" + String.join(" UNION ALL ", parts) + ")";
+    }
+
+    /**
+     * 아카이브 적재 자리 확보 (커넥션을 잡기 전에 대기)
+     */
+    private void acquireScanPermit(String table) {
+        long waitMs = properties.getQuery().getScanWaitMs();
+        try {
+            if (!scanPermits.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+                log.warn("[{}] Archive scan rejected: {} scans already running", baseName(table),
+                        properties.getQuery().getMaxConcurrentScans());
+                throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_QUERY_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_QUERY_BUSY, e);
+        }
+    }
+
+    /**
+     * 분리 후 아직 DROP 되지 않은 파티션 중 아카이브 목록에 없는 행 (UNION ALL 항목, 없으면 빈 목록)
+     * - 파티션 체크포인트(archived_until) 이전 청크는 이미 아카이브 목록에 있으므로 제외
+     * - 아카이브 목록과 같은 조건(보관 기간을 넘는 조회)일 때만 포함
+     */
+    private List<String> findDetachedSources(String table, String timeField, Long fromEpoch) {
+        if (!partitionManager.isEnabled() || !properties.getQuery().isEnabled() || fromEpoch == null
+                || timeField == null || !TIME_FIELDS.contains(timeField)
+                || RestoredLayer.isRestoredTable(table)) {
+            return List.of();
+        }
+        LocalDateTime cutoff = LocalDateTime.now(ZONE_ID).minusDays(properties.getRetentionDays());
+        if (!toLocalDateTime(fromEpoch).isBefore(cutoff)) {
+            return List.of();
+        }
+
+        List<String> sources = new ArrayList<>();
+        for (String partition : partitionManager.findDetached(baseName(table))) {
+            LocalDateTime archivedUntil = checkpointRepository.find(partition).archivedUntil();
+            sources.add(archivedUntil == null
+                    ? "SELECT * FROM " + partition
+                    : "SELECT * FROM " + partition + " WHERE " + TS_COLUMN + " >= '" + archivedUntil.format(TS_FORMATTER) + "'");
+        }
+        if (!sources.isEmpty()) {
+            log.debug("[{}] Including detached partitions not yet archived: {}", baseName(table), sources.size());
+        }
+        return sources;
+    }
+
+    /**
+     * 조회 기간에 걸치는 아카이브 객체 (아카이브를 읽을 필요가 없으면 빈 목록)
+     */
+    public List<Entry> findEntries(String table, String timeField, Long fromEpoch, Long toEpoch) {
+        if (!properties.getQuery().isEnabled() || fromEpoch == null
+                || timeField == null || !TIME_FIELDS.contains(timeField)
+                || RestoredLayer.isRestoredTable(table)) {
+            return List.of();                        // 복원 테이블은 이미 아카이브 데이터
+        }
+
+        LocalDateTime from = toLocalDateTime(fromEpoch);
+        LocalDateTime cutoff = LocalDateTime.now(ZONE_ID).minusDays(properties.getRetentionDays());
+        if (!from.isBefore(cutoff)) {
+            return List.of();                        // 보관 기간 안 → 원본만
+        }
+
+        return manifestIndex.find(baseName(table), fromEpoch.doubleValue(), toEpoch != null ? toEpoch.doubleValue() : null);
+    }
+
+    // ============================================
+    // 임시 테이블 적재
+    // ============================================
+
+    /**
+     * 원본과 같은 컬럼 구성의 임시 테이블 (커밋 시 삭제)
+     */
+    private String createScanTable(String table) {
+        String scanTable = "archive_scan_" + baseName(table);
+        jdbcTemplate.execute("CREATE TEMP TABLE " + scanTable + " (LIKE " + table + ") ON COMMIT DROP");
+        return scanTable;
+    }
+
+    private ArchiveObjectLoader.Result load(String table, String scanTable, List<Entry> entries, Long fromEpoch, Long toEpoch) {
+        ArchiveObjectLoader.Target target = ArchiveObjectLoader.Target.of(scanTable, copyRepository.getColumnTypes(table));
+
+        AtomicLong loaded = new AtomicLong();
+        ArchiveObjectLoader.Result total = ArchiveObjectLoader.Result.EMPTY;
+        for (Entry entry : entries) {
+            try {
+                // 행 그룹(CSV 는 객체)마다 적재 전에 행 수 상한 확인 - 상한을 넘는 객체를 끝까지 읽지 않음
+                total = total.plus(objectLoader.load(entry, target, fromEpoch, toEpoch,
+                        rows -> checkRows(loaded.addAndGet(rows))));
+            } catch (IOException | SQLException e) {
+                log.error("[{}] Archive scan failed: s3://{}/{}", entry.tableName(), entry.s3Bucket(), entry.s3Key(), e);
+                throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_QUERY_FAILED, e);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 적재 행 수 상한 확인
+     */
+    private void checkRows(long rows) {
+        if (rows > properties.getQuery().getMaxRows()) {
+            throw new IllegalArgumentException("ARCHIVE_RANGE_TOO_LARGE: more than "
+                    + properties.getQuery().getMaxRows() + " archived rows, narrow the time range or add conditions");
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Long epochSeconds) {
+        return epochSeconds != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds), ZONE_ID)
+                : null;
+    }
+
+    /**
+     * 스키마를 뗀 테이블명 (아카이브 목록의 table_name)
+     */
+    private static String baseName(String table) {
+        int dot = table.lastIndexOf('.');
+        return dot >= 0 ? table.substring(dot + 1) : table;
+    }
+
+}
@@ -0,0 +1,371 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import com.moa.api.data.exception.ArchiveException;
+import com.moa.api.data.repository.ArchiveManifestRepository.Entry;
+import com.moa.api.data.repository.SampleCopyRepository;
+import com.moa.api.data.util.RestoredLayer;
+import com.moa.api.pivot.model.PivotLayer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*****************************************************************************
+ CLASS NAME    : ArchiveRestoreService
+ DESCRIPTION   : 레이어 + 기간을 받아 아카이브(S3) 객체를 복원 테이블에 일괄 적재하는 복원 작업
+ - 대상 객체는 아카이브 목록 인덱스(ArchiveManifestIndex)에서 찾음
+ - 객체별로 병렬 적재 (ArchiveObjectLoader - 기간 안의 행만 COPY)
+ - 복원된 데이터는 그리드 / 피벗에서 RESTORED_{레이어} 별칭으로 조회 (RestoredLayer)
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Archive Restore Service
+ *
+ * 복원 테이블
+ * - archive_restore.{원본 테이블}, 원본과 같은 컬럼 구성의 UNLOGGED 테이블
+ * - 레이어당 1개, 새 복원 작업이 시작되면 다시 만듦 (원본 컬럼 변경 반영)
+ * - 같은 레이어의 복원 작업은 동시에 1개만, 전체 복원 작업은 restore.maxRunningJobs 개까지 실행
+ *
+ * 적재
+ * - 테이블 준비 / 객체 적재 / 마무리를 archiveRestoreExecutor 에서 실행
+ *   (스레드 restore.parallelism 개를 모든 작업이 공유 → 복원이 점유하는 DB 커넥션 수 고정)
+ * - COPY 는 행 그룹(CSV 는 객체) 단위로 바로 커밋 → 진행 중에도 적재된 행부터 조회 가능
+ * - 객체 하나가 실패하면 아직 시작하지 않은 객체는 적재하지 않음
+ * - ts_server_nsec 가 없는 객체는 기간으로 거르지 못하므로 마지막에 기간 밖의 행을 삭제
+ * - 적재가 끝나면 ts_server_nsec 인덱스 생성 + ANALYZE
+ *
+ * 진행 상황
+ * - 작업 상태는 메모리에만 보관 (완료된 작업은 restore.keepFinishedJobs 개까지)
+ * - 처리 객체 수 / 행 수 / 읽은 바이트 수와 초당 처리량을 Progress 로 조회
+ */
+@Slf4j
+@Service
+public class ArchiveRestoreService {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final String NSEC_COLUMN = "ts_server_nsec";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveProperties properties;
+    private final ArchiveManifestIndex manifestIndex;
+    private final SampleCopyRepository copyRepository;
+    private final ArchiveObjectLoader objectLoader;
+    private final Executor executor;
+
+    private final Map<String, RestoreJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ArchiveRestoreService(JdbcTemplate jdbcTemplate,
+                                 ArchiveProperties properties,
+                                 ArchiveManifestIndex manifestIndex,
+                                 SampleCopyRepository copyRepository,
+                                 ArchiveObjectLoader objectLoader,
+                                 @Qualifier("archiveRestoreExecutor") Executor executor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.manifestIndex = manifestIndex;
+        this.copyRepository = copyRepository;
+        this.objectLoader = objectLoader;
+        this.executor = executor;
+    }
+
+    /**
+     * 복원 작업 시작 (바로 반환, 적재는 백그라운드에서 진행)
+     *
+     * @param layerCode PivotLayer 코드 (HTTP_PAGE, HTTP_URI, TCP, Ethernet - 대소문자 무시)
+     * @param fromEpoch 시작 (epoch 초, 포함)
+     * @param toEpoch   끝 (epoch 초, 포함)
+     * @throws IllegalArgumentException 레이어/기간이 잘못되었거나 객체 수가 restore.maxObjects 를 넘는 경우
+     * @throws IllegalStateException    같은 레이어의 복원 작업이 실행 중이거나 실행 중인 작업이 restore.maxRunningJobs 개인 경우
+     */
+    public synchronized Progress start(String layerCode, long fromEpoch, long toEpoch) {
+        PivotLayer layer = PivotLayer.from(layerCode);
+        if (toEpoch < fromEpoch) {
+            throw new IllegalArgumentException("INVALID_RANGE: from=" + fromEpoch + ", to=" + toEpoch);
+        }
+
+        int runningJobs = 0;
+        for (RestoreJob running : jobs.values()) {
+            if (running.status != Status.RUNNING) {
+                continue;
+            }
+            if (running.layer == layer) {
+                throw new IllegalStateException("RESTORE_IN_PROGRESS: " + running.jobId);
+            }
+            runningJobs++;
+        }
+        if (runningJobs >= properties.getRestore().getMaxRunningJobs()) {
+            throw new IllegalStateException("RESTORE_BUSY: " + runningJobs + " restore jobs running");
+        }
+
+        List<Entry> entries = manifestIndex.find(layer.getDataTable(), (double) fromEpoch, (double) toEpoch);
+        if (entries.size() > properties.getRestore().getMaxObjects()) {
+            throw new IllegalArgumentException("ARCHIVE_RANGE_TOO_LARGE: " + entries.size()
+                    + " archive objects (max " + properties.getRestore().getMaxObjects() + "), narrow the time range");
+        }
+
+        String jobId = "restore-" + sequence.incrementAndGet();
+        RestoreJob job = new RestoreJob(jobId, layer, fromEpoch, toEpoch, entries);
+        jobs.put(jobId, job);
+        purgeFinished();
+
+        run(job);
+
+        log.info("[{}] Archive restore started: layer={}, range=[{}, {}], objects={}",
+                jobId, layer.getCode(), fromEpoch, toEpoch, entries.size());
+        return job.snapshot();
+    }
+
+    /**
+     * 작업 진행 상황 (없으면 null)
+     */
+    public Progress getProgress(String jobId) {
+        RestoreJob job = jobs.get(jobId);
+        return job != null ? job.snapshot() : null;
+    }
+
+    /**
+     * 보관 중인 작업 목록 (최신순)
+     */
+    public List<Progress> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((RestoreJob job) -> job.startedAt).reversed())
+                .map(RestoreJob::snapshot)
+                .toList();
+    }
+
+    // ============================================
+    // 작업 실행
+    // ============================================
+
+    /**
+     * 테이블 준비 → 객체별 적재 → 마무리를 실행기에 제출 (바로 반환)
+     * - 큐가 가득 차 제출이 거부되면 작업 실패
+     */
+    private void run(RestoreJob job) {
+        try {
+            CompletableFuture.runAsync(() -> prepareTable(job), executor)
+                    .thenCompose(ignored -> CompletableFuture.allOf(job.entries.stream()
+                            .map(entry -> CompletableFuture.runAsync(() -> loadObject(job, entry), executor))
+                            .toArray(CompletableFuture[]::new)))
+                    .thenRunAsync(() -> finishTable(job), executor)
+                    .whenComplete((ignored, error) -> complete(job, error));
+        } catch (RejectedExecutionException e) {
+            complete(job, e);
+        }
+    }
+
+    private void complete(RestoreJob job, Throwable error) {
+        if (error == null) {
+            job.finish(Status.COMPLETED, null);
+
+            Progress progress = job.snapshot();
+            log.info("[{}] Archive restore completed: table={}, objects={}, rows={}, bytes={}, {}ms, {} rows/s, {} MB/s",
+                    job.jobId, job.restoreTable, progress.objectsDone(), progress.rows(), progress.bytesRead(),
+                    progress.elapsedMs(), progress.rowsPerSec(), progress.mbPerSec());
+            return;
+        }
+
+        job.aborted.set(true);                       // 대기 중인 객체는 적재하지 않음
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        log.error("[{}] Archive restore failed: table={}", job.jobId, job.restoreTable, cause);
+        job.finish(Status.FAILED, cause instanceof RejectedExecutionException
+                ? "RESTORE_QUEUE_FULL: " + cause.getMessage()
+                : cause.getMessage());
+    }
+
+    /**
+     * 복원 테이블 새로 만들기 (원본과 같은 컬럼 구성)
+     */
+    private void prepareTable(RestoreJob job) {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + RestoredLayer.SCHEMA);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + job.restoreTable);
+        jdbcTemplate.execute("CREATE UNLOGGED TABLE " + job.restoreTable
+                + " (LIKE public." + job.layer.getDataTable() + " INCLUDING DEFAULTS)");
+
+        job.target = ArchiveObjectLoader.Target.of(job.restoreTable, copyRepository.getColumnTypes(job.restoreTable));
+    }
+
+    /**
+     * 기간 밖 행 정리 + 조회용 인덱스 / 통계
+     */
+    private void finishTable(RestoreJob job) {
+        Map<String, String> columnTypes = job.target.columnTypes();
+        if (job.needsTrim.get() && columnTypes.containsKey(NSEC_COLUMN)) {
+            int trimmed = jdbcTemplate.update("DELETE FROM " + job.restoreTable
+                            + " WHERE " + NSEC_COLUMN + " < ? OR " + NSEC_COLUMN + " > ?",
+                    (double) job.fromEpoch, (double) job.toEpoch);
+            job.rows.addAndGet(-trimmed);
+        }
+
+        if (columnTypes.containsKey(NSEC_COLUMN)) {
+            jdbcTemplate.execute("CREATE INDEX ON " + job.restoreTable + " (" + NSEC_COLUMN + ")");
+        }
+        jdbcTemplate.execute("ANALYZE " + job.restoreTable);
+    }
+
+    /**
+     * 객체 1개 적재 (앞서 다른 객체가 실패했으면 건너뜀)
+     */
+    private void loadObject(RestoreJob job, Entry entry) {
+        if (job.aborted.get()) {
+            return;
+        }
+
+        try {
+            ArchiveObjectLoader.Result result = objectLoader.load(entry, job.target,
+                    job.fromEpoch, job.toEpoch, rows -> { });
+            if (result.unfiltered()) {
+                job.needsTrim.set(true);
+            }
+            job.rows.addAndGet(result.rows());
+            job.bytesRead.addAndGet(result.bytesFetched());
+            job.objectsDone.incrementAndGet();
+
+        } catch (IOException | SQLException e) {
+            job.aborted.set(true);
+            log.error("[{}] Archive restore failed: s3://{}/{}", job.jobId, entry.s3Bucket(), entry.s3Key(), e);
+            throw new ArchiveException(ArchiveException.ErrorCode.ARCHIVE_RESTORE_FAILED, e);
+        } catch (RuntimeException e) {
+            job.aborted.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * 완료된 작업은 최근 keepFinishedJobs 개만 보관
+     */
+    private void purgeFinished() {
+        List<RestoreJob> finished = jobs.values().stream()
+                .filter(job -> job.status != Status.RUNNING)
+                .sorted(Comparator.comparing((RestoreJob job) -> job.startedAt).reversed())
+                .toList();
+
+        for (int i = properties.getRestore().getKeepFinishedJobs(); i < finished.size(); i++) {
+            jobs.remove(finished.get(i).jobId);
+        }
+    }
+
+    // ============================================
+    // 작업 상태
+    // ============================================
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * 작업 진행 상황
+     *
+     * @param alias     그리드에서 조회할 레이어 별칭 (예: RESTORED_HTTP_PAGE)
+     * @param bytesRead S3 에서 읽은 바이트 수 (컬럼 포맷은 실제 Range GET 바이트, CSV 는 객체 크기)
+     */
+    public record Progress(
+            String jobId,
+            String layer,
+            String alias,
+            String table,
+            long fromEpoch,
+            long toEpoch,
+            Status status,
+            int objectsTotal,
+            int objectsDone,
+            long rows,
+            long bytesRead,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            long elapsedMs,
+            double rowsPerSec,
+            double mbPerSec,
+            String error
+    ) {
+    }
+
+    private static final class RestoreJob {
+
+        final String jobId;
+        final PivotLayer layer;
+        final String restoreTable;
+        final long fromEpoch;
+        final long toEpoch;
+        final List<Entry> entries;
+        final LocalDateTime startedAt = LocalDateTime.now(ZONE_ID);
+        final long startNanos = System.nanoTime();
+
+        final AtomicInteger objectsDone = new AtomicInteger();
+        final AtomicLong rows = new AtomicLong();
+        final AtomicLong bytesRead = new AtomicLong();
+        final AtomicBoolean needsTrim = new AtomicBoolean();
+        final AtomicBoolean aborted = new AtomicBoolean();
+
+        /** prepareTable 에서 설정 (객체 적재 시작 전) */
+        volatile ArchiveObjectLoader.Target target;
+
+        volatile Status status = Status.RUNNING;
+        volatile LocalDateTime finishedAt;
+        volatile long elapsedMs = -1;
+        volatile String error;
+
+        RestoreJob(String jobId, PivotLayer layer, long fromEpoch, long toEpoch, List<Entry> entries) {
+            this.jobId = jobId;
+            this.layer = layer;
+            this.restoreTable = RestoredLayer.tableOf(layer);
+            this.fromEpoch = fromEpoch;
+            this.toEpoch = toEpoch;
+            this.entries = entries;
+        }
+
+        void finish(Status status, String error) {
+            this.elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+            this.finishedAt = LocalDateTime.now(ZONE_ID);
+            this.error = error;
+            this.status = status;
+        }
+
+        Progress snapshot() {
+            long elapsed = elapsedMs >= 0 ? elapsedMs : (System.nanoTime() - startNanos) / 1_000_000;
+            long rowCount = rows.get();
+            long bytes = bytesRead.get();
+            double seconds = elapsed / 1000.0;
+
+            return new Progress(
+                    jobId,
+                    layer.getCode(),
+                    RestoredLayer.aliasOf(layer),
+                    restoreTable,
+                    fromEpoch,
+                    toEpoch,
+                    status,
+                    entries.size(),
+                    objectsDone.get(),
+                    rowCount,
+                    bytes,
+                    startedAt,
+                    finishedAt,
+                    elapsed,
+                    seconds > 0 ? Math.round(rowCount / seconds * 10) / 10.0 : 0,
+                    seconds > 0 ? Math.round(bytes / seconds / (1024 * 1024) * 100) / 100.0 : 0,
+                    error
+            );
+        }
+    }
+}
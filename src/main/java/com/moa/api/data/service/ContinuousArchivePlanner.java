@@ -0,0 +1,107 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*****************************************************************************
+ CLASS NAME    : ContinuousArchivePlanner
+ DESCRIPTION   : 연속 아카이브의 슬라이스 크기 / 슬라이스 사이 대기 시간 계산
+ - 테이블별 최근 분당 행 수로 목표 처리량에 맞는 슬라이스 크기(분)를 정함
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Continuous Archive Planner
+ *
+ * 슬라이스 크기
+ * - 목표 행 수 = targetRowsPerSecond × sliceSeconds
+ * - 슬라이스(분) = 목표 행 수 / 최근 분당 행 수 → [minSliceMinutes, chunkMinutes] 로 제한 후
+ *   하루(1440분)의 약수로 내림 (슬라이스 경계가 자정 기준으로 정렬되도록)
+ * - 분당 행 수를 모르면(첫 실행) 최소 슬라이스부터 시작
+ *
+ * 분당 행 수
+ * - 슬라이스를 처리할 때마다 (처리 행 수 / 슬라이스 분) 을 지수 이동 평균으로 반영
+ *   → 트래픽이 많은 시간대는 슬라이스가 작아지고, 적은 시간대는 커짐
+ *
+ * 대기 시간
+ * - 처리 행 수를 목표 처리량으로 처리했을 때 걸렸어야 할 시간 - 실제 걸린 시간
+ */
+@Component
+public class ContinuousArchivePlanner {
+
+    /** 지수 이동 평균 가중치 (새 관측값 비중) */
+    static final double SMOOTHING = 0.3;
+
+    private static final int MINUTES_PER_DAY = 1440;
+
+    private final ArchiveProperties properties;
+
+    /** 테이블 → 최근 분당 행 수 */
+    private final Map<String, Double> rowsPerMinute = new ConcurrentHashMap<>();
+
+    public ContinuousArchivePlanner(ArchiveProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 다음 슬라이스 크기
+     */
+    public Duration nextSlice(String table) {
+        ArchiveProperties.Continuous continuous = properties.getContinuous();
+        int max = Math.max(1, properties.getChunkMinutes());
+        int min = Math.max(1, Math.min(continuous.getMinSliceMinutes(), max));
+
+        Double rate = rowsPerMinute.get(table);
+        long minutes = min;
+        if (rate != null) {
+            long targetRows = (long) continuous.getTargetRowsPerSecond() * continuous.getSliceSeconds();
+            minutes = rate > 0 ? (long) (targetRows / rate) : max;
+        }
+        minutes = Math.max(min, Math.min(max, minutes));
+
+        return Duration.ofMinutes(floorToDayDivisor((int) minutes));
+    }
+
+    /**
+     * 처리한 슬라이스 반영
+     *
+     * @param rows 슬라이스에서 아카이브한 행 수
+     */
+    public void record(String table, Duration slice, long rows) {
+        double observed = rows / (double) Math.max(1, slice.toMinutes());
+        rowsPerMinute.merge(table, observed, (previous, current) -> previous + SMOOTHING * (current - previous));
+    }
+
+    /**
+     * 목표 처리량을 넘지 않도록 다음 슬라이스 전에 쉴 시간 (밀리초)
+     */
+    public long pauseMillis(long rows, long elapsedMillis) {
+        int target = properties.getContinuous().getTargetRowsPerSecond();
+        if (target <= 0) {
+            return 0;
+        }
+        return Math.max(0, rows * 1000 / target - elapsedMillis);
+    }
+
+    /**
+     * 최근 분당 행 수 (모르면 null)
+     */
+    public Double getRowsPerMinute(String table) {
+        return rowsPerMinute.get(table);
+    }
+
+    /**
+     * minutes 이하인 하루(1440분)의 약수 중 가장 큰 값
+     */
+    static int floorToDayDivisor(int minutes) {
+        for (int m = Math.max(1, Math.min(minutes, MINUTES_PER_DAY)); m > 1; m--) {
+            if (MINUTES_PER_DAY % m == 0) {
+                return m;
+            }
+        }
+        return 1;
+    }
+}
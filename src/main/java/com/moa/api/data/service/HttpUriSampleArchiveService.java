@@ -1,8 +1,5 @@
 package com.moa.api.data.service;
 
-import com.moa.global.aws.S3Props;
-import com.moa.global.aws.S3Uploader;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 /*****************************************************************************
@@ -28,17 +25,11 @@ public class HttpUriSampleArchiveService extends AbstractSampleArchiveService {
     /**
      * HTTP URI 샘플 아카이브 서비스 생성자
      *
-     * @param jdbcTemplate DB 접근용 JdbcTemplate
-     * @param s3Uploader   S3 업로드 유틸
-     * @param s3Props      S3 설정 정보 (버킷, prefix 등)
+     * @param context 아카이브 공통 의존성 (JdbcTemplate, S3, 체크포인트 등)
      */
-    public HttpUriSampleArchiveService(
-            JdbcTemplate jdbcTemplate,
-            S3Uploader s3Uploader,
-            S3Props s3Props
-    ) {
+    public HttpUriSampleArchiveService(SampleArchiveContext context) {
         // 공통 아카이브 로직을 제공하는 상위 추상 클래스에 의존성 주입
-        super(jdbcTemplate, s3Uploader, s3Props);
+        super(context);
     }
 
     /**
@@ -0,0 +1,142 @@
+/**
+ * 작성자: 정소영
+ * 설명: 백엔드 인스턴스별 row_key 노드 ID 를 DB 임대로 할당/갱신/반납하는 서비스
+ */
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.IngestProperties;
+import com.moa.api.data.repository.IngestNodeLeaseRepository;
+import com.moa.api.data.util.RowKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * IngestNodeLeaseService
+ *
+ * - 빈 초기화 시 노드 ID 임대 → RowKeyGenerator 에 할당 (수신/적재 스레드가 시작되기 전)
+ * - 이전 임대의 만료 시각을 발급 하한으로 넘겨 같은 ID 를 쓰던 인스턴스의 키와 겹치지 않도록 함
+ * - 생성기에는 DB 만료 시각보다 갱신 주기만큼 이른 시각을 유효 시각으로 전달
+ *   (갱신이 늦어지면 DB 임대가 만료되기 전에 발급을 먼저 중단)
+ * - 임대를 잃으면 (다른 인스턴스가 이어받음) 새 ID 를 다시 임대
+ */
+@Slf4j
+@Service
+public class IngestNodeLeaseService {
+
+    private static final int MAX_CLAIM_ATTEMPTS = 5;
+
+    private final IngestNodeLeaseRepository leaseRepository;
+    private final RowKeyGenerator rowKeyGenerator;
+    private final IngestProperties properties;
+    private final String owner;
+
+    public IngestNodeLeaseService(IngestNodeLeaseRepository leaseRepository,
+                                  RowKeyGenerator rowKeyGenerator,
+                                  IngestProperties properties) {
+        this.leaseRepository = leaseRepository;
+        this.rowKeyGenerator = rowKeyGenerator;
+        this.properties = properties;
+        this.owner = hostName() + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PostConstruct
+    public void init() {
+        int fixedNodeId = properties.getRowKey().getNodeId();
+        if (fixedNodeId >= 0) {
+            rowKeyGenerator.assign(fixedNodeId, 0, Long.MAX_VALUE);
+            log.info("Row key node id (fixed): {}", fixedNodeId);
+            return;
+        }
+
+        try {
+            acquire();
+        } catch (RuntimeException e) {
+            log.warn("Row key node lease failed, retry on next renew: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 임대 갱신 (임대가 없거나 잃었으면 새로 임대)
+     */
+    @Scheduled(fixedDelayString = "${moa.ingest.row-key.renew-interval-ms:10000}")
+    public void renew() {
+        if (properties.getRowKey().getNodeId() >= 0) {
+            return;
+        }
+
+        try {
+            int nodeId = rowKeyGenerator.getNodeId();
+            if (nodeId < 0) {
+                acquire();
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            long expiresAtMs = now + properties.getRowKey().getLeaseTtlMs();
+
+            if (leaseRepository.renew(nodeId, owner, expiresAtMs)) {
+                rowKeyGenerator.extend(nodeId, validUntilMicros(expiresAtMs));
+            } else {
+                log.warn("Row key node lease lost: nodeId={}, owner={}", nodeId, owner);
+                rowKeyGenerator.release();
+                acquire();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Row key node lease renew failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        int nodeId = rowKeyGenerator.getNodeId();
+        rowKeyGenerator.release();
+
+        if (nodeId >= 0 && properties.getRowKey().getNodeId() < 0) {
+            try {
+                leaseRepository.release(nodeId, owner, System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                log.warn("Row key node lease release failed: nodeId={}, message={}", nodeId, e.getMessage());
+            }
+        }
+    }
+
+    private void acquire() {
+        long now = System.currentTimeMillis();
+        long expiresAtMs = now + properties.getRowKey().getLeaseTtlMs();
+
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            IngestNodeLeaseRepository.Claimed claimed = leaseRepository.claimExpired(owner, now, expiresAtMs);
+            if (claimed == null) {
+                claimed = leaseRepository.claimNew(owner, expiresAtMs, RowKeyGenerator.MAX_NODE_ID);
+            }
+
+            if (claimed != null) {
+                rowKeyGenerator.assign(claimed.nodeId(),
+                        claimed.previousExpiresAtMs() * 1_000L,
+                        validUntilMicros(expiresAtMs));
+                log.info("Row key node lease acquired: nodeId={}, owner={}", claimed.nodeId(), owner);
+                return;
+            }
+        }
+
+        throw new IllegalStateException("사용 가능한 row_key 노드 ID 가 없습니다");
+    }
+
+    private long validUntilMicros(long expiresAtMs) {
+        return (expiresAtMs - properties.getRowKey().getRenewIntervalMs()) * 1_000L;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
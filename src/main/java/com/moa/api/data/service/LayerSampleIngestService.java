@@ -0,0 +1,167 @@
+/**
+ * 작성자: 정소영
+ * 설명: 레이어(PivotLayer)별 수집 배치를 테이블 컬럼에 매핑해
+ *      COPY (FORMAT binary) 로 적재하는 공통 적재 서비스
+ */
+package com.moa.api.data.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moa.api.data.entity.HttpPageSampleFull;
+import com.moa.api.data.repository.SampleCopyCodec;
+import com.moa.api.data.repository.SampleCopyRepository;
+import com.moa.api.data.util.RowKeyGenerator;
+import com.moa.api.pivot.model.PivotLayer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LayerSampleIngestService
+ *
+ * 레이어 등록 정보
+ * - 적재 테이블은 PivotLayer.dataTable (피벗/아카이브와 같은 레이어 목록)
+ *
+ * 컬럼 매핑 (레이어별, 테이블 컬럼 기준으로 최초 1회 구성)
+ * - 수신 행의 키는 컬럼명(snake_case) 또는 camelCase 모두 허용 (예: src_ip, srcIp)
+ * - 테이블에 없는 키는 버리고 경고 로그
+ * - HTTP_PAGE 는 롤업 갱신을 위해 HttpPageSampleFull 로 변환 후 PageSampleIngestService 경로 사용
+ *
+ * 서버 측 설정 컬럼 (테이블에 있으면 수신 값 대신 설정, HTTP_PAGE 와 동일)
+ * - row_key (RowKeyGenerator), ts_server / ts_server_nsec (수신 시각)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LayerSampleIngestService {
+
+    private static final String ROW_KEY = "row_key";
+    private static final String TS_SERVER = "ts_server";
+    private static final String TS_SERVER_NSEC = "ts_server_nsec";
+
+    private final PageSampleIngestService pageIngestService;
+    private final SampleCopyRepository copyRepository;
+    private final RowKeyGenerator rowKeyGenerator;
+    private final ObjectMapper objectMapper;
+
+    /** 레이어 → (수신 키 → 컬럼명) */
+    private final Map<PivotLayer, Map<String, String>> columnMappings = new ConcurrentHashMap<>();
+
+    /**
+     * 수신 행 → 적재 배치 (컬럼 매핑 적용)
+     *
+     * @throws IllegalStateException 레이어 테이블이 없거나 COPY 로 인코딩할 수 없는 경우
+     */
+    public SampleIngestBatch toBatch(PivotLayer layer, List<Map<String, Object>> rows) {
+        if (layer == PivotLayer.HTTP_PAGE) {
+            List<Map<String, Object>> camelRows = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                Map<String, Object> camel = new HashMap<>(row.size() * 2);
+                row.forEach((key, value) -> camel.put(toCamelCase(key), value));
+                camelRows.add(camel);
+            }
+            return SampleIngestBatch.ofPage(objectMapper.convertValue(camelRows, new TypeReference<List<HttpPageSampleFull>>() {}));
+        }
+
+        Map<String, String> mapping = columnMapping(layer);
+        Set<String> unknownKeys = new TreeSet<>();
+        List<Map<String, Object>> mapped = new ArrayList<>(rows.size());
+
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> columns = new HashMap<>(row.size() * 2);
+            for (Map.Entry<String, Object> e : row.entrySet()) {
+                String column = mapping.get(e.getKey());
+                if (column != null) {
+                    columns.put(column, e.getValue());
+                } else {
+                    unknownKeys.add(e.getKey());
+                }
+            }
+            mapped.add(columns);
+        }
+
+        if (!unknownKeys.isEmpty()) {
+            log.warn("Ingest {}: {} 테이블에 없는 키 무시 - {}", layer, layer.getDataTable(), unknownKeys);
+        }
+        return SampleIngestBatch.ofRows(layer, mapped);
+    }
+
+    /**
+     * 배치 저장 (한 트랜잭션)
+     */
+    @Transactional
+    public void saveBatch(SampleIngestBatch batch) {
+        if (batch.isPage()) {
+            pageIngestService.saveBatch(batch.pageSamples());
+            return;
+        }
+
+        SampleCopyCodec<Map<String, Object>> codec = copyRepository.codecForRows(batch.layer().getDataTable());
+        Map<String, String> mapping = columnMapping(batch.layer());
+        boolean hasRowKey = mapping.containsKey(ROW_KEY);
+        boolean hasTsServer = mapping.containsKey(TS_SERVER);
+        boolean hasTsServerNsec = mapping.containsKey(TS_SERVER_NSEC);
+
+        for (Map<String, Object> row : batch.rows()) {
+            LocalDateTime now = LocalDateTime.now();
+
+            if (hasRowKey) {
+                row.put(ROW_KEY, rowKeyGenerator.next());
+            }
+            if (hasTsServer) {
+                row.put(TS_SERVER, now);
+            }
+            if (hasTsServerNsec) {
+                row.put(TS_SERVER_NSEC, now.atZone(ZoneId.systemDefault()).toEpochSecond()
+                        + (now.getNano() / 1_000_000_000.0));
+            }
+        }
+
+        copyRepository.copy(codec, batch.rows());
+    }
+
+    private Map<String, String> columnMapping(PivotLayer layer) {
+        return columnMappings.computeIfAbsent(layer, l -> {
+            Map<String, String> mapping = new LinkedHashMap<>();
+            for (String column : copyRepository.codecForRows(l.getDataTable()).getColumnNames()) {
+                mapping.put(column, column);
+                mapping.putIfAbsent(toCamelCase(column), column);
+            }
+            return Map.copyOf(mapping);
+        });
+    }
+
+    /**
+     * src_ip → srcIp (이미 camelCase 이면 그대로)
+     */
+    static String toCamelCase(String key) {
+        if (key.indexOf('_') < 0) {
+            return key;
+        }
+
+        StringBuilder sb = new StringBuilder(key.length());
+        boolean upper = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '_') {
+                upper = sb.length() > 0;
+            } else {
+                sb.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * 작성자: 정소영
+ * 설명: http_page_sample 적재 경로(JPA saveAll / COPY binary)의 처리량(rows/sec)을 비교하는 벤치마크
+ *      (모든 실행은 롤백되는 트랜잭션 안에서 수행되어 데이터가 남지 않음)
+ *      moa.ingest.benchmark.enabled=true 일 때만 등록
+ */
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.IngestProperties;
+import com.moa.api.data.entity.HttpPageSampleFull;
+import com.moa.api.data.repository.HttpPageSampleInsertRepository;
+import com.moa.api.data.repository.SampleCopyCodec;
+import com.moa.api.data.repository.SampleCopyRepository;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PageSampleIngestBenchmark
+ *
+ * - 실제 테이블 컬럼 타입에 맞춘 합성 샘플을 생성 (macaddr/inet 컬럼은 유효한 리터럴)
+ * - 경로별로 rounds 회 실행해 가장 빠른 회차의 rows/sec 를 결과로 사용 (JIT/캐시 워밍업 영향 제외)
+ * - JPA 경로는 기존 엔드포인트와 같이 saveAll 후 flush 까지 측정 (INSERT 가 실제로 실행되는 시점)
+ * - 운영 테이블에 INSERT 후 롤백하므로 설정으로 켠 경우에만 등록, rows / rounds 는 설정 상한으로 제한
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "moa.ingest.benchmark", name = "enabled", havingValue = "true")
+public class PageSampleIngestBenchmark {
+
+    private final HttpPageSampleInsertRepository repository;
+    private final SampleCopyRepository copyRepository;
+    private final EntityManager em;
+    private final IngestProperties.Benchmark config;
+    private final TransactionTemplate transactionTemplate;
+
+    public PageSampleIngestBenchmark(HttpPageSampleInsertRepository repository,
+                                     SampleCopyRepository copyRepository,
+                                     EntityManager em,
+                                     IngestProperties properties,
+                                     PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.copyRepository = copyRepository;
+        this.em = em;
+        this.config = properties.getBenchmark();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Result run(int rows, int rounds) {
+        if (rows <= 0 || rounds <= 0) {
+            throw new IllegalArgumentException("rows, rounds 는 1 이상이어야 합니다");
+        }
+        if (rows > config.getMaxRows() || rounds > config.getMaxRounds()) {
+            throw new IllegalArgumentException("rows 는 " + config.getMaxRows() + ", rounds 는 "
+                    + config.getMaxRounds() + " 이하여야 합니다");
+        }
+
+        Map<String, String> columnTypes = copyRepository.getColumnTypes(HttpPageSampleFull.TABLE_NAME);
+        SampleCopyCodec<HttpPageSampleFull> codec =
+                copyRepository.codecFor(HttpPageSampleFull.class, HttpPageSampleFull.TABLE_NAME);
+
+        double jpaBest = 0;
+        double copyBest = 0;
+
+        for (int round = 0; round < rounds; round++) {
+            List<HttpPageSampleFull> jpaSamples = generate(rows, columnTypes, "jpa-" + round);
+            long jpaNanos = timeRolledBack(() -> {
+                repository.saveAll(jpaSamples);
+                em.flush();
+            });
+            jpaBest = Math.max(jpaBest, rowsPerSecond(rows, jpaNanos));
+
+            List<HttpPageSampleFull> copySamples = generate(rows, columnTypes, "copy-" + round);
+            long copyNanos = timeRolledBack(() -> copyRepository.copy(codec, copySamples));
+            copyBest = Math.max(copyBest, rowsPerSecond(rows, copyNanos));
+
+            log.info("Ingest benchmark round {}: rows={}, jpa={}ms, copy={}ms",
+                    round + 1, rows, jpaNanos / 1_000_000, copyNanos / 1_000_000);
+        }
+
+        return new Result(rows, rounds, Math.round(jpaBest), Math.round(copyBest),
+                jpaBest > 0 ? Math.round(copyBest / jpaBest * 10) / 10.0 : 0);
+    }
+
+    private long timeRolledBack(Runnable work) {
+        long[] elapsed = new long[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            long start = System.nanoTime();
+            work.run();
+            elapsed[0] = System.nanoTime() - start;
+            status.setRollbackOnly();
+        });
+        em.clear();
+        return elapsed[0];
+    }
+
+    private static double rowsPerSecond(int rows, long nanos) {
+        return nanos > 0 ? rows * 1_000_000_000.0 / nanos : 0;
+    }
+
+    /**
+     * 합성 샘플 생성 - 엔티티의 모든 @Column 필드를 타입에 맞는 값으로 채움
+     */
+    private static List<HttpPageSampleFull> generate(int rows, Map<String, String> columnTypes, String prefix) {
+        List<HttpPageSampleFull> samples = new ArrayList<>(rows);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < rows; i++) {
+            HttpPageSampleFull sample = new HttpPageSampleFull();
+
+            for (Field field : HttpPageSampleFull.class.getDeclaredFields()) {
+                Column column = field.getAnnotation(Column.class);
+                if (column == null) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+                try {
+                    field.set(sample, sampleValue(field.getType(), columnTypes.get(column.name()), i, now));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            sample.setRowKey("bench-" + prefix + "-" + i);
+            samples.add(sample);
+        }
+        return samples;
+    }
+
+    private static Object sampleValue(Class<?> type, String columnType, int i, LocalDateTime now) {
+        if (type == Integer.class) {
+            return i % 1000;
+        }
+        if (type == Long.class) {
+            return (long) i;
+        }
+        if (type == Double.class) {
+            return (i % 1000) * 1.5;
+        }
+        if (type == Boolean.class) {
+            return i % 2 == 0;
+        }
+        if (type == LocalDateTime.class) {
+            return now;
+        }
+        if (type == String.class) {
+            if ("macaddr".equals(columnType)) {
+                return "00:11:22:33:44:55";
+            }
+            if ("inet".equals(columnType) || "cidr".equals(columnType)) {
+                return "10.0.0." + (i % 250 + 1);
+            }
+            return "bench";
+        }
+        return null;
+    }
+
+    /**
+     * 벤치마크 결과 (rows/sec 는 회차 중 최고값)
+     */
+    public record Result(int rows, int rounds, long jpaRowsPerSec, long copyRowsPerSec, double speedup) {}
+}
@@ -0,0 +1,94 @@
+/**
+ * 작성자: 정소영
+ * 설명: 수집기로부터 받은 http_page_sample 데이터를 저장하고
+ *      같은 트랜잭션에서 대시보드 롤업 버킷을 갱신하는 서비스
+ */
+package com.moa.api.data.service;
+
+import com.moa.api.dashboard.service.DashboardRollupService;
+import com.moa.api.data.config.IngestProperties;
+import com.moa.api.data.entity.HttpPageSampleFull;
+import com.moa.api.data.repository.HttpPageSampleInsertRepository;
+import com.moa.api.data.repository.SampleCopyCodec;
+import com.moa.api.data.repository.SampleCopyRepository;
+import com.moa.api.data.util.RowKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PageSampleIngestService {
+
+    private final HttpPageSampleInsertRepository repository;
+    private final SampleCopyRepository copyRepository;
+    private final DashboardRollupService rollupService;
+    private final IngestProperties properties;
+    private final RowKeyGenerator rowKeyGenerator;
+
+    /** COPY 코덱 구성 실패 시 JPA 경로로 고정 (경고는 1회만) */
+    private final AtomicBoolean copyUnavailable = new AtomicBoolean();
+
+    /**
+     * 배치 저장
+     * - 수신 시각으로 ts_server / ts_server_nsec 설정, row_key 는 RowKeyGenerator 로 발급
+     * - 원본 저장 + 롤업 갱신을 하나의 트랜잭션으로 처리
+     * - 원본은 COPY (FORMAT binary) 로 적재, 사용할 수 없으면 JPA saveAll
+     */
+    @Transactional
+    public void saveBatch(List<HttpPageSampleFull> samples) {
+        for (HttpPageSampleFull sample : samples) {
+            LocalDateTime now = LocalDateTime.now();
+
+            double unixTimestamp = now.atZone(ZoneId.systemDefault())
+                    .toEpochSecond()
+                    + (now.getNano() / 1_000_000_000.0);
+
+            sample.setRowKey(rowKeyGenerator.next());
+            sample.setTsServer(now);
+            sample.setTsServerNsec(unixTimestamp);
+        }
+
+        SampleCopyCodec<HttpPageSampleFull> codec = copyCodec();
+        if (codec != null) {
+            copyRepository.copy(codec, samples);
+        } else {
+            repository.saveAll(samples);
+        }
+        rollupService.accumulate(samples);
+    }
+
+    /**
+     * 단건 저장 (수신 데이터의 시각 그대로 저장)
+     */
+    @Transactional
+    public void save(HttpPageSampleFull sample) {
+        repository.save(sample);
+        rollupService.accumulate(List.of(sample));
+    }
+
+    /**
+     * http_page_sample COPY 코덱 (비활성화 또는 구성 실패 시 null)
+     */
+    private SampleCopyCodec<HttpPageSampleFull> copyCodec() {
+        if (!properties.getCopy().isEnabled() || copyUnavailable.get()) {
+            return null;
+        }
+
+        try {
+            return copyRepository.codecFor(HttpPageSampleFull.class, HttpPageSampleFull.TABLE_NAME);
+        } catch (RuntimeException e) {
+            if (copyUnavailable.compareAndSet(false, true)) {
+                log.warn("COPY 적재를 사용할 수 없어 JPA 경로로 저장합니다: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import com.moa.api.data.repository.ArchiveCheckpointRepository;
+import com.moa.api.data.repository.ArchiveManifestRepository;
+import com.moa.global.aws.S3Props;
+import com.moa.global.aws.S3Uploader;
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Semaphore;
+
+/*****************************************************************************
+ CLASS NAME    : SampleArchiveContext
+ DESCRIPTION   : 레이어별 아카이브 서비스가 공통으로 사용하는 의존성 묶음
+ - 서브 클래스 생성자는 이 객체 하나만 상위 클래스로 전달
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+@Getter
+@Component
+public class SampleArchiveContext {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final S3Uploader s3Uploader;
+    private final S3Props s3Props;
+    private final ArchiveProperties properties;
+    private final ArchiveCheckpointRepository checkpointRepository;
+    private final ArchiveManifestRepository manifestRepository;
+    private final ArchiveManifestIndex manifestIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final SamplePartitionManager partitionManager;
+
+    /** 레이어 아카이브 전체가 공유하는 DB 커넥션 예산 (ArchiveProperties.dbConnectionBudget) */
+    private final Semaphore dbBudget;
+
+    public SampleArchiveContext(JdbcTemplate jdbcTemplate,
+                                S3Uploader s3Uploader,
+                                S3Props s3Props,
+                                ArchiveProperties properties,
+                                ArchiveCheckpointRepository checkpointRepository,
+                                ArchiveManifestRepository manifestRepository,
+                                ArchiveManifestIndex manifestIndex,
+                                PlatformTransactionManager transactionManager,
+                                SamplePartitionManager partitionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.s3Uploader = s3Uploader;
+        this.s3Props = s3Props;
+        this.properties = properties;
+        this.checkpointRepository = checkpointRepository;
+        this.manifestRepository = manifestRepository;
+        this.manifestIndex = manifestIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionManager = partitionManager;
+        this.dbBudget = new Semaphore(Math.max(1, properties.getDbConnectionBudget()), true);
+    }
+}
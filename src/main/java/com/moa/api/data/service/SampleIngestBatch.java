@@ -0,0 +1,61 @@
+/**
+ * 작성자: 정소영
+ * 설명: 적재 큐에 들어가는 레이어별 수신 배치
+ *      (HTTP_PAGE 는 롤업 갱신을 위해 엔티티, 그 외 레이어는 컬럼명 → 값 Map 행)
+ */
+package com.moa.api.data.service;
+
+import com.moa.api.data.entity.HttpPageSampleFull;
+import com.moa.api.pivot.model.PivotLayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public record SampleIngestBatch(
+        PivotLayer layer,
+        List<HttpPageSampleFull> pageSamples,
+        List<Map<String, Object>> rows
+) {
+
+    public static SampleIngestBatch ofPage(List<HttpPageSampleFull> samples) {
+        return new SampleIngestBatch(PivotLayer.HTTP_PAGE, samples, null);
+    }
+
+    public static SampleIngestBatch ofRows(PivotLayer layer, List<Map<String, Object>> rows) {
+        if (layer == PivotLayer.HTTP_PAGE) {
+            throw new IllegalArgumentException("HTTP_PAGE 배치는 엔티티로 전달해야 합니다");
+        }
+        return new SampleIngestBatch(layer, null, rows);
+    }
+
+    public boolean isPage() {
+        return pageSamples != null;
+    }
+
+    public int size() {
+        return isPage() ? pageSamples.size() : rows.size();
+    }
+
+    /**
+     * 같은 레이어 배치 묶기 (group commit)
+     */
+    public static SampleIngestBatch merge(List<SampleIngestBatch> batches) {
+        if (batches.size() == 1) {
+            return batches.get(0);
+        }
+
+        SampleIngestBatch first = batches.get(0);
+        int total = batches.stream().mapToInt(SampleIngestBatch::size).sum();
+
+        if (first.isPage()) {
+            List<HttpPageSampleFull> merged = new ArrayList<>(total);
+            batches.forEach(b -> merged.addAll(b.pageSamples()));
+            return ofPage(merged);
+        }
+
+        List<Map<String, Object>> merged = new ArrayList<>(total);
+        batches.forEach(b -> merged.addAll(b.rows()));
+        return ofRows(first.layer(), merged);
+    }
+}
@@ -0,0 +1,326 @@
+/**
+ * 작성자: 정소영
+ * 설명: 수신한 레이어별 샘플 배치를 제한된 크기의 큐에 받아 두고
+ *      백그라운드 적재 스레드가 같은 레이어의 여러 배치를 한 트랜잭션으로 묶어 커밋하는 비동기 적재 큐
+ */
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.IngestProperties;
+import com.moa.api.pivot.model.PivotLayer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SampleIngestQueue
+ *
+ * 수신
+ * - 배치를 배열 기반 큐(ArrayBlockingQueue)에 넣고 즉시 반환 → HTTP 스레드는 DB 를 기다리지 않음
+ * - 대기 배치 수(capacityBatches) 또는 대기 행 수(capacityRows)를 넘으면 거부 → 호출 측에서 429 응답
+ *
+ * 적재 (group commit)
+ * - 적재 스레드는 큐에서 배치를 하나 꺼낸 뒤, 이미 쌓여 있는 배치를 maxGroupRows 까지 더 꺼내
+ *   레이어별로 묶어 LayerSampleIngestService.saveBatch 한 번(= 레이어당 한 트랜잭션)으로 커밋
+ * - 별도 대기 없이 쌓인 만큼만 묶으므로 한가할 때는 지연이 없고, DB 가 느려지면 묶음이 커져 커밋 횟수가 줄어듦
+ * - 묶음 커밋이 실패하면 배치별로 다시 커밋해 문제가 있는 배치만 버림 (실패 행 수는 통계에 기록)
+ *
+ * 종료
+ * - SmartLifecycle 단계를 웹 서버보다 낮게 두어, 수신이 멈춘 뒤 남은 배치를 적재하고 나서 빈이 정리되도록 함
+ */
+@Slf4j
+@Service
+public class SampleIngestQueue implements SmartLifecycle {
+
+    private final LayerSampleIngestService ingestService;
+    private final IngestProperties.Queue config;
+
+    private final BlockingQueue<SampleIngestBatch> queue;
+    private final AtomicLong pendingRows = new AtomicLong();
+    private final List<Thread> writers = new ArrayList<>();
+    private volatile boolean running;
+
+    // 통계
+    private final AtomicLong acceptedBatches = new AtomicLong();
+    private final AtomicLong rejectedBatches = new AtomicLong();
+    private final AtomicLong committedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final AtomicLong groupCommits = new AtomicLong();
+    private final AtomicLong commitNanosTotal = new AtomicLong();
+    private final AtomicLong commitNanosMax = new AtomicLong();
+    private final AtomicLong lastCommitNanos = new AtomicLong();
+    private final RateWindow committedRate = new RateWindow();
+
+    public SampleIngestQueue(LayerSampleIngestService ingestService, IngestProperties properties) {
+        this.ingestService = ingestService;
+        this.config = properties.getQueue();
+        this.queue = new ArrayBlockingQueue<>(config.getCapacityBatches());
+    }
+
+    @Override
+    public void start() {
+        if (!config.isEnabled() || running) {
+            return;
+        }
+
+        running = true;
+        for (int i = 0; i < config.getWriterThreads(); i++) {
+            Thread writer = new Thread(this::writeLoop, "sample-ingest-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writers.add(writer);
+        }
+        log.info("Sample ingest queue started - writers: {}, capacity: {} batches / {} rows",
+                config.getWriterThreads(), config.getCapacityBatches(), config.getCapacityRows());
+    }
+
+    /**
+     * 종료 시 새 수신은 멈추고, 남은 배치는 적재 스레드가 비울 때까지 기다림
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getShutdownTimeoutMs());
+        for (Thread writer : writers) {
+            try {
+                writer.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        writers.clear();
+
+        if (!queue.isEmpty()) {
+            log.warn("Sample ingest queue stopped with {} batches ({} rows) not committed",
+                    queue.size(), pendingRows.get());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)가 먼저 멈춘 뒤 정지
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 배치 수신
+     *
+     * @return false 이면 큐가 가득 참 (호출 측에서 429 + Retry-After)
+     */
+    public boolean offer(SampleIngestBatch batch) {
+        if (batch.size() == 0) {
+            return true;
+        }
+        if (!running) {
+            rejectedBatches.incrementAndGet();
+            return false;
+        }
+
+        int rows = batch.size();
+        long reserved = pendingRows.addAndGet(rows);
+        // 빈 큐에는 capacityRows 보다 큰 배치도 1개까지 허용 (영구 거부 방지)
+        if (reserved > config.getCapacityRows() && reserved != rows) {
+            pendingRows.addAndGet(-rows);
+            rejectedBatches.incrementAndGet();
+            return false;
+        }
+
+        if (!queue.offer(batch)) {
+            pendingRows.addAndGet(-rows);
+            rejectedBatches.incrementAndGet();
+            return false;
+        }
+
+        acceptedBatches.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 재시도 권장 시간 (초) = 대기 행 수 / 최근 적재 속도
+     */
+    public int retryAfterSeconds() {
+        double rate = committedRate.perSecond();
+        long seconds = rate > 0 ? (long) Math.ceil(pendingRows.get() / rate) : config.getMaxRetryAfterSeconds();
+        return (int) Math.max(1, Math.min(seconds, config.getMaxRetryAfterSeconds()));
+    }
+
+    // ============================================
+    // 적재 스레드
+    // ============================================
+
+    private void writeLoop() {
+        while (running || !queue.isEmpty()) {
+            SampleIngestBatch first;
+            try {
+                first = queue.poll(200, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+
+            Map<PivotLayer, List<SampleIngestBatch>> groups = new LinkedHashMap<>();
+            groups.computeIfAbsent(first.layer(), l -> new ArrayList<>()).add(first);
+            int rows = first.size();
+
+            while (rows < config.getMaxGroupRows()) {
+                SampleIngestBatch next = queue.poll();
+                if (next == null) {
+                    break;
+                }
+                groups.computeIfAbsent(next.layer(), l -> new ArrayList<>()).add(next);
+                rows += next.size();
+            }
+
+            for (List<SampleIngestBatch> group : groups.values()) {
+                commit(group);
+            }
+        }
+    }
+
+    private void commit(List<SampleIngestBatch> group) {
+        SampleIngestBatch merged = SampleIngestBatch.merge(group);
+        int rows = merged.size();
+
+        long start = System.nanoTime();
+        try {
+            ingestService.saveBatch(merged);
+            recordCommit(rows, System.nanoTime() - start);
+        } catch (Exception e) {
+            if (group.size() == 1) {
+                failedRows.addAndGet(rows);
+                log.error("Sample ingest failed: layer={}, rows={}", merged.layer(), rows, e);
+            } else {
+                log.warn("Sample group commit failed, retry per batch: layer={}, batches={}, rows={}, message={}",
+                        merged.layer(), group.size(), rows, e.getMessage());
+                for (SampleIngestBatch batch : group) {
+                    commitSingle(batch);
+                }
+            }
+        } finally {
+            pendingRows.addAndGet(-rows);
+        }
+    }
+
+    private void commitSingle(SampleIngestBatch batch) {
+        long start = System.nanoTime();
+        try {
+            ingestService.saveBatch(batch);
+            recordCommit(batch.size(), System.nanoTime() - start);
+        } catch (Exception e) {
+            failedRows.addAndGet(batch.size());
+            log.error("Sample ingest failed: layer={}, rows={}", batch.layer(), batch.size(), e);
+        }
+    }
+
+    private void recordCommit(int rows, long nanos) {
+        committedRows.addAndGet(rows);
+        groupCommits.incrementAndGet();
+        commitNanosTotal.addAndGet(nanos);
+        commitNanosMax.accumulateAndGet(nanos, Math::max);
+        lastCommitNanos.set(nanos);
+        committedRate.add(rows);
+    }
+
+    // ============================================
+    // 통계
+    // ============================================
+
+    public QueueStats getStats() {
+        long commits = groupCommits.get();
+        return new QueueStats(
+                config.isEnabled(),
+                queue.size(),
+                pendingRows.get(),
+                acceptedBatches.get(),
+                rejectedBatches.get(),
+                committedRows.get(),
+                failedRows.get(),
+                commits,
+                commits > 0 ? commitNanosTotal.get() / commits / 1_000_000.0 : 0,
+                commitNanosMax.get() / 1_000_000.0,
+                lastCommitNanos.get() / 1_000_000.0,
+                committedRate.perSecond()
+        );
+    }
+
+    public record QueueStats(
+            boolean enabled,
+            int queueDepthBatches,
+            long queueDepthRows,
+            long acceptedBatches,
+            long rejectedBatches,
+            long committedRows,
+            long failedRows,
+            long commits,
+            double avgCommitMs,
+            double maxCommitMs,
+            double lastCommitMs,
+            double rowsPerSec
+    ) {}
+
+    /**
+     * 최근 WINDOW_SECONDS 초(현재 초 제외) 동안의 초당 적재 행 수
+     * - 초 단위 슬롯에 누적, 슬롯이 가리키는 초가 바뀌면 초기화
+     */
+    private static final class RateWindow {
+
+        private static final int WINDOW_SECONDS = 10;
+        private static final int SLOTS = WINDOW_SECONDS + 2;
+
+        private final AtomicLongArray seconds = new AtomicLongArray(SLOTS);
+        private final AtomicLongArray counts = new AtomicLongArray(SLOTS);
+
+        void add(long rows) {
+            long now = System.currentTimeMillis() / 1000;
+            int slot = (int) (now % SLOTS);
+
+            long slotSecond = seconds.get(slot);
+            if (slotSecond != now && seconds.compareAndSet(slot, slotSecond, now)) {
+                counts.set(slot, 0);
+            }
+            counts.addAndGet(slot, rows);
+        }
+
+        double perSecond() {
+            long now = System.currentTimeMillis() / 1000;
+            long total = 0;
+            for (int i = 1; i <= WINDOW_SECONDS; i++) {
+                long second = now - i;
+                int slot = (int) (second % SLOTS);
+                if (seconds.get(slot) == second) {
+                    total += counts.get(slot);
+                }
+            }
+            return (double) total / WINDOW_SECONDS;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import com.moa.api.pivot.model.PivotLayer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*****************************************************************************
+ CLASS NAME    : SamplePartitionManager
+ DESCRIPTION   : 샘플 테이블(http_page / http_uri / tcp / ethernet)을
+ ts_server 기준 일 단위 RANGE 파티션으로 관리하는 서비스
+ - 기존 테이블 전환, 미래 파티션 사전 생성, 만료 파티션 분리/삭제
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Sample Partition Manager
+ *
+ * 파티션 구성
+ * - {table}_pYYYYMMDD : [해당일 00:00, 다음날 00:00)
+ * - {table}_legacy    : [MINVALUE, 전환 시점) - 전환 전부터 있던 데이터
+ * - PK 는 (row_key, ts_server) (파티션 키가 PK 에 포함되어야 함)
+ *
+ * 기존 테이블 전환 (긴 잠금 없이)
+ * 1) CHECK (ts_server IS NOT NULL AND ts_server < 전환 시점) NOT VALID 추가 후 VALIDATE (쓰기 허용)
+ * 2) (row_key, ts_server) UNIQUE 인덱스를 CONCURRENTLY 생성
+ * 3) 한 트랜잭션에서 이름 변경 → 파티션 부모 생성 → legacy 로 ATTACH
+ *    (1, 2 덕분에 ATTACH 시 전체 스캔/인덱스 생성이 없어 메타데이터 변경만 수행)
+ * - 전환 시점은 모레 00:00 (전환 도중 자정을 넘겨도 새 행이 CHECK 를 위반하지 않도록)
+ * - 기존 보조 인덱스(UNIQUE 제외)는 ATTACH 전에 부모에 다시 만들어 새 일 파티션에도 생기게 함
+ *   (legacy 의 같은 정의 인덱스는 ATTACH 때 그대로 연결되어 재생성되지 않음)
+ *
+ * 여러 노드 동시 실행
+ * - 테이블별 pg_try_advisory_lock 을 잡은 노드만 전환 / 파티션 생성 수행 (못 잡으면 이번 회차는 건너뜀)
+ *
+ * 보관 기간 삭제
+ * - 상한이 cutoff 이하인 파티션을 1개씩 DETACH → 아카이브 서비스가 바로 Export 후 DROP
+ *   (하루치 데이터 삭제가 행 단위 DELETE 가 아닌 테이블 DROP)
+ * - 분리 후 DROP 전인 파티션은 ArchiveQueryService 가 조회 관계에 함께 포함
+ */
+@Slf4j
+@Service
+public class SamplePartitionManager {
+
+    private static final DateTimeFormatter SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BOUND_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern BOUND_PATTERN = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+
+    private static final String TS_COLUMN = AbstractSampleArchiveService.TS_COLUMN;
+    private static final String LEGACY_SUFFIX = "_legacy";
+    private static final String LOCK_PREFIX = "sample-partition:";
+    private static final Pattern INDEX_DEF_PATTERN = Pattern.compile("^CREATE INDEX \\S+ ON \\S+ (USING .+)$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveProperties.Partition config;
+    private final TransactionTemplate transactionTemplate;
+
+    public SamplePartitionManager(JdbcTemplate jdbcTemplate,
+                                  ArchiveProperties properties,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = properties.getPartition();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 파티션 정보
+     *
+     * @param from 하한 (MINVALUE 이면 null)
+     * @param to   상한
+     */
+    public record PartitionInfo(String name, LocalDateTime from, LocalDateTime to) {}
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 기동 시 전환 + 파티션 생성 (기동을 막지 않도록 별도 스레드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Thread thread = new Thread(this::ensureAll, "sample-partition-init");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 매시 정각 미래 파티션 확인
+     */
+    @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul")
+    public void ensureAll() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        for (PivotLayer layer : PivotLayer.values()) {
+            try {
+                ensure(layer.getDataTable());
+            } catch (Exception e) {
+                log.error("[{}] Partition maintenance failed", layer.getDataTable(), e);
+            }
+        }
+    }
+
+    /**
+     * 테이블 1개: 필요 시 전환 후 [오늘, 오늘 + premakeDays] 파티션 생성
+     * - 다른 노드가 같은 테이블을 처리 중이면(advisory lock 실패) 건너뜀
+     */
+    public void ensure(String table) {
+        boolean locked = withTableLock(table, () -> ensureLocked(table));
+        if (!locked) {
+            log.info("[{}] Partition maintenance running on another node, skip", table);
+        }
+    }
+
+    private void ensureLocked(String table) {
+        String kind = relationKind(table);
+        if (kind == null) {
+            log.debug("[{}] Table not found, skip partition maintenance", table);
+            return;
+        }
+
+        if (!"p".equals(kind)) {
+            if (!config.isConvertExisting()) {
+                return;
+            }
+            convert(table);
+        }
+
+        LocalDate today = LocalDate.now(AbstractSampleArchiveService.ZONE_ID);
+        LocalDateTime coveredUntil = findAttached(table).stream()
+                .map(PartitionInfo::to)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+
+        for (int i = 0; i <= config.getPremakeDays(); i++) {
+            LocalDate day = today.plusDays(i);
+            if (coveredUntil != null && day.atStartOfDay().isBefore(coveredUntil)) {
+                continue;                         // legacy 등 기존 파티션이 이미 포함
+            }
+            createDaily(table, day);
+        }
+    }
+
+    public boolean isPartitioned(String table) {
+        return "p".equals(relationKind(table));
+    }
+
+    /**
+     * 부모에 붙어 있는 파티션 목록 (하한 순)
+     */
+    public List<PartitionInfo> findAttached(String table) {
+        List<PartitionInfo> result = new ArrayList<>(jdbcTemplate.query("""
+            SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?)
+            """, (rs, i) -> parseBound(rs.getString(1), rs.getString(2)), table));
+        result.removeIf(p -> p == null);
+        result.sort((a, b) -> a.from() == null ? -1 : b.from() == null ? 1 : a.from().compareTo(b.from()));
+        return result;
+    }
+
+    /**
+     * 상한이 cutoff 이하인 부모에 붙어 있는 파티션 (하한 순)
+     */
+    public List<PartitionInfo> findExpired(String table, LocalDateTime cutoff) {
+        List<PartitionInfo> expired = new ArrayList<>(findAttached(table));
+        expired.removeIf(partition -> partition.to().isAfter(cutoff));
+        return expired;
+    }
+
+    /**
+     * 파티션 1개 분리 (아카이브 서비스가 Export 직전에 호출)
+     */
+    public void detach(String table, PartitionInfo partition) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition.name());
+        log.info("[{}] Partition detached: {} [{}, {})", table, partition.name(), partition.from(), partition.to());
+    }
+
+    /**
+     * 분리된 뒤 아직 삭제되지 않은 파티션 테이블 (중단된 실행 포함, 이름 순)
+     */
+    public List<String> findDetached(String table) {
+        return jdbcTemplate.queryForList("""
+            SELECT c.relname
+            FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = current_schema()
+                AND c.relkind = 'r'
+                AND (c.relname = ? OR c.relname ~ ?)
+                AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)
+            ORDER BY c.relname
+            """, String.class, table + LEGACY_SUFFIX, "^" + table + "_p[0-9]{8}$");
+    }
+
+    public void drop(String partitionName) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName);
+        log.info("Partition dropped: {}", partitionName);
+    }
+
+    // ============================================
+    // 생성 / 전환
+    // ============================================
+
+    private void createDaily(String table, LocalDate day) {
+        String name = table + "_p" + day.format(SUFFIX_FORMATTER);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                name, table,
+                day.atStartOfDay().format(BOUND_FORMATTER),
+                day.plusDays(1).atStartOfDay().format(BOUND_FORMATTER)));
+    }
+
+    private void convert(String table) {
+        String legacy = table + LEGACY_SUFFIX;
+        String check = table + "_legacy_range";
+        String index = table + "_legacy_pk_idx";
+        String cutover = LocalDate.now(AbstractSampleArchiveService.ZONE_ID).plusDays(2)
+                .atStartOfDay().format(BOUND_FORMATTER);
+
+        log.info("[{}] Converting to partitioned table: legacy={}, cutover={}", table, legacy, cutover);
+        long start = System.currentTimeMillis();
+
+        try {
+            // 1) 범위 CHECK (NOT VALID → VALIDATE: 쓰기를 막지 않는 검증)
+            //    테이블 lock 을 잡고 있으므로 남아있는 CHECK 는 이전에 중단된 전환의 것 → 지우고 다시 추가
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DROP CONSTRAINT IF EXISTS %s", table, check));
+            jdbcTemplate.execute(String.format(
+                    "ALTER TABLE %s ADD CONSTRAINT %s CHECK (%s IS NOT NULL AND %s < '%s') NOT VALID",
+                    table, check, TS_COLUMN, TS_COLUMN, cutover));
+            jdbcTemplate.execute(String.format("ALTER TABLE %s VALIDATE CONSTRAINT %s", table, check));
+
+            // 2) 부모 PK 와 같은 UNIQUE 인덱스 (ATTACH 시 재사용)
+            jdbcTemplate.execute(String.format(
+                    "CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s (row_key, %s)",
+                    index, table, TS_COLUMN));
+
+            // 3) 이름 변경 → 파티션 부모 생성 → legacy ATTACH (메타데이터 변경만)
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute(String.format("ALTER TABLE %s ALTER COLUMN %s SET NOT NULL", table, TS_COLUMN));
+                jdbcTemplate.execute(String.format("ALTER TABLE %s RENAME TO %s", table, legacy));
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS INCLUDING STORAGE INCLUDING COMMENTS) "
+                                + "PARTITION BY RANGE (%s)", table, legacy, TS_COLUMN));
+                jdbcTemplate.execute(String.format(
+                        "ALTER TABLE %s ADD CONSTRAINT %s_part_pkey PRIMARY KEY (row_key, %s)", table, table, TS_COLUMN));
+                for (String indexDef : secondaryIndexes(legacy, table)) {
+                    jdbcTemplate.execute(indexDef);
+                }
+                jdbcTemplate.execute(String.format(
+                        "ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM (MINVALUE) TO ('%s')", table, legacy, cutover));
+            });
+
+            log.info("[{}] Converted to partitioned table ({}ms)", table, System.currentTimeMillis() - start);
+
+        } catch (RuntimeException e) {
+            log.error("[{}] Partition conversion failed, table left unpartitioned", table, e);
+            if (!"p".equals(relationKind(table))) {
+                jdbcTemplate.execute(String.format("ALTER TABLE %s DROP CONSTRAINT IF EXISTS %s", table, check));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * legacy 의 보조 인덱스(UNIQUE / PK 제외)를 부모 테이블용 CREATE INDEX 로 변환 (이름은 자동 생성)
+     */
+    private List<String> secondaryIndexes(String legacy, String table) {
+        List<String> result = new ArrayList<>();
+        for (String def : jdbcTemplate.queryForList("""
+            SELECT pg_get_indexdef(i.indexrelid)
+            FROM pg_index i
+            WHERE i.indrelid = to_regclass(?)
+                AND NOT i.indisunique
+                AND NOT i.indisprimary
+            ORDER BY i.indexrelid
+            """, String.class, legacy)) {
+            Matcher m = INDEX_DEF_PATTERN.matcher(def);
+            if (m.matches()) {
+                result.add("CREATE INDEX ON " + table + " " + m.group(1));
+            } else {
+                log.warn("[{}] Secondary index not copied to partitioned table: {}", table, def);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 테이블별 세션 advisory lock 을 잡고 work 실행 (lock 을 못 잡으면 false)
+     * - lock / unlock 은 같은 커넥션에서 해야 하므로 커넥션 하나를 work 가 끝날 때까지 붙잡아 둠
+     */
+    private boolean withTableLock(String table, Runnable work) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            try (PreparedStatement ps = con.prepareStatement("SELECT pg_try_advisory_lock(hashtext(?))")) {
+                ps.setString(1, LOCK_PREFIX + table);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next() || !rs.getBoolean(1)) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                work.run();
+                return true;
+            } finally {
+                try (PreparedStatement ps = con.prepareStatement("SELECT pg_advisory_unlock(hashtext(?))")) {
+                    ps.setString(1, LOCK_PREFIX + table);
+                    ps.execute();
+                }
+            }
+        }));
+    }
+
+    // ============================================
+    // 조회 유틸
+    // ============================================
+
+    /**
+     * pg_class.relkind ('r' 일반, 'p' 파티션 부모, 없으면 null)
+     */
+    private String relationKind(String table) {
+        List<String> result = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, table);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * "FOR VALUES FROM ('2026-10-17 00:00:00') TO ('2026-10-18 00:00:00')" → PartitionInfo
+     * (DEFAULT 파티션 등 범위가 없으면 null)
+     */
+    static PartitionInfo parseBound(String name, String bound) {
+        if (bound == null) {
+            return null;
+        }
+        Matcher m = BOUND_PATTERN.matcher(bound);
+        if (!m.find()) {
+            return null;
+        }
+        return new PartitionInfo(name, parseBoundValue(m.group(1)), parseBoundValue(m.group(2)));
+    }
+
+    private static LocalDateTime parseBoundValue(String value) {
+        String v = value.trim();
+        if (v.equalsIgnoreCase("MINVALUE") || v.equalsIgnoreCase("MAXVALUE")) {
+            return v.equalsIgnoreCase("MINVALUE") ? null : LocalDateTime.MAX;
+        }
+        v = v.replace("'", "");
+        return LocalDateTime.parse(v.length() > 19 ? v.substring(0, 19) : v, BOUND_FORMATTER);
+    }
+}
@@ -0,0 +1,217 @@
+package com.moa.api.data.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.sql.Types;
+import java.util.List;
+
+/*****************************************************************************
+ CLASS NAME    : ColumnarArchiveFormat
+ DESCRIPTION   : 샘플 아카이브용 압축 컬럼 포맷(.mca) 정의
+ - 파일 구조 / 컬럼 타입 / 행 그룹 메타데이터 / 가변 길이 정수 인코딩
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Columnar Archive Format (MCA1)
+ *
+ * 파일 구조
+ * <pre>
+ * "MCA1" | row group* | footer | footer 길이(int32) | "MCA1"
+ *
+ * row group = 컬럼 청크 * 컬럼 수 (각 청크는 deflate 압축)
+ * 컬럼 청크 (압축 전) = null 비트맵 (ceil(rows / 8) 바이트, 1 = 값 있음) | 값 (null 제외)
+ *   BOOLEAN   : 1 바이트
+ *   LONG      : 직전 값과의 차이 (zigzag varint)
+ *   TIMESTAMP : epoch 마이크로초 (LocalDateTime 을 UTC 로 간주), LONG 과 같은 차분 인코딩
+ *   DOUBLE    : 8 바이트
+ *   STRING    : varint 길이 | UTF-8
+ *
+ * footer = 버전 | 컬럼 수 | (이름, 타입)* | row group 수 |
+ *          (행 수, (offset, 압축 길이, 원본 길이, null 수, 통계 유무, min, max)*)*
+ * </pre>
+ *
+ * - footer 만 읽으면 컬럼 / 행 그룹별 min·max 를 알 수 있어
+ *   시간 범위 조회 시 겹치지 않는 행 그룹은 읽지 않음
+ * - 필요한 컬럼 청크만 읽어서 풀기 때문에 일부 컬럼 조회 시 나머지 컬럼은 읽지 않음
+ */
+public final class ColumnarArchiveFormat {
+
+    public static final byte[] MAGIC = {'M', 'C', 'A', '1'};
+    public static final byte VERSION = 1;
+
+    public static final String FILE_EXTENSION = "mca";
+    public static final String CONTENT_TYPE = "application/vnd.moa.columnar-archive";
+
+    /** 문자열 통계(min/max)를 기록할 최대 길이 - 넘으면 해당 청크 통계 생략 */
+    static final int MAX_STRING_STATS_LENGTH = 256;
+
+    private ColumnarArchiveFormat() {
+    }
+
+    /**
+     * 컬럼 타입
+     */
+    public enum ColumnType {
+        BOOLEAN(1),
+        LONG(2),
+        DOUBLE(3),
+        TIMESTAMP(4),
+        STRING(5);
+
+        private final int code;
+
+        ColumnType(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        public static ColumnType fromCode(int code) {
+            for (ColumnType type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown column type code: " + code);
+        }
+
+        /**
+         * JDBC 타입 → 컬럼 타입 (정밀도 보존이 필요한 NUMERIC 등은 STRING)
+         */
+        public static ColumnType fromSqlType(int sqlType) {
+            return switch (sqlType) {
+                case Types.BIT, Types.BOOLEAN -> BOOLEAN;
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> LONG;
+                case Types.REAL, Types.FLOAT, Types.DOUBLE -> DOUBLE;
+                case Types.DATE, Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> TIMESTAMP;
+                default -> STRING;
+            };
+        }
+    }
+
+    /**
+     * 컬럼 정의
+     */
+    public record Column(String name, ColumnType type) {}
+
+    /**
+     * 행 그룹 안의 컬럼 청크 1개
+     *
+     * @param offset           파일 내 시작 위치
+     * @param compressedLength 압축 후 길이
+     * @param min              null 이 아닌 값 중 최소값 (값이 없거나 통계 생략 시 null)
+     */
+    public record ColumnChunk(
+            long offset,
+            int compressedLength,
+            int uncompressedLength,
+            int nullCount,
+            Object min,
+            Object max
+    ) {
+        public boolean hasStats() {
+            return min != null && max != null;
+        }
+    }
+
+    /**
+     * 파일 전체의 컬럼 값 범위 (행 그룹 통계를 합친 값)
+     */
+    public record ColumnRange(Object min, Object max) {
+
+        /**
+         * 통계가 있는 행 그룹이 하나도 없으면 null
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public static ColumnRange of(List<RowGroup> groups, int column) {
+            Comparable min = null;
+            Comparable max = null;
+            for (RowGroup group : groups) {
+                ColumnChunk chunk = group.chunk(column);
+                if (!chunk.hasStats()) {
+                    continue;
+                }
+                if (min == null || min.compareTo(chunk.min()) > 0) {
+                    min = (Comparable) chunk.min();
+                }
+                if (max == null || max.compareTo(chunk.max()) < 0) {
+                    max = (Comparable) chunk.max();
+                }
+            }
+            return min != null ? new ColumnRange(min, max) : null;
+        }
+    }
+
+    /**
+     * 행 그룹
+     */
+    public record RowGroup(int index, int rowCount, List<ColumnChunk> chunks) {
+
+        public ColumnChunk chunk(int column) {
+            return chunks.get(column);
+        }
+
+        /**
+         * [lo, hi] 와 column 의 값 범위가 겹칠 수 있는지 (통계가 없으면 true)
+         * - lo / hi 가 null 이면 해당 방향은 제한 없음
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public boolean mayOverlap(int column, Comparable lo, Comparable hi) {
+            ColumnChunk chunk = chunks.get(column);
+            if (chunk.nullCount() == rowCount) {
+                return false;
+            }
+            if (!chunk.hasStats()) {
+                return true;
+            }
+            if (lo != null && lo.compareTo(chunk.max()) > 0) {
+                return false;
+            }
+            return hi == null || hi.compareTo(chunk.min()) >= 0;
+        }
+    }
+
+    // ============================================
+    // varint (LEB128) / zigzag
+    // ============================================
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,314 @@
+package com.moa.api.data.util;
+
+import com.moa.api.data.util.ColumnarArchiveFormat.Column;
+import com.moa.api.data.util.ColumnarArchiveFormat.ColumnChunk;
+import com.moa.api.data.util.ColumnarArchiveFormat.ColumnType;
+import com.moa.api.data.util.ColumnarArchiveFormat.RowGroup;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/*****************************************************************************
+ CLASS NAME    : ColumnarArchiveReader
+ DESCRIPTION   : 압축 컬럼 포맷(ColumnarArchiveFormat) 파일 조회
+ - footer 통계로 행 그룹을 건너뛰고, 요청한 컬럼 청크만 읽어서 복원
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Columnar Archive Reader
+ *
+ * 사용 예 (ts_server 범위에 걸치는 행 그룹만 읽기)
+ * <pre>
+ * try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(path)) {
+ *     int ts = reader.indexOf("ts_server");
+ *     reader.scan(List.of("row_key", "ts_server"),
+ *             group -> group.mayOverlap(ts, ColumnarArchiveReader.toMicros(from), ColumnarArchiveReader.toMicros(to)),
+ *             row -> ...);
+ * }
+ * </pre>
+ *
+ * 복원 값 타입: BOOLEAN → Boolean, LONG → Long, DOUBLE → Double,
+ * TIMESTAMP → LocalDateTime, STRING → String (행 그룹 통계의 TIMESTAMP min/max 는 epoch 마이크로초 Long)
+ */
+public final class ColumnarArchiveReader implements Closeable {
+
+    private static final int TRAILER_LENGTH = 4 + ColumnarArchiveFormat.MAGIC.length;
+
+    private final SeekableByteChannel channel;
+    private final List<Column> columns;
+    private final List<RowGroup> rowGroups;
+    private final Inflater inflater = new Inflater();
+
+    private ColumnarArchiveReader(SeekableByteChannel channel) throws IOException {
+        this.channel = channel;
+
+        long size = channel.size();
+        if (size < ColumnarArchiveFormat.MAGIC.length + TRAILER_LENGTH) {
+            throw new IOException("Not a columnar archive: file too small (" + size + " bytes)");
+        }
+
+        ByteBuffer trailer = readFully(size - TRAILER_LENGTH, TRAILER_LENGTH);
+        int footerLength = trailer.getInt();
+        byte[] magic = new byte[ColumnarArchiveFormat.MAGIC.length];
+        trailer.get(magic);
+        if (!Arrays.equals(magic, ColumnarArchiveFormat.MAGIC)) {
+            throw new IOException("Not a columnar archive: bad magic");
+        }
+
+        ByteBuffer footerBytes = readFully(size - TRAILER_LENGTH - footerLength, footerLength);
+        DataInputStream footer = new DataInputStream(
+                new ByteArrayInputStream(footerBytes.array(), 0, footerLength));
+
+        byte version = footer.readByte();
+        if (version != ColumnarArchiveFormat.VERSION) {
+            throw new IOException("Unsupported columnar archive version: " + version);
+        }
+
+        int columnCount = (int) ColumnarArchiveFormat.readVarLong(footer);
+        List<Column> cols = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = readString(footer);
+            cols.add(new Column(name, ColumnType.fromCode(footer.readByte())));
+        }
+        this.columns = List.copyOf(cols);
+
+        int groupCount = (int) ColumnarArchiveFormat.readVarLong(footer);
+        List<RowGroup> groups = new ArrayList<>(groupCount);
+        for (int g = 0; g < groupCount; g++) {
+            int rowCount = (int) ColumnarArchiveFormat.readVarLong(footer);
+            List<ColumnChunk> chunks = new ArrayList<>(columnCount);
+            for (Column column : columns) {
+                long offset = footer.readLong();
+                int compressed = (int) ColumnarArchiveFormat.readVarLong(footer);
+                int uncompressed = (int) ColumnarArchiveFormat.readVarLong(footer);
+                int nulls = (int) ColumnarArchiveFormat.readVarLong(footer);
+                Object min = null;
+                Object max = null;
+                if (footer.readBoolean()) {
+                    min = readStat(footer, column.type());
+                    max = readStat(footer, column.type());
+                }
+                chunks.add(new ColumnChunk(offset, compressed, uncompressed, nulls, min, max));
+            }
+            groups.add(new RowGroup(g, rowCount, List.copyOf(chunks)));
+        }
+        this.rowGroups = List.copyOf(groups);
+    }
+
+    public static ColumnarArchiveReader open(SeekableByteChannel channel) throws IOException {
+        return new ColumnarArchiveReader(channel);
+    }
+
+    public static ColumnarArchiveReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new ColumnarArchiveReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public List<RowGroup> getRowGroups() {
+        return rowGroups;
+    }
+
+    public long getRowCount() {
+        long total = 0;
+        for (RowGroup group : rowGroups) {
+            total += group.rowCount();
+        }
+        return total;
+    }
+
+    /**
+     * 컬럼 위치 (없으면 -1)
+     */
+    public int indexOf(String column) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).name().equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 행 그룹 1개 복원 (projection 순서대로 값 배열, null/빈 목록이면 전체 컬럼)
+     */
+    public List<Object[]> readRowGroup(int index, List<String> projection) throws IOException {
+        int[] selected = resolve(projection);
+        RowGroup group = rowGroups.get(index);
+
+        Object[][] columnValues = new Object[selected.length][];
+        for (int c = 0; c < selected.length; c++) {
+            columnValues[c] = decodeChunk(group.chunk(selected[c]), columns.get(selected[c]).type(), group.rowCount());
+        }
+
+        List<Object[]> rows = new ArrayList<>(group.rowCount());
+        for (int r = 0; r < group.rowCount(); r++) {
+            Object[] row = new Object[selected.length];
+            for (int c = 0; c < selected.length; c++) {
+                row[c] = columnValues[c][r];
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * filter 를 통과한 행 그룹의 행을 순서대로 전달
+     *
+     * @return 실제로 읽은 행 그룹 수
+     */
+    public int scan(List<String> projection, Predicate<RowGroup> filter, Consumer<Object[]> consumer) throws IOException {
+        int read = 0;
+        for (RowGroup group : rowGroups) {
+            if (filter != null && !filter.test(group)) {
+                continue;
+            }
+            readRowGroup(group.index(), projection).forEach(consumer);
+            read++;
+        }
+        return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+
+    /**
+     * 행 그룹 통계 비교용 TIMESTAMP 값 (epoch 마이크로초)
+     */
+    public static Long toMicros(LocalDateTime time) {
+        return time != null ? ColumnarArchiveWriter.toMicros(time) : null;
+    }
+
+    // ============================================
+    // 청크 복원
+    // ============================================
+
+    private Object[] decodeChunk(ColumnChunk chunk, ColumnType type, int rowCount) throws IOException {
+        byte[] raw = inflate(readFully(chunk.offset(), chunk.compressedLength()).array(), chunk.uncompressedLength());
+
+        int bitmapLength = (rowCount + 7) >>> 3;
+        DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(raw, bitmapLength, raw.length - bitmapLength));
+
+        Object[] values = new Object[rowCount];
+        long previous = 0;
+
+        for (int r = 0; r < rowCount; r++) {
+            if ((raw[r >>> 3] & (1 << (r & 7))) == 0) {
+                continue;                         // null
+            }
+
+            switch (type) {
+                case BOOLEAN -> values[r] = in.readByte() != 0;
+                case LONG -> {
+                    previous += ColumnarArchiveFormat.unzigzag(ColumnarArchiveFormat.readVarLong(in));
+                    values[r] = previous;
+                }
+                case TIMESTAMP -> {
+                    previous += ColumnarArchiveFormat.unzigzag(ColumnarArchiveFormat.readVarLong(in));
+                    values[r] = LocalDateTime.ofEpochSecond(Math.floorDiv(previous, 1_000_000L),
+                            (int) Math.floorMod(previous, 1_000_000L) * 1_000, ZoneOffset.UTC);
+                }
+                case DOUBLE -> values[r] = in.readDouble();
+                case STRING -> values[r] = readString(in);
+            }
+        }
+        return values;
+    }
+
+    private byte[] inflate(byte[] compressed, int uncompressedLength) throws IOException {
+        byte[] raw = new byte[uncompressedLength];
+        inflater.reset();
+        inflater.setInput(compressed);
+        try {
+            int n = 0;
+            while (n < uncompressedLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, n, uncompressedLength - n);
+                if (read == 0 && inflater.needsInput()) {
+                    break;
+                }
+                n += read;
+            }
+            if (n != uncompressedLength) {
+                throw new IOException("Truncated column chunk: expected " + uncompressedLength + " bytes but got " + n);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt column chunk", e);
+        }
+        return raw;
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        channel.position(position);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of columnar archive at " + channel.position());
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private int[] resolve(List<String> projection) {
+        if (projection == null || projection.isEmpty()) {
+            int[] all = new int[columns.size()];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[projection.size()];
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = indexOf(projection.get(i));
+            if (selected[i] < 0) {
+                throw new IllegalArgumentException("Unknown column: " + projection.get(i));
+            }
+        }
+        return selected;
+    }
+
+    private static Object readStat(DataInputStream in, ColumnType type) throws IOException {
+        return switch (type) {
+            case BOOLEAN, LONG, TIMESTAMP -> in.readLong();
+            case DOUBLE -> in.readDouble();
+            case STRING -> readString(in);
+        };
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = (int) ColumnarArchiveFormat.readVarLong(in);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,485 @@
+package com.moa.api.data.util;
+
+import com.moa.api.data.util.ColumnarArchiveFormat.Column;
+import com.moa.api.data.util.ColumnarArchiveFormat.ColumnChunk;
+import com.moa.api.data.util.ColumnarArchiveFormat.ColumnType;
+import com.moa.api.data.util.ColumnarArchiveFormat.RowGroup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/*****************************************************************************
+ CLASS NAME    : ColumnarArchiveWriter
+ DESCRIPTION   : 샘플 행을 압축 컬럼 포맷(ColumnarArchiveFormat)으로 스트리밍 기록
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+/**
+ * Columnar Archive Writer
+ *
+ * - rowGroupRows 행마다 컬럼별 청크를 압축해 바로 출력 스트림으로 내보냄
+ *   (메모리에는 행 그룹 1개 분량의 인코딩된 값만 유지)
+ * - ResultSet 에서 타입별 getter 로 직접 읽어 셀마다 Object 를 만들지 않음
+ * - finish() 시 마지막 행 그룹과 footer(스키마 + 행 그룹 통계)를 기록 (close() 는 이후 출력 스트림까지 닫음)
+ */
+public final class ColumnarArchiveWriter implements Closeable {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final CountingOutputStream out;
+    private final List<Column> columns;
+    private final ColumnBuffer[] buffers;
+    private final int rowGroupRows;
+    private final Deflater deflater;
+    private final byte[] deflateBuffer = new byte[WRITE_BUFFER_SIZE];
+    private final List<RowGroup> rowGroups = new ArrayList<>();
+
+    private int bufferedRows;
+    private long rowCount;
+    private boolean closed;
+
+    public ColumnarArchiveWriter(OutputStream out, List<Column> columns, int rowGroupRows, int compressionLevel)
+            throws IOException {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("columns must not be empty");
+        }
+        if (rowGroupRows <= 0) {
+            throw new IllegalArgumentException("rowGroupRows must be positive: " + rowGroupRows);
+        }
+
+        this.out = new CountingOutputStream(out);
+        this.columns = List.copyOf(columns);
+        this.rowGroupRows = rowGroupRows;
+        this.deflater = new Deflater(compressionLevel);
+        this.buffers = new ColumnBuffer[columns.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new ColumnBuffer(columns.get(i).type());
+        }
+
+        this.out.write(ColumnarArchiveFormat.MAGIC);
+    }
+
+    /**
+     * ResultSet 메타데이터 → 컬럼 정의
+     */
+    public static List<Column> columnsOf(ResultSetMetaData meta) throws SQLException {
+        List<Column> columns = new ArrayList<>(meta.getColumnCount());
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            columns.add(new Column(meta.getColumnLabel(i), ColumnType.fromSqlType(meta.getColumnType(i))));
+        }
+        return columns;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 지금까지 출력한 행 그룹 (finish 후에는 전체)
+     */
+    public List<RowGroup> getRowGroups() {
+        return List.copyOf(rowGroups);
+    }
+
+    /**
+     * 지금까지 출력한 바이트 수 (close 후에는 파일 전체 크기)
+     */
+    public long getBytesWritten() {
+        return out.count;
+    }
+
+    /**
+     * 현재 행 기록 (컬럼 순서는 columnsOf(rs.getMetaData()) 와 같아야 함)
+     */
+    public void writeRow(ResultSet rs) throws SQLException, IOException {
+        for (int i = 0; i < buffers.length; i++) {
+            ColumnBuffer buffer = buffers[i];
+            int index = i + 1;
+
+            switch (buffer.type) {
+                case BOOLEAN -> {
+                    boolean v = rs.getBoolean(index);
+                    if (rs.wasNull()) buffer.addNull(); else buffer.addBoolean(v);
+                }
+                case LONG -> {
+                    long v = rs.getLong(index);
+                    if (rs.wasNull()) buffer.addNull(); else buffer.addLong(v);
+                }
+                case DOUBLE -> {
+                    double v = rs.getDouble(index);
+                    if (rs.wasNull()) buffer.addNull(); else buffer.addDouble(v);
+                }
+                case TIMESTAMP -> {
+                    Timestamp v = rs.getTimestamp(index);
+                    if (v == null) buffer.addNull(); else buffer.addLong(toMicros(v.toLocalDateTime()));
+                }
+                case STRING -> {
+                    String v = rs.getString(index);
+                    if (v == null) buffer.addNull(); else buffer.addString(v);
+                }
+            }
+        }
+        endRow();
+    }
+
+    /**
+     * 값 배열로 1행 기록 (값 타입은 컬럼 타입으로 변환)
+     */
+    public void writeRow(Object[] values) throws IOException {
+        if (values.length != buffers.length) {
+            throw new IllegalArgumentException("Expected " + buffers.length + " values but got " + values.length);
+        }
+
+        for (int i = 0; i < buffers.length; i++) {
+            ColumnBuffer buffer = buffers[i];
+            Object v = values[i];
+            if (v == null) {
+                buffer.addNull();
+                continue;
+            }
+
+            switch (buffer.type) {
+                case BOOLEAN -> buffer.addBoolean(v instanceof Boolean b ? b : Boolean.parseBoolean(v.toString()));
+                case LONG -> buffer.addLong(v instanceof Number n ? n.longValue() : Long.parseLong(v.toString()));
+                case DOUBLE -> buffer.addDouble(v instanceof Number n ? n.doubleValue() : Double.parseDouble(v.toString()));
+                case TIMESTAMP -> buffer.addLong(toMicros(toLocalDateTime(v)));
+                case STRING -> buffer.addString(v.toString());
+            }
+        }
+        endRow();
+    }
+
+    /**
+     * 마지막 행 그룹과 footer 기록 (출력 스트림은 닫지 않음)
+     * - 멀티파트 업로드처럼 close 가 곧 "완료" 인 스트림에 기록할 때 사용
+     */
+    public void finish() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (bufferedRows > 0) {
+                flushRowGroup();
+            }
+            writeFooter();
+            out.flush();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * finish() 후 출력 스트림 닫기
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    // ============================================
+    // 행 그룹 / footer
+    // ============================================
+
+    private void endRow() throws IOException {
+        bufferedRows++;
+        rowCount++;
+        if (bufferedRows >= rowGroupRows) {
+            flushRowGroup();
+        }
+    }
+
+    private void flushRowGroup() throws IOException {
+        List<ColumnChunk> chunks = new ArrayList<>(buffers.length);
+
+        for (ColumnBuffer buffer : buffers) {
+            byte[] raw = buffer.toChunkBytes();
+            long offset = out.count;
+
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+            while (!deflater.finished()) {
+                int n = deflater.deflate(deflateBuffer);
+                out.write(deflateBuffer, 0, n);
+            }
+
+            chunks.add(new ColumnChunk(offset, (int) (out.count - offset), raw.length,
+                    buffer.nullCount, buffer.min(), buffer.max()));
+            buffer.reset();
+        }
+
+        rowGroups.add(new RowGroup(rowGroups.size(), bufferedRows, List.copyOf(chunks)));
+        bufferedRows = 0;
+    }
+
+    private void writeFooter() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream footer = new DataOutputStream(bytes);
+
+        footer.writeByte(ColumnarArchiveFormat.VERSION);
+        ColumnarArchiveFormat.writeVarLong(footer, columns.size());
+        for (Column column : columns) {
+            writeString(footer, column.name());
+            footer.writeByte(column.type().getCode());
+        }
+
+        ColumnarArchiveFormat.writeVarLong(footer, rowGroups.size());
+        for (RowGroup rowGroup : rowGroups) {
+            ColumnarArchiveFormat.writeVarLong(footer, rowGroup.rowCount());
+            for (int i = 0; i < columns.size(); i++) {
+                ColumnChunk chunk = rowGroup.chunk(i);
+                footer.writeLong(chunk.offset());
+                ColumnarArchiveFormat.writeVarLong(footer, chunk.compressedLength());
+                ColumnarArchiveFormat.writeVarLong(footer, chunk.uncompressedLength());
+                ColumnarArchiveFormat.writeVarLong(footer, chunk.nullCount());
+                footer.writeBoolean(chunk.hasStats());
+                if (chunk.hasStats()) {
+                    writeStat(footer, columns.get(i).type(), chunk.min());
+                    writeStat(footer, columns.get(i).type(), chunk.max());
+                }
+            }
+        }
+        footer.flush();
+
+        bytes.writeTo(out);
+        new DataOutputStream(out).writeInt(bytes.size());
+        out.write(ColumnarArchiveFormat.MAGIC);
+    }
+
+    private static void writeStat(DataOutputStream out, ColumnType type, Object value) throws IOException {
+        switch (type) {
+            case BOOLEAN, LONG, TIMESTAMP -> out.writeLong((Long) value);
+            case DOUBLE -> out.writeDouble((Double) value);
+            case STRING -> writeString(out, (String) value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ColumnarArchiveFormat.writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime t) return t;
+        if (value instanceof Timestamp t) return t.toLocalDateTime();
+        if (value instanceof OffsetDateTime t) return t.toLocalDateTime();
+        if (value instanceof LocalDate d) return d.atStartOfDay();
+        if (value instanceof java.sql.Date d) return d.toLocalDate().atStartOfDay();
+        return LocalDateTime.parse(value.toString().replace(' ', 'T'));
+    }
+
+    // ============================================
+    // 컬럼 버퍼
+    // ============================================
+
+    /**
+     * 행 그룹 1개 분량의 컬럼 값 (null 비트맵 + 인코딩된 값 + min/max)
+     */
+    private static final class ColumnBuffer {
+
+        private final ColumnType type;
+        private final ByteArrayOutputStream values = new ByteArrayOutputStream(WRITE_BUFFER_SIZE);
+
+        private byte[] bitmap = new byte[128];
+        private int rows;
+        private int nullCount;
+        private long previous;
+
+        private boolean hasValue;
+        private boolean statsValid;
+        private long minLong;
+        private long maxLong;
+        private double minDouble;
+        private double maxDouble;
+        private String minString;
+        private String maxString;
+
+        ColumnBuffer(ColumnType type) {
+            this.type = type;
+            reset();
+        }
+
+        void addNull() {
+            nextRow(false);
+            nullCount++;
+        }
+
+        void addBoolean(boolean v) {
+            nextRow(true);
+            values.write(v ? 1 : 0);
+            updateLong(v ? 1 : 0);
+        }
+
+        void addLong(long v) {
+            nextRow(true);
+            ColumnarArchiveFormat.writeVarLong(values, ColumnarArchiveFormat.zigzag(v - previous));
+            previous = v;
+            updateLong(v);
+        }
+
+        void addDouble(double v) {
+            nextRow(true);
+            long bits = Double.doubleToLongBits(v);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                values.write((int) (bits >>> shift));
+            }
+            if (Double.isNaN(v)) {
+                statsValid = false;           // NaN 은 범위 비교 불가 → 이 청크 통계 생략
+            } else if (!hasValue) {
+                minDouble = maxDouble = v;
+            } else {
+                minDouble = Math.min(minDouble, v);
+                maxDouble = Math.max(maxDouble, v);
+            }
+            hasValue = true;
+        }
+
+        void addString(String v) {
+            nextRow(true);
+            byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+            ColumnarArchiveFormat.writeVarLong(values, bytes.length);
+            values.write(bytes, 0, bytes.length);
+
+            if (v.length() > ColumnarArchiveFormat.MAX_STRING_STATS_LENGTH) {
+                statsValid = false;
+            } else if (!hasValue) {
+                minString = maxString = v;
+            } else {
+                if (v.compareTo(minString) < 0) minString = v;
+                if (v.compareTo(maxString) > 0) maxString = v;
+            }
+            hasValue = true;
+        }
+
+        Object min() {
+            if (!hasValue || !statsValid) {
+                return null;
+            }
+            return switch (type) {
+                case BOOLEAN, LONG, TIMESTAMP -> minLong;
+                case DOUBLE -> minDouble;
+                case STRING -> minString;
+            };
+        }
+
+        Object max() {
+            if (!hasValue || !statsValid) {
+                return null;
+            }
+            return switch (type) {
+                case BOOLEAN, LONG, TIMESTAMP -> maxLong;
+                case DOUBLE -> maxDouble;
+                case STRING -> maxString;
+            };
+        }
+
+        /**
+         * null 비트맵 | 값
+         */
+        byte[] toChunkBytes() {
+            int bitmapLength = (rows + 7) >>> 3;
+            byte[] chunk = new byte[bitmapLength + values.size()];
+            System.arraycopy(bitmap, 0, chunk, 0, bitmapLength);
+            byte[] encoded = values.toByteArray();
+            System.arraycopy(encoded, 0, chunk, bitmapLength, encoded.length);
+            return chunk;
+        }
+
+        void reset() {
+            values.reset();
+            Arrays.fill(bitmap, (byte) 0);
+            rows = 0;
+            nullCount = 0;
+            previous = 0;
+            hasValue = false;
+            statsValid = true;
+            minString = maxString = null;
+        }
+
+        private void nextRow(boolean present) {
+            int byteIndex = rows >>> 3;
+            if (byteIndex >= bitmap.length) {
+                bitmap = Arrays.copyOf(bitmap, bitmap.length * 2);
+            }
+            if (present) {
+                bitmap[byteIndex] |= (byte) (1 << (rows & 7));
+            }
+            rows++;
+        }
+
+        private void updateLong(long v) {
+            if (!hasValue) {
+                minLong = maxLong = v;
+            } else {
+                minLong = Math.min(minLong, v);
+                maxLong = Math.max(maxLong, v);
+            }
+            hasValue = true;
+        }
+    }
+
+    /**
+     * 출력 바이트 수를 세는 스트림 (컬럼 청크 offset 기록용)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+
+        CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.moa.api.data.util;
+
+import com.moa.api.pivot.model.PivotLayer;
+
+import java.util.Locale;
+
+/*****************************************************************************
+ CLASS NAME    : RestoredLayer
+ DESCRIPTION   : 아카이브에서 복원한 데이터를 조회하기 위한 레이어 별칭 규칙
+ - 별칭: RESTORED_{레이어} (예: RESTORED_HTTP_PAGE)
+ - 테이블: archive_restore.{원본 테이블} (예: archive_restore.http_page_sample)
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+public final class RestoredLayer {
+
+    public static final String PREFIX = "RESTORED_";
+    public static final String SCHEMA = "archive_restore";
+
+    private RestoredLayer() {
+    }
+
+    /**
+     * 복원 레이어 별칭 여부 (대소문자 무시)
+     */
+    public static boolean isRestored(String layer) {
+        return layer != null && layer.trim().toUpperCase(Locale.ROOT).startsWith(PREFIX);
+    }
+
+    /**
+     * 별칭에서 원본 레이어명 (별칭이 아니면 그대로)
+     * 예) RESTORED_HTTP_PAGE → HTTP_PAGE
+     */
+    public static String baseLayer(String layer) {
+        return isRestored(layer) ? layer.trim().substring(PREFIX.length()) : layer;
+    }
+
+    /**
+     * 레이어의 복원 별칭
+     */
+    public static String aliasOf(PivotLayer layer) {
+        return PREFIX + layer.name();
+    }
+
+    /**
+     * 레이어의 복원 테이블 (스키마 포함)
+     */
+    public static String tableOf(PivotLayer layer) {
+        return SCHEMA + "." + layer.getDataTable();
+    }
+
+    /**
+     * 별칭이면 복원 테이블, 아니면 null
+     *
+     * @throws IllegalArgumentException 별칭 뒤의 레이어명을 알 수 없는 경우
+     */
+    public static String resolveTable(String layer) {
+        if (!isRestored(layer)) {
+            return null;
+        }
+
+        String base = baseLayer(layer);
+        for (PivotLayer candidate : PivotLayer.values()) {
+            if (candidate.name().equalsIgnoreCase(base) || candidate.getCode().equalsIgnoreCase(base)) {
+                return tableOf(candidate);
+            }
+        }
+        throw new IllegalArgumentException("UNKNOWN_LAYER: " + layer);
+    }
+
+    /**
+     * 복원 스키마의 테이블인지 여부 (아카이브 합산 조회 대상에서 제외)
+     */
+    public static boolean isRestoredTable(String table) {
+        return table != null && table.startsWith(SCHEMA + ".");
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * 작성자: 정소영
+ * 설명: 수집 데이터의 row_key 를 발급하는 생성기
+ *      (시각 + 시퀀스를 하나의 long 으로 묶어 CAS 로 증가, 노드 ID 와 함께 고정 길이 16진수로 인코딩)
+ */
+package com.moa.api.data.util;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * RowKeyGenerator
+ *
+ * 키 형식 (20자, 소문자 16진수)
+ * - [시각/시퀀스 16자][노드 ID 4자]
+ * - 시각/시퀀스 = (유닉스 마이크로초 << SEQUENCE_BITS) | 시퀀스
+ * - 고정 길이이므로 문자열 정렬 순서 = 발급 순서 (노드 내 단조 증가)
+ *
+ * 발급 규칙
+ * - 다음 값 = max(직전 값 + 1, 현재 마이크로초 << SEQUENCE_BITS) 를 CAS 로 갱신 (락 없음)
+ * - 같은 마이크로초 안에서는 시퀀스 증가, 시퀀스가 넘치거나 시계가 뒤로 가도 직전 값 이후로 계속 발급
+ *
+ * 노드 ID
+ * - 노드 간 충돌은 노드 ID 로 구분 (IngestNodeLeaseService 가 DB 임대로 인스턴스마다 다른 ID 할당)
+ * - 임대 만료 시각 이후에는 발급하지 않음 → 같은 ID 를 이어받은 노드와 키 구간이 겹치지 않음
+ */
+@Component
+public class RowKeyGenerator {
+
+    /** 마이크로초당 발급 가능한 키 수 = 2^SEQUENCE_BITS */
+    static final int SEQUENCE_BITS = 8;
+
+    public static final int MAX_NODE_ID = 0xFFFF;
+
+    public static final int KEY_LENGTH = 20;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final LongSupplier microsClock;
+    private final AtomicLong last = new AtomicLong();
+    private volatile Lease lease;
+
+    public RowKeyGenerator() {
+        this(RowKeyGenerator::currentMicros);
+    }
+
+    RowKeyGenerator(LongSupplier microsClock) {
+        this.microsClock = microsClock;
+    }
+
+    /**
+     * 노드 ID 할당
+     *
+     * @param notBeforeMicros  이 시각 이후의 키만 발급 (같은 ID 의 이전 임대 만료 시각)
+     * @param validUntilMicros 이 시각 이후에는 발급 중단 (임대 갱신 시 연장)
+     */
+    public void assign(int nodeId, long notBeforeMicros, long validUntilMicros) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 범위(0 ~ " + MAX_NODE_ID + ")를 벗어났습니다: " + nodeId);
+        }
+        last.accumulateAndGet(notBeforeMicros << SEQUENCE_BITS, Math::max);
+        lease = new Lease(nodeId, validUntilMicros);
+    }
+
+    /**
+     * 현재 노드 ID 의 유효 시각 연장
+     */
+    public void extend(int nodeId, long validUntilMicros) {
+        Lease current = lease;
+        if (current != null && current.nodeId == nodeId) {
+            lease = new Lease(nodeId, validUntilMicros);
+        }
+    }
+
+    /**
+     * 노드 ID 반납 (이후 assign 전까지 발급 불가)
+     */
+    public void release() {
+        lease = null;
+    }
+
+    /**
+     * 현재 노드 ID (할당 전이면 -1)
+     */
+    public int getNodeId() {
+        Lease current = lease;
+        return current != null ? current.nodeId : -1;
+    }
+
+    /**
+     * row_key 발급
+     *
+     * @throws IllegalStateException 노드 ID 가 없거나 임대가 만료된 경우
+     */
+    public String next() {
+        Lease current = lease;
+        if (current == null) {
+            throw new IllegalStateException("row_key 노드 ID 가 할당되지 않았습니다");
+        }
+
+        long now = microsClock.getAsLong();
+        if (now >= current.validUntilMicros) {
+            throw new IllegalStateException("row_key 노드 ID 임대가 만료되었습니다: " + current.nodeId);
+        }
+
+        long value = last.accumulateAndGet(now << SEQUENCE_BITS, (prev, candidate) -> Math.max(prev + 1, candidate));
+        return encode(value, current.nodeId);
+    }
+
+    /**
+     * 고정 길이 16진수 인코딩 (String.format 미사용)
+     */
+    static String encode(long value, int nodeId) {
+        byte[] chars = new byte[KEY_LENGTH];
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        for (int i = 19; i >= 16; i--) {
+            chars[i] = HEX[nodeId & 0xF];
+            nodeId >>>= 4;
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * row_key 에 포함된 발급 시각 (유닉스 마이크로초)
+     */
+    public static long microsOf(String rowKey) {
+        return Long.parseUnsignedLong(rowKey.substring(0, 16), 16) >>> SEQUENCE_BITS;
+    }
+
+    public static long currentMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000;
+    }
+
+    private record Lease(int nodeId, long validUntilMicros) {}
+}
@@ -21,6 +21,7 @@ import com.moa.api.notification.service.NotificationService;
 import com.moa.api.preset.entity.Preset;
 import com.moa.api.preset.entity.PresetOrigin;
 import com.moa.api.preset.entity.PresetType;
+import com.moa.global.aws.S3MultipartOutputStream;
 import com.moa.global.aws.S3Props;
 import com.moa.global.aws.S3Uploader;
 import jakarta.persistence.EntityManager;
@@ -37,11 +38,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -59,7 +59,6 @@ public class GridExportService {
     private static final int DEFAULT_FETCH_SIZE = 5000;
     private static final int MAX_FETCH_SIZE = 10000;
     private static final int MAX_FILE_NAME_LENGTH = 120;
-    private static final String TMP_FILE_PREFIX = "grid-export-";
     private static final String CSV_CONTENT_TYPE = "text/csv; charset=utf-8";
     private static final int PRESIGN_EXPIRATION_MINUTES = 10;
 
@@ -97,7 +96,7 @@ public class GridExportService {
             String objectKey = buildObjectKey(memberId, safeFileName);
 
             // 5) CSV 생성 & S3 업로드
-            uploadCsvToS3(req, objectKey);
+            uploadCsvToS3(req, objectKey, safeFileName);
 
             // 6) 프리사인드 URL 생성
             String bucket = s3Props.getS3().getBucket();
@@ -261,37 +260,35 @@ public class GridExportService {
         return trimmed.endsWith("/") ? trimmed : trimmed + "/";
     }
 
-    private void uploadCsvToS3(ExportGridRequestDTO req, String objectKey) {
-        Path tmpFile = null;
-        try {
-            tmpFile = Files.createTempFile(TMP_FILE_PREFIX, ".csv");
-            log.debug("Created temporary CSV file: {}", tmpFile);
-
-            writeCsvToFile(tmpFile, req);
+    private void uploadCsvToS3(ExportGridRequestDTO req, String objectKey, String fileName) {
+        String bucket = s3Props.getS3().getBucket();
+        S3MultipartOutputStream upload = s3Uploader.openStream(bucket, objectKey, fileName, CSV_CONTENT_TYPE);
 
-            String bucket = s3Props.getS3().getBucket();
-            s3Uploader.upload(bucket, objectKey, tmpFile, CSV_CONTENT_TYPE);
-            log.debug("Uploaded CSV to S3: bucket={}, key={}", bucket, objectKey);
+        // 조회 결과를 임시 파일 없이 바로 멀티파트 업로드
+        try {
+            writeCsv(upload, req);
+        } catch (ExportException e) {
+            upload.abort();
+            throw e;
+        } catch (Exception e) {
+            upload.abort();
+            log.error("Failed to write CSV stream", e);
+            throw new ExportException(ExportException.ErrorCode.FILE_CREATION_FAILED, e);
+        }
 
+        try {
+            upload.close();
+            log.debug("Uploaded CSV to S3: bucket={}, key={}, bytes={}", bucket, objectKey, upload.getBytesWritten());
         } catch (IOException e) {
-            log.error("Failed to create or upload CSV file", e);
-            throw new ExportException(ExportException.ErrorCode.FILE_CREATION_FAILED, e);
-        } catch (Exception e) {
             log.error("Failed to upload to S3", e);
             throw new ExportException(ExportException.ErrorCode.S3_UPLOAD_FAILED, e);
-        } finally {
-            if (tmpFile != null) {
-                try {
-                    Files.deleteIfExists(tmpFile);
-                    log.debug("Deleted temporary file: {}", tmpFile);
-                } catch (IOException e) {
-                    log.warn("Failed to delete temporary file: {}", tmpFile, e);
-                }
-            }
         }
     }
 
-    private void writeCsvToFile(Path path, ExportGridRequestDTO req) throws Exception {
+    /**
+     * CSV 기록 (out 은 호출자가 close)
+     */
+    private void writeCsv(OutputStream out, ExportGridRequestDTO req) throws Exception {
         String layer = validator.normalizeLayer(req.getLayer());
         List<String> columns = req.getColumns();
 
@@ -315,47 +312,46 @@ public class GridExportService {
                 .filter(size -> size > 0 && size <= MAX_FETCH_SIZE)
                 .orElse(DEFAULT_FETCH_SIZE);
 
-        try (BufferedWriter writer = new BufferedWriter(
-                new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8)
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CSVPrinter printer = new CSVPrinter(
+                writer, CSVFormat.DEFAULT.withHeader(validColumns.toArray(new String[0]))
         );
-             CSVPrinter printer = new CSVPrinter(
-                     writer, CSVFormat.DEFAULT.withHeader(validColumns.toArray(new String[0]))
-             )) {
-
-            RowCallbackHandler rowHandler = rs -> {
-                List<Object> row = new ArrayList<>(validColumns.size());
-                for (String col : validColumns) {
-                    Object value = rs.getObject(stripColumnSuffix(col));
-                    if (value instanceof org.postgresql.util.PGobject pgObj) {
-                        row.add(Objects.toString(pgObj.getValue(), ""));
-                    } else {
-                        row.add(Objects.toString(value, ""));
-                    }
-                }
-                try {
-                    printer.printRecord(row);
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            };
-
-            jdbcTemplate.query(con -> {
-                con.setAutoCommit(false);
-                var ps = con.prepareStatement(
-                        sqlDto.getSql(),
-                        java.sql.ResultSet.TYPE_FORWARD_ONLY,
-                        java.sql.ResultSet.CONCUR_READ_ONLY
-                );
-                ps.setFetchSize(fetchSize);
-                int idx = 1;
-                for (Object arg : sqlDto.getArgs()) {
-                    ps.setObject(idx++, arg);
+
+        RowCallbackHandler rowHandler = rs -> {
+            List<Object> row = new ArrayList<>(validColumns.size());
+            for (String col : validColumns) {
+                Object value = rs.getObject(stripColumnSuffix(col));
+                if (value instanceof org.postgresql.util.PGobject pgObj) {
+                    row.add(Objects.toString(pgObj.getValue(), ""));
+                } else {
+                    row.add(Objects.toString(value, ""));
                 }
-                return ps;
-            }, rowHandler);
+            }
+            try {
+                printer.printRecord(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        jdbcTemplate.query(con -> {
+            con.setAutoCommit(false);
+            var ps = con.prepareStatement(
+                    sqlDto.getSql(),
+                    java.sql.ResultSet.TYPE_FORWARD_ONLY,
+                    java.sql.ResultSet.CONCUR_READ_ONLY
+            );
+            ps.setFetchSize(fetchSize);
+            int idx = 1;
+            for (Object arg : sqlDto.getArgs()) {
+                ps.setObject(idx++, arg);
+            }
+            return ps;
+        }, rowHandler);
 
-            log.debug("CSV writing completed");
-        }
+        // 업로드 스트림은 닫지 않음 (완료/취소는 호출자가 결정)
+        printer.flush();
+        log.debug("CSV writing completed");
     }
 
     private String stripColumnSuffix(String column) {
@@ -1,6 +1,7 @@
 // 작성자: 최이서
 package com.moa.api.export.service;
 
+import com.moa.api.data.util.RestoredLayer;
 import com.moa.api.export.dto.ExportCreateResponseDTO;
 import com.moa.api.export.dto.ExportPivotRequestDTO;
 import com.moa.api.export.entity.ExportFile;
@@ -13,6 +14,7 @@ import com.moa.api.pivot.model.TimeWindow;
 import com.moa.api.pivot.repository.PivotRepository;
 import com.moa.api.pivot.repository.SqlSupport;
 import com.moa.api.preset.entity.Preset;
+import com.moa.global.aws.S3MultipartOutputStream;
 import com.moa.global.aws.S3Props;
 import com.moa.global.aws.S3Uploader;
 import jakarta.persistence.EntityManager;
@@ -26,10 +28,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.BufferedWriter;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -77,16 +78,16 @@ public class PivotExportService {
 
         final String objectKey = buildObjectKey(rootPrefix, "pivot", memberId, safeBase + ".csv");
 
-        // 6) CSV 생성 → 임시 파일 → 업로드
-        Path tmp = Files.createTempFile("pivot-export-", ".csv");
+        // 6) CSV 생성 → 스트리밍 업로드 (임시 파일 없음)
+        S3MultipartOutputStream upload = s3Uploader.openStream(
+                bucket, objectKey, safeBase + ".csv", "text/csv; charset=utf-8");
         try {
-            writeCsvToFile(tmp, fullPivot);
-            s3Uploader.upload(bucket, objectKey, tmp, "text/csv; charset=utf-8");
-        } finally {
-            try {
-                Files.deleteIfExists(tmp);
-            } catch (Exception ignore) {}
+            writeCsv(upload, fullPivot);
+        } catch (Exception e) {
+            upload.abort();
+            throw e;
         }
+        upload.close();
 
         // 7) 프리사인드 URL
         String httpUrl = s3Uploader.presign(bucket, objectKey, java.time.Duration.ofMinutes(10));
@@ -132,11 +133,12 @@ public class PivotExportService {
 
         // ctx 생성 (PivotRepositoryImpl.createContext와 같은 내용 구현)
         PivotQueryContext ctx = new PivotQueryContext(
-                com.moa.api.pivot.model.PivotLayer.from(req.getLayer()),
+                com.moa.api.pivot.model.PivotLayer.from(RestoredLayer.baseLayer(req.getLayer())),
                 resolveTimeField(req),
                 tw,
                 req.getFilters(),
-                sqlSupport
+                sqlSupport,
+                RestoredLayer.isRestored(req.getLayer())
         );
 
         // column 필드/값/metric 세팅
@@ -211,14 +213,17 @@ public class PivotExportService {
             return req.getTime().getField();
         }
         // 레이어별 기본 시간 필드는 PivotLayer에서 가져오면 됨
-        return com.moa.api.pivot.model.PivotLayer.from(req.getLayer()).getDefaultTimeField();
+        return com.moa.api.pivot.model.PivotLayer.from(RestoredLayer.baseLayer(req.getLayer())).getDefaultTimeField();
     }
 
     // =============================
     // 2) CSV 작성 (RowGroup + Item 평탄화)
     // =============================
 
-    private void writeCsvToFile(Path path, PivotQueryResponseDTO pivot) throws Exception {
+    /**
+     * 피벗 결과 CSV 기록 (out 은 호출자가 close)
+     */
+    private void writeCsv(OutputStream out, PivotQueryResponseDTO pivot) throws Exception {
         PivotQueryResponseDTO.ColumnField columnField = pivot.getColumnField();
         List<PivotQueryResponseDTO.RowGroup> groups = pivot.getRowGroups();
 
@@ -233,69 +238,70 @@ public class PivotExportService {
                 ? columnField.getMetrics()
                 : List.of();
 
-        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
-                Files.newOutputStream(path), StandardCharsets.UTF_8));
-             CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT)) {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT);
 
-            // UTF-8 BOM (엑셀 한글 깨짐 방지)
-            writer.write('\uFEFF');
+        // UTF-8 BOM (엑셀 한글 깨짐 방지)
+        writer.write('\uFEFF');
 
-            // 1) 헤더 2줄
-            List<String> header1 = new ArrayList<>();
-            header1.add("#");
-            header1.add("rowFieldName");
-            header1.add("rowFieldValue");
+        // 1) 헤더 2줄
+        List<String> header1 = new ArrayList<>();
+        header1.add("#");
+        header1.add("rowFieldName");
+        header1.add("rowFieldValue");
 
-            for (String colVal : columnValues) {
-                String label = (colVal == null || colVal.isBlank()) ? "(empty)" : colVal;
-                for (PivotQueryResponseDTO.Metric m : metrics) {
-                    header1.add(label);
-                }
+        for (String colVal : columnValues) {
+            String label = (colVal == null || colVal.isBlank()) ? "(empty)" : colVal;
+            for (PivotQueryResponseDTO.Metric m : metrics) {
+                header1.add(label);
             }
+        }
 
-            List<String> header2 = new ArrayList<>();
-            header2.add("");
-            header2.add("");
-            header2.add("");
+        List<String> header2 = new ArrayList<>();
+        header2.add("");
+        header2.add("");
+        header2.add("");
 
-            for (int i = 0; i < columnValues.size(); i++) {
-                for (PivotQueryResponseDTO.Metric m : metrics) {
-                    header2.add(m.getAlias());
-                }
+        for (int i = 0; i < columnValues.size(); i++) {
+            for (PivotQueryResponseDTO.Metric m : metrics) {
+                header2.add(m.getAlias());
             }
+        }
 
-            printer.printRecord(header1);
-            printer.printRecord(header2);
-
-            // 2) 데이터 행 – RowGroup(필드명) + RowGroupItem(값) 조합을 평탄화
-            int rowNo = 1;
-            for (PivotQueryResponseDTO.RowGroup g : groups) {
-                String rowFieldName = g.getRowLabel();
-                List<PivotQueryResponseDTO.RowGroupItem> items = g.getItems();
-                if (items == null || items.isEmpty()) continue;
-
-                for (PivotQueryResponseDTO.RowGroupItem item : items) {
-                    List<String> line = new ArrayList<>();
-                    line.add(String.valueOf(rowNo++));
-                    line.add(rowFieldName);
-                    line.add(item.getValueLabel());
-
-                    Map<String, Map<String, Object>> cells =
-                            item.getCells() != null ? item.getCells() : Map.of();
-
-                    for (String colVal : columnValues) {
-                        Map<String, Object> metricMap =
-                                cells.getOrDefault(colVal, Map.of());
-                        for (PivotQueryResponseDTO.Metric m : metrics) {
-                            Object v = metricMap.get(m.getAlias());
-                            line.add(v != null ? v.toString() : "");
-                        }
+        printer.printRecord(header1);
+        printer.printRecord(header2);
+
+        // 2) 데이터 행 – RowGroup(필드명) + RowGroupItem(값) 조합을 평탄화
+        int rowNo = 1;
+        for (PivotQueryResponseDTO.RowGroup g : groups) {
+            String rowFieldName = g.getRowLabel();
+            List<PivotQueryResponseDTO.RowGroupItem> items = g.getItems();
+            if (items == null || items.isEmpty()) continue;
+
+            for (PivotQueryResponseDTO.RowGroupItem item : items) {
+                List<String> line = new ArrayList<>();
+                line.add(String.valueOf(rowNo++));
+                line.add(rowFieldName);
+                line.add(item.getValueLabel());
+
+                Map<String, Map<String, Object>> cells =
+                        item.getCells() != null ? item.getCells() : Map.of();
+
+                for (String colVal : columnValues) {
+                    Map<String, Object> metricMap =
+                            cells.getOrDefault(colVal, Map.of());
+                    for (PivotQueryResponseDTO.Metric m : metrics) {
+                        Object v = metricMap.get(m.getAlias());
+                        line.add(v != null ? v.toString() : "");
                     }
-
-                    printer.printRecord(line);
                 }
+
+                printer.printRecord(line);
             }
         }
+
+        // 업로드 스트림은 닫지 않음 (완료/취소는 호출자가 결정)
+        printer.flush();
     }
 
     // =============================
@@ -65,6 +65,29 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 그리드 검색 백그라운드 COUNT 전용 ThreadPool
+     * - 가득 차면 거부 (AbortPolicy) → SearchCountService 가 건수 없이 응답
+     *   (CallerRunsPolicy 로 요청 스레드에서 COUNT 를 실행하면 페이지 응답이 COUNT 를 기다리게 됨)
+     */
+    @Bean(name = "searchCountExecutor")
+    public Executor searchCountExecutor() {
+        GridProperties.Count countConfig = properties.getCount();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(countConfig.getThreads());
+        executor.setMaxPoolSize(countConfig.getThreads());
+        executor.setQueueCapacity(countConfig.getQueueCapacity());
+        executor.setThreadNamePrefix("search-count-");
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        log.info("Search count executor initialized - threads: {}, queue: {}",
+                countConfig.getThreads(), countConfig.getQueueCapacity());
+
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (throwable, method, params) -> {
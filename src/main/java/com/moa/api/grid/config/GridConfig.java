@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -53,6 +54,44 @@ public class GridConfig {
         async.setThreadNamePrefix("grid-async-");
         props.setAsync(async);
 
+        // 검색 COUNT 설정
+        GridProperties.Count count = new GridProperties.Count();
+        count.setWaitMillis(200);
+        count.setCacheSeconds(60);
+        count.setMaxCachedCounts(1_000);
+        count.setEstimateAboveSeconds(86_400L);
+        count.setThreads(4);
+        count.setQueueCapacity(50);
+        props.setCount(count);
+
+        // 검색 조회 컬럼 설정 (기본 그리드 컬럼 / 상세 패널 키)
+        // - 키는 GridValidator 가 허용하는 레이어 (RESTORED_ 별칭은 원본 레이어 설정을 따름)
+        GridProperties.Projection projection = new GridProperties.Projection();
+        Map<String, List<String>> defaultColumns = new HashMap<>();
+        defaultColumns.put("HTTP_PAGE", List.of(
+                "ts_server_nsec", "src_ip", "src_port", "dst_ip", "dst_port",
+                "http_method", "http_host", "http_uri", "http_res_code", "page_session_cnt"));
+        defaultColumns.put("HTTP_URI", List.of(
+                "ts_server_nsec", "src_ip", "src_port", "dst_ip", "dst_port",
+                "http_method", "http_host", "http_uri", "http_content_type", "pkt_len"));
+        defaultColumns.put("TCP", List.of(
+                "ts_server_nsec", "src_ip", "src_port", "dst_ip", "dst_port",
+                "ndpi_protocol_app", "sni_hostname", "pkts_delta", "len_delta", "expired_by_timeout"));
+        defaultColumns.put("ETHERNET", List.of(
+                "ts_server_nsec", "src_mac", "dst_mac", "src_ip", "src_port", "dst_ip", "dst_port",
+                "ndpi_protocol_app", "pkts_delta", "len_delta"));
+        projection.setDefaultColumns(defaultColumns);
+
+        // 상세 패널 키: row_key 구성 요소 (row_key 는 항상 포함)
+        Map<String, List<String>> detailKeys = new HashMap<>();
+        detailKeys.put("HTTP_PAGE", List.of("ts_server_nsec", "src_ip", "dst_ip", "src_port", "dst_port", "page_idx"));
+        detailKeys.put("HTTP_URI", List.of("ts_server_nsec", "src_ip", "dst_ip", "src_port", "dst_port", "page_idx", "uri_idx"));
+        detailKeys.put("TCP", List.of("ts_server_nsec", "src_ip", "dst_ip", "src_port", "dst_port"));
+        detailKeys.put("ETHERNET", List.of("ts_server_nsec", "src_mac", "dst_mac", "src_ip", "dst_ip"));
+        projection.setDetailKeys(detailKeys);
+        projection.setMaxLazyRows(200);
+        props.setProjection(projection);
+
         return props;
     }
 }
@@ -9,6 +9,7 @@ package com.moa.api.grid.config;
 import lombok.Data;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -57,6 +58,16 @@ public class GridProperties {
      */
     private Async async = new Async();
 
+    /**
+     * 그리드 검색 전체 건수(COUNT) 설정
+     */
+    private Count count = new Count();
+
+    /**
+     * 그리드 검색 조회 컬럼(projection) 설정
+     */
+    private Projection projection = new Projection();
+
     @Data
     public static class Async {
         private Integer corePoolSize = 10;
@@ -64,4 +75,55 @@ public class GridProperties {
         private Integer queueCapacity = 100;
         private String threadNamePrefix = "grid-async-";
     }
+
+    @Data
+    public static class Count {
+        /**
+         * 페이지 응답 전 정확한 COUNT 를 기다리는 최대 시간 (ms) - 넘으면 COUNT 는 백그라운드에서 계속
+         */
+        private Integer waitMillis = 200;
+
+        /**
+         * 완료된 COUNT 캐시 유지 시간 (초)
+         */
+        private Integer cacheSeconds = 60;
+
+        /**
+         * 캐시에 보관할 최대 COUNT 수
+         */
+        private Integer maxCachedCounts = 1_000;
+
+        /**
+         * 조회 기간이 이 시간(초) 이상이거나 시작 시각이 없으면 실행 계획 추정치를 먼저 반환
+         */
+        private Long estimateAboveSeconds = 86_400L;
+
+        /**
+         * 백그라운드 COUNT 전용 스레드 수 (= COUNT 가 동시에 점유하는 최대 DB 커넥션 수)
+         */
+        private Integer threads = 4;
+
+        /**
+         * 백그라운드 COUNT 대기열 크기 - 가득 차면 COUNT 를 시작하지 않고 건수 없이 응답 (요청 스레드에서 실행하지 않음)
+         */
+        private Integer queueCapacity = 50;
+    }
+
+    @Data
+    public static class Projection {
+        /**
+         * 레이어 → 요청 컬럼이 없을 때 조회할 기본 그리드 컬럼 (없으면 수신 시각 + 정렬 컬럼 + row_key 만)
+         */
+        private Map<String, List<String>> defaultColumns = new HashMap<>();
+
+        /**
+         * 레이어 → 상세 패널을 여는 데 필요한 키 컬럼 (row_key 는 항상 포함)
+         */
+        private Map<String, List<String>> detailKeys = new HashMap<>();
+
+        /**
+         * row_key 기반 추가 컬럼 조회 한 번에 허용하는 최대 row_key 수
+         */
+        private Integer maxLazyRows = 200;
+    }
 }
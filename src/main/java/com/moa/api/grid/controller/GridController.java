@@ -10,15 +10,20 @@ import com.moa.api.grid.dto.*;
 import com.moa.api.grid.service.GridAsyncService;
 import com.moa.api.grid.service.GridService;
 import com.moa.api.search.dto.SearchDTO;
+import com.moa.api.search.service.SearchCountService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -30,6 +35,9 @@ import java.util.concurrent.CompletableFuture;
  * - /aggregate/cache-stats       : 집계 캐시 상태 조회
  * - /grid/filtering(POST/GET)    : DISTINCT 값 조회
  * - /grid/search                 : SearchSpec 기반 그리드 데이터 조회
+ * - /grid/search/columnar        : 그리드 데이터 조회 (컬럼형 스트리밍 응답)
+ * - /grid/search/columns         : row_key 기반 추가 컬럼 조회
+ * - /grid/search/count/{key}     : 그리드 검색 전체 건수 (백그라운드 COUNT 결과)
  * - /grid/columns                : 레이어별 컬럼 메타데이터 조회
  */
 @Slf4j
@@ -166,6 +174,38 @@ public class GridController {
         return gridService.getGridDataBySearchSpec(req);
     }
 
+    /**
+     * 그리드 데이터 조회 - 컬럼형 스트리밍 (fields 헤더 + 행별 값 배열)
+     * - 요청은 /grid/search 와 같음, 넓은 컬럼 조회 시 응답 크기 / 서버 메모리 절감
+     */
+    @PostMapping(value = "/grid/search/columnar", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getGridDataColumnar(@RequestBody SearchDTO req, HttpServletResponse response) throws IOException {
+        log.info("[POST /grid/search/columnar] layer={}, columns={}", req.getLayer(), req.getColumns());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        gridService.streamGridDataBySearchSpec(req, response.getOutputStream());
+    }
+
+    /**
+     * row_key 기반 추가 컬럼 조회 (그리드 검색 응답에 없는 컬럼을 나중에 열 때)
+     */
+    @PostMapping("/grid/search/columns")
+    public SearchResponseDTO getGridColumns(@RequestBody RowColumnsRequestDTO req) {
+        log.info("[POST /grid/search/columns] layer={}, rowKeys={}, columns={}",
+                req.getLayer(), req.getRowKeys() == null ? 0 : req.getRowKeys().size(), req.getColumns());
+        return gridService.getGridColumnsByRowKeys(req);
+    }
+
+    /**
+     * 그리드 검색 전체 건수 조회 (검색 응답의 countKey)
+     * - 200: {value, approximate, pending} / 404: 만료되었거나 모르는 키
+     */
+    @GetMapping("/grid/search/count/{countKey}")
+    public ResponseEntity<SearchCountService.Total> getGridCount(@PathVariable String countKey) {
+        SearchCountService.Total total = gridService.getSearchCount(countKey);
+        return total == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(total);
+    }
+
     /**
      * 컬럼 메타데이터 조회
      */
@@ -0,0 +1,34 @@
+package com.moa.api.grid.dto;
+
+/*****************************************************************************
+ CLASS NAME    : RowColumnsRequestDTO
+ DESCRIPTION   : row_key 기반 추가 컬럼 조회 요청 DTO
+ AUTHOR        : 방대혁
+ ******************************************************************************/
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * row_key 기반 추가 컬럼 조회 요청 DTO
+ * - 그리드 검색 응답에 없는 컬럼을 나중에 열 때 사용
+ */
+@Data
+public class RowColumnsRequestDTO {
+
+    /**
+     * 레이어 (기본 HTTP_PAGE)
+     */
+    private String layer;
+
+    /**
+     * 조회할 row_key 목록 (최대 grid.projection.maxLazyRows 개)
+     */
+    private List<String> rowKeys;
+
+    /**
+     * 조회할 컬럼 (비어 있으면 필드 메타 전체)
+     */
+    private List<String> columns;
+}
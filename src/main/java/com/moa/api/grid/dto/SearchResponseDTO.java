@@ -23,6 +23,10 @@ public class SearchResponseDTO {
     private List<ColumnDTO> columns;
     private List<Map<String, Object>> rows;
     private Integer total;
+    private String nextCursor;   // seek 모드 다음 페이지 커서
+    private Boolean totalApproximate;   // true 면 total 은 추정치
+    private Boolean totalPending;       // true 면 정확한 건수 계산 중 (GET /api/grid/search/count/{countKey})
+    private String countKey;
 
     @Data
     @AllArgsConstructor
@@ -1,10 +1,12 @@
 package com.moa.api.grid.repository;
 
 import com.moa.api.grid.config.GridProperties;
+import com.moa.api.data.service.ArchiveQueryService;
 import com.moa.api.grid.dto.*;
 import com.moa.api.grid.util.LayerTableResolver;
 import com.moa.api.grid.util.QueryBuilder;
 import com.moa.api.grid.util.SqlQueryBuilder;
+import com.moa.api.search.dto.SearchDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.postgresql.util.PGobject;
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * GridRepositoryImpl
@@ -41,6 +44,7 @@ public class GridRepositoryImpl implements GridRepositoryCustom {
     private final QueryBuilder queryBuilder;
     private final LayerTableResolver tableResolver;
     private final GridProperties properties;
+    private final ArchiveQueryService archiveQueryService;
 
     /**
      * 레이어별 프론트엔드 타입 캐시
@@ -87,18 +91,27 @@ public class GridRepositoryImpl implements GridRepositoryCustom {
         Map<String, String> typeMap = getFrontendTypeMap(normLayer);
         Map<String, String> temporalMap = getTemporalKindMap(normLayer);
 
-        // DISTINCT + ORDER BY + LIMIT/OFFSET 동적 SQL 생성 (limit+1 로 한 페이지 초과 여부 체크)
-        SqlDTO s = queryBuilder.buildDistinctPagedSQLOrdered(
-                normLayer, column, filterModel, includeSelf, search, offset, limit + 1,
-                orderBy, order, baseSpecJson, typeMap, temporalMap);
-
-        log.debug("[DistinctSQL] {}", s.getSql());
-
-        // 첫 번째 컬럼만 사용 (DISTINCT 대상)
-        List<String> list = jdbcTemplate.query(s.getSql(), s.getArgs().toArray(), (rs, rn) -> {
-            Object v = rs.getObject(1);
-            return (v instanceof PGobject pg) ? pg.getValue() : (v == null ? null : v.toString());
-        });
+        // 조회 기간이 보관 기간을 넘으면 아카이브(S3)까지 합쳐서 조회
+        SearchDTO.TimeSpec time = queryBuilder.timeOfBaseSpec(baseSpecJson);
+        List<String> list = archiveQueryService.withArchive(
+                tableResolver.resolveDataTable(normLayer),
+                time != null ? time.getField() : null,
+                time != null ? time.getFromEpoch() : null,
+                time != null ? time.getToEpoch() : null,
+                source -> {
+                    // DISTINCT + ORDER BY + LIMIT/OFFSET 동적 SQL 생성 (limit+1 로 한 페이지 초과 여부 체크)
+                    SqlDTO s = queryBuilder.buildDistinctPagedSQLOrdered(
+                            normLayer, column, filterModel, includeSelf, search, offset, limit + 1,
+                            orderBy, order, baseSpecJson, typeMap, temporalMap, source);
+
+                    log.debug("[DistinctSQL] {}", s.getSql());
+
+                    // 첫 번째 컬럼만 사용 (DISTINCT 대상)
+                    return jdbcTemplate.query(s.getSql(), s.getArgs().toArray(), (rs, rn) -> {
+                        Object v = rs.getObject(1);
+                        return (v instanceof PGobject pg) ? pg.getValue() : (v == null ? null : v.toString());
+                    });
+                });
 
         // hasMore 판별을 위해 limit+1 개 가져옴
         boolean hasMore = list.size() > limit;
@@ -187,104 +200,113 @@ public class GridRepositoryImpl implements GridRepositoryCustom {
             return new AggregateResponseDTO(result);
         }
 
-        // 필드별 집계 수행
-        req.getMetrics().forEach((field, spec) -> {
-            // 요청에 명시된 타입 우선, 없으면 메타 타입 사용
-            String declaredType = spec != null ? spec.getType() : null;
-            String t = (declaredType != null && !declaredType.isBlank())
-                    ? declaredType.toLowerCase()
-                    : typeMap.getOrDefault(field, "string").toLowerCase();
-
-            // date 타입은 현재 스킵 (필요 시 추가 구현)
-            if ("date".equals(t)) {
-                return;
-            }
-
-            // 실제 컬럼명 (대소문자 보존을 위해 쌍따옴표 사용)
-            String col = "\"" + field + "\"";
-            List<String> ops = (spec != null && spec.getOps() != null)
-                    ? spec.getOps()
-                    : List.of();
-
-            Map<String, Object> agg = new LinkedHashMap<>();
-
-            try {
-                if ("number".equals(t)) {
-                    // 숫자 집계
-                    Map<String, Object> row = numberAgg(table, col, where);
-                    if (ops.contains("count")) agg.put("count", row.get("cnt"));
-                    if (ops.contains("sum")) agg.put("sum", row.get("s"));
-                    if (ops.contains("avg")) agg.put("avg", row.get("a"));
-                    if (ops.contains("min")) agg.put("min", row.get("mn"));
-                    if (ops.contains("max")) agg.put("max", row.get("mx"));
-                } else {
-                    // 문자열/JSON 계열 집계
-                    boolean isJson = "json".equals(t);
-                    Map<String, Object> row = stringAgg(table, col, where, isJson);
-                    long cnt = row.get("cnt") == null
-                            ? 0L
-                            : ((Number) row.get("cnt")).longValue();
-                    long uniq = row.get("uniq") == null
-                            ? 0L
-                            : ((Number) row.get("uniq")).longValue();
-
-                    if (ops.contains("count")) {
-                        agg.put("count", cnt);
-                    }
-                    if (ops.contains("distinct")) {
-                        agg.put("distinct", uniq);
-                    }
-
-                    // topN 요청이 있고, 전체 건수 > 고유값 개수인 경우에만 상위 값 조회
-                    boolean wantTop =
-                            ops.contains("top1") || ops.contains("top2") || ops.contains("top3");
-                    if (wantTop && cnt > uniq) {
-                        List<Map<String, Object>> list =
-                                topNList(table, col, where, 3, isJson);
+        // 조회 기간이 보관 기간을 넘으면 아카이브(S3)까지 합쳐서 집계
+        SearchDTO.TimeSpec time = queryBuilder.timeOfBaseSpec(req.getBaseSpecJson());
+        archiveQueryService.withArchive(table,
+                time != null ? time.getField() : null,
+                time != null ? time.getFromEpoch() : null,
+                time != null ? time.getToEpoch() : null,
+                source -> {
+            // 필드별 집계 수행
+            req.getMetrics().forEach((field, spec) -> {
+                // 요청에 명시된 타입 우선, 없으면 메타 타입 사용
+                String declaredType = spec != null ? spec.getType() : null;
+                String t = (declaredType != null && !declaredType.isBlank())
+                        ? declaredType.toLowerCase()
+                        : typeMap.getOrDefault(field, "string").toLowerCase();
+
+                // date 타입은 현재 스킵 (필요 시 추가 구현)
+                if ("date".equals(t)) {
+                    return;
+                }
 
-                        java.util.function.Function<Object, Object> valOf = v -> {
-                            if (v instanceof PGobject pg) {
-                                return pg.getValue();
-                            }
-                            return v;
-                        };
-
-                        Map<String, Object> t1 = list.size() >= 1 ? list.get(0) : null;
-                        Map<String, Object> t2 = list.size() >= 2 ? list.get(1) : null;
-                        Map<String, Object> t3 = list.size() >= 3 ? list.get(2) : null;
-
-                        if (ops.contains("top1")) {
-                            agg.put("top1", t1 == null
-                                    ? null
-                                    : Map.of(
-                                    "value", valOf.apply(t1.get("val")),
-                                    "count", t1.get("c")
-                            ));
+                // 실제 컬럼명 (대소문자 보존을 위해 쌍따옴표 사용)
+                String col = "\"" + field + "\"";
+                List<String> ops = (spec != null && spec.getOps() != null)
+                        ? spec.getOps()
+                        : List.of();
+
+                Map<String, Object> agg = new LinkedHashMap<>();
+
+                try {
+                    if ("number".equals(t)) {
+                        // 숫자 집계
+                        Map<String, Object> row = numberAgg(source, col, where);
+                        if (ops.contains("count")) agg.put("count", row.get("cnt"));
+                        if (ops.contains("sum")) agg.put("sum", row.get("s"));
+                        if (ops.contains("avg")) agg.put("avg", row.get("a"));
+                        if (ops.contains("min")) agg.put("min", row.get("mn"));
+                        if (ops.contains("max")) agg.put("max", row.get("mx"));
+                    } else {
+                        // 문자열/JSON 계열 집계
+                        boolean isJson = "json".equals(t);
+                        Map<String, Object> row = stringAgg(source, col, where, isJson);
+                        long cnt = row.get("cnt") == null
+                                ? 0L
+                                : ((Number) row.get("cnt")).longValue();
+                        long uniq = row.get("uniq") == null
+                                ? 0L
+                                : ((Number) row.get("uniq")).longValue();
+
+                        if (ops.contains("count")) {
+                            agg.put("count", cnt);
                         }
-                        if (ops.contains("top2")) {
-                            agg.put("top2", t2 == null
-                                    ? null
-                                    : Map.of(
-                                    "value", valOf.apply(t2.get("val")),
-                                    "count", t2.get("c")
-                            ));
+                        if (ops.contains("distinct")) {
+                            agg.put("distinct", uniq);
                         }
-                        if (ops.contains("top3")) {
-                            agg.put("top3", t3 == null
-                                    ? null
-                                    : Map.of(
-                                    "value", valOf.apply(t3.get("val")),
-                                    "count", t3.get("c")
-                            ));
+
+                        // topN 요청이 있고, 전체 건수 > 고유값 개수인 경우에만 상위 값 조회
+                        boolean wantTop =
+                                ops.contains("top1") || ops.contains("top2") || ops.contains("top3");
+                        if (wantTop && cnt > uniq) {
+                            List<Map<String, Object>> list =
+                                    topNList(source, col, where, 3, isJson);
+
+                            java.util.function.Function<Object, Object> valOf = v -> {
+                                if (v instanceof PGobject pg) {
+                                    return pg.getValue();
+                                }
+                                return v;
+                            };
+
+                            Map<String, Object> t1 = list.size() >= 1 ? list.get(0) : null;
+                            Map<String, Object> t2 = list.size() >= 2 ? list.get(1) : null;
+                            Map<String, Object> t3 = list.size() >= 3 ? list.get(2) : null;
+
+                            if (ops.contains("top1")) {
+                                agg.put("top1", t1 == null
+                                        ? null
+                                        : Map.of(
+                                        "value", valOf.apply(t1.get("val")),
+                                        "count", t1.get("c")
+                                ));
+                            }
+                            if (ops.contains("top2")) {
+                                agg.put("top2", t2 == null
+                                        ? null
+                                        : Map.of(
+                                        "value", valOf.apply(t2.get("val")),
+                                        "count", t2.get("c")
+                                ));
+                            }
+                            if (ops.contains("top3")) {
+                                agg.put("top3", t3 == null
+                                        ? null
+                                        : Map.of(
+                                        "value", valOf.apply(t3.get("val")),
+                                        "count", t3.get("c")
+                                ));
+                            }
                         }
                     }
+                } catch (Exception e) {
+                    // 특정 필드 집계가 실패해도 전체 응답은 내려가도록 swallow
+                    log.warn("[GridRepositoryImpl] aggregate error for field {}: {}", field, e.getMessage());
                 }
-            } catch (Exception e) {
-                // 특정 필드 집계가 실패해도 전체 응답은 내려가도록 swallow
-                log.warn("[GridRepositoryImpl] aggregate error for field {}: {}", field, e.getMessage());
-            }
 
-            result.put(field, agg);
+                result.put(field, agg);
+            });
+            return null;
         });
 
         return new AggregateResponseDTO(result);
@@ -384,7 +406,7 @@ public class GridRepositoryImpl implements GridRepositoryCustom {
     @Override
     public Map<String, String> getFrontendTypeMap(String layer) {
         String key = (layer == null ? "ethernet" : layer).toLowerCase();
-        return frontendTypeCache.computeIfAbsent(key, this::buildFrontendTypeMap);
+        return cached(frontendTypeCache, key, this::buildFrontendTypeMap);
     }
 
     /**
@@ -394,7 +416,25 @@ public class GridRepositoryImpl implements GridRepositoryCustom {
     @Override
     public Map<String, String> getTemporalKindMap(String layer) {
         String key = (layer == null ? "ethernet" : layer).toLowerCase();
-        return temporalKindCache.computeIfAbsent(key, this::buildTemporalKindMap);
+        return cached(temporalKindCache, key, this::buildTemporalKindMap);
+    }
+
+    /**
+     * 캐시 조회 - 빈 결과는 캐시하지 않음
+     * (복원 레이어처럼 테이블이 나중에 생기는 경우 생성 이후 다시 조회되도록)
+     */
+    private static Map<String, String> cached(Map<String, Map<String, String>> cache, String key,
+                                              Function<String, Map<String, String>> loader) {
+        Map<String, String> value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = loader.apply(key);
+        if (!value.isEmpty()) {
+            cache.put(key, value);
+        }
+        return value;
     }
 
     /**
@@ -2,15 +2,21 @@ package com.moa.api.grid.service;
 
 import com.moa.api.grid.dto.*;
 import com.moa.api.grid.repository.GridRepositoryImpl;
+import com.moa.api.grid.util.ColumnarSearchWriter;
 import com.moa.api.grid.validation.GridValidator;
 import com.moa.api.search.dto.SearchDTO;
+import com.moa.api.search.service.SearchCountService;
 import com.moa.api.search.service.SearchExecuteService;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -36,6 +42,9 @@ public class GridService {
     /** 레이어 / 필터 / baseSpec 등 공통 검증 담당 */
     private final GridValidator validator;
 
+    /** 응답 스트리밍용 ObjectMapper (Spring 설정 - /grid/search 응답과 같은 값 직렬화) */
+    private final ObjectMapper objectMapper;
+
     /** 필터 JSON 파싱용 ObjectMapper (self-contained 사용) */
     private final ObjectMapper om = new ObjectMapper();
 
@@ -183,6 +192,94 @@ public class GridService {
         return gridRepository.getColumnsWithType(layer);
     }
 
+    /**
+     * SearchSpec 기반 그리드 데이터 조회 - 컬럼형 스트리밍 응답
+     *
+     * - 행을 Map 으로 모으지 않고 ResultSet 에서 바로 out 으로 기록 (ColumnarSearchWriter 형식)
+     * - 넓은 테이블(SELECT *)에서 행마다 컬럼명 / Map 을 만들지 않으므로 힙 사용량과 응답 크기가 줄어듦
+     * - 레이어 / 조건 / 커서 검증과 아카이브 범위 확인은 out 에 쓰기 전에 끝나므로 검증 오류는 일반 오류 응답으로 나감
+     * - generator 를 닫아도 서블릿 스트림은 닫지 않음 (닫으면 응답이 커밋되어 예외 핸들러가 4xx/5xx 를 보내지 못함)
+     */
+    public void streamGridDataBySearchSpec(SearchDTO req, OutputStream out) throws IOException {
+        validator.validateLayer(req.getLayer());
+
+        String layer = defaultLayer(req.getLayer());
+        List<SearchResponseDTO.ColumnDTO> columns = columnsFor(layer, executeService.projection(req));
+
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(StreamUtils.nonClosing(out))) {
+            executeService.stream(req, new ColumnarSearchWriter(gen, layer, columns));
+        }
+    }
+
+    /**
+     * row_key 기반 추가 컬럼 조회 (그리드 검색에서 빠진 컬럼을 나중에 열 때)
+     *
+     * - 검색 응답에는 보이는 컬럼 + 정렬 컬럼 + 상세 패널 키만 오므로 나머지는 row_key 로 다시 조회
+     * - 원본 테이블에 남아있는 행만 반환 (아카이브된 행은 제외)
+     */
+    public SearchResponseDTO getGridColumnsByRowKeys(RowColumnsRequestDTO req) {
+        validator.validateLayer(req.getLayer());
+
+        String layer = defaultLayer(req.getLayer());
+        List<Map<String, Object>> rows = executeService.fetchColumns(layer, req.getColumns(), req.getRowKeys());
+
+        List<String> names = rows.isEmpty() ? List.of() : new ArrayList<>(rows.get(0).keySet());
+        return SearchResponseDTO.builder()
+                .layer(layer)
+                .columns(names.isEmpty() ? List.of() : columnsFor(layer, names))
+                .rows(rows)
+                .total(rows.size())
+                .build();
+    }
+
+    /**
+     * 레이어 기본값 보정 (비어있으면 "http_page")
+     */
+    private static String defaultLayer(String layer) {
+        return (layer == null || layer.isBlank()) ? "http_page" : layer;
+    }
+
+    /**
+     * 요청 컬럼 순서대로 컬럼 메타 구성 (요청된 컬럼이 없으면 전체 컬럼)
+     */
+    private List<SearchResponseDTO.ColumnDTO> columnsFor(String layer, List<String> requested) {
+        // 전체 컬럼 메타 로딩
+        var allColumns = gridRepository.getColumnsWithType(layer);
+        log.info("[GridService] 전체 컬럼 수={}", allColumns.size());
+
+        if (requested == null || requested.isEmpty()) {
+            // 요청된 컬럼이 없으면 전체 컬럼 반환
+            return allColumns;
+        }
+
+        // name → ColumnDTO 맵
+        Map<String, SearchResponseDTO.ColumnDTO> index =
+                allColumns.stream()
+                        .collect(Collectors.toMap(
+                                SearchResponseDTO.ColumnDTO::getName,
+                                c -> c,
+                                (a, b) -> a
+                        ));
+
+        List<SearchResponseDTO.ColumnDTO> filteredColumns = requested.stream()
+                .map(index::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        log.info("[GridService] 필터링된 컬럼 수={}", filteredColumns.size());
+        return filteredColumns;
+    }
+
+    /**
+     * 그리드 검색 전체 건수 조회
+     *
+     * - 검색 응답의 totalPending 이 true 일 때 countKey 로 백그라운드 COUNT 결과를 다시 확인
+     * - 모르는 키(만료/다른 노드)면 null
+     */
+    public SearchCountService.Total getSearchCount(String countKey) {
+        return executeService.findCount(countKey);
+    }
+
     /**
      * SearchSpec 기반 그리드 데이터 조회
      *
@@ -214,38 +311,10 @@ public class GridService {
         }
 
         // 레이어 기본값 보정
-        String layer = (req.getLayer() == null || req.getLayer().isBlank())
-                ? "http_page"
-                : req.getLayer();
+        String layer = defaultLayer(req.getLayer());
 
-        // 전체 컬럼 메타 로딩
-        var allColumns = gridRepository.getColumnsWithType(layer);
-        log.info("[GridService] 전체 컬럼 수={}", allColumns.size());
-
-        // 프론트에서 요청한 컬럼만 필터링 (순서 보존)
-        List<String> requested = req.getColumns();
-        List<SearchResponseDTO.ColumnDTO> filteredColumns;
-
-        if (requested != null && !requested.isEmpty()) {
-            // name → ColumnDTO 맵
-            Map<String, SearchResponseDTO.ColumnDTO> index =
-                    allColumns.stream()
-                            .collect(Collectors.toMap(
-                                    SearchResponseDTO.ColumnDTO::getName,
-                                    c -> c,
-                                    (a, b) -> a
-                            ));
-
-            filteredColumns = requested.stream()
-                    .map(index::get)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-
-            log.info("[GridService] 필터링된 컬럼 수={}", filteredColumns.size());
-        } else {
-            // 요청된 컬럼이 없으면 전체 컬럼 반환
-            filteredColumns = allColumns;
-        }
+        // 실제 조회한 컬럼(요청 컬럼 + 정렬 컬럼 + 상세 패널 키)만 필터링 (순서 보존)
+        List<SearchResponseDTO.ColumnDTO> filteredColumns = columnsFor(layer, executeService.projection(req));
 
         // 최종 응답 DTO 구성
         return SearchResponseDTO.builder()
@@ -253,6 +322,10 @@ public class GridService {
                 .columns(filteredColumns)
                 .rows(out.getRows())
                 .total(out.getTotal())
+                .nextCursor(out.getNextCursor())
+                .totalApproximate(out.getTotalApproximate())
+                .totalPending(out.getTotalPending())
+                .countKey(out.getCountKey())
                 .build();
     }
 }
@@ -0,0 +1,109 @@
+package com.moa.api.grid.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.moa.api.grid.dto.SearchResponseDTO;
+import com.moa.api.search.dto.SearchDTO;
+import com.moa.api.search.service.SearchExecuteService;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 그리드 검색 결과 컬럼형 JSON 스트리밍 writer
+ *
+ * AUTHOR        : 방대혁
+ *
+ * 응답 형식
+ * {
+ *   "layer": "HTTP_PAGE",
+ *   "columns": [ColumnDTO ...],          ← /grid/search 와 같은 컬럼 메타
+ *   "fields": ["http_host", ...],        ← rows 배열의 값 순서
+ *   "rows": [["a.example.com", 3, ...], ...],
+ *   "total": 1234, "totalApproximate": false, "totalPending": false, "countKey": "...", "nextCursor": null
+ * }
+ *
+ * 특징
+ * - 행마다 Map 을 만들지 않고 ResultSet 값을 바로 JsonGenerator 로 기록 (컬럼명은 헤더에 한 번만)
+ * - 값 변환은 queryForList 와 같은 JdbcUtils.getResultSetValue, 직렬화는 주입된 ObjectMapper 설정을 따름
+ *   → 값 표현은 /grid/search 응답과 같음
+ */
+public class ColumnarSearchWriter implements SearchExecuteService.RowSink {
+
+    private final JsonGenerator gen;
+    private final String layer;
+    private final List<SearchResponseDTO.ColumnDTO> columnMeta;
+
+    /**
+     * @param gen ObjectMapper 로 만든 generator (codec 필요)
+     */
+    public ColumnarSearchWriter(JsonGenerator gen, String layer, List<SearchResponseDTO.ColumnDTO> columnMeta) {
+        this.gen = gen;
+        this.layer = layer;
+        this.columnMeta = columnMeta;
+    }
+
+    @Override
+    public void columns(List<String> names) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("layer", layer);
+        gen.writeFieldName("columns");
+        gen.writeObject(columnMeta);
+
+        gen.writeArrayFieldStart("fields");
+        for (String name : names) {
+            gen.writeString(name);
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("rows");
+    }
+
+    @Override
+    public void row(ResultSet rs, int columnCount) throws SQLException, IOException {
+        gen.writeStartArray();
+        for (int i = 1; i <= columnCount; i++) {
+            writeValue(JdbcUtils.getResultSetValue(rs, i));
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void finish(SearchDTO summary) throws IOException {
+        gen.writeEndArray();
+
+        gen.writeObjectField("total", summary.getTotal());
+        gen.writeObjectField("totalApproximate", summary.getTotalApproximate());
+        gen.writeObjectField("totalPending", summary.getTotalPending());
+        gen.writeStringField("countKey", summary.getCountKey());
+        gen.writeStringField("nextCursor", summary.getNextCursor());
+        gen.writeEndObject();
+        gen.flush();
+    }
+
+    /**
+     * 자주 나오는 타입은 직접 기록, 나머지(시각, inet 등)는 ObjectMapper 직렬화
+     */
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof String s) {
+            gen.writeString(s);
+        } else if (value instanceof Integer n) {
+            gen.writeNumber(n);
+        } else if (value instanceof Long n) {
+            gen.writeNumber(n);
+        } else if (value instanceof Double n) {
+            gen.writeNumber(n);
+        } else if (value instanceof BigDecimal n) {
+            gen.writeNumber(n);
+        } else if (value instanceof Boolean b) {
+            gen.writeBoolean(b);
+        } else {
+            gen.writeObject(value);
+        }
+    }
+}
@@ -10,6 +10,7 @@ package com.moa.api.grid.util;
  * 레이어명 → 실제 테이블명 변환
  */
 
+import com.moa.api.data.util.RestoredLayer;
 import com.moa.api.grid.config.GridProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -25,8 +26,14 @@ public class LayerTableResolver {
     /**
      * 레이어명으로 데이터 테이블 조회
      * 예) http_page → public.http_page_sample
+     *     RESTORED_HTTP_PAGE → archive_restore.http_page_sample (아카이브 복원 테이블)
      */
     public String resolveDataTable(String layer) {
+        String restored = RestoredLayer.resolveTable(layer);
+        if (restored != null) {
+            return restored;
+        }
+
         if (layer == null || layer.isBlank()) {
             return properties.getLayerTableMapping()
                     .getOrDefault("HTTP_PAGE", "public.http_page_sample");
@@ -39,14 +46,14 @@ public class LayerTableResolver {
 
     /**
      * 레이어명으로 필드 메타 테이블 조회
-     * 예) http_page → http_page_fields
+     * 예) http_page → http_page_fields (복원 레이어는 원본 레이어의 메타 테이블)
      */
     public String resolveFieldMetaTable(String layer) {
         if (layer == null || layer.isBlank()) {
             return "ethernet_fields";
         }
 
-        String key = layer.trim().toLowerCase(Locale.ROOT);
+        String key = RestoredLayer.baseLayer(layer).trim().toLowerCase(Locale.ROOT);
         return properties.getFieldMetaTableMapping()
                 .getOrDefault(key, "ethernet_fields");
     }
@@ -13,6 +13,7 @@ package com.moa.api.grid.util;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.moa.api.grid.config.GridProperties;
 import com.moa.api.grid.dto.SqlDTO;
+import com.moa.api.search.dto.SearchDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -121,7 +122,26 @@ public class QueryBuilder {
             Map<String, String> typeMap,
             Map<String, String> rawTemporalKindMap) {
 
-        String table = tableResolver.resolveDataTable(layer);
+        return buildDistinctPagedSQLOrdered(
+                layer, column, filterModel, includeSelf, search, offset, limit,
+                orderBy, order, baseSpecJson, typeMap, rawTemporalKindMap,
+                tableResolver.resolveDataTable(layer));
+    }
+
+    /**
+     * DISTINCT 페이징 SQL (FROM 절 관계 지정)
+     *
+     * @param table 조회 대상 관계 (레이어 테이블 또는 아카이브를 합친 서브쿼리)
+     */
+    public SqlDTO buildDistinctPagedSQLOrdered(
+            String layer, String column, String filterModel, boolean includeSelf,
+            String search, int offset, int limit,
+            String orderBy, String order,
+            String baseSpecJson,
+            Map<String, String> typeMap,
+            Map<String, String> rawTemporalKindMap,
+            String table) {
+
         Objects.requireNonNull(column, "column");
 
         // 정렬 검증
@@ -226,6 +246,13 @@ public class QueryBuilder {
         return tableResolver.resolveDataTable(layer);
     }
 
+    /**
+     * baseSpec 의 조회 기간 (없으면 null)
+     */
+    public SearchDTO.TimeSpec timeOfBaseSpec(String baseSpecJson) {
+        return whereBuilder.timeOfBaseSpec(baseSpecJson);
+    }
+
     public SqlDTO buildWhereFromBaseSpec(
             String baseSpecJson,
             Map<String, String> typeMap,
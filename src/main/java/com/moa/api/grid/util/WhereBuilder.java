@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.moa.api.grid.dto.SqlDTO;
 import com.moa.api.grid.exception.GridException;
 import com.moa.api.grid.util.condition.*;
+import com.moa.api.search.dto.SearchDTO;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.*;
@@ -285,6 +286,32 @@ public class WhereBuilder {
         }
     }
 
+    /**
+     * baseSpec 의 조회 기간 (field / fromEpoch / toEpoch 가 모두 있을 때만, 없으면 null)
+     * - buildTimeClause 가 WHERE 에 반영하는 기간과 같음
+     */
+    public SearchDTO.TimeSpec timeOfBaseSpec(String baseSpecJson) {
+        if (baseSpecJson == null || baseSpecJson.isBlank()) return null;
+
+        try {
+            JsonNode time = json.parse(json.normalize(baseSpecJson)).path("time");
+            if (!time.isObject()) return null;
+
+            String field = textOrNull(time, "field");
+            Long from = time.hasNonNull("fromEpoch") ? time.get("fromEpoch").asLong() : null;
+            Long to = time.hasNonNull("toEpoch") ? time.get("toEpoch").asLong() : null;
+            if (field == null || from == null || to == null) return null;
+
+            return new SearchDTO.TimeSpec(field, from, to, time.path("inclusive").asBoolean(true));
+
+        } catch (Exception e) {
+            throw new GridException(
+                    GridException.ErrorCode.INVALID_BASE_SPEC,
+                    "BaseSpec 파싱 실패: " + e.getMessage()
+            );
+        }
+    }
+
     private SqlDTO buildTimeClause(JsonNode time,
                                    Map<String, String> typeMap,
                                    Map<String, String> rawTemporalKindMap) {
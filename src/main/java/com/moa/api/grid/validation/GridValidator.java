@@ -2,6 +2,7 @@ package com.moa.api.grid.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moa.api.data.util.RestoredLayer;
 import com.moa.api.grid.exception.GridException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -141,7 +142,8 @@ public class GridValidator {
     public void validateLayer(String layer) {
         if (layer == null || layer.isBlank()) return;
 
-        String normalized = layer.toUpperCase();
+        // 복원 레이어(RESTORED_{레이어})는 원본 레이어 기준으로 검증
+        String normalized = RestoredLayer.baseLayer(layer).toUpperCase();
         if (!isValidLayer(normalized)) {
             throw new GridException(
                     GridException.ErrorCode.LAYER_NOT_FOUND,
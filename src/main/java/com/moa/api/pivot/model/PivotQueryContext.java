@@ -1,6 +1,7 @@
 // 작성자: 최이서
 package com.moa.api.pivot.model;
 
+import com.moa.api.data.util.RestoredLayer;
 import com.moa.api.pivot.dto.request.PivotQueryRequestDTO;
 import com.moa.api.pivot.repository.SqlSupport;
 import lombok.Getter;
@@ -19,6 +20,8 @@ public class PivotQueryContext {
     private final List<PivotQueryRequestDTO.FilterDef> filters;
     private final SqlSupport sqlSupport;
     private final MapSqlParameterSource params;
+    /** 아카이브 복원 테이블(RESTORED_{레이어}) 조회 여부 */
+    private final boolean restored;
 
     public PivotQueryContext(
             PivotLayer layer,
@@ -26,6 +29,17 @@ public class PivotQueryContext {
             TimeWindow timeWindow,
             List<PivotQueryRequestDTO.FilterDef> filters,
             SqlSupport sqlSupport
+    ) {
+        this(layer, timeField, timeWindow, filters, sqlSupport, false);
+    }
+
+    public PivotQueryContext(
+            PivotLayer layer,
+            String timeField,
+            TimeWindow timeWindow,
+            List<PivotQueryRequestDTO.FilterDef> filters,
+            SqlSupport sqlSupport,
+            boolean restored
     ) {
         this.layer = layer;
         this.timeField = (timeField == null || timeField.isBlank())
@@ -35,6 +49,7 @@ public class PivotQueryContext {
         this.filters = filters != null ? List.copyOf(filters) : Collections.emptyList();
         this.sqlSupport = sqlSupport;
         this.params = new MapSqlParameterSource();
+        this.restored = restored;
     }
 
     /** 기본 where (시간 + filters) */
@@ -55,7 +70,8 @@ public class PivotQueryContext {
         return sqlSupport.col(layer.getCode(), fieldKey);
     }
 
+    /** 조회 테이블 - 복원 레이어면 archive_restore 스키마의 테이블 (컬럼 구성은 원본과 같음) */
     public String table() {
-        return sqlSupport.table(layer.getCode());
+        return restored ? RestoredLayer.tableOf(layer) : sqlSupport.table(layer.getCode());
     }
 }
@@ -45,6 +45,7 @@ public interface PivotRepository {
     // 이건 아직 ctx 안 쓰고 있어도 OK — 공통 Top-N 유틸 느낌이면 그대로 둬도 됨
     List<String> findTopNDimensionValues(
             PivotLayer layer,
+            boolean restored,
             String field,
             PivotQueryRequestDTO.TopNDef topN,
             PivotQueryRequestDTO.ValueDef metric,
@@ -1,6 +1,7 @@
 // 작성자: 최이서
 package com.moa.api.pivot.repository;
 
+import com.moa.api.data.util.RestoredLayer;
 import com.moa.api.pivot.dto.request.DistinctValuesRequestDTO;
 import com.moa.api.pivot.dto.request.PivotQueryRequestDTO;
 import com.moa.api.pivot.dto.response.DistinctValuesResponseDTO;
@@ -184,6 +185,7 @@ public class PivotRepositoryImpl implements PivotRepository {
     @Override
     public List<String> findTopNDimensionValues(
             PivotLayer layer,
+            boolean restored,
             String field,
             PivotQueryRequestDTO.TopNDef topN,
             PivotQueryRequestDTO.ValueDef metric,
@@ -195,7 +197,7 @@ public class PivotRepositoryImpl implements PivotRepository {
         }
 
         String layerCode = layer.getCode();
-        String table = sql.table(layerCode);
+        String table = restored ? RestoredLayer.tableOf(layer) : sql.table(layerCode);
         String dimCol = sql.col(layerCode, field);
         String metricCol = sql.col(layerCode, metric.getField());
 
@@ -231,8 +233,8 @@ public class PivotRepositoryImpl implements PivotRepository {
             List<PivotQueryRequestDTO.FilterDef> filters,
             PivotQueryRequestDTO.TimeDef timeDef
     ) {
-        // 1) 레이어 매핑
-        PivotLayer layer = PivotLayer.from(layerCode);
+        // 1) 레이어 매핑 (RESTORED_{레이어} 별칭이면 복원 테이블 조회)
+        PivotLayer layer = PivotLayer.from(RestoredLayer.baseLayer(layerCode));
 
         // 2) 시간 컬럼 결정 (요청에 field 있으면 그거, 없으면 레이어 기본값)
         String timeField = null;
@@ -248,7 +250,8 @@ public class PivotRepositoryImpl implements PivotRepository {
                 timeField,
                 tw,
                 filters,
-                sql       // 기존 SqlSupport
+                sql,      // 기존 SqlSupport
+                RestoredLayer.isRestored(layerCode)
         );
     }
 
@@ -21,6 +21,7 @@ public class DefaultTopNResolver implements TopNResolver {
     @Override
     public List<PivotQueryRequestDTO.FilterDef> resolveFilters(
             PivotLayer layer,
+            boolean restored,
             List<PivotQueryRequestDTO.ValueDef> values,
             List<PivotQueryRequestDTO.FilterDef> filters,
             TimeWindow tw
@@ -80,6 +81,7 @@ public class DefaultTopNResolver implements TopNResolver {
             // Repo를 통해 상위/하위 N dimension 값 조회
             List<String> topNValues = pivotRepository.findTopNDimensionValues(
                     layer,
+                    restored,
                     original.getField(),
                     topN,
                     metricDef,
@@ -1,6 +1,7 @@
 // 작성자: 최이서
 package com.moa.api.pivot.service;
 
+import com.moa.api.data.util.RestoredLayer;
 import com.moa.api.pivot.dto.request.*;
 import com.moa.api.pivot.dto.response.*;
 import com.moa.api.pivot.model.PivotFieldMeta;
@@ -24,7 +25,7 @@ public class PivotService {
     private final TopNResolver topNResolver;
 
     public PivotFieldsResponseDTO getFields(String layerRaw) {
-        PivotLayer layer = PivotLayer.from(layerRaw);
+        PivotLayer layer = PivotLayer.from(RestoredLayer.baseLayer(layerRaw));
         List<PivotFieldMeta> metaList = pivotRepository.findFieldMetaForLayer(layer);
 
         List<PivotFieldsResponseDTO.FieldMeta> fieldMetaList = metaList.stream()
@@ -54,7 +55,8 @@ public class PivotService {
     /* ===== 1) 피벗 실행 ===== */
     public PivotQueryResponseDTO runPivot(PivotQueryRequestDTO req) {
 
-        PivotLayer layer = PivotLayer.from(req.getLayer());
+        PivotLayer layer = PivotLayer.from(RestoredLayer.baseLayer(req.getLayer()));
+        boolean restored = RestoredLayer.isRestored(req.getLayer());
         TimeWindow tw = resolveTimeWindow(req.getTime());
 
         List<PivotQueryRequestDTO.ValueDef> valueDefs =
@@ -62,14 +64,15 @@ public class PivotService {
 
         // TopN 적용/치환된 필터
         List<PivotQueryRequestDTO.FilterDef> effectiveFilters =
-                topNResolver.resolveFilters(layer, valueDefs, req.getFilters(), tw);
+                topNResolver.resolveFilters(layer, restored, valueDefs, req.getFilters(), tw);
 
         PivotQueryContext ctx = new PivotQueryContext(
                 layer,
                 req.getTime() != null ? req.getTime().getField() : null,
                 tw,
                 effectiveFilters,
-                sqlSupport
+                sqlSupport,
+                restored
         );
 
         String columnFieldName = (req.getColumn() != null) ? req.getColumn().getField() : null;
@@ -122,18 +125,20 @@ public class PivotService {
     /* ===== 3) 특정 RowGroup의 subRows ===== */
     public RowGroupItemsResponseDTO getRowGroupItems(RowGroupItemsRequestDTO req) {
 
-        PivotLayer layer = PivotLayer.from(req.getLayer());
+        PivotLayer layer = PivotLayer.from(RestoredLayer.baseLayer(req.getLayer()));
+        boolean restored = RestoredLayer.isRestored(req.getLayer());
         TimeWindow tw = resolveTimeWindow(req.getTime());
 
         List<PivotQueryRequestDTO.FilterDef> effectiveFilters =
-                topNResolver.resolveFilters(layer, req.getValues(), req.getFilters(), tw);
+                topNResolver.resolveFilters(layer, restored, req.getValues(), req.getFilters(), tw);
 
         PivotQueryContext ctx = new PivotQueryContext(
                 layer,
                 req.getTime() != null ? req.getTime().getField() : null,
                 tw,
                 effectiveFilters,
-                sqlSupport
+                sqlSupport,
+                restored
         );
 
         String columnFieldName = (req.getColumn() != null)
@@ -11,9 +11,12 @@ public interface TopNResolver {
 
     /**
      * Pivot 필터들 중에서 TopN이 활성화된 필터를 실제 IN 필터로 치환한 리스트를 반환
+     *
+     * @param restored 복원 테이블(RESTORED_{레이어}) 기준으로 TopN 값을 구할지 여부
      */
     List<PivotQueryRequestDTO.FilterDef> resolveFilters(
             PivotLayer layer,
+            boolean restored,
             List<PivotQueryRequestDTO.ValueDef> values,
             List<PivotQueryRequestDTO.FilterDef> filters,
             TimeWindow tw
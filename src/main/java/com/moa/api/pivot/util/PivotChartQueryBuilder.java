@@ -184,7 +184,7 @@ public class PivotChartQueryBuilder {
     ) {
         String layerKey = ctx.getLayer().name();
 
-        String table      = sqlSupport.table(layerKey);
+        String table      = ctx.table();
         String rowColumn  = sqlSupport.col(layerKey, req.getRowField());
         String timeColumn = resolveTimeColumn(layerKey, req.getTimeField());
         String metricCol  = sqlSupport.col(layerKey, req.getMetric().getField());
@@ -47,7 +47,7 @@ public class PivotQueryBuilder {
             DistinctValuesRequestDTO req
     ) {
         String layerKey = layerKey(ctx);
-        String table = sqlSupport.table(layerKey);
+        String table = ctx.table();
         String col   = sqlSupport.col(layerKey, req.getField());
 
         // 기본 where (시간 + 필터)
@@ -83,7 +83,7 @@ public class PivotQueryBuilder {
             int effectiveLimit
     ) {
         String layerKey = layerKey(ctx);
-        String table = sqlSupport.table(layerKey);
+        String table = ctx.table();
         String col   = sqlSupport.col(layerKey, req.getField());
 
         // 기본 where (시간 + 필터)
@@ -139,7 +139,7 @@ public class PivotQueryBuilder {
             String columnField
     ) {
         String layerKey = layerKey(ctx);
-        String table = sqlSupport.table(layerKey);
+        String table = ctx.table();
         String col   = sqlSupport.col(layerKey, columnField);
 
         var wc = whereBuilder.build(
@@ -171,7 +171,7 @@ public class PivotQueryBuilder {
     ) {
         String layerKey = ctx.getLayer().name();
 
-        String table      = sqlSupport.table(layerKey);
+        String table      = ctx.table();
         String rowColumn  = sqlSupport.col(layerKey, req.getRowField());
         String timeColumn = sqlSupport.col(layerKey, req.getTimeField());
         String metricCol  = sqlSupport.col(layerKey, req.getMetric().getField());
@@ -0,0 +1,34 @@
+/**
+ * 작성자: 정소영
+ * 설명: 검색 필드 메타 / 검색 형태 캐시를 비우는 내부 API 컨트롤러
+ */
+package com.moa.api.search.controller;
+
+import com.moa.api.search.service.SearchExecuteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/internal/search-cache")
+@RequiredArgsConstructor
+public class InternalSearchCacheController {
+
+    private final SearchExecuteService executeService;
+
+    /**
+     * _fields 메타 테이블을 바꾼 뒤 호출 (table 이 없으면 전체)
+     * - 필드 메타 캐시와 컴파일된 검색 형태 캐시를 함께 비움
+     */
+    @PostMapping("/invalidate")
+    public ResponseEntity<Map<String, Object>> invalidate(@RequestParam(required = false) String table) {
+        log.info("🔵 내부 API: 검색 캐시 초기화 table={}", table);
+
+        executeService.invalidate(table);
+        return ResponseEntity.ok(Map.of("invalidated", table == null ? "ALL" : table));
+    }
+}
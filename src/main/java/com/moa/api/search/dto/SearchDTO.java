@@ -54,15 +54,27 @@ public class SearchDTO {
         private String order;    // ASC | DESC
         private Integer limit;   // 기본 100 (1~1000 가드)
         private Integer offset;
+        private Boolean seek;    // true 면 OFFSET 대신 커서(keyset) 페이지 (첫 페이지는 cursor 없이 요청)
+        private String cursor;   // 이전 응답의 nextCursor (있으면 seek 모드)
     }
 
     // 응답용 필드들
     private List<Map<String, Object>> rows;
     private Integer total; // 전체 건수
+    private String nextCursor; // seek 모드 다음 페이지 커서 (마지막 페이지면 null)
+    private Boolean totalApproximate; // true 면 total 은 실행 계획 추정치
+    private Boolean totalPending;     // true 면 정확한 건수를 백그라운드에서 계산 중 (countKey 로 조회)
+    private String countKey;          // 전체 건수 조회 키
 
     // 응답용 생성자
     public SearchDTO(List<Map<String, Object>> rows, Integer total) {
         this.rows = rows;
         this.total = total;
     }
+
+    public SearchDTO(List<Map<String, Object>> rows, Integer total, String nextCursor) {
+        this.rows = rows;
+        this.total = total;
+        this.nextCursor = nextCursor;
+    }
 }
\ No newline at end of file
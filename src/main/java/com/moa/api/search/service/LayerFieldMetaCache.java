@@ -0,0 +1,70 @@
+/**
+ * 작성자: 정소영
+ */
+package com.moa.api.search.service;
+
+import com.moa.api.search.entity.LayerFieldMeta;
+import com.moa.api.search.repository.LayerFieldMetaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 레이어 필드 메타(_fields 테이블) 메모리 캐시
+ *
+ * - 필드 키 → 데이터 타입 (검색 컬럼 화이트리스트 겸 템플릿 선택용)
+ * - 메타 테이블은 배포 / 수동 변경 때만 바뀌므로 만료 없이 보관하고 invalidate 로만 갱신
+ *   (/internal/search-cache/invalidate)
+ * - 조회 실패(빈 목록)는 캐시하지 않음 → 테이블이 생기거나 복구되면 다음 요청에서 다시 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LayerFieldMetaCache {
+
+    private final LayerFieldMetaRepository repository;
+
+    /** 메타 테이블 → (필드 키 → 데이터 타입) */
+    private final Map<String, Map<String, String>> fieldTypes = new ConcurrentHashMap<>();
+
+    /**
+     * 필드 키 → 데이터 타입 (메타 테이블 정렬 순서, 수정 불가)
+     */
+    public Map<String, String> fieldTypes(String fieldsTable) {
+        Map<String, String> cached = fieldTypes.get(fieldsTable);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<String, String> loaded = Collections.unmodifiableMap(repository.findAllByTableName(fieldsTable).stream()
+                .collect(Collectors.toMap(
+                        LayerFieldMeta::getFieldKey,
+                        LayerFieldMeta::getDataType,
+                        (a, b) -> a,
+                        LinkedHashMap::new
+                )));
+
+        if (!loaded.isEmpty()) {
+            fieldTypes.put(fieldsTable, loaded);
+            log.info("[LayerFieldMetaCache] Loaded {} fields from {}", loaded.size(), fieldsTable);
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시 제거 (fieldsTable 이 null 이면 전체)
+     */
+    public void invalidate(String fieldsTable) {
+        if (fieldsTable == null) {
+            fieldTypes.clear();
+        } else {
+            fieldTypes.remove(fieldsTable);
+        }
+    }
+}
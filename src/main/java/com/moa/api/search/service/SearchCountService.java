@@ -0,0 +1,273 @@
+/**
+ * 작성자: 정소영
+ */
+package com.moa.api.search.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moa.api.grid.config.GridProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 그리드 검색 전체 건수(COUNT) 서비스
+ *
+ * - 같은 조건(테이블 + WHERE + 바인딩 값)의 COUNT 는 countKey 하나로 묶어 캐시 / 실행 중 작업 공유
+ * - 정확한 COUNT 는 전용 searchCountExecutor 에서 실행하고 waitMillis 동안만 기다림
+ *   (풀이 가득 차면 COUNT 를 시작하지 않고 건수 없이 / 추정치로 응답 - 요청 스레드에서 COUNT 하지 않음)
+ *   → 작은 조회는 기존처럼 페이지와 함께 정확한 건수를 받고, 큰 조회는 페이지를 먼저 받음
+ * - 기다리지 못한 경우 조회 기간이 넓으면(estimateAboveSeconds) 실행 계획의 예상 행 수를 추정치로 반환
+ * - 백그라운드 COUNT 가 끝나면 같은 조건의 다음 요청 / countKey 조회(/api/grid/search/count/{countKey})로 정확한 값을 받음
+ */
+@Slf4j
+@Service
+public class SearchCountService {
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final Executor executor;
+    private final GridProperties properties;
+    private final ObjectMapper om = new ObjectMapper();
+
+    /** 실행 중인 COUNT (countKey → Future) */
+    private final Map<String, CompletableFuture<Long>> runningCounts = new ConcurrentHashMap<>();
+
+    /** 완료된 COUNT (countKey → 결과) */
+    private final Map<String, CachedCount> countCache = new ConcurrentHashMap<>();
+
+    public SearchCountService(NamedParameterJdbcTemplate jdbc,
+                              @Qualifier("searchCountExecutor") Executor executor,
+                              GridProperties properties) {
+        this.jdbc = jdbc;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    /**
+     * COUNT 캐시 키 (테이블 + WHERE + 이름순 바인딩 값 SHA-256)
+     */
+    public static String countKey(String table, String where, MapSqlParameterSource params) {
+        StringBuilder content = new StringBuilder(table).append('\n').append(where.trim());
+        new TreeMap<>(params.getValues()).forEach((name, value) ->
+                content.append('\n').append(name).append('=').append(value));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    /**
+     * 원본 테이블 COUNT (캐시 → waitMillis 대기 → 넓은 기간이면 추정치)
+     *
+     * @param where WHERE 절 (" WHERE ..." 또는 빈 문자열, 별칭 t)
+     */
+    public Total total(String countKey, String table, String where, MapSqlParameterSource params,
+                       Long fromEpoch, Long toEpoch) {
+        CachedCount cached = countCache.get(countKey);
+        if (cached != null && !cached.isExpired(cacheMillis())) {
+            return Total.exact(cached.value());
+        }
+
+        CompletableFuture<Long> future = startCount(countKey, table, where, params);
+        try {
+            return Total.exact(future.get(properties.getCount().getWaitMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            log.debug("[SearchCount] COUNT still running, key={}", countKey);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                log.debug("[SearchCount] COUNT pool saturated, key={}", countKey);
+                Long estimate = isWideRange(fromEpoch, toEpoch) ? estimate(table, where, params) : null;
+                return estimate != null ? new Total(estimate, true, false) : Total.unknown();
+            }
+            log.warn("[SearchCount] COUNT failed, key={}: {}", countKey, e.getCause().getMessage());
+            return Total.unknown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Total.unknown();
+        }
+
+        if (isWideRange(fromEpoch, toEpoch)) {
+            Long estimate = estimate(table, where, params);
+            if (estimate != null) {
+                return new Total(estimate, true, true);
+            }
+        }
+        return new Total(null, false, true);
+    }
+
+    /**
+     * 캐시에 없으면 COUNT 를 백그라운드에서 미리 시작 (페이지 조회와 동시에 실행되도록)
+     */
+    public void prefetch(String countKey, String table, String where, MapSqlParameterSource params) {
+        CachedCount cached = countCache.get(countKey);
+        if (cached == null || cached.isExpired(cacheMillis())) {
+            startCount(countKey, table, where, params);
+        }
+    }
+
+    /**
+     * 아카이브를 합친 관계 COUNT - 임시 테이블은 조회 트랜잭션 안에서만 보이므로 동기 실행 후 캐시
+     */
+    public Total exact(String countKey, String source, String where, MapSqlParameterSource params) {
+        CachedCount cached = countCache.get(countKey);
+        if (cached != null && !cached.isExpired(cacheMillis())) {
+            return Total.exact(cached.value());
+        }
+        long value = count(source, where, params);
+        cache(countKey, value);
+        return Total.exact(value);
+    }
+
+    /**
+     * countKey 로 COUNT 상태 조회 (모르는 키면 null)
+     */
+    public Total lookup(String countKey) {
+        CachedCount cached = countCache.get(countKey);
+        if (cached != null && !cached.isExpired(cacheMillis())) {
+            return Total.exact(cached.value());
+        }
+        if (runningCounts.containsKey(countKey)) {
+            return new Total(null, false, true);
+        }
+        return null;
+    }
+
+    /**
+     * 같은 키의 실행 중 COUNT 가 있으면 재사용, 없으면 새로 시작
+     * - 요청 스레드가 params 에 정렬/페이지 값을 계속 추가하므로 복사본으로 실행
+     * - 실행기가 거부하면 RejectedExecutionException 으로 완료된 future 반환 (실행 중 목록에는 남기지 않음)
+     */
+    private CompletableFuture<Long> startCount(String countKey, String table, String where,
+                                               MapSqlParameterSource params) {
+        CompletableFuture<Long> running = runningCounts.get(countKey);
+        if (running != null) {
+            return running;
+        }
+
+        CompletableFuture<Long> created = new CompletableFuture<>();
+        running = runningCounts.putIfAbsent(countKey, created);
+        if (running != null) {
+            return running;
+        }
+
+        MapSqlParameterSource snapshot = copy(params);
+        try {
+            executor.execute(() -> {
+                long start = System.currentTimeMillis();
+                try {
+                    long value = count(table, where, snapshot);
+                    cache(countKey, value);
+                    log.debug("[SearchCount] COUNT={} in {}ms, key={}", value, System.currentTimeMillis() - start, countKey);
+                    created.complete(value);
+                } catch (Exception e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    runningCounts.remove(countKey, created);
+                }
+            });
+        } catch (RuntimeException e) {
+            runningCounts.remove(countKey, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private long count(String source, String where, MapSqlParameterSource params) {
+        Long value = jdbc.queryForObject("SELECT COUNT(*) FROM " + source + " t " + where, params, Long.class);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * 실행 계획의 예상 행 수 (테이블 통계 기반, 실패하면 null)
+     */
+    private Long estimate(String table, String where, MapSqlParameterSource params) {
+        try {
+            String plan = jdbc.queryForObject("EXPLAIN (FORMAT JSON) SELECT 1 FROM " + table + " t " + where,
+                    params, String.class);
+            JsonNode rows = om.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? rows.asLong() : null;
+        } catch (Exception e) {
+            log.debug("[SearchCount] estimate failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isWideRange(Long fromEpoch, Long toEpoch) {
+        if (fromEpoch == null) {
+            return true;
+        }
+        long to = toEpoch != null ? toEpoch : System.currentTimeMillis() / 1000;
+        return to - fromEpoch >= properties.getCount().getEstimateAboveSeconds();
+    }
+
+    /**
+     * 결과 캐시 - 최대 개수를 넘으면 만료 항목부터, 그래도 넘으면 가장 오래된 항목 제거
+     */
+    private void cache(String countKey, long value) {
+        countCache.put(countKey, new CachedCount(value, System.currentTimeMillis()));
+
+        int max = properties.getCount().getMaxCachedCounts();
+        if (countCache.size() > max) {
+            long ttl = cacheMillis();
+            countCache.values().removeIf(c -> c.isExpired(ttl));
+            if (countCache.size() > max) {
+                countCache.entrySet().stream()
+                        .min(Map.Entry.comparingByValue((a, b) -> Long.compare(a.createdAt(), b.createdAt())))
+                        .ifPresent(oldest -> countCache.remove(oldest.getKey(), oldest.getValue()));
+            }
+        }
+    }
+
+    private long cacheMillis() {
+        return TimeUnit.SECONDS.toMillis(properties.getCount().getCacheSeconds());
+    }
+
+    private static MapSqlParameterSource copy(MapSqlParameterSource params) {
+        MapSqlParameterSource copy = new MapSqlParameterSource();
+        for (String name : params.getParameterNames()) {
+            copy.addValue(name, params.getValue(name), params.getSqlType(name));
+        }
+        return copy;
+    }
+
+    private record CachedCount(long value, long createdAt) {
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - createdAt > ttlMillis;
+        }
+    }
+
+    /**
+     * 전체 건수
+     *
+     * @param value       건수 (모르면 null)
+     * @param approximate true 면 실행 계획 추정치
+     * @param pending     true 면 정확한 COUNT 가 백그라운드에서 실행 중
+     */
+    public record Total(Long value, boolean approximate, boolean pending) {
+
+        static Total exact(long value) {
+            return new Total(value, false, false);
+        }
+
+        static Total unknown() {
+            return new Total(null, false, false);
+        }
+    }
+}
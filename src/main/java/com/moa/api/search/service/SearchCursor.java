@@ -0,0 +1,119 @@
+/**
+ * 작성자: 정소영
+ */
+package com.moa.api.search.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.Base64;
+
+/**
+ * 그리드 검색 seek(keyset) 페이지 커서
+ *
+ * - 이전 페이지 마지막 행의 정렬 값 + row_key(동순위 구분) 를 담아 다음 페이지를 WHERE 조건으로 이어 읽음
+ *   → OFFSET 없이 인덱스 순서대로 읽으므로 몇 번째 페이지든 비용이 같음
+ * - 클라이언트에는 base64url(JSON) 문자열로만 전달 (형식은 서버 내부용)
+ * - 정렬 값은 문자열로 보관하고 타입 미지정(Types.OTHER)으로 바인딩
+ *   → Postgres 가 비교 대상 컬럼 타입으로 해석하므로 컬럼을 캐스팅하지 않음 (인덱스 사용 가능)
+ *
+ * @param orderBy 커서를 만든 정렬 컬럼 (다른 정렬로 재사용하면 거부)
+ * @param order   ASC | DESC
+ * @param value   마지막 행의 정렬 값 (NULL 이면 null)
+ * @param rowKey  마지막 행의 row_key
+ */
+public record SearchCursor(String orderBy, String order, String value, String rowKey) {
+
+    /** 동순위 구분 컬럼 (샘플 테이블 공통 키) */
+    public static final String ROW_KEY = "row_key";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * 마지막 행으로 커서 생성
+     */
+    public static SearchCursor after(String orderBy, String order, Object value, Object rowKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("CURSOR_ROW_KEY_MISSING");
+        }
+        return new SearchCursor(orderBy, order, sortValue(value), rowKey.toString());
+    }
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("cursor encode failed", e);
+        }
+    }
+
+    public static SearchCursor decode(String token) {
+        try {
+            SearchCursor cursor = MAPPER.readValue(
+                    new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8), SearchCursor.class);
+            if (cursor.orderBy() == null || cursor.order() == null || cursor.rowKey() == null) {
+                throw new IllegalArgumentException("missing fields");
+            }
+            return cursor;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("INVALID_CURSOR", e);
+        }
+    }
+
+    /**
+     * 커서 값 바인딩 (:seekValue, :seekKey)
+     */
+    public void bind(MapSqlParameterSource params) {
+        params.addValue("seekKey", rowKey, Types.OTHER);
+        if (value != null) {
+            params.addValue("seekValue", value, Types.OTHER);
+        }
+    }
+
+    /**
+     * 커서 이후 행 조건 (ORDER BY t.{column} {order}, t.row_key {order} 기준, 값은 :seekValue / :seekKey)
+     *
+     * - 행 값 비교 (t.col, t.row_key) < (:v, :k) 에 단일 컬럼 범위 조건을 함께 붙여
+     *   정렬 컬럼 단독 인덱스로도 범위 탐색이 되도록 함
+     * - NULL 정렬 위치는 Postgres 기본값 (DESC: 맨 앞, ASC: 맨 뒤)
+     * - SQL 은 값이 아니라 (컬럼, 정렬 방향, 값이 NULL 인지) 로만 정해지므로 검색 형태 캐시에 그대로 보관
+     *
+     * @param column    검증된 정렬 컬럼명
+     * @param nullValue 커서의 정렬 값이 NULL 인지
+     */
+    public static String predicate(String column, String order, boolean nullValue) {
+        boolean desc = "DESC".equals(order);
+        String cmp = desc ? "<" : ">";
+        String col = "t." + column;
+        String key = "t." + ROW_KEY;
+
+        if (ROW_KEY.equals(column)) {
+            return key + " " + cmp + " :seekKey";
+        }
+
+        if (nullValue) {
+            String nullsRest = "(" + col + " IS NULL AND " + key + " " + cmp + " :seekKey)";
+            return desc ? "(" + nullsRest + " OR " + col + " IS NOT NULL)" : nullsRest;
+        }
+
+        String seek = col + " " + cmp + "= :seekValue AND (" + col + ", " + key + ") " + cmp + " (:seekValue, :seekKey)";
+        return desc ? "(" + seek + ")" : "((" + seek + ") OR " + col + " IS NULL)";
+    }
+
+    /**
+     * 정렬 값 → 문자열 (Postgres 입력 형식으로 다시 해석 가능한 표현)
+     * - Timestamp.toString 은 JDBC 세션 시간대 기준 시각이므로 timestamp / timestamptz 모두 그대로 왕복
+     */
+    static String sortValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+}
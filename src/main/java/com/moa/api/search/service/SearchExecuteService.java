@@ -3,156 +3,459 @@
  */
 package com.moa.api.search.service;
 
+import com.moa.api.data.service.ArchiveQueryService;
+import com.moa.api.grid.config.GridProperties;
+import com.moa.api.data.util.RestoredLayer;
 import com.moa.api.search.dto.SearchDTO;
-import com.moa.api.search.repository.LayerFieldMetaRepository;
-import com.moa.api.search.entity.LayerFieldMeta;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.EmptyResultDataAccessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import com.moa.api.search.registry.DataType;
 import com.moa.api.search.registry.OpCode;
 
+/**
+ * 검색 실행 서비스
+ *
+ * 검색 형태(Shape) 캐시
+ * - 레이어 / 컬럼 / 조건 구조(join, field, op) / 정렬 / 페이지 방식처럼 SQL 을 결정하는 값만으로 키를 만들고
+ *   (조건 값, 기간 값, limit/offset, 커서 값 제외) SQL 텍스트 + 바인딩 목록(CompiledSearch)을 재사용
+ * - 같은 형태의 검색은 템플릿 치환 / 문자열 조립 없이 값만 바인딩 → SQL 텍스트가 매번 같으므로
+ *   JDBC 드라이버의 서버 측 prepared statement 도 커넥션별로 재사용됨 (pgjdbc prepareThreshold)
+ * - 필드 메타는 LayerFieldMetaCache 에 보관, 메타가 바뀌면 invalidate 로 두 캐시를 함께 비움
+ *
+ * 조회 컬럼
+ * - SELECT * 없이 SearchProjection 이 정한 컬럼(보이는 컬럼 + 정렬 컬럼 + 상세 패널 키)만 조회
+ * - 나중에 여는 컬럼은 fetchColumns 로 row_key 기준 조회
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchExecuteService {
 
     private final NamedParameterJdbcTemplate jdbc;
-    private final LayerFieldMetaRepository fieldMetaRepo;
+    private final LayerFieldMetaCache fieldMetaCache;
+    private final ArchiveQueryService archiveQueryService;
+    private final SearchCountService countService;
+    private final GridProperties gridProperties;
+
+    /** 아카이브를 합친 조회의 COUNT 캐시 키 구분자 (원본만 조회한 건수와 구분) */
+    private static final String ARCHIVE_COUNT_SUFFIX = ".archive";
+
+    /** seek 모드에서 커서 생성용으로 덧붙이는 컬럼 별칭 */
+    private static final String SEEK_VALUE = "seek_sort_value";
+    private static final String SEEK_KEY = "seek_row_key";
+
+    /** 보관할 최대 검색 형태 수 (넘으면 가장 오래 쓰이지 않은 형태부터 제거) */
+    static final int MAX_COMPILED_SEARCHES = 512;
+
+    /** 검색 형태 → 컴파일 결과 (LRU) */
+    private final Map<Shape, CompiledSearch> compiledSearches = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Shape, CompiledSearch> eldest) {
+                    return size() > MAX_COMPILED_SEARCHES;
+                }
+            });
 
     public SearchDTO execute(SearchDTO req) {
-        System.out.println("[SearchExecuteService] execute 시작");
+        BoundSearch bound = bind(req);
+
+        return withSource(bound, source -> {
+            List<Map<String, Object>> rows = jdbc.queryForList(bound.sql(source), bound.params());
+
+            String nextCursor = null;
+            if (bound.search().seek()) {
+                nextCursor = nextCursor(rows, bound.limit(), bound.search().orderBy(), bound.search().order());
+            }
 
+            log.debug("[SearchExecuteService] rows={}", rows.size());
+
+            SearchDTO out = summary(bound, source, nextCursor);
+            out.setRows(rows);
+            return out;
+        });
+    }
+
+    /**
+     * 검색 결과를 행 Map 없이 ResultSet 에서 바로 sink 로 전달 (컬럼형 스트리밍 응답용)
+     *
+     * - 요청 검증 / 컴파일은 sink 에 아무것도 쓰기 전에 끝남 (검증 오류는 일반 오류 응답으로 처리 가능)
+     * - 행은 ResultSet 에서 읽은 값을 그대로 sink.row 로 넘기고, 건수 / 다음 커서는 마지막에 sink.finish 로 전달
+     */
+    public void stream(SearchDTO req, RowSink sink) throws IOException {
+        BoundSearch bound = bind(req);
+
+        try {
+            withSource(bound, source -> {
+                String nextCursor = jdbc.query(bound.sql(source), bound.params(),
+                        (ResultSetExtractor<String>) rs -> writeRows(rs, bound, sink));
+                try {
+                    sink.finish(summary(bound, source, nextCursor));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 컬럼형 결과 수신자
+     */
+    public interface RowSink {
+
+        /** 결과 컬럼명 (행 값 순서) */
+        void columns(List<String> names) throws IOException;
+
+        /** 현재 행의 1 ~ columnCount 번째 값 */
+        void row(ResultSet rs, int columnCount) throws SQLException, IOException;
+
+        /** 행을 모두 보낸 뒤 건수 / 다음 커서 (rows 는 null) */
+        void finish(SearchDTO summary) throws IOException;
+    }
+
+    /**
+     * 요청 → 컴파일된 검색 + 바인딩 값
+     */
+    private BoundSearch bind(SearchDTO req) {
         // 1) 기본값/가드
         String layer = Optional.ofNullable(req.getLayer())
                 .filter(StringUtils::hasText)
                 .orElse("HTTP_PAGE");
-        System.out.println("  - layer: " + layer);
+        SearchDTO.TimeSpec time = Objects.requireNonNull(req.getTime(), "time is required");
+        SearchDTO.Options options = Optional.ofNullable(req.getOptions()).orElseGet(SearchDTO.Options::new);
+
+        SearchCursor after = StringUtils.hasText(options.getCursor()) ? SearchCursor.decode(options.getCursor()) : null;
+
+        // 2) 같은 형태의 검색이면 컴파일 결과 재사용
+        CompiledSearch compiled = compiled(layer, req, options, after);
+
+        if (after != null && (!after.orderBy().equals(compiled.orderBy()) || !after.order().equals(compiled.order()))) {
+            throw new IllegalArgumentException("CURSOR_ORDER_MISMATCH: " + after.orderBy() + " " + after.order());
+        }
+
+        // 3) 값 바인딩 (WHERE 값 → 전체 건수 키 → 커서 / 페이지 값)
+        MapSqlParameterSource params = compiled.bindWhere(req);
+        String countKey = SearchCountService.countKey(compiled.dataTable(), compiled.where(), params);
+
+        int limit = Math.max(1, Math.min(1000, Optional.ofNullable(options.getLimit()).orElse(100)));
+        if (compiled.seek()) {
+            if (after != null) {
+                after.bind(params);
+            }
+            params.addValue("limit", limit + 1);      // 다음 페이지 유무 확인용 1행 더 조회
+        } else {
+            params.addValue("limit", limit);
+            params.addValue("offset", Math.max(0, Optional.ofNullable(options.getOffset()).orElse(0)));
+        }
+
+        log.debug("[SearchExecuteService] layer={}, table={}, params={}", layer, compiled.dataTable(), params.getValues());
+
+        return new BoundSearch(compiled, params, countKey, limit, time.getFromEpoch(), time.getToEpoch());
+    }
+
+    /**
+     * 검색 형태 → 컴파일 결과 (캐시에 없으면 컴파일 후 보관)
+     */
+    private CompiledSearch compiled(String layer, SearchDTO req, SearchDTO.Options options, SearchCursor after) {
+        Shape shape = Shape.of(layer, req, options, after);
+        CompiledSearch compiled = compiledSearches.get(shape);
+        if (compiled == null) {
+            compiled = compile(layer, req, options, after);
+            compiledSearches.put(shape, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * 검색 요청의 조회 컬럼 (응답 컬럼 메타 구성용, seek 모드 커서 컬럼 제외)
+     */
+    public List<String> projection(SearchDTO req) {
+        String layer = Optional.ofNullable(req.getLayer())
+                .filter(StringUtils::hasText)
+                .orElse("HTTP_PAGE");
+        Objects.requireNonNull(req.getTime(), "time is required");
+        SearchDTO.Options options = Optional.ofNullable(req.getOptions()).orElseGet(SearchDTO.Options::new);
+        SearchCursor after = StringUtils.hasText(options.getCursor()) ? SearchCursor.decode(options.getCursor()) : null;
+
+        return compiled(layer, req, options, after).columns();
+    }
 
+    /**
+     * row_key 로 추가 컬럼 조회 (그리드에서 나중에 여는 컬럼 / 상세 패널용)
+     *
+     * - 원본(또는 복원) 테이블만 조회 - 아카이브로 옮겨진 행은 결과에 없음
+     * - 컬럼은 필드 메타 화이트리스트로 검증, 비어 있으면 화이트리스트 전체
+     *
+     * @return row_key 를 포함한 행 목록 (순서는 보장하지 않음)
+     */
+    public List<Map<String, Object>> fetchColumns(String layer, List<String> columns, List<String> rowKeys) {
+        String resolvedLayer = Optional.ofNullable(layer).filter(StringUtils::hasText).orElse("HTTP_PAGE");
+        if (rowKeys == null || rowKeys.isEmpty()) {
+            throw new IllegalArgumentException("EMPTY_ROW_KEYS");
+        }
+        int maxRows = gridProperties.getProjection().getMaxLazyRows();
+        if (rowKeys.size() > maxRows) {
+            throw new IllegalArgumentException("TOO_MANY_ROW_KEYS: " + rowKeys.size() + " > " + maxRows);
+        }
+
+        String dataTable = resolveTableFromLayer(resolvedLayer);
+        Map<String, String> fieldTypeMap = fieldMetaCache.fieldTypes(resolveFieldsTableFromLayer(resolvedLayer));
+
+        Set<String> select = new LinkedHashSet<>();
+        select.add(SearchCursor.ROW_KEY);
+        if (columns == null || columns.isEmpty()) {
+            select.addAll(fieldTypeMap.keySet());
+        } else {
+            columns.stream()
+                    .filter(c -> !SearchCursor.ROW_KEY.equals(c))
+                    .map(c -> safeColumn(c, fieldTypeMap))
+                    .forEach(select::add);
+        }
+
+        String sql = select.stream().map(c -> "t." + c).collect(Collectors.joining(", ", "SELECT ", ""))
+                + " FROM " + dataTable + " t WHERE t." + SearchCursor.ROW_KEY + " IN (:rowKeys)";
+
+        log.debug("[SearchExecuteService] fetchColumns table={}, columns={}, rows={}", dataTable, select.size(), rowKeys.size());
+        return jdbc.queryForList(sql, new MapSqlParameterSource("rowKeys", new ArrayList<>(new LinkedHashSet<>(rowKeys))));
+    }
+
+    /**
+     * 조회 기간이 보관 기간을 넘으면 아카이브(S3)까지 합친 관계로 query 실행
+     * - 원본만 조회하면 전체 건수는 페이지 조회와 동시에 백그라운드에서 시작
+     */
+    private <T> T withSource(BoundSearch bound, Function<String, T> query) {
+        CompiledSearch search = bound.search();
+        return archiveQueryService.withArchive(search.dataTable(), search.timeField(), bound.fromEpoch(), bound.toEpoch(), source -> {
+            if (bound.liveOnly(source)) {
+                countService.prefetch(bound.countKey(), search.dataTable(), search.where(), bound.params());
+            }
+            return query.apply(source);
+        });
+    }
+
+    /**
+     * 건수 / 다음 커서 응답 (rows 제외)
+     * - 총 건수: 캐시 → 짧게 대기 → (넓은 기간) 추정치, 아카이브를 합친 조회는 동기 COUNT
+     */
+    private SearchDTO summary(BoundSearch bound, String source, String nextCursor) {
+        CompiledSearch search = bound.search();
+        boolean liveOnly = bound.liveOnly(source);
+        String countKey = liveOnly ? bound.countKey() : bound.countKey() + ARCHIVE_COUNT_SUFFIX;
+
+        SearchCountService.Total total = liveOnly
+                ? countService.total(countKey, search.dataTable(), search.where(), bound.params(), bound.fromEpoch(), bound.toEpoch())
+                : countService.exact(countKey, source, search.where(), bound.params());
+
+        SearchDTO out = new SearchDTO(null, toInteger(total.value()), nextCursor);
+        out.setTotalApproximate(total.approximate());
+        out.setTotalPending(total.pending());
+        out.setCountKey(countKey);
+        return out;
+    }
+
+    /**
+     * ResultSet → sink (seek 모드면 덧붙인 커서 컬럼 2개는 보내지 않고 다음 커서만 계산)
+     */
+    private static String writeRows(ResultSet rs, BoundSearch bound, RowSink sink) throws SQLException {
+        boolean seek = bound.search().seek();
+        ResultSetMetaData meta = rs.getMetaData();
+        int columnCount = meta.getColumnCount();
+        int dataColumns = seek ? columnCount - 2 : columnCount;
+
+        try {
+            List<String> names = new ArrayList<>(dataColumns);
+            for (int i = 1; i <= dataColumns; i++) {
+                names.add(JdbcUtils.lookupColumnName(meta, i));
+            }
+            sink.columns(names);
+
+            int written = 0;
+            Object lastValue = null;
+            Object lastKey = null;
+            while (rs.next()) {
+                if (seek && written == bound.limit()) {
+                    // limit + 1 번째 행 → 다음 페이지 있음
+                    return SearchCursor.after(bound.search().orderBy(), bound.search().order(), lastValue, lastKey).encode();
+                }
+                sink.row(rs, dataColumns);
+                if (seek) {
+                    lastValue = JdbcUtils.getResultSetValue(rs, columnCount - 1);
+                    lastKey = JdbcUtils.getResultSetValue(rs, columnCount);
+                }
+                written++;
+            }
+            log.debug("[SearchExecuteService] streamed rows={}", written);
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 필드 메타 / 검색 형태 캐시 비우기 (fieldsTable 이 null 이면 전체)
+     * - 형태 캐시는 필드 타입에 따라 템플릿이 달라지므로 항상 전체를 비움
+     */
+    public void invalidate(String fieldsTable) {
+        fieldMetaCache.invalidate(fieldsTable);
+        compiledSearches.clear();
+        log.info("[SearchExecuteService] Search caches invalidated: {}", fieldsTable == null ? "ALL" : fieldsTable);
+    }
+
+    /**
+     * 검색 형태 → SQL 텍스트 + 바인딩 목록
+     * - 필드 / 연산자 / 정렬 컬럼 검증도 여기서 수행 (검증에 실패한 형태는 캐시되지 않음)
+     */
+    private CompiledSearch compile(String layer, SearchDTO req, SearchDTO.Options options, SearchCursor after) {
         // layer 기반 테이블명 매핑
         String dataTable = resolveTableFromLayer(layer);
         String fieldsTable = resolveFieldsTableFromLayer(layer);
-        System.out.println("  - dataTable: " + dataTable);
-        System.out.println("  - fieldsTable: " + fieldsTable);
 
-        SearchDTO.TimeSpec time = Objects.requireNonNull(req.getTime(), "time is required");
+        SearchDTO.TimeSpec time = req.getTime();
         String timeField = Optional.ofNullable(time.getField()).filter(StringUtils::hasText).orElse("ts_server_nsec");
         boolean inclusive = Optional.ofNullable(time.getInclusive()).orElse(true);
 
-        System.out.println("  - timeField: " + timeField);
-        System.out.println("  - fromEpoch: " + time.getFromEpoch());
-        System.out.println("  - toEpoch: " + time.getToEpoch());
-        System.out.println("  - columns: " + req.getColumns());
-        System.out.println("  - conditions: " + req.getConditions());
-
-        // 2) 레이어별 필드,데이터타입 맵(화이트리스트) -> SQL인젝션 방지
-        Map<String, String> fieldTypeMap = fieldMetaRepo.findAllByTableName(fieldsTable).stream()
-                .collect(Collectors.toMap(
-                        LayerFieldMeta::getFieldKey,
-                        LayerFieldMeta::getDataType,
-                        (a, b) -> a,
-                        LinkedHashMap::new
-                ));
-
-        System.out.println("  - 로드된 필드 수: " + fieldTypeMap.size());
-        System.out.println("  - 필드 목록: " + fieldTypeMap.keySet());
-
-        // 3) WHERE절 생성
+        // 레이어별 필드,데이터타입 맵(화이트리스트) -> SQL인젝션 방지
+        Map<String, String> fieldTypeMap = fieldMetaCache.fieldTypes(fieldsTable);
+
+        // WHERE절 생성
         StringBuilder where = new StringBuilder();
-        MapSqlParameterSource params = new MapSqlParameterSource();
 
-        // 3-1) 기간 조건
-        if (time.getFromEpoch() != null) {
+        // 기간 조건
+        boolean hasFrom = time.getFromEpoch() != null;
+        boolean hasTo = time.getToEpoch() != null;
+        if (hasFrom) {
             where.append(where.length() == 0 ? " WHERE " : " AND ");
             where.append(" t.").append(safeColumn(timeField, fieldTypeMap));
             where.append(inclusive ? " >= :fromEpoch " : " > :fromEpoch ");
-            params.addValue("fromEpoch", time.getFromEpoch());
         }
-        if (time.getToEpoch() != null) {
+        if (hasTo) {
             where.append(where.length() == 0 ? " WHERE " : " AND ");
             where.append(" t.").append(safeColumn(timeField, fieldTypeMap));
             where.append(inclusive ? " <= :toEpoch " : " < :toEpoch ");
-            params.addValue("toEpoch", time.getToEpoch());
         }
 
-        // 3-2) 조건들
-        String condSql = buildConditionsSql(req, fieldTypeMap, params);
+        // 조건들
+        List<Binding> bindings = new ArrayList<>();
+        String condSql = buildConditionsSql(req, fieldTypeMap, bindings);
         if (StringUtils.hasText(condSql)) {
             where.append(where.length() == 0 ? " WHERE " : " AND ");
-            if (req.getNot()) {
+            if (Boolean.TRUE.equals(req.getNot())) {
                 where.append(" NOT ( ").append(condSql).append(" ) ");
             } else {
                 where.append(" ( ").append(condSql).append(" ) ");
             }
         }
 
-        // 4) ORDER/LIMIT
-        String orderBy = Optional.ofNullable(req.getOptions()).map(SearchDTO.Options::getOrderBy).orElse("ts_server_nsec");
-        String order = Optional.ofNullable(req.getOptions()).map(SearchDTO.Options::getOrder).orElse("DESC");
-        int limit = Optional.ofNullable(req.getOptions()).map(SearchDTO.Options::getLimit).orElse(100);
-        limit = Math.max(1, Math.min(1000, limit));
-        int offset = Optional.ofNullable(req.getOptions()).map(SearchDTO.Options::getOffset).orElse(0);
-        offset = Math.max(0, offset);
-
-        orderBy = safeColumn(orderBy, fieldTypeMap);
-        order = "ASC".equalsIgnoreCase(order) ? "ASC" : "DESC";
-
-        // SELECT 절 생성
-        String selectClause;
-        if (req.getColumns() != null && !req.getColumns().isEmpty()) {
-            String cols = req.getColumns().stream()
-                    .map(c -> "t." + safeColumn(c, fieldTypeMap))
-                    .collect(Collectors.joining(", "));
-            selectClause = "SELECT " + cols;
+        // ORDER
+        String orderBy = safeColumn(Optional.ofNullable(options.getOrderBy()).orElse("ts_server_nsec"), fieldTypeMap);
+        String order = "ASC".equalsIgnoreCase(options.getOrder()) ? "ASC" : "DESC";
+        boolean seek = after != null || Boolean.TRUE.equals(options.getSeek());
+
+        // SELECT 절 생성 (보이는 컬럼 + 정렬 컬럼 + 상세 패널 키만)
+        List<String> visible = req.getColumns() == null ? List.of()
+                : req.getColumns().stream().map(c -> safeColumn(c, fieldTypeMap)).toList();
+        String baseLayer = RestoredLayer.baseLayer(layer).toUpperCase(Locale.ROOT);
+        GridProperties.Projection projection = gridProperties.getProjection();
+        List<String> columns = SearchProjection.plan(visible,
+                projection.getDefaultColumns().getOrDefault(baseLayer, List.of()),
+                fieldTypeMap.keySet(), orderBy,
+                projection.getDetailKeys().getOrDefault(baseLayer, List.of()));
+        String selectClause = columns.stream()
+                .map(c -> "t." + c)
+                .collect(Collectors.joining(", ", "SELECT ", ""));
+
+        String sqlTail;
+        if (seek) {
+            // seek 모드: 커서 이후 행만 조회 (OFFSET 없음)
+            // 컬럼 그대로 정렬 (캐스팅하면 인덱스를 못 씀) + row_key 로 동순위 구분
+            String seekWhere = after == null ? ""
+                    : (where.length() == 0 ? " WHERE " : " AND ")
+                    + SearchCursor.predicate(orderBy, order, after.value() == null) + " ";
+            selectClause += ", t." + orderBy + " AS " + SEEK_VALUE + ", t." + SearchCursor.ROW_KEY + " AS " + SEEK_KEY;
+            sqlTail = where + seekWhere +
+                    " ORDER BY t." + orderBy + " " + order +
+                    (SearchCursor.ROW_KEY.equals(orderBy) ? "" : ", t." + SearchCursor.ROW_KEY + " " + order) +
+                    " LIMIT :limit";
         } else {
-            selectClause = "SELECT *";
+            String orderExpr = switch (fieldTypeMap.getOrDefault(orderBy, "TEXT").toUpperCase()) {
+                case "NUMBER" -> "t." + orderBy + "::numeric";
+                case "DATETIME" -> "t." + orderBy;
+                default -> "t." + orderBy + "::text";
+            };
+
+            sqlTail = where +
+                    " ORDER BY " + orderExpr + " " + order +
+                    " LIMIT :limit OFFSET :offset";
         }
 
-        String orderExpr = switch (fieldTypeMap.getOrDefault(orderBy, "TEXT").toUpperCase()) {
-            case "NUMBER" -> "t." + orderBy + "::numeric";
-            case "DATETIME" -> "t." + orderBy;
-            default -> "t." + orderBy + "::text";
-        };
-
-        String sql = selectClause + " FROM " + dataTable + " t " +
-                where +
-                " ORDER BY " + orderExpr + " " + order +
-                " LIMIT :limit OFFSET :offset";
+        CompiledSearch compiled = new CompiledSearch(dataTable, timeField, where.toString(), columns, selectClause, sqlTail,
+                selectClause + " FROM " + dataTable + " t " + sqlTail, orderBy, order, seek, hasFrom, hasTo,
+                List.copyOf(bindings));
 
-        System.out.println("📝 [SearchExecuteService] 생성된 SQL:");
-        System.out.println(sql);
-        System.out.println("  - 파라미터: " + params.getValues());
+        log.debug("[SearchExecuteService] Compiled search shape: {}", compiled.liveSql());
+        return compiled;
+    }
 
-        params.addValue("limit", limit);
-        params.addValue("offset", offset);
+    /**
+     * countKey 로 전체 건수 조회 (백그라운드 COUNT 완료 여부 확인용, 모르는 키면 null)
+     */
+    public SearchCountService.Total findCount(String countKey) {
+        return countService.lookup(countKey);
+    }
 
-        List<Map<String, Object>> rows = jdbc.queryForList(sql, params);
+    private static Integer toInteger(Long value) {
+        return value == null ? null : (int) Math.min(Integer.MAX_VALUE, value);
+    }
 
-        System.out.println("[SearchExecuteService] 조회 결과: " + rows.size() + "건");
-        if (!rows.isEmpty()) {
-            System.out.println("  - 첫 번째 row: " + rows.get(0));
+    /**
+     * seek 모드 결과 정리 → 다음 페이지 커서
+     * - pageSize + 1 행을 조회했으므로 넘치는 1행이 있으면 다음 페이지가 있음
+     * - 커서용으로 덧붙인 컬럼은 응답 행에서 제거
+     */
+    private static String nextCursor(List<Map<String, Object>> rows, int pageSize, String orderBy, String order) {
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows.subList(pageSize, rows.size()).clear();
         }
 
-        // (선택) 총 건수
-        Integer total = null;
-        try {
-            String cntSql = "SELECT COUNT(*) FROM " + dataTable + " t " + where;
-            total = jdbc.queryForObject(cntSql, params, Integer.class);
-        } catch (EmptyResultDataAccessException ignore) {}
-
-        return new SearchDTO(rows, total);
+        String next = null;
+        if (hasMore) {
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            next = SearchCursor.after(orderBy, order, last.get(SEEK_VALUE), last.get(SEEK_KEY)).encode();
+        }
+        for (Map<String, Object> row : rows) {
+            row.remove(SEEK_VALUE);
+            row.remove(SEEK_KEY);
+        }
+        return next;
     }
 
     /**
      * layer 값에 따라 데이터 테이블명 매핑
-     * _sample 테이블 조회
+     * _sample 테이블 조회 (RESTORED_{레이어} 는 아카이브 복원 테이블)
      */
     private String resolveTableFromLayer(String layer) {
+        String restored = RestoredLayer.resolveTable(layer);
+        if (restored != null) {
+            return restored;
+        }
         return switch (layer.toUpperCase(Locale.ROOT)) {
             case "HTTP_PAGE" -> "http_page_sample";
             case "HTTP_URI" -> "http_uri_sample";
@@ -164,10 +467,10 @@ public class SearchExecuteService {
 
     /**
      * layer 값에 따라 필드 메타 테이블명 매핑
-     * _fields 테이블 조회
+     * _fields 테이블 조회 (복원 레이어는 원본 레이어 기준)
      */
     private String resolveFieldsTableFromLayer(String layer) {
-        return switch (layer.toUpperCase(Locale.ROOT)) {
+        return switch (RestoredLayer.baseLayer(layer).toUpperCase(Locale.ROOT)) {
             case "HTTP_PAGE" -> "http_page_fields";
             case "HTTP_URI" -> "http_uri_fields";
             case "TCP" -> "tcp_fields";
@@ -176,15 +479,16 @@ public class SearchExecuteService {
         };
     }
 
-    /** 조건들 SQL 생성 (join/템플릿/바인딩 처리) */
+    /** 조건들 SQL 생성 (join/템플릿 처리, 값은 bindings 로 나중에 바인딩) */
     private String buildConditionsSql(SearchDTO req,
                                       Map<String, String> fieldTypeMap,
-                                      MapSqlParameterSource params) {
+                                      List<Binding> bindings) {
         if (req.getConditions() == null || req.getConditions().isEmpty()) return "";
 
         List<String> parts = new ArrayList<>();
         int idx = 0;
-        for (SearchDTO.Condition c : req.getConditions()) {
+        for (int position = 0; position < req.getConditions().size(); position++) {
+            SearchDTO.Condition c = req.getConditions().get(position);
             String field = c.getField();
             if (!StringUtils.hasText(field)) continue;
             String dataType = fieldTypeMap.get(field);
@@ -198,22 +502,20 @@ public class SearchExecuteService {
             String tpl = templateOf(dataType, op);
             String clause = tpl.replace("${f}", "t." + safeColumn(field, fieldTypeMap));
 
-            List<Object> values = Optional.ofNullable(c.getValues()).orElse(List.of());
             if (clause.contains(":v1")) {
                 String name = "v1_" + idx;
                 clause = clause.replace(":v1", ":" + name);
-                params.addValue(name, castValue(dataType, values.size() > 0 ? values.get(0) : null));
+                bindings.add(new Binding(name, position, 0, dataType));
             }
             if (clause.contains(":v2")) {
                 String name = "v2_" + idx;
                 clause = clause.replace(":v2", ":" + name);
-                params.addValue(name, castValue(dataType, values.size() > 1 ? values.get(1) : null));
+                bindings.add(new Binding(name, position, 1, dataType));
             }
             if (clause.contains(":list")) {
                 String name = "list_" + idx;
                 clause = clause.replace(":list", ":" + name);
-                List<Object> casted = values.stream().map(v -> castValue(dataType, v)).toList();
-                params.addValue(name, casted);
+                bindings.add(new Binding(name, position, Binding.LIST, dataType));
             }
 
             String join = (idx == 0) ? null : Optional.ofNullable(c.getJoin()).orElse("AND");
@@ -239,7 +541,7 @@ public class SearchExecuteService {
         };
     }
 
-    private DataType parseType(String raw) {
+    private static DataType parseType(String raw) {
         if (raw == null) return DataType.TEXT;
         try { return DataType.valueOf(raw.trim().toUpperCase(Locale.ROOT)); }
         catch (Exception e) { return DataType.TEXT; }
@@ -326,7 +628,7 @@ public class SearchExecuteService {
     }
 
     /** 간단 캐스팅 */
-    private Object castValue(String dataType, Object raw) {
+    private static Object castValue(String dataType, Object raw) {
         if (raw == null) return null;
         DataType dt = parseType(dataType);
         return switch (dt) {
@@ -345,4 +647,94 @@ public class SearchExecuteService {
             default -> raw.toString();
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색 형태 키 - SQL 텍스트를 결정하는 값만 포함 (조건 값 / 기간 값 / limit / offset / 커서 값 제외)
+     *
+     * @param conditions 조건별 [join, field, op]
+     * @param cursor     0: 커서 없음, 1: 커서 정렬 값이 NULL, 2: 커서 정렬 값 있음
+     */
+    record Shape(String layer, String timeField, Boolean inclusive, boolean hasFrom, boolean hasTo, boolean not,
+                 List<String> columns, List<List<String>> conditions,
+                 String orderBy, String order, boolean seek, int cursor) {
+
+        static Shape of(String layer, SearchDTO req, SearchDTO.Options options, SearchCursor after) {
+            SearchDTO.TimeSpec time = req.getTime();
+            List<List<String>> conditions = req.getConditions() == null ? List.of()
+                    : req.getConditions().stream()
+                    .map(c -> Arrays.asList(c.getJoin(), c.getField(), c.getOp()))
+                    .toList();
+            return new Shape(layer, time.getField(), time.getInclusive(),
+                    time.getFromEpoch() != null, time.getToEpoch() != null, Boolean.TRUE.equals(req.getNot()),
+                    req.getColumns() == null ? List.of() : new ArrayList<>(req.getColumns()), conditions,
+                    options.getOrderBy(), options.getOrder(), Boolean.TRUE.equals(options.getSeek()),
+                    after == null ? 0 : after.value() == null ? 1 : 2);
+        }
+    }
+
+    /**
+     * 조건 값 바인딩 위치
+     *
+     * @param position   요청 conditions 목록의 위치
+     * @param valueIndex values 의 몇 번째 값인지 (LIST 면 values 전체)
+     */
+    record Binding(String name, int position, int valueIndex, String dataType) {
+        static final int LIST = -1;
+    }
+
+    /**
+     * 컴파일된 검색 (SQL 텍스트 + 바인딩 목록)
+     *
+     * @param where   WHERE 절 (COUNT 와 공유, 커서 조건 제외)
+     * @param columns 조회 컬럼 (SearchProjection, 커서 컬럼 제외)
+     * @param liveSql 원본 테이블 조회 SQL (아카이브를 합칠 때는 sql(source) 로 FROM 만 바꿈)
+     */
+    record CompiledSearch(String dataTable, String timeField, String where, List<String> columns,
+                          String selectClause, String sqlTail,
+                          String liveSql, String orderBy, String order, boolean seek,
+                          boolean hasFrom, boolean hasTo, List<Binding> bindings) {
+
+        String sql(String source) {
+            return selectClause + " FROM " + source + " t " + sqlTail;
+        }
+
+        /**
+         * 기간 / 조건 값 바인딩
+         */
+        MapSqlParameterSource bindWhere(SearchDTO req) {
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            if (hasFrom) {
+                params.addValue("fromEpoch", req.getTime().getFromEpoch());
+            }
+            if (hasTo) {
+                params.addValue("toEpoch", req.getTime().getToEpoch());
+            }
+            for (Binding binding : bindings) {
+                List<Object> values = Optional.ofNullable(req.getConditions().get(binding.position()).getValues())
+                        .orElse(List.of());
+                if (binding.valueIndex() == Binding.LIST) {
+                    params.addValue(binding.name(), values.stream().map(v -> castValue(binding.dataType(), v)).toList());
+                } else {
+                    Object raw = values.size() > binding.valueIndex() ? values.get(binding.valueIndex()) : null;
+                    params.addValue(binding.name(), castValue(binding.dataType(), raw));
+                }
+            }
+            return params;
+        }
+    }
+
+    /**
+     * 컴파일된 검색 + 이번 요청의 바인딩 값
+     */
+    record BoundSearch(CompiledSearch search, MapSqlParameterSource params, String countKey, int limit,
+                       Long fromEpoch, Long toEpoch) {
+
+        boolean liveOnly(String source) {
+            return source.equals(search.dataTable());
+        }
+
+        String sql(String source) {
+            return liveOnly(source) ? search.liveSql() : search.sql(source);
+        }
+    }
+}
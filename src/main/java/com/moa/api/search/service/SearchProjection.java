@@ -0,0 +1,54 @@
+/**
+ * 작성자: 정소영
+ */
+package com.moa.api.search.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 그리드 검색 조회 컬럼(projection) 계획
+ *
+ * - SELECT * 대신 화면에 필요한 컬럼만 조회: 보이는 그리드 컬럼 + 정렬 컬럼 + 상세 패널 키(row_key 포함)
+ * - 보이는 컬럼이 없으면 레이어 기본 컬럼(GridProperties.projection.defaultColumns),
+ *   설정이 없거나 쓸 수 있는 컬럼이 없으면 최소 컬럼(수신 시각 + 정렬 컬럼 + row_key)만 조회
+ * - 나중에 여는 컬럼은 row_key 로 따로 조회 (SearchExecuteService.fetchColumns)
+ */
+final class SearchProjection {
+
+    /** 기본 컬럼이 없을 때도 항상 조회하는 수신 시각 컬럼 */
+    static final String TS_COLUMN = "ts_server_nsec";
+
+    private SearchProjection() {
+    }
+
+    /**
+     * @param visible    검증된 요청 컬럼 (순서 유지)
+     * @param defaults   레이어 기본 컬럼 (화이트리스트에 없는 컬럼은 제외)
+     * @param whitelist  필드 메타 키
+     * @param orderBy    검증된 정렬 컬럼
+     * @param detailKeys 상세 패널 키 (화이트리스트에 없는 컬럼은 제외, row_key 는 항상 포함)
+     * @return 조회 컬럼 (중복 없음, 보이는 컬럼 → 정렬 컬럼 → 상세 패널 키 순)
+     */
+    static List<String> plan(List<String> visible, List<String> defaults, Collection<String> whitelist,
+                             String orderBy, List<String> detailKeys) {
+        Set<String> columns = new LinkedHashSet<>();
+
+        if (!visible.isEmpty()) {
+            columns.addAll(visible);
+        } else {
+            defaults.stream().filter(whitelist::contains).forEach(columns::add);
+            if (columns.isEmpty() && whitelist.contains(TS_COLUMN)) {
+                columns.add(TS_COLUMN);
+            }
+        }
+
+        columns.add(orderBy);
+        columns.add(SearchCursor.ROW_KEY);
+        detailKeys.stream().filter(whitelist::contains).forEach(columns::add);
+
+        return List.copyOf(columns);
+    }
+}
@@ -4,15 +4,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * S3 설정
  * ------------------------------------------------------------
- * - S3Client / S3Presigner 빈 생성
+ * - S3Client / S3Presigner / 파트 업로드 Executor 빈 생성
  * - AWS SDK v2 사용
  * - Region 및 CredentialsProvider 설정 주입
  *
@@ -65,4 +69,33 @@ public class S3Config {
 
         return presigner;
     }
+
+    /**
+     * 멀티파트 파트 업로드 스레드풀
+     * ------------------------------------------------------------
+     * - S3MultipartOutputStream 이 가득 찬 파트를 업로드할 때 사용
+     * - 큐 없이 스레드 수만큼만 동시에 실행, 모두 사용 중이면 기록 스레드가 직접 업로드
+     *   (스트림별 동시 파트 수는 S3MultipartOutputStream 이 별도로 제한)
+     *
+     * @param props S3 설정
+     * @return 파트 업로드 Executor
+     */
+    @Bean(name = "s3PartUploadExecutor")
+    public Executor s3PartUploadExecutor(S3Props props) {
+        int threads = props.getS3().getMultipart().getUploadThreads();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("s3-part-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        log.info("S3 part upload executor initialized: threads={}", threads);
+
+        return executor;
+    }
 }
@@ -0,0 +1,374 @@
+package com.moa.global.aws;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * S3 스트리밍 멀티파트 업로드 OutputStream
+ *
+ * 동작:
+ * - partSize 만큼 쌓이면 해당 파트를 executor 에서 업로드하고 다음 버퍼에 계속 기록
+ *   (임시 파일 없이, 데이터를 만드는 동안 업로드가 병렬로 진행됨)
+ * - 동시에 업로드 중인 파트는 최대 maxInFlightParts 개
+ *   → 메모리 사용량은 최대 (maxInFlightParts + 1) * partSize, 넘으면 write 가 대기
+ * - close(): 마지막 파트 업로드 후 CompleteMultipartUpload
+ *   (전체 크기가 partSize 미만이면 멀티파트 없이 PutObject 1회)
+ * - 파트 업로드 실패 시 이후 write / close 에서 IOException, 멀티파트 업로드는 abort
+ * - 데이터 생성 중 오류가 나면 abort() 로 업로드 취소 (객체가 만들어지지 않음)
+ *
+ * 체크섬 (SHA-256):
+ * - 파트마다 업로드 스레드에서 SHA-256 을 계산해 함께 전송 → S3 가 수신한 파트를 검증하고 객체에 기록
+ *   (파일을 다시 읽지 않고 기록하는 동안 한 번만 계산)
+ * - close() 후 getChecksumSha256(): S3 HeadObject(ChecksumMode.ENABLED) 가 돌려주는 값과 같은 형식
+ *   - 단일 PutObject: base64(SHA-256(객체))
+ *   - 멀티파트: base64(SHA-256(파트 SHA-256 을 순서대로 이은 값)) + "-" + 파트 수
+ *
+ * 스레드 안전하지 않음 (한 스레드에서 기록)
+ *
+ * AUTHOR        : 방대혁
+ */
+@Slf4j
+public class S3MultipartOutputStream extends OutputStream {
+
+    /** S3 최소 파트 크기 (마지막 파트 제외) */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final String contentDisposition;
+    private final int partSize;
+    private final Executor executor;
+    private final Semaphore inFlight;
+    private final int maxInFlightParts;
+
+    private final ConcurrentLinkedQueue<CompletedPart> completedParts = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private byte[] buffer;
+    private int position;
+    private int nextPartNumber = 1;
+    private long bytesWritten;
+    private String uploadId;
+    private boolean closed;
+    private String checksumSha256;
+
+    public S3MultipartOutputStream(S3Client s3,
+                                   String bucket,
+                                   String key,
+                                   String contentType,
+                                   String contentDisposition,
+                                   int partSize,
+                                   int maxInFlightParts,
+                                   Executor executor) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("partSize must be at least " + MIN_PART_SIZE + ": " + partSize);
+        }
+        if (maxInFlightParts <= 0) {
+            throw new IllegalArgumentException("maxInFlightParts must be positive: " + maxInFlightParts);
+        }
+
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.contentDisposition = contentDisposition;
+        this.partSize = partSize;
+        this.maxInFlightParts = maxInFlightParts;
+        this.inFlight = new Semaphore(maxInFlightParts);
+        this.executor = executor;
+        this.buffer = new byte[partSize];
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 지금까지 기록한 바이트 수
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * 업로드한 객체의 SHA-256 체크섬 (close() 정상 완료 전에는 null)
+     */
+    public String getChecksumSha256() {
+        return checksumSha256;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (position == partSize) {
+            flushPart();
+        }
+        buffer[position++] = (byte) b;
+        bytesWritten++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (position == partSize) {
+                flushPart();
+            }
+            int n = Math.min(len, partSize - position);
+            System.arraycopy(b, off, buffer, position, n);
+            position += n;
+            off += n;
+            len -= n;
+            bytesWritten += n;
+        }
+    }
+
+    /**
+     * 남은 데이터 업로드 후 객체 생성 완료
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            rethrowFailure();
+
+            if (uploadId == null) {
+                // partSize 미만 → 단일 PutObject
+                String checksum = base64(sha256(buffer, position));
+                s3.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentDisposition(contentDisposition)
+                        .checksumSHA256(checksum)
+                        .build(), body(buffer, position));
+                buffer = null;
+                checksumSha256 = checksum;
+                return;
+            }
+
+            if (position > 0) {
+                submitPart();
+            }
+            buffer = null;
+            awaitAllParts();
+            rethrowFailure();
+
+            List<CompletedPart> parts = new ArrayList<>(completedParts);
+            parts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+
+            checksumSha256 = compositeChecksum(parts);
+
+            log.debug("Multipart upload completed: key={}, parts={}, bytes={}", key, parts.size(), bytesWritten);
+
+        } catch (IOException | RuntimeException e) {
+            abortQuietly();
+            throw e instanceof IOException io ? io : new IOException("S3 upload failed: " + key, e);
+        }
+    }
+
+    /**
+     * 업로드 취소 (진행 중인 파트 대기 후 멀티파트 업로드 abort, 객체는 만들어지지 않음)
+     */
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer = null;
+        abortQuietly();
+    }
+
+    // ============================================
+    // 파트 업로드
+    // ============================================
+
+    private void flushPart() throws IOException {
+        if (uploadId == null) {
+            uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentDisposition(contentDisposition)
+                    .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                    .build()).uploadId();
+        }
+        submitPart();
+        buffer = new byte[partSize];
+        position = 0;
+    }
+
+    private void submitPart() throws IOException {
+        try {
+            inFlight.acquire();               // 업로드 중인 파트가 maxInFlightParts 개면 대기
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for part upload slot");
+        }
+        if (failure.get() != null) {
+            inFlight.release();
+            rethrowFailure();
+        }
+
+        int partNumber = nextPartNumber++;
+        byte[] data = buffer;
+        int length = position;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    String checksum = base64(sha256(data, length));
+                    String eTag = s3.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) length)
+                            .checksumSHA256(checksum)
+                            .build(), body(data, length)).eTag();
+                    completedParts.add(CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(eTag)
+                            .checksumSHA256(checksum)
+                            .build());
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw new IOException("Failed to schedule part upload: " + key, e);
+        }
+    }
+
+    private void awaitAllParts() throws IOException {
+        try {
+            inFlight.acquire(maxInFlightParts);
+            inFlight.release(maxInFlightParts);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for part uploads");
+        }
+    }
+
+    private void abortQuietly() {
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            awaitAllParts();
+        } catch (IOException ignore) {
+            // abort 는 계속 진행
+        }
+        try {
+            s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.debug("Multipart upload aborted: key={}", key);
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart upload: key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed: " + key);
+        }
+        rethrowFailure();
+    }
+
+    private void rethrowFailure() throws IOException {
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new IOException("S3 part upload failed: " + key, t);
+        }
+    }
+
+    // ============================================
+    // 체크섬
+    // ============================================
+
+    /**
+     * 멀티파트 객체 체크섬 (파트 체크섬의 체크섬 + "-" + 파트 수)
+     *
+     * @param parts 파트 번호 순으로 정렬된 파트
+     */
+    static String compositeChecksum(List<CompletedPart> parts) {
+        MessageDigest digest = newDigest();
+        for (CompletedPart part : parts) {
+            digest.update(Base64.getDecoder().decode(part.checksumSHA256()));
+        }
+        return base64(digest.digest()) + "-" + parts.size();
+    }
+
+    static byte[] sha256(byte[] data, int length) {
+        MessageDigest digest = newDigest();
+        digest.update(data, 0, length);
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    /**
+     * 복사 없이 버퍼를 그대로 전달 (SDK 재시도 시에도 새 스트림으로 처음부터 다시 읽음)
+     */
+    private static RequestBody body(byte[] data, int length) {
+        return RequestBody.fromContentProvider(
+                () -> new ByteArrayInputStream(data, 0, length), length, "application/octet-stream");
+    }
+}
@@ -1,6 +1,7 @@
 package com.moa.global.aws;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
@@ -78,6 +79,18 @@ public class S3Props {
          */
         private String prefix = "";
 
+        /**
+         * 스트리밍 멀티파트 업로드 설정
+         */
+        @Valid
+        private Multipart multipart = new Multipart();
+
+        /**
+         * Range GET 읽기 설정
+         */
+        @Valid
+        private RangeRead rangeRead = new RangeRead();
+
         /**
          * Prefix 정규화
          * - null → ""
@@ -91,4 +104,54 @@ public class S3Props {
             return trimmed.endsWith("/") ? trimmed : trimmed + "/";
         }
     }
+
+    /**
+     * 스트리밍 멀티파트 업로드 설정 (S3Uploader.openStream)
+     */
+    @Getter
+    @Setter
+    public static class Multipart {
+
+        /**
+         * 파트 크기 (MB, S3 최소 5MB)
+         */
+        @Min(value = 5, message = "멀티파트 파트 크기는 5MB 이상이어야 합니다.")
+        private int partSizeMb = 8;
+
+        /**
+         * 업로드 스트림 1개당 동시에 업로드할 수 있는 최대 파트 수
+         * - 스트림 1개의 메모리 사용량은 최대 (maxInFlightParts + 1) * partSizeMb
+         */
+        @Min(value = 1, message = "동시 업로드 파트 수는 1 이상이어야 합니다.")
+        private int maxInFlightParts = 4;
+
+        /**
+         * 파트 업로드 스레드 수 (전체 스트림 공유, 모두 사용 중이면 기록 스레드가 직접 업로드)
+         */
+        @Min(value = 1, message = "파트 업로드 스레드 수는 1 이상이어야 합니다.")
+        private int uploadThreads = 8;
+
+        public int getPartSizeBytes() {
+            return partSizeMb * 1024 * 1024;
+        }
+    }
+
+    /**
+     * Range GET 읽기 설정 (S3Uploader.openRangeChannel)
+     */
+    @Getter
+    @Setter
+    public static class RangeRead {
+
+        /**
+         * Range GET 1회로 가져올 블록 크기 (KB)
+         * - 클수록 요청 수가 줄고, 작을수록 건너뛰는 구간이 실제 전송에서 빠지는 단위가 세밀해짐
+         */
+        @Min(value = 64, message = "Range 읽기 블록 크기는 64KB 이상이어야 합니다.")
+        private int blockSizeKb = 4096;
+
+        public int getBlockSizeBytes() {
+            return blockSizeKb * 1024;
+        }
+    }
 }
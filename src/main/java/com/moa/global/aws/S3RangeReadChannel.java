@@ -0,0 +1,179 @@
+package com.moa.global.aws;
+
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * S3 객체 Range GET 읽기 채널 (읽기 전용 SeekableByteChannel)
+ *
+ * 동작:
+ * - 객체 전체를 내려받지 않고, 읽는 위치의 blockSize 블록만 Range GET 으로 가져옴
+ * - 마지막으로 가져온 블록 1개를 캐시 → 같은 블록 안의 연속/근접 읽기는 추가 요청 없음
+ * - 컬럼 포맷 파일처럼 footer 를 먼저 읽고 필요한 구간만 읽는 경우
+ *   건너뛴 구간은 전송되지 않음
+ *
+ * 스레드 안전하지 않음 (한 스레드에서 읽기)
+ *
+ * AUTHOR        : 방대혁
+ */
+public class S3RangeReadChannel implements SeekableByteChannel {
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String key;
+    private final int blockSize;
+    private final long size;
+
+    private long position;
+    private long blockStart = -1;
+    private byte[] block;
+    private int requestCount;
+    private long bytesFetched;
+    private boolean open = true;
+
+    public S3RangeReadChannel(S3Client s3, String bucket, String key, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.key = key;
+        this.blockSize = blockSize;
+        this.size = s3.headObject(HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build()).contentLength();
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 지금까지 보낸 Range GET 요청 수
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * 지금까지 S3 에서 받은 바이트 수
+     */
+    public long getBytesFetched() {
+        return bytesFetched;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        ensureOpen();
+        if (position >= size) {
+            return -1;
+        }
+
+        int total = 0;
+        while (dst.hasRemaining() && position < size) {
+            if (block == null || position < blockStart || position >= blockStart + block.length) {
+                fetchBlock(position);
+            }
+            int offset = (int) (position - blockStart);
+            int n = Math.min(dst.remaining(), block.length - offset);
+            dst.put(block, offset, n);
+            position += n;
+            total += n;
+        }
+        return total;
+    }
+
+    @Override
+    public long position() throws IOException {
+        ensureOpen();
+        return position;
+    }
+
+    @Override
+    public SeekableByteChannel position(long newPosition) throws IOException {
+        ensureOpen();
+        if (newPosition < 0) {
+            throw new IllegalArgumentException("Negative position: " + newPosition);
+        }
+        this.position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        ensureOpen();
+        return size;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+        block = null;
+    }
+
+    // ============================================
+    // Range GET
+    // ============================================
+
+    /**
+     * position 이 속한 블록 (blockSize 경계 정렬) 가져오기
+     */
+    private void fetchBlock(long position) throws IOException {
+        long start = position - position % blockSize;
+        long end = Math.min(size, start + blockSize) - 1;
+
+        try {
+            ResponseBytes<GetObjectResponse> bytes = s3.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=" + start + "-" + end)
+                    .build());
+
+            byte[] data = bytes.asByteArrayUnsafe();
+            if (data.length != end - start + 1) {
+                throw new IOException("Unexpected range length: key=" + key + ", range=" + start + "-" + end
+                        + ", received=" + data.length);
+            }
+
+            this.block = data;
+            this.blockStart = start;
+            this.requestCount++;
+            this.bytesFetched += data.length;
+
+        } catch (RuntimeException e) {
+            throw new IOException("S3 range read failed: " + key + " [" + start + "-" + end + "]", e);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+}
@@ -1,28 +1,36 @@
 package com.moa.global.aws;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.text.Normalizer;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * S3 업로드/다운로드/삭제 유틸리티
  *
  * 기능:
  * - 파일 업로드 (Content-Disposition 처리 포함)
+ * - 스트리밍 멀티파트 업로드 (임시 파일 없이 OutputStream 으로 기록)
+ * - 객체 읽기 (전체 스트림 / Range GET 채널)
+ * - 객체 메타 조회 (크기 / SHA-256 체크섬)
  * - 프리사인드 URL 생성 (GET)
  * - ASCII 안전 파일명 생성 (fallback)
  * - S3 객체 삭제
@@ -30,11 +38,22 @@ import java.time.Duration;
  * AUTHOR        : 방대혁
  */
 @Component
-@RequiredArgsConstructor
 public class S3Uploader {
 
     private final S3Client s3;
     private final S3Presigner presigner;
+    private final S3Props props;
+    private final Executor partUploadExecutor;
+
+    public S3Uploader(S3Client s3,
+                      S3Presigner presigner,
+                      S3Props props,
+                      @Qualifier("s3PartUploadExecutor") Executor partUploadExecutor) {
+        this.s3 = s3;
+        this.presigner = presigner;
+        this.props = props;
+        this.partUploadExecutor = partUploadExecutor;
+    }
 
     /**
      * 파일 업로드
@@ -45,23 +64,71 @@ public class S3Uploader {
      * @param contentType  MIME 타입
      */
     public void upload(String bucket, String key, Path file, String contentType) {
-        String original = file.getFileName().toString();
-        String ascii = safeAsciiName(original); // ASCII fallback
-        String encoded = URLEncoder.encode(original, StandardCharsets.UTF_8);
-
         PutObjectRequest req = PutObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
                 .contentType(contentType)
                 // 다운로드 시 브라우저에서 파일명 깨짐 방지
-                .contentDisposition(
-                        "attachment; filename=\"" + ascii + "\"; filename*=UTF-8''" + encoded
-                )
+                .contentDisposition(contentDisposition(file.getFileName().toString()))
                 .build();
 
         s3.putObject(req, RequestBody.fromFile(file));
     }
 
+    /**
+     * 스트리밍 업로드 스트림 열기
+     * - 기록한 내용은 파트 단위로 바로 업로드되고 close() 시 객체가 만들어짐
+     * - 기록 중 오류가 나면 호출자가 abort() 를 호출해야 함
+     *
+     * @param bucket       S3 버킷명
+     * @param key          객체 키
+     * @param fileName     다운로드 파일명 (Content-Disposition, null 이면 생략)
+     * @param contentType  MIME 타입
+     */
+    public S3MultipartOutputStream openStream(String bucket, String key, String fileName, String contentType) {
+        S3Props.Multipart multipart = props.getS3().getMultipart();
+
+        return new S3MultipartOutputStream(
+                s3,
+                bucket,
+                key,
+                contentType,
+                fileName != null ? contentDisposition(fileName) : null,
+                multipart.getPartSizeBytes(),
+                multipart.getMaxInFlightParts(),
+                partUploadExecutor
+        );
+    }
+
+    /**
+     * 객체 전체를 순차로 읽는 스트림 (호출자가 close)
+     */
+    public InputStream openInputStream(String bucket, String key) {
+        return s3.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+    }
+
+    /**
+     * 필요한 구간만 Range GET 으로 읽는 채널 (블록 크기: S3Props.s3.rangeRead)
+     */
+    public S3RangeReadChannel openRangeChannel(String bucket, String key) {
+        return new S3RangeReadChannel(s3, bucket, key, props.getS3().getRangeRead().getBlockSizeBytes());
+    }
+
+    /**
+     * 객체 메타 조회 (본문 없이 HEAD 1회)
+     * - ChecksumMode.ENABLED: 업로드 시 기록된 SHA-256 체크섬 포함 (checksumSHA256)
+     */
+    public HeadObjectResponse head(String bucket, String key) {
+        return s3.headObject(HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .checksumMode(ChecksumMode.ENABLED)
+                .build());
+    }
+
     /**
      * GET 프리사인드 URL 반환
      *
@@ -87,6 +154,15 @@ public class S3Uploader {
         return url.toString();
     }
 
+    /**
+     * Content-Disposition (ASCII fallback + RFC 5987 UTF-8 파일명)
+     */
+    private static String contentDisposition(String original) {
+        String ascii = safeAsciiName(original); // ASCII fallback
+        String encoded = URLEncoder.encode(original, StandardCharsets.UTF_8);
+        return "attachment; filename=\"" + ascii + "\"; filename*=UTF-8''" + encoded;
+    }
+
     /**
      * ASCII 안전 파일명 생성
      * - Unicode → ASCII 변환
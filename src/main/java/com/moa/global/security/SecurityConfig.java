@@ -4,6 +4,7 @@
 package com.moa.global.security;
 
 import com.moa.global.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,6 +46,8 @@ public class SecurityConfig {
                     // AWS Lambda 호출 api
                     .requestMatchers(HttpMethod.POST, "/api/chart-thumbnails").permitAll()
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                    // SSE(대시보드 스트리밍) 종료 시 비동기 디스패치 - 최초 요청에서 이미 인증됨
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     // data 전송 받는 api
                     .requestMatchers("/internal/**").permitAll()
                     .anyRequest().authenticated()
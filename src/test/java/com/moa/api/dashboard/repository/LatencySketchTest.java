@@ -0,0 +1,89 @@
+package com.moa.api.dashboard.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LatencySketch 테스트
+ */
+class LatencySketchTest {
+
+    @Test
+    void 분위수_상대오차_범위_이내() {
+        // given
+        Random random = new Random(42);
+        double[] values = new double[10_000];
+        LatencySketch sketch = new LatencySketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 1.5 + 5);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // when & then
+        for (double q : new double[]{0.5, 0.95, 0.99}) {
+            double expected = values[(int) Math.floor(q * (values.length - 1))];
+            assertThat(sketch.quantile(q))
+                    .isCloseTo(expected, within(expected * LatencySketch.RELATIVE_ACCURACY * 1.01));
+        }
+    }
+
+    @Test
+    void 분할_병합_결과는_전체_스케치와_동일() {
+        // given
+        LatencySketch whole = new LatencySketch();
+        LatencySketch first = new LatencySketch();
+        LatencySketch second = new LatencySketch();
+        for (int i = 1; i <= 1000; i++) {
+            whole.add((double) i);
+            (i % 3 == 0 ? first : second).add((double) i);
+        }
+
+        // when
+        first.merge(second);
+
+        // then
+        assertThat(first.getCount()).isEqualTo(1000);
+        assertThat(first.quantile(0.95)).isEqualTo(whole.quantile(0.95));
+        assertThat(first.quantile(0.99)).isEqualTo(whole.quantile(0.99));
+    }
+
+    @Test
+    void 직렬화_왕복() {
+        // given
+        LatencySketch sketch = new LatencySketch();
+        sketch.add(0.003);
+        sketch.add(1.5);
+        sketch.add(1.5);
+        sketch.add(2500.0);
+
+        // when
+        LatencySketch restored = LatencySketch.fromBytes(sketch.toBytes());
+
+        // then
+        assertThat(restored.getCount()).isEqualTo(4);
+        assertThat(restored.quantile(0.0)).isEqualTo(sketch.quantile(0.0));
+        assertThat(restored.quantile(0.5)).isEqualTo(sketch.quantile(0.5));
+        assertThat(restored.quantile(1.0)).isEqualTo(sketch.quantile(1.0));
+    }
+
+    @Test
+    void 영_이하_NULL_값은_제외() {
+        // given
+        LatencySketch sketch = new LatencySketch();
+
+        // when
+        sketch.add(null);
+        sketch.add(0.0);
+        sketch.add(-3.0);
+
+        // then
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.quantile(0.95)).isNull();
+        assertThat(LatencySketch.fromBytes(null).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,128 @@
+package com.moa.api.dashboard.service;
+
+import com.moa.api.dashboard.config.DashboardProperties;
+import com.moa.api.dashboard.dto.request.DashboardRequestDTO;
+import com.moa.api.dashboard.dto.response.TrafficTrendResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DashboardBucketCache 테스트
+ */
+class DashboardBucketCacheTest {
+
+    private DashboardProperties properties;
+    private DashboardBucketCache cache;
+    private List<long[]> loadedRanges;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DashboardProperties();
+        cache = new DashboardBucketCache(properties);
+        loadedRanges = new ArrayList<>();
+    }
+
+    private List<TrafficTrendResponseDTO> load(long from, long to) {
+        loadedRanges.add(new long[]{from, to});
+        List<TrafficTrendResponseDTO> rows = new ArrayList<>();
+        for (long t = from; t < to; t += 60) {
+            rows.add(new TrafficTrendResponseDTO(new Timestamp(t * 1000), 1.0, 1.0, 1L, 1L));
+        }
+        return rows;
+    }
+
+    private List<TrafficTrendResponseDTO> get(long from, long to) {
+        return cache.getOrLoad("trafficTrend", "", 60, from, to,
+                TrafficTrendResponseDTO::timestamp, this::load);
+    }
+
+    @Test
+    void getOrLoad_같은_구간_재조회시_DB_조회_없음() {
+        // given
+        get(6000, 6600);
+
+        // when
+        List<TrafficTrendResponseDTO> result = get(6000, 6600);
+
+        // then
+        assertThat(result).hasSize(10);
+        assertThat(loadedRanges).hasSize(1);
+        assertThat(cache.getCacheStats().hits()).isEqualTo(10);
+        assertThat(cache.getCacheStats().misses()).isEqualTo(10);
+    }
+
+    @Test
+    void getOrLoad_슬라이딩_윈도우는_새_버킷만_조회() {
+        // given
+        get(6000, 6600);
+
+        // when
+        List<TrafficTrendResponseDTO> result = get(6120, 6720);
+
+        // then
+        assertThat(result).hasSize(10);
+        assertThat(result.get(0).timestamp().getTime()).isEqualTo(6120_000L);
+        assertThat(result.get(9).timestamp().getTime()).isEqualTo(6660_000L);
+        assertThat(loadedRanges).hasSize(2);
+        assertThat(loadedRanges.get(1)).containsExactly(6600, 6720);
+    }
+
+    @Test
+    void getOrLoad_용량_초과시_오래된_버킷_제거() {
+        // given: 버킷당 가중치 2 (행 1 + 1), 최대 10 → 버킷 5개까지 유지
+        properties.getCache().setMaxRows(10);
+
+        // when
+        get(6000, 6600);
+
+        // then
+        assertThat(cache.getCacheStats().buckets()).isEqualTo(5);
+        assertThat(cache.getCacheStats().evictions()).isEqualTo(5);
+
+        // 최근 버킷은 캐시에서, 제거된 버킷은 다시 조회
+        get(6300, 6600);
+        assertThat(loadedRanges).hasSize(1);
+        get(6000, 6060);
+        assertThat(loadedRanges).hasSize(2);
+    }
+
+    @Test
+    void evict_구간과_겹치는_버킷만_제거하고_다시_조회() {
+        // given: 1분 버킷 10개 + 5분 버킷 2개
+        get(6000, 6600);
+        cache.getOrLoad("latency", "", 300, 6000, 6600, TrafficTrendResponseDTO::timestamp, this::load);
+        long rowsBefore = cache.getCacheStats().rows();
+
+        // when: [6130, 6300) → 1분 버킷 6120, 6180, 6240 + 5분 버킷 6000
+        int evicted = cache.evict(6130, 6300);
+
+        // then
+        assertThat(evicted).isEqualTo(4);
+        assertThat(cache.getCacheStats().buckets()).isEqualTo(8);
+        assertThat(cache.getCacheStats().rows()).isEqualTo(rowsBefore - 3 * 2 - (5 + 1));
+
+        loadedRanges.clear();
+        assertThat(get(6000, 6600)).hasSize(10);
+        assertThat(loadedRanges).hasSize(1);
+        assertThat(loadedRanges.get(0)).containsExactly(6120, 6300);
+    }
+
+    @Test
+    void filterKey_목록_순서와_무관하게_같은_키() {
+        // given
+        DashboardRequestDTO.DashboardFilters a = new DashboardRequestDTO.DashboardFilters();
+        a.setCountries(List.of("Korea", "USA"));
+        DashboardRequestDTO.DashboardFilters b = new DashboardRequestDTO.DashboardFilters();
+        b.setCountries(List.of("USA", "Korea"));
+
+        // then
+        assertThat(DashboardBucketCache.filterKey(a)).isEqualTo(DashboardBucketCache.filterKey(b));
+        assertThat(DashboardBucketCache.filterKey(a)).isNotEqualTo(DashboardBucketCache.filterKey(null));
+    }
+}
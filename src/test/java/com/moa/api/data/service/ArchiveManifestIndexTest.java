@@ -0,0 +1,102 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import com.moa.api.data.repository.ArchiveManifestRepository;
+import com.moa.api.data.repository.ArchiveManifestRepository.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ArchiveManifestIndex 테스트 (DB 대신 고정 목록 사용)
+ */
+class ArchiveManifestIndexTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 9, 1, 0, 0);
+    private static final String TABLE = "http_page_sample";
+
+    @Test
+    void 범위_조회_결과가_전체_비교와_같음() {
+        // given: 1시간 청크 1,000개 (ts_server_nsec 범위는 청크 안쪽 일부)
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            entries.add(entry("k-" + i, BASE.plusHours(i), 60, 300 + (i % 7) * 100));
+        }
+        ArchiveManifestIndex index = index(entries);
+
+        // when / then
+        Random random = new Random(42);
+        double base = epoch(BASE);
+        for (int q = 0; q < 500; q++) {
+            double from = base + random.nextInt(1_000 * 3_600);
+            double to = from + random.nextInt(10 * 3_600);
+
+            List<Entry> expected = entries.stream()
+                    .filter(e -> e.maxTsServerNsec() >= from && e.minTsServerNsec() <= to)
+                    .toList();
+
+            assertThat(index.find(TABLE, from, to)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void nsec_범위가_없으면_청크_구간으로_조회() {
+        // given
+        Entry withoutStats = new Entry(TABLE, "bucket", "no-stats", "CSV",
+                BASE, BASE.plusHours(1), null, null, 10, 100, null, List.of(), BASE);
+        ArchiveManifestIndex index = index(List.of(withoutStats));
+
+        // when / then
+        assertThat(index.find(TABLE, epoch(BASE) + 1_800, epoch(BASE) + 1_900)).containsExactly(withoutStats);
+        assertThat(index.find(TABLE, epoch(BASE.plusHours(2)), null)).isEmpty();
+        assertThat(index.find(TABLE, null, epoch(BASE.minusHours(1)))).isEmpty();
+        assertThat(index.find("tcp_sample", null, null)).isEmpty();
+    }
+
+    @Test
+    void 같은_키를_다시_기록하면_범위가_교체됨() {
+        // given
+        ArchiveManifestIndex index = index(List.of(entry("k", BASE, 60, 600)));
+
+        // when: 같은 청크를 다시 올려 범위가 바뀜
+        index.put(entry("k", BASE.plusDays(1), 60, 600));
+
+        // then
+        assertThat(index.size(TABLE)).isEqualTo(1);
+        assertThat(index.find(TABLE, epoch(BASE), epoch(BASE.plusHours(1)))).isEmpty();
+        assertThat(index.find(TABLE, epoch(BASE.plusDays(1)), epoch(BASE.plusDays(1).plusHours(1))))
+                .extracting(Entry::s3Key)
+                .containsExactly("k");
+    }
+
+    private static ArchiveManifestIndex index(List<Entry> entries) {
+        ArchiveManifestRepository repository = new ArchiveManifestRepository(null) {
+            @Override
+            public List<Entry> findArchivedSince(LocalDateTime since) {
+                return since == null ? entries : List.of();
+            }
+        };
+        return new ArchiveManifestIndex(repository, new ArchiveProperties());
+    }
+
+    /**
+     * chunkMinutes 청크 안에서 시작 1분 뒤부터 spanSeconds 동안의 행을 담은 객체
+     */
+    private static Entry entry(String key, LocalDateTime chunkStart, int chunkMinutes, int spanSeconds) {
+        double min = epoch(chunkStart) + 60;
+        return new Entry(TABLE, "bucket", key, "COLUMNAR",
+                chunkStart, chunkStart.plusMinutes(chunkMinutes),
+                min, min + spanSeconds, 1_000, 10_000, null, List.of("row_key", "ts_server", "ts_server_nsec"), BASE);
+    }
+
+    private static double epoch(LocalDateTime time) {
+        return time.atZone(ZONE_ID).toEpochSecond();
+    }
+}
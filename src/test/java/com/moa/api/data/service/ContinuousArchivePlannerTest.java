@@ -0,0 +1,81 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.ArchiveProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ContinuousArchivePlanner 테스트
+ */
+class ContinuousArchivePlannerTest {
+
+    private static final String TABLE = "http_page_sample";
+
+    private ArchiveProperties properties;
+    private ContinuousArchivePlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArchiveProperties();
+        properties.setChunkMinutes(60);
+        properties.getContinuous().setTargetRowsPerSecond(2_000);
+        properties.getContinuous().setSliceSeconds(10);
+        properties.getContinuous().setMinSliceMinutes(1);
+        planner = new ContinuousArchivePlanner(properties);
+    }
+
+    @Test
+    void 처음에는_최소_슬라이스() {
+        assertThat(planner.nextSlice(TABLE)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void 분당_행_수에_맞춰_슬라이스_크기_결정() {
+        // given: 분당 1,000행 → 목표 20,000행 = 20분
+        planner.record(TABLE, Duration.ofMinutes(1), 1_000);
+
+        // when / then
+        assertThat(planner.nextSlice(TABLE)).isEqualTo(Duration.ofMinutes(20));
+    }
+
+    @Test
+    void 트래픽이_늘면_슬라이스가_줄어듦() {
+        // given
+        planner.record(TABLE, Duration.ofMinutes(1), 1_000);
+        Duration before = planner.nextSlice(TABLE);
+
+        // when: 분당 10,000행 슬라이스가 이어짐
+        for (int i = 0; i < 10; i++) {
+            planner.record(TABLE, Duration.ofMinutes(2), 20_000);
+        }
+
+        // then
+        assertThat(planner.nextSlice(TABLE)).isLessThan(before);
+        assertThat(planner.nextSlice(TABLE)).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    @Test
+    void 슬라이스는_청크_크기를_넘지_않고_하루의_약수로_내림() {
+        // 빈 구간 → 최대(청크 크기)
+        planner.record(TABLE, Duration.ofMinutes(5), 0);
+        assertThat(planner.nextSlice(TABLE)).isEqualTo(Duration.ofMinutes(60));
+
+        assertThat(ContinuousArchivePlanner.floorToDayDivisor(7)).isEqualTo(6);
+        assertThat(ContinuousArchivePlanner.floorToDayDivisor(50)).isEqualTo(48);
+        assertThat(ContinuousArchivePlanner.floorToDayDivisor(0)).isEqualTo(1);
+    }
+
+    @Test
+    void 목표_처리량을_넘으면_남은_시간만큼_대기() {
+        // 20,000행 = 목표 처리량으로 10초
+        assertThat(planner.pauseMillis(20_000, 4_000)).isEqualTo(6_000);
+        assertThat(planner.pauseMillis(20_000, 12_000)).isZero();
+
+        properties.getContinuous().setTargetRowsPerSecond(0);
+        assertThat(planner.pauseMillis(20_000, 0)).isZero();
+    }
+}
@@ -0,0 +1,217 @@
+package com.moa.api.data.service;
+
+import com.moa.api.data.config.IngestProperties;
+import com.moa.api.data.entity.HttpPageSampleFull;
+import com.moa.api.pivot.model.PivotLayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SampleIngestQueue 테스트 (적재 서비스는 mock)
+ */
+class SampleIngestQueueTest {
+
+    private LayerSampleIngestService ingestService;
+    private IngestProperties properties;
+    private SampleIngestQueue queue;
+
+    /** saveBatch 로 전달된 배치 (레이어:행 수) */
+    private final List<String> commits = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch firstCommitStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstCommit = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        ingestService = mock(LayerSampleIngestService.class);
+        properties = new IngestProperties();
+        properties.getQueue().setShutdownTimeoutMs(5_000);
+
+        // 첫 커밋은 releaseFirstCommit 까지 붙잡아 두어 그동안 들어온 배치가 큐에 쌓이게 함
+        doAnswer(invocation -> {
+            SampleIngestBatch batch = invocation.getArgument(0);
+            if (commits.isEmpty()) {
+                firstCommitStarted.countDown();
+                releaseFirstCommit.await(5, TimeUnit.SECONDS);
+            }
+            commits.add(batch.layer() + ":" + batch.size());
+            return null;
+        }).when(ingestService).saveBatch(any(SampleIngestBatch.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstCommit.countDown();
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void 대기_행_수나_배치_수를_넘으면_거부() {
+        // given: 적재 스레드 없음 → 큐가 비워지지 않음
+        properties.getQueue().setWriterThreads(0);
+        properties.getQueue().setCapacityBatches(2);
+        properties.getQueue().setCapacityRows(10);
+        properties.getQueue().setMaxRetryAfterSeconds(7);
+        queue = new SampleIngestQueue(ingestService, properties);
+
+        // when & then
+        assertThat(queue.offer(page(3))).as("시작 전").isFalse();
+
+        queue.start();
+        assertThat(queue.offer(page(3))).isTrue();
+        assertThat(queue.offer(page(8))).as("행 수 초과").isFalse();
+        assertThat(queue.offer(rows(PivotLayer.TCP, 2))).isTrue();
+        assertThat(queue.offer(page(0))).as("빈 배치는 큐에 넣지 않음").isTrue();
+        assertThat(queue.offer(page(1))).as("배치 수 초과").isFalse();
+
+        SampleIngestQueue.QueueStats stats = queue.getStats();
+        assertThat(stats.queueDepthBatches()).isEqualTo(2);
+        assertThat(stats.queueDepthRows()).isEqualTo(5);
+        assertThat(stats.acceptedBatches()).isEqualTo(2);
+        assertThat(stats.rejectedBatches()).isEqualTo(3);
+        assertThat(queue.retryAfterSeconds()).as("적재 기록이 없으면 최대값").isEqualTo(7);
+        verifyNoInteractions(ingestService);
+    }
+
+    @Test
+    void 빈_큐에는_행_수_상한보다_큰_배치도_1개_허용() {
+        // given
+        properties.getQueue().setWriterThreads(0);
+        properties.getQueue().setCapacityRows(10);
+        queue = new SampleIngestQueue(ingestService, properties);
+        queue.start();
+
+        // when & then
+        assertThat(queue.offer(page(25))).isTrue();
+        assertThat(queue.offer(page(1))).isFalse();
+    }
+
+    @Test
+    void 커밋_중에_쌓인_배치는_레이어별로_묶어_한_번에_커밋() throws Exception {
+        // given
+        properties.getQueue().setWriterThreads(1);
+        queue = new SampleIngestQueue(ingestService, properties);
+        queue.start();
+
+        queue.offer(page(1));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 첫 커밋이 끝나기 전에 들어온 배치
+        queue.offer(page(2));
+        queue.offer(rows(PivotLayer.TCP, 4));
+        queue.offer(page(3));
+        releaseFirstCommit.countDown();
+
+        // then
+        awaitProcessedRows(10);
+        assertThat(commits).containsExactly("HTTP_PAGE:1", "HTTP_PAGE:5", "TCP:4");
+        assertThat(queue.getStats().commits()).isEqualTo(3);
+        assertThat(queue.getStats().queueDepthRows()).isZero();
+    }
+
+    @Test
+    void 묶음_커밋이_실패하면_배치별로_다시_커밋해_실패한_배치만_버림() throws Exception {
+        // given: 묶음(5행)과 3행 배치는 실패
+        properties.getQueue().setWriterThreads(1);
+        queue = new SampleIngestQueue(ingestService, properties);
+        doThrow(new IllegalStateException("bad row")).when(ingestService)
+                .saveBatch(argThat(batch -> batch.size() == 5 || batch.size() == 3));
+        doAnswer(invocation -> {
+            firstCommitStarted.countDown();
+            releaseFirstCommit.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(ingestService).saveBatch(argThat(batch -> batch.size() == 1));
+        queue.start();
+
+        queue.offer(page(1));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        queue.offer(page(2));
+        queue.offer(page(3));
+        releaseFirstCommit.countDown();
+
+        // then
+        awaitProcessedRows(6);
+        assertThat(queue.getStats().committedRows()).isEqualTo(3);
+        assertThat(queue.getStats().failedRows()).isEqualTo(3);
+        verify(ingestService, times(4)).saveBatch(any(SampleIngestBatch.class));
+    }
+
+    @Test
+    void 종료_시_남은_배치를_모두_커밋하고_새_수신은_거부() throws Exception {
+        // given
+        properties.getQueue().setWriterThreads(1);
+        queue = new SampleIngestQueue(ingestService, properties);
+        queue.start();
+
+        queue.offer(page(1));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        IntStream.range(0, 5).forEach(i -> queue.offer(rows(PivotLayer.TCP, 2)));
+
+        // when: 커밋이 붙잡혀 있는 동안 종료 시작
+        Thread releaser = new Thread(() -> {
+            sleep(100);
+            releaseFirstCommit.countDown();
+        });
+        releaser.start();
+        queue.stop();
+
+        // then
+        assertThat(queue.isRunning()).isFalse();
+        assertThat(queue.getStats().committedRows()).isEqualTo(11);
+        assertThat(queue.getStats().queueDepthBatches()).isZero();
+        assertThat(commits).containsExactly("HTTP_PAGE:1", "TCP:10");
+        assertThat(queue.offer(page(1))).isFalse();
+    }
+
+    /**
+     * 커밋 또는 실패로 처리된 행 수가 rows 가 될 때까지 대기 (최대 5초)
+     */
+    private void awaitProcessedRows(long rows) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queue.getStats().committedRows() + queue.getStats().failedRows() < rows
+                && System.nanoTime() < deadline) {
+            sleep(10);
+        }
+        assertThat(queue.getStats().committedRows() + queue.getStats().failedRows()).isEqualTo(rows);
+    }
+
+    private static SampleIngestBatch page(int size) {
+        List<HttpPageSampleFull> samples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            samples.add(new HttpPageSampleFull());
+        }
+        return SampleIngestBatch.ofPage(samples);
+    }
+
+    private static SampleIngestBatch rows(PivotLayer layer, int size) {
+        List<Map<String, Object>> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(Map.of("src_port", i));
+        }
+        return SampleIngestBatch.ofRows(layer, rows);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
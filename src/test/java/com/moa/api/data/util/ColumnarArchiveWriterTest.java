@@ -0,0 +1,132 @@
+package com.moa.api.data.util;
+
+import com.moa.api.data.util.ColumnarArchiveFormat.Column;
+import com.moa.api.data.util.ColumnarArchiveFormat.ColumnType;
+import com.moa.api.data.util.ColumnarArchiveFormat.RowGroup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ColumnarArchiveWriter / ColumnarArchiveReader 테스트
+ */
+class ColumnarArchiveWriterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 0, 0, 0, 123_456_000);
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("row_key", ColumnType.STRING),
+            new Column("ts_server", ColumnType.TIMESTAMP),
+            new Column("ts_server_nsec", ColumnType.DOUBLE),
+            new Column("http_res_code", ColumnType.LONG),
+            new Column("is_ssl", ColumnType.BOOLEAN)
+    );
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 쓰고_읽으면_값과_null_이_그대로_복원() throws Exception {
+        // given
+        Path file = tempDir.resolve("sample.mca");
+        List<Object[]> rows = sampleRows(2_500);
+
+        // when
+        write(file, rows, 1_000);
+
+        // then
+        try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(file)) {
+            assertThat(reader.getColumns()).isEqualTo(COLUMNS);
+            assertThat(reader.getRowCount()).isEqualTo(2_500);
+            assertThat(reader.getRowGroups()).hasSize(3);
+
+            List<Object[]> read = new ArrayList<>();
+            reader.scan(null, null, read::add);
+            assertThat(read).hasSize(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                assertThat(read.get(i)).containsExactly(rows.get(i));
+            }
+        }
+    }
+
+    @Test
+    void 행_그룹_통계로_시간_범위_밖_그룹을_건너뜀() throws Exception {
+        // given: 1초 간격 2,500행 → 1,000행 단위 그룹 3개
+        Path file = tempDir.resolve("pruned.mca");
+        write(file, sampleRows(2_500), 1_000);
+
+        try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(file)) {
+            int ts = reader.indexOf("ts_server");
+            Long from = ColumnarArchiveReader.toMicros(BASE.plusSeconds(1_200));
+            Long to = ColumnarArchiveReader.toMicros(BASE.plusSeconds(1_300));
+
+            // when
+            List<Object[]> read = new ArrayList<>();
+            int groups = reader.scan(List.of("ts_server", "row_key"),
+                    group -> group.mayOverlap(ts, from, to), read::add);
+
+            // then
+            assertThat(groups).isEqualTo(1);
+            assertThat(read).hasSize(1_000);
+            assertThat(read.get(0)).containsExactly(BASE.plusSeconds(1_000), "key-1000");
+
+            RowGroup first = reader.getRowGroups().get(0);
+            assertThat(first.chunk(ts).min()).isEqualTo(ColumnarArchiveReader.toMicros(BASE));
+            assertThat(first.chunk(ts).max()).isEqualTo(ColumnarArchiveReader.toMicros(BASE.plusSeconds(999)));
+        }
+    }
+
+    @Test
+    void 반복_값이_많은_컬럼은_원본보다_작게_압축() throws Exception {
+        // given
+        Path file = tempDir.resolve("compressed.mca");
+        List<Object[]> rows = sampleRows(10_000);
+
+        // when
+        write(file, rows, 4_096);
+
+        // then: 행당 문자열 키 + 타임스탬프 + double + 코드 + 플래그 → 행당 20바이트 미만
+        assertThat(Files.size(file)).isLessThan(rows.size() * 20L);
+    }
+
+    @Test
+    void 포맷이_아닌_파일은_거부() throws Exception {
+        Path file = tempDir.resolve("plain.csv");
+        Files.writeString(file, "row_key,ts_server\nkey-1,2026-10-01 00:00:00\n");
+
+        assertThatThrownBy(() -> ColumnarArchiveReader.open(file))
+                .isInstanceOf(java.io.IOException.class)
+                .hasMessageContaining("Not a columnar archive");
+    }
+
+    private static void write(Path file, List<Object[]> rows, int rowGroupRows) throws Exception {
+        try (OutputStream out = Files.newOutputStream(file);
+             ColumnarArchiveWriter writer = new ColumnarArchiveWriter(out, COLUMNS, rowGroupRows, 6)) {
+            for (Object[] row : rows) {
+                writer.writeRow(row);
+            }
+        }
+    }
+
+    private static List<Object[]> sampleRows(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{
+                    "key-" + i,
+                    BASE.plusSeconds(i),
+                    i % 7 == 0 ? null : 1_759_276_800.5 + i,
+                    i % 10 == 0 ? 404L : 200L,
+                    i % 3 == 0
+            });
+        }
+        return rows;
+    }
+}
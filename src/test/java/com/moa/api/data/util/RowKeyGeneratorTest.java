@@ -0,0 +1,110 @@
+package com.moa.api.data.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RowKeyGenerator 테스트
+ */
+class RowKeyGeneratorTest {
+
+    private static final long NOW = 1_700_000_000_000_000L;
+
+    @Test
+    void 같은_시각에도_단조_증가() {
+        // given
+        RowKeyGenerator generator = new RowKeyGenerator(() -> NOW);
+        generator.assign(7, 0, Long.MAX_VALUE);
+
+        // when
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            keys.add(generator.next());
+        }
+
+        // then
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> assertThat(key).hasSize(RowKeyGenerator.KEY_LENGTH).endsWith("0007"));
+        assertThat(RowKeyGenerator.microsOf(keys.get(0))).isEqualTo(NOW);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_직전_키_이후로_발급() {
+        // given
+        long[] clock = {NOW};
+        RowKeyGenerator generator = new RowKeyGenerator(() -> clock[0]);
+        generator.assign(1, 0, Long.MAX_VALUE);
+        String before = generator.next();
+
+        // when
+        clock[0] = NOW - 5_000_000;
+        String after = generator.next();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void 이전_임대_만료_시각_이후의_키만_발급() {
+        // given
+        RowKeyGenerator generator = new RowKeyGenerator(() -> NOW);
+
+        // when
+        generator.assign(3, NOW + 1_000_000, Long.MAX_VALUE);
+
+        // then
+        assertThat(RowKeyGenerator.microsOf(generator.next())).isGreaterThanOrEqualTo(NOW + 1_000_000);
+    }
+
+    @Test
+    void 노드_ID_미할당_또는_만료시_발급_불가() {
+        // given
+        RowKeyGenerator generator = new RowKeyGenerator(() -> NOW);
+
+        // when & then
+        assertThatThrownBy(generator::next).isInstanceOf(IllegalStateException.class);
+
+        generator.assign(2, 0, NOW);
+        assertThatThrownBy(generator::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 동시_발급시_중복_없음() throws Exception {
+        // given
+        RowKeyGenerator generator = new RowKeyGenerator(() -> NOW);
+        generator.assign(9, 0, Long.MAX_VALUE);
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                Set<String> local = new HashSet<>();
+                for (int i = 0; i < 10_000; i++) {
+                    local.add(generator.next());
+                }
+                keys.addAll(local);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(keys).hasSize(80_000);
+    }
+}
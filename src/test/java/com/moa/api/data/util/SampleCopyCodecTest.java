@@ -0,0 +1,218 @@
+package com.moa.api.data.util;
+
+import com.moa.api.data.repository.SampleCopyCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SampleCopyCodec 테스트 (COPY 바이너리 필드 인코딩을 바이트 단위로 검증)
+ */
+class SampleCopyCodecTest {
+
+    @Test
+    void numeric_소수는_10000진법_자릿수_weight_dscale로_기록() throws IOException {
+        // when
+        byte[] field = encode("numeric", new BigDecimal("12345.678"));
+
+        // then: 1 | 2345 | 6780, weight 1, dscale 3
+        assertThat(field).isEqualTo(bytes(b -> b
+                .putInt(14).putShort((short) 3).putShort((short) 1).putShort((short) 0).putShort((short) 3)
+                .putShort((short) 1).putShort((short) 2345).putShort((short) 6780)));
+    }
+
+    @Test
+    void numeric_음수_소수는_음의_weight와_NEG_부호() throws IOException {
+        // when
+        byte[] field = encode("numeric", "-0.5");
+
+        // then: 0.5000 → 5000, weight -1, sign 0x4000, dscale 1
+        assertThat(field).isEqualTo(bytes(b -> b
+                .putInt(10).putShort((short) 1).putShort((short) -1).putShort((short) 0x4000).putShort((short) 1)
+                .putShort((short) 5000)));
+    }
+
+    @Test
+    void numeric_0은_자릿수_없이_기록() throws IOException {
+        // when
+        byte[] zero = encode("numeric", BigDecimal.ZERO);
+        byte[] negativeZero = encode("numeric", new BigDecimal("-0.00"));
+
+        // then
+        assertThat(zero).isEqualTo(bytes(b -> b
+                .putInt(8).putShort((short) 0).putShort((short) 0).putShort((short) 0).putShort((short) 0)));
+        assertThat(negativeZero).isEqualTo(bytes(b -> b
+                .putInt(8).putShort((short) 0).putShort((short) 0).putShort((short) 0).putShort((short) 2)));
+    }
+
+    @Test
+    void numeric_앞뒤_0_자릿수는_제거하고_weight로_표현() throws IOException {
+        // when
+        byte[] tenThousand = encode("numeric", 10_000L);
+        byte[] tiny = encode("numeric", new BigDecimal("0.0001"));
+
+        // then
+        assertThat(tenThousand).isEqualTo(bytes(b -> b
+                .putInt(10).putShort((short) 1).putShort((short) 1).putShort((short) 0).putShort((short) 0)
+                .putShort((short) 1)));
+        assertThat(tiny).isEqualTo(bytes(b -> b
+                .putInt(10).putShort((short) 1).putShort((short) -1).putShort((short) 0).putShort((short) 4)
+                .putShort((short) 1)));
+    }
+
+    @Test
+    void inet_IPv4는_family_2_32비트() throws IOException {
+        // when
+        byte[] field = encode("inet", "192.168.0.1");
+
+        // then
+        assertThat(field).isEqualTo(bytes(b -> b
+                .putInt(8).put((byte) 2).put((byte) 32).put((byte) 0).put((byte) 4)
+                .put(new byte[]{(byte) 192, (byte) 168, 0, 1})));
+    }
+
+    @Test
+    void cidr은_prefix_길이와_is_cidr_플래그를_기록() throws IOException {
+        // when
+        byte[] field = encode("cidr", "10.0.0.0/8");
+
+        // then
+        assertThat(field).isEqualTo(bytes(b -> b
+                .putInt(8).put((byte) 2).put((byte) 8).put((byte) 1).put((byte) 4)
+                .put(new byte[]{10, 0, 0, 0})));
+    }
+
+    @Test
+    void inet_IPv6는_family_3_16바이트_주소() throws IOException {
+        // given
+        byte[] address = new byte[16];
+        address[0] = 0x20;
+        address[1] = 0x01;
+        address[2] = 0x0d;
+        address[3] = (byte) 0xb8;
+        address[15] = 1;
+
+        // when
+        byte[] full = encode("inet", "2001:db8::1");
+        byte[] prefixed = encode("inet", "2001:db8::1/64");
+
+        // then
+        assertThat(full).isEqualTo(bytes(b -> b
+                .putInt(20).put((byte) 3).put((byte) 128).put((byte) 0).put((byte) 16).put(address)));
+        assertThat(prefixed).isEqualTo(bytes(b -> b
+                .putInt(20).put((byte) 3).put((byte) 64).put((byte) 0).put((byte) 16).put(address)));
+    }
+
+    @Test
+    void inet_호스트명은_거부() {
+        // when & then
+        assertThatThrownBy(() -> encode("inet", "localhost"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("잘못된 IP 주소: localhost");
+    }
+
+    @Test
+    void macaddr은_구분자와_무관하게_6바이트() throws IOException {
+        // given
+        byte[] expected = bytes(b -> b
+                .putInt(6).put(new byte[]{0x08, 0x00, 0x2b, 0x01, 0x02, (byte) 0xff}));
+
+        // when & then
+        assertThat(encode("macaddr", "08:00:2b:01:02:ff")).isEqualTo(expected);
+        assertThat(encode("macaddr", "08-00-2B-01-02-FF")).isEqualTo(expected);
+        assertThat(encode("macaddr", "08002b0102ff")).isEqualTo(expected);
+    }
+
+    @Test
+    void timestamp는_2000_01_01_기준_마이크로초() throws IOException {
+        // when
+        byte[] after = encode("timestamp", LocalDateTime.of(2000, 1, 1, 0, 0, 1, 123_456_000));
+        byte[] before = encode("timestamp", "1999-12-31 23:59:59");
+        byte[] recent = encode("timestamp", "2024-01-01T00:00:00");
+
+        // then
+        assertThat(after).isEqualTo(bytes(b -> b.putInt(8).putLong(1_123_456L)));
+        assertThat(before).isEqualTo(bytes(b -> b.putInt(8).putLong(-1_000_000L)));
+        assertThat(recent).isEqualTo(bytes(b -> b.putInt(8).putLong((1_704_067_200L - 946_684_800L) * 1_000_000L)));
+    }
+
+    @Test
+    void text는_UTF8_바이트_길이로_기록() throws IOException {
+        // given
+        byte[] utf8 = "GET /한글".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] field = encode("text", "GET /한글");
+
+        // then
+        assertThat(field).isEqualTo(bytes(b -> b.putInt(utf8.length).put(utf8)));
+        assertThat(utf8.length).isGreaterThan("GET /한글".length());
+    }
+
+    @Test
+    void null과_행에_없는_컬럼은_길이_마이너스1() throws IOException {
+        // given
+        SampleCopyCodec<Map<String, Object>> codec =
+                SampleCopyCodec.forRows("t", Map.of("b_text", "text", "a_num", "numeric"));
+        Map<String, Object> row = new HashMap<>();
+        row.put("a_num", null);
+
+        // when
+        byte[] encoded = writeRow(codec, row);
+
+        // then: 컬럼 수 2 + 컬럼명 순 (a_num, b_text) 모두 NULL
+        assertThat(codec.getColumnNames()).containsExactly("a_num", "b_text");
+        assertThat(encoded).isEqualTo(bytes(b -> b.putShort((short) 2).putInt(-1).putInt(-1)));
+    }
+
+    @Test
+    void 헤더와_트레일러() throws IOException {
+        // given
+        SampleCopyCodec<Map<String, Object>> codec = SampleCopyCodec.forRows("t", Map.of("v", "int4"));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+
+        // when
+        codec.writeHeader(out);
+        codec.writeTrailer(out);
+
+        // then
+        assertThat(buffer.toByteArray()).isEqualTo(bytes(b -> b
+                .put(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0})
+                .putInt(0).putInt(0).putShort((short) -1)));
+    }
+
+    /**
+     * 단일 컬럼 행을 인코딩하고 컬럼 수(int16)를 뺀 필드 바이트(길이 + 값)만 반환
+     */
+    private static byte[] encode(String typeName, Object value) throws IOException {
+        SampleCopyCodec<Map<String, Object>> codec = SampleCopyCodec.forRows("t", Map.of("src", typeName));
+        byte[] row = writeRow(codec, Map.of("src", value));
+        return Arrays.copyOfRange(row, 2, row.length);
+    }
+
+    private static byte[] writeRow(SampleCopyCodec<Map<String, Object>> codec, Map<String, Object> row)
+            throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        codec.writeRow(new DataOutputStream(buffer), row);
+        return buffer.toByteArray();
+    }
+
+    private static byte[] bytes(Consumer<ByteBuffer> writer) {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        writer.accept(buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
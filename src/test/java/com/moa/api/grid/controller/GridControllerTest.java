@@ -7,6 +7,7 @@ import com.moa.api.grid.dto.DistinctValuesRequestDTO;
 import com.moa.api.grid.dto.FilterResponseDTO;
 import com.moa.api.grid.service.GridAsyncService;
 import com.moa.api.grid.service.GridService;
+import com.moa.api.search.dto.SearchDTO;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -17,7 +18,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -161,6 +164,24 @@ class GridControllerTest {
                 .andExpect(jsonPath("$.error").value("VALIDATION_FAILED"));
     }
 
+    @Test
+    void 컬럼형_검색_아카이브_범위_초과는_400_본문으로_응답() throws Exception {
+        // given
+        SearchDTO request = new SearchDTO();
+        request.setLayer("HTTP_PAGE");
+
+        doThrow(new IllegalArgumentException("ARCHIVE_RANGE_TOO_LARGE: 120 objects > 96"))
+                .when(gridService).streamGridDataBySearchSpec(any(), any());
+
+        // when & then
+        mockMvc.perform(post("/api/grid/search/columnar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_ARGUMENT"))
+                .andExpect(jsonPath("$.message", containsString("ARCHIVE_RANGE_TOO_LARGE")));
+    }
+
     @Test
     void getCacheStats_정상_조회() throws Exception {
         // given
@@ -4,14 +4,18 @@ import com.moa.api.grid.dto.AggregateRequestDTO;
 import com.moa.api.grid.dto.FilterResponseDTO;
 import com.moa.api.grid.exception.GridException;
 import com.moa.api.grid.repository.GridRepositoryImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.moa.api.grid.validation.GridValidator;
+import com.moa.api.search.dto.SearchDTO;
 import com.moa.api.search.service.SearchExecuteService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +38,9 @@ class GridServiceTest {
     @Mock
     private GridValidator validator;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private GridService gridService;
 
@@ -85,6 +92,25 @@ class GridServiceTest {
         ).isInstanceOf(GridException.class);
     }
 
+    @Test
+    void 컬럼형_스트리밍_검증_오류면_응답_스트림을_닫거나_쓰지_않고_예외_전달() throws Exception {
+        // given
+        SearchDTO req = new SearchDTO();
+        req.setLayer("HTTP_PAGE");
+        when(executeService.projection(req)).thenReturn(List.of("ts_server_nsec"));
+        doThrow(new IllegalArgumentException("CURSOR_ORDER_MISMATCH: ts_server_nsec ASC"))
+                .when(executeService).stream(eq(req), any());
+
+        CloseTrackingOutputStream out = new CloseTrackingOutputStream();
+
+        // when & then - 응답이 커밋되지 않아야 예외 핸들러가 400 본문을 보낼 수 있음
+        assertThatThrownBy(() -> gridService.streamGridDataBySearchSpec(req, out))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CURSOR_ORDER_MISMATCH");
+        assertThat(out.closed).isFalse();
+        assertThat(out.size()).isZero();
+    }
+
     @Test
     void aggregate_정상_호출() {
         // given
@@ -159,4 +185,14 @@ class GridServiceTest {
         spec.setOps(ops);
         return spec;
     }
-}
\ No newline at end of file
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -165,6 +165,20 @@ class GridValidatorTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    void validateLayer_복원_레이어_별칭() {
+        // when & then
+        assertThatCode(() -> validator.validateLayer("RESTORED_HTTP_PAGE"))
+                .doesNotThrowAnyException();
+
+        assertThatCode(() -> validator.validateLayer("restored_tcp"))
+                .doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> validator.validateLayer("RESTORED_invalid_layer"))
+                .isInstanceOf(GridException.class)
+                .hasMessageContaining("지원하지 않는 레이어");
+    }
+
     @Test
     void validateLayer_null_또는_blank는_허용() {
         // when & then
@@ -0,0 +1,119 @@
+package com.moa.api.search.service;
+
+import com.moa.api.grid.config.GridProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SearchCountService 테스트 (JDBC 는 mock)
+ */
+class SearchCountServiceTest {
+
+    private static final String TABLE = "http_page_sample";
+    private static final String WHERE = " WHERE  t.ts_server_nsec >= :fromEpoch ";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private NamedParameterJdbcTemplate jdbc;
+    private SearchCountService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(NamedParameterJdbcTemplate.class);
+        GridProperties properties = new GridProperties();
+        properties.getCount().setWaitMillis(50);
+        service = new SearchCountService(jdbc, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_조건이면_바인딩_순서와_상관없이_같은_키() {
+        MapSqlParameterSource a = new MapSqlParameterSource().addValue("fromEpoch", 1L).addValue("v1_0", "x");
+        MapSqlParameterSource b = new MapSqlParameterSource().addValue("v1_0", "x").addValue("fromEpoch", 1L);
+        MapSqlParameterSource c = new MapSqlParameterSource().addValue("v1_0", "y").addValue("fromEpoch", 1L);
+
+        assertThat(SearchCountService.countKey(TABLE, WHERE, a)).isEqualTo(SearchCountService.countKey(TABLE, WHERE, b));
+        assertThat(SearchCountService.countKey(TABLE, WHERE, a)).isNotEqualTo(SearchCountService.countKey(TABLE, WHERE, c));
+    }
+
+    @Test
+    void 빨리_끝나면_정확한_건수를_바로_반환하고_캐시() {
+        // given
+        when(jdbc.queryForObject(startsWith("SELECT COUNT(*)"), any(MapSqlParameterSource.class), eq(Long.class)))
+                .thenReturn(42L);
+        MapSqlParameterSource params = new MapSqlParameterSource("fromEpoch", 1L);
+
+        // when
+        SearchCountService.Total first = service.total("k", TABLE, WHERE, params, 1L, 2L);
+        SearchCountService.Total second = service.total("k", TABLE, WHERE, params, 1L, 2L);
+
+        // then
+        assertThat(first).isEqualTo(new SearchCountService.Total(42L, false, false));
+        assertThat(second).isEqualTo(first);
+        verify(jdbc, times(1)).queryForObject(startsWith("SELECT COUNT(*)"), any(MapSqlParameterSource.class), eq(Long.class));
+    }
+
+    @Test
+    void 실행기가_거부하면_요청_스레드에서_COUNT_하지_않고_건수_없이_반환() {
+        // given: 가득 찬 COUNT 풀
+        GridProperties properties = new GridProperties();
+        SearchCountService saturated = new SearchCountService(jdbc, r -> {
+            throw new RejectedExecutionException("full");
+        }, properties);
+        MapSqlParameterSource params = new MapSqlParameterSource("fromEpoch", 1L);
+
+        // when
+        SearchCountService.Total total = saturated.total("k", TABLE, WHERE, params, 1L, 2L);
+
+        // then
+        assertThat(total).isEqualTo(new SearchCountService.Total(null, false, false));
+        assertThat(saturated.lookup("k")).isNull();
+        verify(jdbc, never()).queryForObject(startsWith("SELECT COUNT(*)"), any(MapSqlParameterSource.class), eq(Long.class));
+    }
+
+    @Test
+    void 오래_걸리면_넓은_기간은_추정치를_먼저_반환() throws Exception {
+        // given: COUNT 는 latch 가 풀릴 때까지 대기
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbc.queryForObject(startsWith("SELECT COUNT(*)"), any(MapSqlParameterSource.class), eq(Long.class)))
+                .thenAnswer(inv -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return 1_000_000L;
+                });
+        when(jdbc.queryForObject(startsWith("EXPLAIN"), any(MapSqlParameterSource.class), eq(String.class)))
+                .thenReturn("[{\"Plan\": {\"Node Type\": \"Seq Scan\", \"Plan Rows\": 987654}}]");
+        MapSqlParameterSource params = new MapSqlParameterSource("fromEpoch", 1L);
+
+        // when: 7일 범위
+        SearchCountService.Total total = service.total("k", TABLE, WHERE, params, 0L, 7 * 86_400L);
+
+        // then
+        assertThat(total).isEqualTo(new SearchCountService.Total(987_654L, true, true));
+        assertThat(service.lookup("k").pending()).isTrue();
+
+        // when: COUNT 완료
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(service.lookup("k")).isEqualTo(new SearchCountService.Total(1_000_000L, false, false));
+        assertThat(service.lookup("unknown")).isNull();
+    }
+}
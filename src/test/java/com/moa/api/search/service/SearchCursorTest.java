@@ -0,0 +1,104 @@
+package com.moa.api.search.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SearchCursor 테스트
+ */
+class SearchCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원() {
+        // given
+        SearchCursor cursor = SearchCursor.after("ts_server_nsec", "DESC", 1_788_000_000.123456, "0001a2b3c4d5e6f70001");
+
+        // when
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void 잘못된_커서는_거부() {
+        assertThatThrownBy(() -> SearchCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("INVALID_CURSOR");
+        assertThatThrownBy(() -> SearchCursor.after("ts_server_nsec", "DESC", 1.0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 정렬_값은_Postgres_입력_형식_문자열로_보관() {
+        assertThat(SearchCursor.sortValue(new BigDecimal("1E+3"))).isEqualTo("1000");
+        assertThat(SearchCursor.sortValue(Timestamp.valueOf(LocalDateTime.of(2026, 9, 1, 12, 0, 0, 123_000_000))))
+                .isEqualTo("2026-09-01 12:00:00.123");
+        assertThat(SearchCursor.sortValue(null)).isNull();
+    }
+
+    @Test
+    void DESC_조건은_캐스팅_없이_행_값_비교() {
+        // given
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        SearchCursor cursor = new SearchCursor("ts_server_nsec", "DESC", "1788000000.5", "k1");
+
+        // when
+        String sql = SearchCursor.predicate(cursor.orderBy(), cursor.order(), cursor.value() == null);
+        cursor.bind(params);
+
+        // then
+        assertThat(sql).isEqualTo("(t.ts_server_nsec <= :seekValue AND (t.ts_server_nsec, t.row_key) < (:seekValue, :seekKey))");
+        assertThat(params.getValue("seekValue")).isEqualTo("1788000000.5");
+        assertThat(params.getSqlType("seekValue")).isEqualTo(Types.OTHER);
+        assertThat(params.getValue("seekKey")).isEqualTo("k1");
+    }
+
+    @Test
+    void NULL_정렬_값과_row_key_정렬() {
+        // ASC: NULL 은 맨 뒤 → NULL 구간 안에서 row_key 로 이어감
+        assertThat(predicate(new SearchCursor("http_host", "ASC", null, "k1")))
+                .isEqualTo("(t.http_host IS NULL AND t.row_key > :seekKey)");
+
+        // DESC: NULL 은 맨 앞 → NULL 구간 나머지 + NULL 이 아닌 전체
+        assertThat(predicate(new SearchCursor("http_host", "DESC", null, "k1")))
+                .isEqualTo("((t.http_host IS NULL AND t.row_key < :seekKey) OR t.http_host IS NOT NULL)");
+
+        // ASC: 값 이후 + NULL 전체
+        assertThat(predicate(new SearchCursor("http_host", "ASC", "a", "k1")))
+                .isEqualTo("((t.http_host >= :seekValue AND (t.http_host, t.row_key) > (:seekValue, :seekKey)) OR t.http_host IS NULL)");
+
+        // row_key 정렬은 동순위가 없으므로 단일 비교
+        assertThat(predicate(new SearchCursor("row_key", "DESC", "k1", "k1")))
+                .isEqualTo("t.row_key < :seekKey");
+    }
+
+    @Test
+    void NULL_커서는_seekValue를_바인딩하지_않음() {
+        // given
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        // when
+        new SearchCursor("http_host", "ASC", null, "k1").bind(params);
+
+        // then
+        assertThat(params.hasValue("seekValue")).isFalse();
+        assertThat(params.getValue("seekKey")).isEqualTo("k1");
+        assertThat(params.getSqlType("seekKey")).isEqualTo(Types.OTHER);
+    }
+
+    /**
+     * SearchExecuteService 와 같은 경로 (정렬 컬럼 / 방향 / NULL 여부로만 SQL 생성)
+     */
+    private static String predicate(SearchCursor cursor) {
+        return SearchCursor.predicate(cursor.orderBy(), cursor.order(), cursor.value() == null);
+    }
+}
@@ -0,0 +1,195 @@
+package com.moa.api.search.service;
+
+import com.moa.api.data.service.ArchiveQueryService;
+import com.moa.api.grid.config.GridConfig;
+import com.moa.api.grid.config.GridProperties;
+import com.moa.api.search.dto.SearchDTO;
+import com.moa.api.search.entity.LayerFieldMeta;
+import com.moa.api.search.repository.LayerFieldMetaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SearchExecuteService 검색 형태 캐시 / 조회 컬럼 테스트 (JDBC / 아카이브 / COUNT 는 mock)
+ */
+class SearchExecuteServiceTest {
+
+    private NamedParameterJdbcTemplate jdbc;
+    private LayerFieldMetaRepository fieldMetaRepo;
+    private GridProperties properties;
+    private SearchExecuteService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbc = mock(NamedParameterJdbcTemplate.class);
+        fieldMetaRepo = mock(LayerFieldMetaRepository.class);
+        ArchiveQueryService archiveQueryService = mock(ArchiveQueryService.class);
+        SearchCountService countService = mock(SearchCountService.class);
+
+        when(fieldMetaRepo.findAllByTableName("http_page_fields")).thenReturn(List.of(
+                LayerFieldMeta.of("http_host", "TEXT", "호스트", false),
+                LayerFieldMeta.of("page_session_cnt", "NUMBER", "세션 수", false),
+                LayerFieldMeta.of("ts_server_nsec", "NUMBER", "수신 시각", false)));
+        when(archiveQueryService.withArchive(anyString(), anyString(), any(), any(), any()))
+                .thenAnswer(inv -> ((Function<String, Object>) inv.getArgument(4)).apply(inv.getArgument(0)));
+        when(countService.total(anyString(), anyString(), anyString(), any(), any(), any()))
+                .thenReturn(new SearchCountService.Total(0L, false, false));
+        when(jdbc.queryForList(anyString(), any(MapSqlParameterSource.class))).thenAnswer(inv -> new ArrayList<>());
+
+        properties = new GridProperties();
+        service = new SearchExecuteService(jdbc, new LayerFieldMetaCache(fieldMetaRepo), archiveQueryService, countService, properties);
+    }
+
+    @Test
+    void 같은_형태의_검색은_SQL_을_재사용하고_값만_바꿔_바인딩() {
+        // when: 조건 값 / 기간 / 페이지만 다른 두 검색
+        service.execute(search("a.example.com", 100L, 0));
+        service.execute(search("b.example.com", 200L, 100));
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbc, times(2)).queryForList(sql.capture(), params.capture());
+
+        assertThat(sql.getAllValues().get(0)).isSameAs(sql.getAllValues().get(1));
+        assertThat(params.getAllValues().get(0).getValue("v1_0")).isEqualTo("a.example.com");
+        assertThat(params.getAllValues().get(1).getValue("v1_0")).isEqualTo("b.example.com");
+        assertThat(params.getAllValues().get(1).getValue("fromEpoch")).isEqualTo(200L);
+        assertThat(params.getAllValues().get(1).getValue("offset")).isEqualTo(100);
+
+        // 필드 메타는 한 번만 읽음
+        verify(fieldMetaRepo, times(1)).findAllByTableName("http_page_fields");
+    }
+
+    @Test
+    void 조건_구조가_다르면_다른_SQL() {
+        // given
+        SearchDTO in = search("a.example.com", 100L, 0);
+        in.getConditions().get(0).setOp("IN");
+        in.getConditions().get(0).setValues(List.of("a", "b"));
+
+        // when
+        service.execute(search("a.example.com", 100L, 0));
+        service.execute(in);
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbc, times(2)).queryForList(sql.capture(), params.capture());
+        assertThat(sql.getAllValues().get(1)).contains("IN (:list_0)").isNotEqualTo(sql.getAllValues().get(0));
+        assertThat(params.getAllValues().get(1).getValue("list_0")).isEqualTo(List.of("a", "b"));
+    }
+
+    @Test
+    void invalidate_하면_필드_메타를_다시_읽음() {
+        // given
+        service.execute(search("a.example.com", 100L, 0));
+
+        // when
+        service.invalidate("http_page_fields");
+        service.execute(search("a.example.com", 100L, 0));
+
+        // then
+        verify(fieldMetaRepo, times(2)).findAllByTableName("http_page_fields");
+    }
+
+    @Test
+    void 허용되지_않은_필드는_거부하고_캐시하지_않음() {
+        // given
+        SearchDTO bad = search("x", 100L, 0);
+        bad.getConditions().get(0).setField("password");
+
+        // when / then
+        assertThatThrownBy(() -> service.execute(bad))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("INVALID_FIELD");
+        assertThatThrownBy(() -> service.execute(bad))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 요청_컬럼이_없으면_기본_컬럼과_정렬_컬럼_row_key_만_조회() {
+        // given: 기본 컬럼 중 필드 메타에 없는 컬럼은 제외
+        properties.getProjection().setDefaultColumns(Map.of("HTTP_PAGE", List.of("http_host", "unknown_col")));
+        SearchDTO req = search("a.example.com", 100L, 0);
+        req.setColumns(null);
+
+        // when
+        service.execute(req);
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbc).queryForList(sql.capture(), any(MapSqlParameterSource.class));
+        assertThat(sql.getValue())
+                .startsWith("SELECT t.http_host, t.ts_server_nsec, t.row_key FROM http_page_sample t")
+                .doesNotContain("*");
+        assertThat(service.projection(req)).containsExactly("http_host", "ts_server_nsec", "row_key");
+    }
+
+    @Test
+    void 기본_컬럼_설정이_없으면_전체가_아니라_수신_시각과_row_key_만_조회() {
+        // given: 기본 컬럼 없음
+        SearchDTO req = search("a.example.com", 100L, 0);
+        req.setColumns(null);
+
+        // when / then
+        assertThat(service.projection(req)).containsExactly("ts_server_nsec", "row_key");
+    }
+
+    @Test
+    void 검증기가_허용하는_모든_레이어에_기본_컬럼과_상세_패널_키가_있음() {
+        // given
+        GridProperties.Projection projection = new GridConfig().gridProperties().getProjection();
+
+        // then
+        for (String layer : List.of("HTTP_PAGE", "HTTP_URI", "TCP", "ETHERNET")) {
+            assertThat(projection.getDefaultColumns().get(layer)).as(layer).isNotEmpty().contains("ts_server_nsec");
+            assertThat(projection.getDetailKeys().get(layer)).as(layer).isNotEmpty();
+        }
+    }
+
+    @Test
+    void row_key_로_추가_컬럼만_조회() {
+        // when
+        service.fetchColumns("HTTP_PAGE", List.of("page_session_cnt"), List.of("k1", "k2", "k1"));
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbc).queryForList(sql.capture(), params.capture());
+        assertThat(sql.getValue())
+                .isEqualTo("SELECT t.row_key, t.page_session_cnt FROM http_page_sample t WHERE t.row_key IN (:rowKeys)");
+        assertThat(params.getValue().getValue("rowKeys")).isEqualTo(List.of("k1", "k2"));
+
+        assertThatThrownBy(() -> service.fetchColumns("HTTP_PAGE", List.of("password"), List.of("k1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("FORBIDDEN_COLUMN");
+    }
+
+    private static SearchDTO search(String host, long fromEpoch, int offset) {
+        SearchDTO req = new SearchDTO();
+        req.setLayer("HTTP_PAGE");
+        req.setColumns(List.of("http_host", "page_session_cnt"));
+        req.setTime(new SearchDTO.TimeSpec("ts_server_nsec", fromEpoch, fromEpoch + 3_600, true));
+        req.setConditions(new ArrayList<>(List.of(
+                new SearchDTO.Condition(null, "http_host", "EQ", List.of(host), "TEXT", null, null))));
+
+        SearchDTO.Options options = new SearchDTO.Options();
+        options.setOffset(offset);
+        req.setOptions(options);
+        return req;
+    }
+}
@@ -0,0 +1,300 @@
+package com.moa.global.aws;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * S3MultipartOutputStream 테스트 (메모리 S3 대역 사용)
+ */
+class S3MultipartOutputStreamTest {
+
+    private static final int PART_SIZE = S3MultipartOutputStream.MIN_PART_SIZE;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final FakeS3Client s3 = new FakeS3Client();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 파트_크기_미만이면_PutObject_1회() throws Exception {
+        // given
+        byte[] data = randomBytes(1024);
+
+        // when
+        try (S3MultipartOutputStream out = open(2)) {
+            out.write(data);
+        }
+
+        // then
+        assertThat(s3.objects.get("k")).isEqualTo(data);
+        assertThat(s3.createdUploads.get()).isZero();
+    }
+
+    @Test
+    void 여러_파트로_나누어_올리고_순서대로_합침() throws Exception {
+        // given: 2.5 파트 분량
+        byte[] data = randomBytes(PART_SIZE * 2 + PART_SIZE / 2);
+
+        // when: 크기가 제각각인 write 로 기록
+        try (S3MultipartOutputStream out = open(2)) {
+            int offset = 0;
+            int step = 1;
+            while (offset < data.length) {
+                int n = Math.min(step, data.length - offset);
+                out.write(data, offset, n);
+                offset += n;
+                step = step * 3 + 7;
+            }
+            assertThat(out.getBytesWritten()).isEqualTo(data.length);
+        }
+
+        // then
+        assertThat(s3.objects.get("k")).isEqualTo(data);
+        assertThat(s3.createdUploads.get()).isEqualTo(1);
+        assertThat(s3.completedParts.get()).isEqualTo(3);
+        assertThat(s3.abortedUploads.get()).isZero();
+    }
+
+    @Test
+    void 파트별_SHA256_을_함께_보내고_합성_체크섬을_기록() throws Exception {
+        // given: 2.5 파트 분량
+        byte[] data = randomBytes(PART_SIZE * 2 + PART_SIZE / 2);
+
+        // when
+        S3MultipartOutputStream out = open(2);
+        out.write(data);
+        out.close();
+
+        // then: 파트마다 체크섬 검증 (대역이 본문과 비교), 합성 체크섬 = SHA-256(파트 SHA-256 ...) + "-파트 수"
+        MessageDigest composite = MessageDigest.getInstance("SHA-256");
+        for (int offset = 0; offset < data.length; offset += PART_SIZE) {
+            composite.update(MessageDigest.getInstance("SHA-256")
+                    .digest(Arrays.copyOfRange(data, offset, Math.min(data.length, offset + PART_SIZE))));
+        }
+        assertThat(s3.checksumMismatches.get()).isZero();
+        assertThat(out.getChecksumSha256())
+                .isEqualTo(Base64.getEncoder().encodeToString(composite.digest()) + "-3");
+    }
+
+    @Test
+    void 단일_PutObject_는_객체_전체의_SHA256() throws Exception {
+        // given
+        byte[] data = randomBytes(1024);
+
+        // when
+        S3MultipartOutputStream out = open(2);
+        out.write(data);
+        out.close();
+
+        // then
+        assertThat(s3.checksumMismatches.get()).isZero();
+        assertThat(out.getChecksumSha256())
+                .isEqualTo(Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(data)));
+    }
+
+    @Test
+    void 동시에_업로드하는_파트_수를_제한() throws Exception {
+        // given
+        s3.partDelayMillis = 50;
+
+        // when: 6 파트 기록, 동시 업로드 최대 2
+        try (S3MultipartOutputStream out = open(2)) {
+            byte[] part = randomBytes(PART_SIZE);
+            for (int i = 0; i < 6; i++) {
+                out.write(part);
+            }
+        }
+
+        // then
+        assertThat(s3.maxConcurrentParts.get()).isBetween(1, 2);
+        assertThat(s3.completedParts.get()).isEqualTo(6);
+    }
+
+    @Test
+    void 파트_업로드_실패시_예외와_함께_업로드_취소() {
+        // given
+        s3.failPartNumber = 2;
+
+        // when
+        S3MultipartOutputStream out = open(2);
+        assertThatThrownBy(() -> {
+            byte[] part = randomBytes(PART_SIZE);
+            for (int i = 0; i < 4; i++) {
+                out.write(part);
+            }
+            out.close();
+        }).isInstanceOf(IOException.class);
+        out.abort();
+
+        // then
+        assertThat(s3.objects).doesNotContainKey("k");
+        assertThat(s3.abortedUploads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void abort_하면_객체가_만들어지지_않음() throws Exception {
+        // given
+        S3MultipartOutputStream out = open(2);
+        out.write(randomBytes(PART_SIZE + 10));
+
+        // when
+        out.abort();
+        out.close();                                  // abort 후 close 는 무시
+
+        // then
+        assertThat(s3.objects).isEmpty();
+        assertThat(s3.abortedUploads.get()).isEqualTo(1);
+    }
+
+    private S3MultipartOutputStream open(int maxInFlightParts) {
+        return new S3MultipartOutputStream(s3, "bucket", "k", "text/csv", null,
+                PART_SIZE, maxInFlightParts, executor);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 멀티파트 / PutObject 만 지원하는 메모리 S3 대역
+     */
+    private static class FakeS3Client implements S3Client {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        final AtomicInteger createdUploads = new AtomicInteger();
+        final AtomicInteger abortedUploads = new AtomicInteger();
+        final AtomicInteger completedParts = new AtomicInteger();
+        final AtomicInteger concurrentParts = new AtomicInteger();
+        final AtomicInteger maxConcurrentParts = new AtomicInteger();
+        final AtomicInteger checksumMismatches = new AtomicInteger();
+
+        volatile int failPartNumber = -1;
+        volatile long partDelayMillis;
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            byte[] bytes = read(body);
+            verifyChecksum(request.checksumSHA256(), bytes);
+            objects.put(request.key(), bytes);
+            return PutObjectResponse.builder().eTag("etag").build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = "upload-" + createdUploads.incrementAndGet();
+            uploads.put(uploadId, new ConcurrentHashMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            int concurrent = concurrentParts.incrementAndGet();
+            maxConcurrentParts.accumulateAndGet(concurrent, Math::max);
+            try {
+                if (partDelayMillis > 0) {
+                    Thread.sleep(partDelayMillis);
+                }
+                if (request.partNumber() == failPartNumber) {
+                    throw new IllegalStateException("part " + failPartNumber + " failed");
+                }
+                byte[] bytes = read(body);
+                verifyChecksum(request.checksumSHA256(), bytes);
+                uploads.get(request.uploadId()).put(request.partNumber(), bytes);
+                return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                concurrentParts.decrementAndGet();
+            }
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            Map<Integer, byte[]> parts = uploads.remove(request.uploadId());
+            ByteArrayOutputStream object = new ByteArrayOutputStream();
+            int expected = 1;
+            for (CompletedPart part : request.multipartUpload().parts()) {
+                assertThat(part.partNumber()).isEqualTo(expected++);
+                object.writeBytes(parts.get(part.partNumber()));
+                completedParts.incrementAndGet();
+            }
+            objects.put(request.key(), object.toByteArray());
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.uploadId());
+            abortedUploads.incrementAndGet();
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        /**
+         * S3 처럼 요청에 담긴 SHA-256 을 본문과 비교
+         */
+        private void verifyChecksum(String checksum, byte[] bytes) {
+            try {
+                String actual = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+                if (!actual.equals(checksum)) {
+                    checksumMismatches.incrementAndGet();
+                }
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static byte[] read(RequestBody body) {
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
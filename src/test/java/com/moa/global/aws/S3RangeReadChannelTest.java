@@ -0,0 +1,130 @@
+package com.moa.global.aws;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * S3RangeReadChannel 테스트 (메모리 S3 대역 사용)
+ */
+class S3RangeReadChannelTest {
+
+    private static final int BLOCK_SIZE = 1024;
+
+    @Test
+    void 읽는_위치의_블록만_가져옴() throws Exception {
+        // given: 10 블록 분량 객체
+        byte[] object = randomBytes(BLOCK_SIZE * 10);
+        FakeS3Client s3 = new FakeS3Client(object);
+
+        try (S3RangeReadChannel channel = new S3RangeReadChannel(s3, "bucket", "k", BLOCK_SIZE)) {
+            // when: 끝부분 100바이트, 중간 블록 2개에 걸친 200바이트 읽기
+            byte[] tail = read(channel, object.length - 100, 100);
+            byte[] middle = read(channel, BLOCK_SIZE * 4L - 100, 200);
+
+            // then
+            assertThat(channel.size()).isEqualTo(object.length);
+            assertThat(tail).isEqualTo(Arrays.copyOfRange(object, object.length - 100, object.length));
+            assertThat(middle).isEqualTo(Arrays.copyOfRange(object, BLOCK_SIZE * 4 - 100, BLOCK_SIZE * 4 + 100));
+            assertThat(channel.getRequestCount()).isEqualTo(3);
+            assertThat(channel.getBytesFetched()).isEqualTo(BLOCK_SIZE * 3L);
+        }
+    }
+
+    @Test
+    void 같은_블록_안의_연속_읽기는_추가_요청_없음() throws Exception {
+        // given
+        byte[] object = randomBytes(BLOCK_SIZE * 2 + 10);
+        FakeS3Client s3 = new FakeS3Client(object);
+
+        try (S3RangeReadChannel channel = new S3RangeReadChannel(s3, "bucket", "k", BLOCK_SIZE)) {
+            // when
+            for (int i = 0; i < 10; i++) {
+                read(channel, i * 100L, 100);
+            }
+            byte[] last = read(channel, BLOCK_SIZE * 2L, 10);
+
+            // then: 마지막 블록은 객체 끝까지만 요청
+            assertThat(last).isEqualTo(Arrays.copyOfRange(object, BLOCK_SIZE * 2, object.length));
+            assertThat(channel.getRequestCount()).isEqualTo(2);
+            assertThat(channel.getBytesFetched()).isEqualTo(BLOCK_SIZE + 10L);
+            assertThat(channel.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+        }
+        assertThat(s3.heads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 닫은_채널은_읽을_수_없음() {
+        FakeS3Client s3 = new FakeS3Client(randomBytes(10));
+        S3RangeReadChannel channel = new S3RangeReadChannel(s3, "bucket", "k", BLOCK_SIZE);
+        channel.close();
+
+        assertThatThrownBy(() -> channel.read(ByteBuffer.allocate(1)))
+                .isInstanceOf(ClosedChannelException.class);
+    }
+
+    private static byte[] read(S3RangeReadChannel channel, long position, int length) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        channel.position(position);
+        while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            // 끝까지 읽기
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * HeadObject / Range GetObject 만 지원하는 메모리 S3 대역
+     */
+    private static class FakeS3Client implements S3Client {
+
+        final byte[] object;
+        final AtomicInteger heads = new AtomicInteger();
+
+        FakeS3Client(byte[] object) {
+            this.object = object;
+        }
+
+        @Override
+        public HeadObjectResponse headObject(HeadObjectRequest request) {
+            heads.incrementAndGet();
+            return HeadObjectResponse.builder().contentLength((long) object.length).build();
+        }
+
+        @Override
+        public ResponseBytes<GetObjectResponse> getObjectAsBytes(GetObjectRequest request) {
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(range[0]);
+            int end = Math.min(object.length - 1, Integer.parseInt(range[1]));
+            byte[] body = Arrays.copyOfRange(object, start, end + 1);
+            return ResponseBytes.fromByteArray(
+                    GetObjectResponse.builder().contentLength((long) body.length).build(), body);
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}